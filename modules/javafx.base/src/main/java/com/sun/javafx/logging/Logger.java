@@ -37,4 +37,7 @@ public class Logger {
     public void incrementCounter(String counter) {}
     public void newPhase(String name) {}
     public void newInput(String name) {}
+    public boolean isNodeStatisticsEnabled() { return false; }
+    public void addNodeStatistics(Class<?> nodeClass, int count, long selfTime) {}
+    public void addRenderStatistics(int drawCalls, int textureBinds, int shaderSwitches, int stateFlushes) {}
 }
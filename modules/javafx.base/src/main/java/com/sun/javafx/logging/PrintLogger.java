@@ -283,6 +283,26 @@ class PrintLogger extends Logger {
      */
     @Override
     public void incrementCounter(String counter) {
+        addToCounter(counter, 1);
+    }
+
+    /**
+     * Adds the work the graphics pipeline submitted for the frame to the
+     * per-pulse counters.
+     */
+    @Override
+    public void addRenderStatistics(int drawCalls, int textureBinds,
+                                    int shaderSwitches, int stateFlushes) {
+        addToCounter("Draw calls", drawCalls);
+        addToCounter("Texture binds", textureBinds);
+        addToCounter("Shader switches", shaderSwitches);
+        addToCounter("State flushes", stateFlushes);
+    }
+
+    private void addToCounter(String counter, int amount) {
+        if (amount == 0) {
+            return;
+        }
         PulseData pulseData;
         if (fxThread == null || Thread.currentThread() == fxThread) {
             if (fxData == null) {
@@ -302,7 +322,7 @@ class PrintLogger extends Logger {
             cval = new Counter();
             counters.put(counter, cval);
         }
-        cval.value += 1;
+        cval.value += amount;
     }
 
     @Override
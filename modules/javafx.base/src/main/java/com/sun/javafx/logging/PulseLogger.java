@@ -98,6 +98,53 @@ public class PulseLogger {
         }
     }
 
+    /**
+     * @return true if any logger wants the nodes processed in the current
+     *         pulse to be reported with {@link #addNodeStatistics}.
+     */
+    public static boolean isNodeStatisticsEnabled() {
+        for (Logger logger: loggers) {
+            if (logger.isNodeStatisticsEnabled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Attributes work done in the current phase to a class of node.
+     *
+     * @param nodeClass the class of the node that was processed
+     * @param count the number of nodes processed, which may be 0 when
+     *        additional time is reported for a node that was already counted
+     * @param selfTime the time spent in nanoseconds, not including time spent
+     *        processing the children of the node
+     */
+    public static void addNodeStatistics(Class<?> nodeClass, int count, long selfTime) {
+        for (Logger logger: loggers) {
+            logger.addNodeStatistics(nodeClass, count, selfTime);
+        }
+    }
+
+    /**
+     * Reports the work the graphics pipeline submitted to the GPU for the
+     * frame being rendered. Must be called on the render thread before
+     * {@link #renderEnd}.
+     *
+     * @param drawCalls the number of batches of vertices that were drawn
+     * @param textureBinds the number of times a texture was bound
+     * @param shaderSwitches the number of times a different shader was enabled
+     * @param stateFlushes the number of batches that were drawn early because
+     *        the texture, shader, transform, clip, composite mode or render
+     *        target changed
+     */
+    public static void addRenderStatistics(int drawCalls, int textureBinds,
+                                           int shaderSwitches, int stateFlushes) {
+        for (Logger logger: loggers) {
+            logger.addRenderStatistics(drawCalls, textureBinds, shaderSwitches, stateFlushes);
+        }
+    }
+
     /**
      * @return true if the user requested pulse logging by setting the system
      *         property javafx.pulseLogger to true, false otherwise.
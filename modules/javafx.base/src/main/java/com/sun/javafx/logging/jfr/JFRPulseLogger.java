@@ -24,9 +24,13 @@
  */
 package com.sun.javafx.logging.jfr;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import com.sun.javafx.logging.Logger;
 import com.sun.javafx.logging.PulseLogger;
 
+import jdk.jfr.EventType;
 import jdk.jfr.FlightRecorder;
 
 public final class JFRPulseLogger extends Logger {
@@ -38,6 +42,20 @@ public final class JFRPulseLogger extends Logger {
     private int renderPulseNumber;
     private Thread fxThread;
 
+    /*
+     * Statistics for the nodes processed in the current phase on the FX thread,
+     * by node class. Only accessed from the FX thread.
+     */
+    private static final class NodeStatistics {
+        int count;
+        long selfTime;
+    }
+    private final Map<Class<?>, NodeStatistics> nodeStatistics = new HashMap<>();
+    private final EventType pulsePhaseEventType;
+    private final EventType pulseNodeEventType;
+    private final EventType renderStatisticsEventType;
+    private boolean nodeStatisticsEnabled;
+
     public static Logger createInstance() {
         if (FlightRecorder.isInitialized() || PulseLogger.isPulseLoggingRequested()) {
             return new JFRPulseLogger();
@@ -48,6 +66,11 @@ public final class JFRPulseLogger extends Logger {
     private JFRPulseLogger() {
         FlightRecorder.register(JFRInputEvent.class);
         FlightRecorder.register(JFRPulsePhaseEvent.class);
+        FlightRecorder.register(JFRPulseNodeEvent.class);
+        FlightRecorder.register(JFRRenderStatisticsEvent.class);
+        pulsePhaseEventType = EventType.getEventType(JFRPulsePhaseEvent.class);
+        pulseNodeEventType = EventType.getEventType(JFRPulseNodeEvent.class);
+        renderStatisticsEventType = EventType.getEventType(JFRRenderStatisticsEvent.class);
         currentPulsePhaseEvent = new ThreadLocal<>() {
             @Override
             public JFRPulsePhaseEvent initialValue() {
@@ -69,6 +92,8 @@ public final class JFRPulseLogger extends Logger {
         if (fxThread == null) {
             fxThread = Thread.currentThread();
         }
+        /* Node statistics are committed along with the events for the phases */
+        nodeStatisticsEnabled = pulsePhaseEventType.isEnabled() && pulseNodeEventType.isEnabled();
         newPhase("Pulse start");
     }
 
@@ -76,6 +101,7 @@ public final class JFRPulseLogger extends Logger {
     public void pulseEnd() {
         newPhase(null);
         fxPulseNumber = 0;
+        nodeStatisticsEnabled = false;
     }
 
     @Override
@@ -101,11 +127,17 @@ public final class JFRPulseLogger extends Logger {
         /* Cleanup if no longer enabled */
         if (!event.isEnabled()) {
             event.setPhaseName(null);
+            if (Thread.currentThread() == fxThread) {
+                nodeStatistics.clear();
+            }
             return;
         }
 
         /* If there is an ongoing event, commit it */
         if (event.getPhaseName() != null) {
+            if (Thread.currentThread() == fxThread && !nodeStatistics.isEmpty()) {
+                event.setNodeCount(commitNodeStatistics(event));
+            }
             event.commit();
         }
 
@@ -122,6 +154,67 @@ public final class JFRPulseLogger extends Logger {
         currentPulsePhaseEvent.set(event);
     }
 
+    @Override
+    public boolean isNodeStatisticsEnabled() {
+        return nodeStatisticsEnabled;
+    }
+
+    @Override
+    public void addNodeStatistics(Class<?> nodeClass, int count, long selfTime) {
+        /* Only nodes processed on the FX thread during a pulse are of interest */
+        if (!nodeStatisticsEnabled || Thread.currentThread() != fxThread) {
+            return;
+        }
+
+        NodeStatistics statistics = nodeStatistics.get(nodeClass);
+        if (statistics == null) {
+            statistics = new NodeStatistics();
+            nodeStatistics.put(nodeClass, statistics);
+        }
+        statistics.count += count;
+        statistics.selfTime += selfTime;
+    }
+
+    /**
+     * Commits an event for each class of node processed in the phase of the
+     * given event and clears the statistics for the next phase.
+     *
+     * @param phaseEvent The event for the phase that is finishing.
+     * @return The total number of nodes processed in the phase.
+     */
+    private int commitNodeStatistics(JFRPulsePhaseEvent phaseEvent) {
+        int total = 0;
+        for (Map.Entry<Class<?>, NodeStatistics> entry : nodeStatistics.entrySet()) {
+            NodeStatistics statistics = entry.getValue();
+            JFRPulseNodeEvent event = new JFRPulseNodeEvent();
+            event.setPulseId(phaseEvent.getPulseId());
+            event.setPhaseName(phaseEvent.getPhaseName());
+            event.setNodeClass(entry.getKey());
+            event.setNodeCount(statistics.count);
+            event.setSelfTime(statistics.selfTime);
+            event.commit();
+            total += statistics.count;
+        }
+        nodeStatistics.clear();
+        return total;
+    }
+
+    @Override
+    public void addRenderStatistics(int drawCalls, int textureBinds,
+                                    int shaderSwitches, int stateFlushes) {
+        if (!renderStatisticsEventType.isEnabled()) {
+            return;
+        }
+
+        JFRRenderStatisticsEvent event = new JFRRenderStatisticsEvent();
+        event.setPulseId(renderPulseNumber);
+        event.setDrawCalls(drawCalls);
+        event.setTextureBinds(textureBinds);
+        event.setShaderSwitches(shaderSwitches);
+        event.setStateFlushes(stateFlushes);
+        event.commit();
+    }
+
     @Override
     public void newInput(String input) {
         JFRInputEvent event = currentInputEvent.get();
@@ -47,6 +47,10 @@ public final class JFRPulsePhaseEvent extends Event {
     @Label("Phase Name")
     private String phaseName;
 
+    @Label("Node Count")
+    @Description("Number of nodes processed in the phase, if javafx.PulseNodes is enabled")
+    private int nodeCount;
+
     public int getPulseId() {
         return pulseId;
     }
@@ -62,4 +66,12 @@ public final class JFRPulsePhaseEvent extends Event {
     public void setPhaseName(String phaseName) {
         this.phaseName = phaseName;
     }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public void setNodeCount(int nodeCount) {
+        this.nodeCount = nodeCount;
+    }
 }
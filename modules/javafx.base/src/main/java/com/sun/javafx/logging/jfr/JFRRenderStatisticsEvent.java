@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("javafx.RenderStatistics")
+@Label("JavaFX Render Statistics")
+@Category("JavaFX")
+@Description("Describes the work the graphics pipeline submitted to the GPU to render a JavaFX pulse")
+@StackTrace(false)
+@Enabled(false)
+public final class JFRRenderStatisticsEvent extends Event {
+    @PulseId
+    @Label("Pulse Id")
+    private int pulseId;
+
+    @Label("Draw Calls")
+    @Description("Number of batches of vertices that were drawn")
+    private int drawCalls;
+
+    @Label("Texture Binds")
+    @Description("Number of times a texture was bound")
+    private int textureBinds;
+
+    @Label("Shader Switches")
+    @Description("Number of times a different shader was enabled")
+    private int shaderSwitches;
+
+    @Label("State Flushes")
+    @Description("Number of batches that were drawn early because the render state changed")
+    private int stateFlushes;
+
+    public int getPulseId() {
+        return pulseId;
+    }
+
+    public void setPulseId(int pulseId) {
+        this.pulseId = pulseId;
+    }
+
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    public void setDrawCalls(int drawCalls) {
+        this.drawCalls = drawCalls;
+    }
+
+    public int getTextureBinds() {
+        return textureBinds;
+    }
+
+    public void setTextureBinds(int textureBinds) {
+        this.textureBinds = textureBinds;
+    }
+
+    public int getShaderSwitches() {
+        return shaderSwitches;
+    }
+
+    public void setShaderSwitches(int shaderSwitches) {
+        this.shaderSwitches = shaderSwitches;
+    }
+
+    public int getStateFlushes() {
+        return stateFlushes;
+    }
+
+    public void setStateFlushes(int stateFlushes) {
+        this.stateFlushes = stateFlushes;
+    }
+}
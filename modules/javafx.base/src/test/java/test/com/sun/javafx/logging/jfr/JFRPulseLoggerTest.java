@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.logging.jfr;
+
+import com.sun.javafx.logging.Logger;
+import com.sun.javafx.logging.jfr.JFRPulseLogger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class JFRPulseLoggerTest {
+
+    private Recording recording;
+    private Path file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = Files.createTempFile("pulse", ".jfr");
+        recording = new Recording();
+        recording.enable("javafx.PulsePhase");
+        recording.enable("javafx.PulseNodes");
+        recording.enable("javafx.RenderStatistics");
+        recording.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        recording.close();
+        Files.deleteIfExists(file);
+    }
+
+    private List<RecordedEvent> stopAndRead() throws Exception {
+        recording.stop();
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name, String phaseName, String nodeClass) {
+        for (RecordedEvent event : events) {
+            if (!event.getEventType().getName().equals(name)) continue;
+            if (!phaseName.equals(event.getString("phaseName"))) continue;
+            if (nodeClass != null && !nodeClass.equals(event.getClass("nodeClass").getName())) continue;
+            return event;
+        }
+        return null;
+    }
+
+    @Test
+    public void testNodeStatisticsAreCommittedPerPhaseAndClass() throws Exception {
+        Logger logger = JFRPulseLogger.createInstance();
+        assertNotNull(logger);
+
+        logger.pulseStart();
+        assertTrue(logger.isNodeStatisticsEnabled());
+        logger.newPhase("CSS Pass");
+        logger.addNodeStatistics(String.class, 1, 100);
+        logger.addNodeStatistics(String.class, 0, 50);
+        logger.addNodeStatistics(Integer.class, 1, 10);
+        logger.newPhase("Layout Pass");
+        logger.addNodeStatistics(Integer.class, 2, 30);
+        logger.pulseEnd();
+        assertFalse(logger.isNodeStatisticsEnabled());
+
+        List<RecordedEvent> events = stopAndRead();
+
+        RecordedEvent css = find(events, "javafx.PulsePhase", "CSS Pass", null);
+        assertNotNull(css);
+        assertEquals(2, css.getInt("nodeCount"));
+
+        RecordedEvent strings = find(events, "javafx.PulseNodes", "CSS Pass", "java.lang.String");
+        assertNotNull(strings);
+        assertEquals(1, strings.getInt("nodeCount"));
+        assertEquals(150, strings.getLong("selfTime"));
+        assertEquals(css.getInt("pulseId"), strings.getInt("pulseId"));
+
+        RecordedEvent layout = find(events, "javafx.PulseNodes", "Layout Pass", "java.lang.Integer");
+        assertNotNull(layout);
+        assertEquals(2, layout.getInt("nodeCount"));
+        assertEquals(30, layout.getLong("selfTime"));
+        assertNull(find(events, "javafx.PulseNodes", "Layout Pass", "java.lang.String"));
+    }
+
+    @Test
+    public void testNodeStatisticsOutsideOfPulseAreIgnored() throws Exception {
+        Logger logger = JFRPulseLogger.createInstance();
+        assertNotNull(logger);
+
+        logger.addNodeStatistics(String.class, 1, 100);
+        logger.pulseStart();
+        logger.newPhase("CSS Pass");
+        logger.pulseEnd();
+
+        List<RecordedEvent> events = stopAndRead();
+        assertNull(find(events, "javafx.PulseNodes", "CSS Pass", null));
+        assertEquals(0, find(events, "javafx.PulsePhase", "CSS Pass", null).getInt("nodeCount"));
+    }
+
+    @Test
+    public void testRenderStatisticsAreCommittedForTheRenderedPulse() throws Exception {
+        Logger logger = JFRPulseLogger.createInstance();
+        assertNotNull(logger);
+
+        logger.pulseStart();
+        logger.newPhase("CSS Pass");
+        logger.renderStart();
+        logger.pulseEnd();
+        Thread renderThread = new Thread(() -> {
+            logger.addRenderStatistics(12, 3, 4, 5);
+            logger.renderEnd();
+        });
+        renderThread.start();
+        renderThread.join();
+
+        List<RecordedEvent> events = stopAndRead();
+        RecordedEvent statistics = null;
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals("javafx.RenderStatistics")) {
+                assertNull(statistics);
+                statistics = event;
+            }
+        }
+        assertNotNull(statistics);
+        assertEquals(12, statistics.getInt("drawCalls"));
+        assertEquals(3, statistics.getInt("textureBinds"));
+        assertEquals(4, statistics.getInt("shaderSwitches"));
+        assertEquals(5, statistics.getInt("stateFlushes"));
+        assertEquals(find(events, "javafx.PulsePhase", "CSS Pass", null).getInt("pulseId"),
+                     statistics.getInt("pulseId"));
+    }
+}
@@ -168,12 +168,7 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
         if(xa.isAutoRanging()) xData = new ArrayList<>();
         if(ya.isAutoRanging()) yData = new ArrayList<>();
         if(xData != null || yData != null) {
-            for(Series<X,Y> series : getData()) {
-                for(Data<X,Y> data: series.getData()) {
-                    if(xData != null) xData.add(data.getXValue());
-                    if(yData != null) yData.add(data.getYValue());
-                }
-            }
+            addRangeData(xData, yData);
             if(xData != null && !(xData.size() == 1 && getXAxis().toNumericValue(xData.get(0)) == 0)) {
                 xa.invalidateRange(xData);
             }
@@ -451,7 +446,27 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
         LineTo prevDataPoint = null;
         LineTo nextDataPoint = null;
         constructedPath.clear();
-        for (Iterator<Data<X, Y>> it = chart.getDisplayedDataIterator(series); it.hasNext(); ) {
+        final SeriesDecimator<X, Y> decimator = chart.decimate(series, sortX);
+        for (int i = 0; decimator != null && i < decimator.getSelectedCount(); i++) {
+            // the selected items are within the visible range and in X order
+            final int index = decimator.getSelected(i);
+            double x = axisX.getDisplayPosition(axisX.toRealValue(decimator.getX(index)));
+            double y = axisY.getDisplayPosition(
+                    axisY.toRealValue(decimator.getY(index) * yAnimMultiplier));
+            if (Double.isNaN(x) || Double.isNaN(y)) continue;
+            Node symbol = series.getItem(index).getNode();
+            if (symbol != null) {
+                final double w = symbol.prefWidth(-1);
+                final double h = symbol.prefHeight(-1);
+                symbol.resizeRelocate(x-(w/2), y-(h/2), w, h);
+                decimator.showSymbol(symbol);
+            }
+            constructedPath.add(new LineTo(x, y));
+        }
+        // without decimation all of the displayed items are laid out
+        final Iterator<Data<X, Y>> displayed = (decimator != null)
+                ? Collections.emptyIterator() : chart.getDisplayedDataIterator(series);
+        for (Iterator<Data<X, Y>> it = displayed; it.hasNext(); ) {
             Data<X, Y> item = it.next();
             double x = axisX.getDisplayPosition(item.getCurrentX());
             double y = axisY.getDisplayPosition(
@@ -94,6 +94,18 @@ public abstract class Axis<T> extends Region {
 
     private BitSet labelsToSkip = new BitSet();
 
+    /** Tick marks that were removed, kept so that their label nodes can be reused */
+    private final List<TickMark<T>> tickMarkPool = new ArrayList<>();
+    private static final int MAX_POOLED_TICK_MARKS = 100;
+    /** The rotation and side that the tick mark labels were laid out for */
+    private double laidOutRotation = Double.NaN;
+    private Side laidOutSide;
+
+    /** The sizes of the tick mark labels measured with the current font, by label text */
+    private final Map<String, Dimension2D> labelSizes = new HashMap<>();
+    private double labelSizesRotation = Double.NaN;
+    private static final int MAX_CACHED_LABEL_SIZES = 500;
+
     // -------------- PUBLIC PROPERTIES --------------------------------------------------------------------------------
 
     private final ObservableList<TickMark<T>> tickMarks = FXCollections.observableArrayList();
@@ -285,6 +297,7 @@ public abstract class Axis<T> extends Region {
         @Override protected void invalidated() {
             Font f = get();
             measure.setFont(f);
+            labelSizes.clear();
             for(TickMark<T> tm : getTickMarks()) {
                 tm.textNode.setFont(f);
             }
@@ -644,6 +657,7 @@ public abstract class Axis<T> extends Region {
         final double length = side.isVertical() ? getHeight() : getWidth();
         boolean rangeInvalid = !isRangeValid();
         boolean lengthDiffers = oldLength != length;
+        boolean ticksChanged = false;
         if (lengthDiffers || rangeInvalid) {
             // get range
             Object range;
@@ -657,44 +671,7 @@ public abstract class Axis<T> extends Region {
             }
             // calculate new tick marks
             List<T> newTickValues = calculateTickValues(length, range);
-
-            // remove everything
-            Iterator<TickMark<T>> tickMarkIterator = tickMarks.iterator();
-            while (tickMarkIterator.hasNext()) {
-                TickMark<T> tick = tickMarkIterator.next();
-                final TickMark<T> tm = tick;
-                if (shouldAnimate()) {
-                    FadeTransition ft = new FadeTransition(Duration.millis(250),tick.textNode);
-                    ft.setToValue(0);
-                    ft.setOnFinished(actionEvent -> {
-                        getChildren().remove(tm.textNode);
-                    });
-                    ft.play();
-                } else {
-                    getChildren().remove(tm.textNode);
-                }
-                // we have to remove the tick mark immediately so we don't draw tick line for it or grid lines and fills
-                tickMarkIterator.remove();
-            }
-
-            // add new tick marks for new values
-            for(T newValue: newTickValues) {
-                final TickMark<T> tick = new TickMark<>();
-                tick.setValue(newValue);
-                tick.textNode.setText(getTickMarkLabel(newValue));
-                tick.textNode.setFont(getTickLabelFont());
-                tick.textNode.setFill(getTickLabelFill());
-                tick.setTextVisible(isTickLabelsVisible());
-                if (shouldAnimate()) tick.textNode.setOpacity(0);
-                getChildren().add(tick.textNode);
-                tickMarks.add(tick);
-                if (shouldAnimate()) {
-                    FadeTransition ft = new FadeTransition(Duration.millis(750),tick.textNode);
-                    ft.setFromValue(0);
-                    ft.setToValue(1);
-                    ft.play();
-                }
-            }
+            ticksChanged = updateTickMarkValues(newTickValues);
 
             // call tick marks updated to inform subclasses that we have updated tick marks
             tickMarksUpdated();
@@ -703,9 +680,20 @@ public abstract class Axis<T> extends Region {
             rangeValid = true;
         }
 
-        if (lengthDiffers || rangeInvalid || measureInvalid || tickLabelsVisibleInvalid) {
+        // the labels only need to be measured and placed again if anything
+        // that they depend on changed, which is not the case when the range
+        // changed without changing the tick marks
+        if (lengthDiffers || ticksChanged || measureInvalid || tickLabelsVisibleInvalid
+                || side != laidOutSide || getEffectiveTickLabelRotation() != laidOutRotation
+                || tickPositionsChanged()) {
             measureInvalid = false;
             tickLabelsVisibleInvalid = false;
+            laidOutSide = side;
+            laidOutRotation = getEffectiveTickLabelRotation();
+            // labels that were skipped before may fit now
+            for (TickMark<T> m : tickMarks) {
+                m.setTextVisible(isTickLabelsVisible());
+            }
             // RT-12272 : tick labels overlapping
             // first check if all visible labels fit, if not, retain every nth label
             labelsToSkip.clear();
@@ -751,6 +739,91 @@ public abstract class Axis<T> extends Region {
         }
     }
 
+    /**
+     * Updates the tick marks to the given values. Tick marks whose value is
+     * still shown keep their label node, and the tick marks of values that are
+     * no longer shown are reused for new values, so that changing the range
+     * does not create new nodes. Returns true if any tick mark or label
+     * changed.
+     */
+    private boolean updateTickMarkValues(List<T> newTickValues) {
+        final Set<T> values = new HashSet<>(newTickValues);
+        final Map<T, TickMark<T>> current = new HashMap<>();
+        boolean changed = false;
+        // release the tick marks that are no longer shown first, so that
+        // they can be reused for the new values
+        for (TickMark<T> tick : tickMarks) {
+            if (values.contains(tick.getValue()) && current.putIfAbsent(tick.getValue(), tick) == null) {
+                continue;
+            }
+            removeTickMark(tick);
+            changed = true;
+        }
+        final List<TickMark<T>> updated = new ArrayList<>(newTickValues.size());
+        for (T value : newTickValues) {
+            TickMark<T> tick = current.remove(value);
+            if (tick == null) {
+                tick = createTickMark(value);
+                changed = true;
+            } else {
+                // the label of the same value may still change with the format
+                final String label = getTickMarkLabel(value);
+                if (!Objects.equals(label, tick.textNode.getText())) {
+                    tick.textNode.setText(label);
+                    changed = true;
+                }
+            }
+            updated.add(tick);
+        }
+        if (changed || !tickMarks.equals(updated)) {
+            tickMarks.setAll(updated);
+        }
+        return changed;
+    }
+
+    private TickMark<T> createTickMark(T value) {
+        final TickMark<T> tick = tickMarkPool.isEmpty() ? new TickMark<>() : tickMarkPool.remove(tickMarkPool.size() - 1);
+        tick.setValue(value);
+        tick.textNode.setText(getTickMarkLabel(value));
+        tick.textNode.setFont(getTickLabelFont());
+        tick.textNode.setFill(getTickLabelFill());
+        tick.textNode.setOpacity(shouldAnimate() ? 0 : 1);
+        tick.setTextVisible(isTickLabelsVisible());
+        getChildren().add(tick.textNode);
+        if (shouldAnimate()) {
+            FadeTransition ft = new FadeTransition(Duration.millis(750),tick.textNode);
+            ft.setFromValue(0);
+            ft.setToValue(1);
+            ft.play();
+        }
+        return tick;
+    }
+
+    private void removeTickMark(TickMark<T> tick) {
+        if (shouldAnimate()) {
+            FadeTransition ft = new FadeTransition(Duration.millis(250),tick.textNode);
+            ft.setToValue(0);
+            ft.setOnFinished(actionEvent -> {
+                getChildren().remove(tick.textNode);
+            });
+            ft.play();
+        } else {
+            getChildren().remove(tick.textNode);
+            if (tickMarkPool.size() < MAX_POOLED_TICK_MARKS) {
+                tickMarkPool.add(tick);
+            }
+        }
+    }
+
+    private boolean tickPositionsChanged() {
+        for (TickMark<T> m : tickMarks) {
+            if (m.getPosition() != getDisplayPosition(m.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void updateTickMarks(Side side, double length) {
         // clear tick mark path elements as we will recreate
         tickMarkPath.getElements().clear();
@@ -919,10 +992,21 @@ public abstract class Axis<T> extends Region {
      * @return size of tick mark label for given value
      */
     protected final Dimension2D measureTickMarkLabelSize(String labelText, double rotation) {
-        measure.setRotate(rotation);
-        measure.setText(labelText);
-        Bounds bounds = measure.getBoundsInParent();
-        return new Dimension2D(bounds.getWidth(), bounds.getHeight());
+        // the same labels are measured over and over while laying out and
+        // auto ranging, so their sizes are kept until the font changes
+        if (rotation != labelSizesRotation || labelSizes.size() >= MAX_CACHED_LABEL_SIZES) {
+            labelSizes.clear();
+            labelSizesRotation = rotation;
+        }
+        Dimension2D size = labelSizes.get(labelText);
+        if (size == null) {
+            measure.setRotate(rotation);
+            measure.setText(labelText);
+            Bounds bounds = measure.getBoundsInParent();
+            size = new Dimension2D(bounds.getWidth(), bounds.getHeight());
+            labelSizes.put(labelText, size);
+        }
+        return size;
     }
 
     /**
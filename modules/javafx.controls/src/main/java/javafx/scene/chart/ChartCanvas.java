@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.chart;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.sun.javafx.geom.IllegalPathStateException;
+import com.sun.javafx.geom.Path2D;
+import com.sun.javafx.geom.PathIterator;
+import javafx.geometry.Insets;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.Border;
+import javafx.scene.layout.BorderStroke;
+import javafx.scene.layout.BorderStrokeStyle;
+import javafx.scene.layout.CornerRadii;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.SVGPath;
+import javafx.scene.shape.Shape;
+
+/**
+ * The canvas that a chart draws its series onto instead of laying out a node
+ * for each series line and data symbol. The lines and symbols are drawn with
+ * the styles that CSS applied to nodes that stand for them, which are not
+ * shown, so that charts look the same when they draw onto a canvas.
+ */
+final class ChartCanvas {
+
+    private final Canvas canvas = new Canvas();
+
+    // the points of the line of the series being drawn
+    private double[] lineXs = new double[64];
+    private double[] lineYs = new double[64];
+    private int lineCount;
+    // the centers of the symbols of the series being drawn, as x, y pairs
+    private double[] symbols = new double[128];
+    private int symbolCount;
+    // the rectangles of square symbols, as x, y, w, h quadruples
+    private double[] rects = new double[0];
+    // the SVG path of shaped symbols, parsed once for all symbols and series
+    private String shapeContent;
+    private Path2D shapePath;
+    // the segments of a shaped symbol, relative to its center
+    private int[] shapeTypes = new int[0];
+    private double[] shapeCoords = new double[0];
+    private int shapeSegmentCount;
+
+    ChartCanvas() {
+        canvas.setManaged(false);
+        canvas.getStyleClass().setAll("chart-plot-canvas");
+    }
+
+    Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Moves the canvas over the plot area and clears it.
+     */
+    void resizeRelocate(double x, double y, double width, double height) {
+        canvas.setLayoutX(x);
+        canvas.setLayoutY(y);
+        canvas.setWidth(width);
+        canvas.setHeight(height);
+        // clearing all of the canvas also drops what was drawn before
+        canvas.getGraphicsContext2D().clearRect(0, 0, width, height);
+    }
+
+    /**
+     * Starts collecting the points of the next series to draw.
+     */
+    void beginSeries() {
+        lineCount = 0;
+        symbolCount = 0;
+    }
+
+    void addLinePoint(double x, double y) {
+        if (lineCount == lineXs.length) {
+            lineXs = Arrays.copyOf(lineXs, lineCount * 2);
+            lineYs = Arrays.copyOf(lineYs, lineCount * 2);
+        }
+        lineXs[lineCount] = x;
+        lineYs[lineCount] = y;
+        lineCount++;
+    }
+
+    void addSymbol(double x, double y) {
+        if (symbolCount * 2 == symbols.length) {
+            symbols = Arrays.copyOf(symbols, symbols.length * 2);
+        }
+        symbols[symbolCount * 2] = x;
+        symbols[symbolCount * 2 + 1] = y;
+        symbolCount++;
+    }
+
+    /**
+     * Sorts the points of the line by their X or Y coordinate, unless they
+     * already are, which is the usual case.
+     */
+    void sortLine(boolean byY) {
+        final double[] keys = byY ? lineYs : lineXs;
+        int i = 1;
+        while (i < lineCount && keys[i - 1] <= keys[i]) i++;
+        if (i >= lineCount) return;
+        Integer[] order = new Integer[lineCount];
+        for (int j = 0; j < lineCount; j++) order[j] = j;
+        Arrays.sort(order, (a, b) -> Double.compare(keys[a], keys[b]));
+        double[] xs = new double[lineXs.length];
+        double[] ys = new double[lineYs.length];
+        for (int j = 0; j < lineCount; j++) {
+            xs[j] = lineXs[order[j]];
+            ys[j] = lineYs[order[j]];
+        }
+        lineXs = xs;
+        lineYs = ys;
+    }
+
+    /**
+     * Strokes the line through the collected points with the stroke of the
+     * given path.
+     */
+    void strokeLine(Path style) {
+        final Paint stroke = style.getStroke();
+        if (lineCount < 2 || stroke == null || style.getOpacity() <= 0) return;
+        final GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setGlobalAlpha(style.getOpacity());
+        gc.setStroke(stroke);
+        gc.setLineWidth(style.getStrokeWidth());
+        gc.setLineCap(style.getStrokeLineCap());
+        gc.setLineJoin(style.getStrokeLineJoin());
+        gc.setMiterLimit(style.getStrokeMiterLimit());
+        final List<Double> dashes = style.getStrokeDashArray();
+        if (dashes.isEmpty()) {
+            gc.setLineDashes((double[]) null);
+        } else {
+            double[] d = new double[dashes.size()];
+            for (int i = 0; i < d.length; i++) d[i] = dashes.get(i);
+            gc.setLineDashes(d);
+            gc.setLineDashOffset(style.getStrokeDashOffset());
+        }
+        gc.strokePolyline(lineXs, lineYs, lineCount);
+    }
+
+    /**
+     * Draws the symbols at the collected centers with the background and the
+     * border of the given region, which has the size and shape of a symbol.
+     * Only the top side of a border is drawn, as symbols rarely have borders
+     * that differ between their sides.
+     */
+    void drawSymbols(Region style) {
+        final Background background = style.getBackground();
+        final Border border = style.getBorder();
+        if (symbolCount == 0 || (background == null && border == null) || style.getOpacity() <= 0) return;
+        final double w = style.prefWidth(-1);
+        final double h = style.prefHeight(-1);
+        final GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setGlobalAlpha(style.getOpacity());
+        if (background != null) {
+            for (BackgroundFill fill : background.getFills()) {
+                if (fill.getFill() == null) continue;
+                gc.setFill(fill.getFill());
+                drawSymbols(gc, style, w, h, fill.getInsets(), fill.getRadii(), 0, true);
+            }
+        }
+        if (border != null) {
+            for (BorderStroke stroke : border.getStrokes()) {
+                final BorderStrokeStyle strokeStyle = stroke.getTopStyle();
+                final double width = stroke.getWidths().getTop();
+                if (stroke.getTopStroke() == null || strokeStyle == BorderStrokeStyle.NONE || width <= 0) continue;
+                gc.setStroke(stroke.getTopStroke());
+                gc.setLineWidth(width);
+                gc.setLineCap(strokeStyle.getLineCap());
+                gc.setLineJoin(strokeStyle.getLineJoin());
+                gc.setMiterLimit(strokeStyle.getMiterLimit());
+                final List<Double> dashes = strokeStyle.getDashArray();
+                if (dashes.isEmpty()) {
+                    gc.setLineDashes((double[]) null);
+                } else {
+                    double[] d = new double[dashes.size()];
+                    for (int i = 0; i < d.length; i++) d[i] = dashes.get(i) * width;
+                    gc.setLineDashes(d);
+                    gc.setLineDashOffset(strokeStyle.getDashOffset());
+                }
+                // the border is drawn inside its insets
+                drawSymbols(gc, style, w, h, stroke.getInsets(), stroke.getRadii(), width / 2, false);
+            }
+        }
+    }
+
+    private void drawSymbols(GraphicsContext gc, Region style, double w, double h,
+                             Insets insets, CornerRadii radii, double inset, boolean fill) {
+        final double fw = w - insets.getLeft() - insets.getRight() - inset * 2;
+        final double fh = h - insets.getTop() - insets.getBottom() - inset * 2;
+        if (fw <= 0 || fh <= 0) return;
+        final double left = insets.getLeft() + inset - w / 2;
+        final double top = insets.getTop() + inset - h / 2;
+        if (style.getShape() instanceof SVGPath svg) {
+            drawShapes(gc, svg, left, top, fw, fh, style.isScaleShape(), fill);
+            return;
+        }
+        double radius = radii.getTopLeftHorizontalRadius();
+        if (radii.isTopLeftHorizontalRadiusAsPercentage()) {
+            radius *= fw;
+        } else {
+            radius = Math.max(radius - inset, 0);
+        }
+        if (radius <= 0) {
+            if (fill) {
+                fillRects(gc, left, top, fw, fh);
+            } else {
+                for (int i = 0; i < symbolCount; i++) {
+                    gc.strokeRect(symbols[i * 2] + left, symbols[i * 2 + 1] + top, fw, fh);
+                }
+            }
+        } else if (radius * 2 >= Math.min(fw, fh)) {
+            for (int i = 0; i < symbolCount; i++) {
+                if (fill) {
+                    gc.fillOval(symbols[i * 2] + left, symbols[i * 2 + 1] + top, fw, fh);
+                } else {
+                    gc.strokeOval(symbols[i * 2] + left, symbols[i * 2 + 1] + top, fw, fh);
+                }
+            }
+        } else {
+            for (int i = 0; i < symbolCount; i++) {
+                if (fill) {
+                    gc.fillRoundRect(symbols[i * 2] + left, symbols[i * 2 + 1] + top,
+                                     fw, fh, radius * 2, radius * 2);
+                } else {
+                    gc.strokeRoundRect(symbols[i * 2] + left, symbols[i * 2 + 1] + top,
+                                       fw, fh, radius * 2, radius * 2);
+                }
+            }
+        }
+    }
+
+    private void fillRects(GraphicsContext gc, double left, double top, double fw, double fh) {
+        if (rects.length < symbolCount * 4) {
+            rects = new double[symbolCount * 4];
+        }
+        for (int i = 0; i < symbolCount; i++) {
+            rects[i * 4] = symbols[i * 2] + left;
+            rects[i * 4 + 1] = symbols[i * 2 + 1] + top;
+            rects[i * 4 + 2] = fw;
+            rects[i * 4 + 3] = fh;
+        }
+        gc.fillRects(rects, 0, symbolCount);
+    }
+
+    private void drawShapes(GraphicsContext gc, SVGPath shape, double left, double top,
+                            double fw, double fh, boolean scale, boolean fill) {
+        final double sw = shape.getLayoutBounds().getWidth();
+        final double sh = shape.getLayoutBounds().getHeight();
+        if (sw <= 0 || sh <= 0) return;
+        final double sx = scale ? fw / sw : 1;
+        final double sy = scale ? fh / sh : 1;
+        // the shape is centered in the symbol like Region does
+        final double dx = left + (fw - sw * sx) / 2 - shape.getLayoutBounds().getMinX() * sx;
+        final double dy = top + (fh - sh * sy) / 2 - shape.getLayoutBounds().getMinY() * sy;
+        setShapeSegments(shape.getContent(), sx, sy, dx, dy);
+        gc.setFillRule(shape.getFillRule());
+        // Each symbol is filled on its own, so that overlapping symbols blend
+        // like the nodes they replace
+        for (int i = 0; i < symbolCount; i++) {
+            final double x = symbols[i * 2];
+            final double y = symbols[i * 2 + 1];
+            gc.beginPath();
+            for (int s = 0, c = 0; s < shapeSegmentCount; s++) {
+                switch (shapeTypes[s]) {
+                    case PathIterator.SEG_MOVETO:
+                        gc.moveTo(x + shapeCoords[c], y + shapeCoords[c + 1]);
+                        c += 2;
+                        break;
+                    case PathIterator.SEG_LINETO:
+                        gc.lineTo(x + shapeCoords[c], y + shapeCoords[c + 1]);
+                        c += 2;
+                        break;
+                    case PathIterator.SEG_QUADTO:
+                        gc.quadraticCurveTo(x + shapeCoords[c], y + shapeCoords[c + 1],
+                                            x + shapeCoords[c + 2], y + shapeCoords[c + 3]);
+                        c += 4;
+                        break;
+                    case PathIterator.SEG_CUBICTO:
+                        gc.bezierCurveTo(x + shapeCoords[c], y + shapeCoords[c + 1],
+                                         x + shapeCoords[c + 2], y + shapeCoords[c + 3],
+                                         x + shapeCoords[c + 4], y + shapeCoords[c + 5]);
+                        c += 6;
+                        break;
+                    case PathIterator.SEG_CLOSE:
+                        gc.closePath();
+                        break;
+                }
+            }
+            if (fill) {
+                gc.fill();
+            } else {
+                gc.stroke();
+            }
+        }
+    }
+
+    // Computes the segments of the given SVG path, scaled and translated
+    private void setShapeSegments(String content, double sx, double sy, double dx, double dy) {
+        if (!content.equals(shapeContent)) {
+            shapePath = new Path2D();
+            try {
+                shapePath.appendSVGPath(content);
+            } catch (IllegalArgumentException | IllegalPathStateException e) {
+                shapePath.reset();
+            }
+            shapeContent = content;
+        }
+        shapeSegmentCount = 0;
+        int c = 0;
+        final float[] coords = new float[6];
+        for (PathIterator pi = shapePath.getPathIterator(null); !pi.isDone(); pi.next()) {
+            final int type = pi.currentSegment(coords);
+            if (shapeSegmentCount == shapeTypes.length) {
+                shapeTypes = Arrays.copyOf(shapeTypes, shapeSegmentCount * 2 + 8);
+            }
+            if (c + 6 > shapeCoords.length) {
+                shapeCoords = Arrays.copyOf(shapeCoords, c * 2 + 12);
+            }
+            shapeTypes[shapeSegmentCount++] = type;
+            final int n = type == PathIterator.SEG_CLOSE ? 0
+                    : type == PathIterator.SEG_QUADTO ? 4
+                    : type == PathIterator.SEG_CUBICTO ? 6 : 2;
+            for (int i = 0; i < n; i += 2) {
+                shapeCoords[c++] = coords[i] * sx + dx;
+                shapeCoords[c++] = coords[i + 1] * sy + dy;
+            }
+        }
+    }
+}
@@ -89,22 +89,7 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
     /** When true, CSS styleable symbols are created for any data items that don't have a symbol node specified. */
     private BooleanProperty createSymbols = new StyleableBooleanProperty(true) {
         @Override protected void invalidated() {
-            for (int seriesIndex=0; seriesIndex < getData().size(); seriesIndex ++) {
-                Series<X,Y> series = getData().get(seriesIndex);
-                for (int itemIndex=0; itemIndex < series.getData().size(); itemIndex ++) {
-                    Data<X,Y> item = series.getData().get(itemIndex);
-                    Node symbol = item.getNode();
-                    if(get() && symbol == null) { // create any symbols
-                        symbol = createSymbol(series, getData().indexOf(series), item, itemIndex);
-                        getPlotChildren().add(symbol);
-                    } else if (!get() && symbol != null) { // remove symbols
-                        getPlotChildren().remove(symbol);
-                        symbol = null;
-                        item.setNode(null);
-                    }
-                }
-            }
-            requestChartLayout();
+            updateSymbols(get() && !isCanvasRendering());
         }
 
         @Override
@@ -188,6 +173,39 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
 
     // -------------- METHODS ------------------------------------------------------------------------------------------
 
+    private void updateSymbols(boolean create) {
+        for (int seriesIndex=0; seriesIndex < getData().size(); seriesIndex ++) {
+            Series<X,Y> series = getData().get(seriesIndex);
+            for (int itemIndex=0; itemIndex < series.getData().size(); itemIndex ++) {
+                Data<X,Y> item = series.getData().get(itemIndex);
+                Node symbol = item.getNode();
+                if(create && symbol == null) { // create any symbols
+                    symbol = createSymbol(series, getData().indexOf(series), item, itemIndex);
+                    getPlotChildren().add(symbol);
+                } else if (!create && symbol != null) { // remove symbols
+                    getPlotChildren().remove(symbol);
+                    symbol = null;
+                    item.setNode(null);
+                }
+            }
+        }
+        requestChartLayout();
+    }
+
+    /** {@inheritDoc} */
+    @Override String[] getCanvasSymbolStyleClass(Series<X,Y> series, int seriesIndex) {
+        return new String[] {"chart-line-symbol", "series" + seriesIndex, series.defaultColorStyleClass};
+    }
+
+    /** {@inheritDoc} */
+    @Override void canvasRenderingChanged() {
+        // the series lines and symbols are drawn onto the canvas instead
+        for (Series<X,Y> series : getData()) {
+            if (series.getNode() != null) series.getNode().setVisible(!isCanvasRendering());
+        }
+        updateSymbols(getCreateSymbols() && !isCanvasRendering());
+    }
+
     /** {@inheritDoc} */
     @Override protected void updateAxisRange() {
         final Axis<X> xa = getXAxis();
@@ -197,12 +215,7 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
         if(xa.isAutoRanging()) xData = new ArrayList<>();
         if(ya.isAutoRanging()) yData = new ArrayList<>();
         if(xData != null || yData != null) {
-            for(Series<X,Y> series : getData()) {
-                for(Data<X,Y> data: series.getData()) {
-                    if(xData != null) xData.add(data.getXValue());
-                    if(yData != null) yData.add(data.getYValue());
-                }
-            }
+            addRangeData(xData, yData);
             // RT-32838 No need to invalidate range if there is one data item - whose value is zero.
             if(xData != null && !(xData.size() == 1 && getXAxis().toNumericValue(xData.get(0)) == 0)) {
                 xa.invalidateRange(xData);
@@ -392,6 +405,7 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
         // create new path for series
         Path seriesLine = new Path();
         seriesLine.setStrokeLineJoin(StrokeLineJoin.BEVEL);
+        addCanvasStyleListener(seriesLine);
         series.setNode(seriesLine);
         // create series Y multiplier
         DoubleProperty seriesYAnimMultiplier = new SimpleDoubleProperty(this, "seriesYMultiplier");
@@ -450,6 +464,11 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
 
     /** {@inheritDoc} */
     @Override protected void layoutPlotChildren() {
+        final ChartCanvas canvas = getChartCanvas();
+        if (canvas != null) {
+            drawPlot(canvas);
+            return;
+        }
         List<LineTo> constructedPath = new ArrayList<>(getDataSize());
         for (int seriesIndex=0; seriesIndex < getDataSize(); seriesIndex++) {
             Series<X,Y> series = getData().get(seriesIndex);
@@ -463,6 +482,59 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
         }
     }
 
+    /**
+     * Draws the series onto the canvas, with the styles of the series lines,
+     * which are not shown, and of a symbol node per series.
+     */
+    private void drawPlot(ChartCanvas canvas) {
+        final Axis<X> xAxis = getXAxis();
+        final Axis<Y> yAxis = getYAxis();
+        final SortingPolicy sortAxis = getAxisSortingPolicy();
+        for (int seriesIndex=0; seriesIndex < getDataSize(); seriesIndex++) {
+            final Series<X,Y> series = getData().get(seriesIndex);
+            final double yAnimMultiplier = seriesYMultiplierMap.get(series).get();
+            canvas.beginSeries();
+            final SeriesDecimator<X,Y> decimator = decimate(series, sortAxis == SortingPolicy.X_AXIS);
+            final int count = (decimator != null) ? decimator.getSelectedCount() : series.getDataSize();
+            for (int i = 0; i < count; i++) {
+                final int index = (decimator != null) ? decimator.getSelected(i) : i;
+                final Data<X,Y> item = series.getItem(index);
+                final double x;
+                final double y;
+                if (decimator != null) {
+                    x = xAxis.getDisplayPosition(xAxis.toRealValue(decimator.getX(index)));
+                    y = yAxis.getDisplayPosition(yAxis.toRealValue(decimator.getY(index) * yAnimMultiplier));
+                } else {
+                    x = xAxis.getDisplayPosition(item.getCurrentX());
+                    y = yAxis.getDisplayPosition(
+                            yAxis.toRealValue(yAxis.toNumericValue(item.getCurrentY()) * yAnimMultiplier));
+                }
+                if (Double.isNaN(x) || Double.isNaN(y)) continue;
+                canvas.addLinePoint(x, y);
+                // items with a node of their own keep it
+                final Node symbol = item.getNode();
+                if (symbol != null) {
+                    final double w = symbol.prefWidth(-1);
+                    final double h = symbol.prefHeight(-1);
+                    symbol.resizeRelocate(x-(w/2), y-(h/2), w, h);
+                    if (decimator != null) decimator.showSymbol(symbol);
+                } else if (getCreateSymbols()) {
+                    canvas.addSymbol(x, y);
+                }
+            }
+            if (sortAxis != SortingPolicy.NONE) {
+                canvas.sortLine(sortAxis == SortingPolicy.Y_AXIS);
+            }
+            if (series.getNode() instanceof Path line) {
+                line.setVisible(false);
+                canvas.strokeLine(line);
+            }
+            if (getCreateSymbols()) {
+                canvas.drawSymbols(getCanvasSymbol(series, seriesIndex));
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override void dataBeingRemovedIsAdded(Data item, Series series) {
         if (fadeSymbolTransition != null) {
@@ -523,7 +595,7 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
     private Node createSymbol(Series<X, Y> series, int seriesIndex, final Data<X,Y> item, int itemIndex) {
         Node symbol = item.getNode();
         // check if symbol has already been created
-        if (symbol == null && getCreateSymbols()) {
+        if (symbol == null && getCreateSymbols() && !isCanvasRendering()) {
             symbol = new StackPane();
             symbol.setAccessibleRole(AccessibleRole.TEXT);
             symbol.setAccessibleRoleDescription("Point");
@@ -509,6 +509,10 @@ public final class NumberAxis extends ValueAxis<Number> {
      */
     public static class DefaultFormatter extends StringConverter<Number> {
         private DecimalFormat formatter;
+        // the format of the last pattern asked for while measuring, which is
+        // the same for all the tick marks of a range
+        private String lastPattern;
+        private DecimalFormat lastPatternFormat;
         private String prefix = null;
         private String suffix = null;
 
@@ -553,7 +557,11 @@ public final class NumberAxis extends ValueAxis<Number> {
             if (numFormatter == null || numFormatter.isEmpty()) {
                 return toString(object, formatter);
             } else {
-                return toString(object, new DecimalFormat(numFormatter));
+                if (!numFormatter.equals(lastPattern)) {
+                    lastPatternFormat = new DecimalFormat(numFormatter);
+                    lastPattern = numFormatter;
+                }
+                return toString(object, lastPatternFormat);
             }
         }
 
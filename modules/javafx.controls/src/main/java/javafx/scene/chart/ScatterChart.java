@@ -79,6 +79,8 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
         Node symbol = item.getNode();
         // check if symbol has already been created
         if (symbol == null) {
+            // symbols are drawn onto the canvas instead
+            if (isCanvasRendering()) return;
             symbol = new StackPane();
             symbol.setAccessibleRole(AccessibleRole.TEXT);
             symbol.setAccessibleRoleDescription("Point");
@@ -108,7 +110,7 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
             symbol.focusTraversableProperty().unbind();
         }
 
-        if (shouldAnimate()) {
+        if (shouldAnimate() && symbol != null) {
             // fade out old symbol
             FadeTransition ft = new FadeTransition(Duration.millis(500),symbol);
             ft.setToValue(0);
@@ -146,6 +148,7 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
             });
             for (final Data<X,Y> d : series.getData()) {
                 final Node symbol = d.getNode();
+                if (symbol == null) continue;
                 // fade out old symbol
                 FadeTransition ft = new FadeTransition(Duration.millis(500),symbol);
                 ft.setToValue(0);
@@ -165,11 +168,43 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override String[] getCanvasSymbolStyleClass(Series<X,Y> series, int seriesIndex) {
+        return new String[] {"chart-symbol", "series" + seriesIndex, "data0", series.defaultColorStyleClass};
+    }
+
+    /** {@inheritDoc} */
+    @Override void canvasRenderingChanged() {
+        for (int seriesIndex=0; seriesIndex < getData().size(); seriesIndex++) {
+            final Series<X,Y> series = getData().get(seriesIndex);
+            for (int itemIndex=0; itemIndex < series.getData().size(); itemIndex++) {
+                final Data<X,Y> item = series.getData().get(itemIndex);
+                if (!isCanvasRendering()) {
+                    if (item.getNode() == null) dataItemAdded(series, itemIndex, item);
+                } else if (item.getNode() != null) {
+                    getPlotChildren().remove(item.getNode());
+                    item.getNode().focusTraversableProperty().unbind();
+                    item.setNode(null);
+                }
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override protected void layoutPlotChildren() {
+        final ChartCanvas canvas = getChartCanvas();
+        if (canvas != null) {
+            drawPlot(canvas);
+            return;
+        }
         // update symbol positions
         for (int seriesIndex=0; seriesIndex < getDataSize(); seriesIndex++) {
             Series<X,Y> series = getData().get(seriesIndex);
+            final SeriesDecimator<X,Y> decimator = decimate(series, true);
+            if (decimator != null) {
+                layoutSymbols(series, decimator);
+                continue;
+            }
             for (Iterator<Data<X, Y>> it = getDisplayedDataIterator(series); it.hasNext(); ) {
                 Data<X, Y> item = it.next();
                 double x = getXAxis().getDisplayPosition(item.getCurrentX());
@@ -187,12 +222,74 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
         }
     }
 
+    private void layoutSymbols(Series<X,Y> series, SeriesDecimator<X,Y> decimator) {
+        final Axis<X> xAxis = getXAxis();
+        final Axis<Y> yAxis = getYAxis();
+        for (int i = 0; i < decimator.getSelectedCount(); i++) {
+            final int index = decimator.getSelected(i);
+            double x = xAxis.getDisplayPosition(xAxis.toRealValue(decimator.getX(index)));
+            double y = yAxis.getDisplayPosition(yAxis.toRealValue(decimator.getY(index)));
+            Node symbol = series.getItem(index).getNode();
+            if (symbol == null || Double.isNaN(x) || Double.isNaN(y)) {
+                continue;
+            }
+            final double w = symbol.prefWidth(-1);
+            final double h = symbol.prefHeight(-1);
+            symbol.resizeRelocate(x-(w/2), y-(h/2),w,h);
+            decimator.showSymbol(symbol);
+        }
+    }
+
+    /**
+     * Draws the symbols of the series onto the canvas, with the style of a
+     * symbol node per series, which is not shown.
+     */
+    private void drawPlot(ChartCanvas canvas) {
+        final Axis<X> xAxis = getXAxis();
+        final Axis<Y> yAxis = getYAxis();
+        for (int seriesIndex=0; seriesIndex < getDataSize(); seriesIndex++) {
+            final Series<X,Y> series = getData().get(seriesIndex);
+            canvas.beginSeries();
+            final SeriesDecimator<X,Y> decimator = decimate(series, true);
+            final int count = (decimator != null) ? decimator.getSelectedCount() : series.getDataSize();
+            for (int i = 0; i < count; i++) {
+                final int index = (decimator != null) ? decimator.getSelected(i) : i;
+                final Data<X,Y> item = series.getItem(index);
+                final double x;
+                final double y;
+                if (decimator != null) {
+                    x = xAxis.getDisplayPosition(xAxis.toRealValue(decimator.getX(index)));
+                    y = yAxis.getDisplayPosition(yAxis.toRealValue(decimator.getY(index)));
+                } else {
+                    x = xAxis.getDisplayPosition(item.getCurrentX());
+                    y = yAxis.getDisplayPosition(item.getCurrentY());
+                }
+                if (Double.isNaN(x) || Double.isNaN(y)) continue;
+                // items with a node of their own keep it
+                final Node symbol = item.getNode();
+                if (symbol != null) {
+                    final double w = symbol.prefWidth(-1);
+                    final double h = symbol.prefHeight(-1);
+                    symbol.resizeRelocate(x-(w/2), y-(h/2),w,h);
+                    if (decimator != null) decimator.showSymbol(symbol);
+                } else {
+                    canvas.addSymbol(x, y);
+                }
+            }
+            canvas.drawSymbols(getCanvasSymbol(series, seriesIndex));
+        }
+    }
+
     @Override
     LegendItem createLegendItemForSeries(Series<X, Y> series, int seriesIndex) {
         LegendItem legendItem = new LegendItem(series.getName());
         Node node = series.getData().isEmpty() ? null : series.getData().get(0).getNode();
         if (node != null) {
             legendItem.getSymbol().getStyleClass().addAll(node.getStyleClass());
+        } else if (isCanvasRendering()) {
+            // the symbols drawn onto the canvas are styled like the first item
+            legendItem.getSymbol().getStyleClass().addAll("chart-symbol", "series" + seriesIndex, "data0",
+                    series.defaultColorStyleClass);
         }
         return legendItem;
     }
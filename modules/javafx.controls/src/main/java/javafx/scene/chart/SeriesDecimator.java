@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.chart;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javafx.scene.Node;
+import javafx.scene.chart.XYChart.Data;
+import javafx.scene.chart.XYChart.Decimation;
+import javafx.scene.chart.XYChart.Series;
+
+/**
+ * Keeps the numeric values of the displayed data of a series in primitive
+ * arrays and selects the items that are worth drawing for the visible range
+ * of the X axis. The values are only recomputed from the first item that
+ * changed, so appending data costs no more than the new items.
+ */
+final class SeriesDecimator<X,Y> {
+
+    private double[] xs = new double[16];
+    private double[] ys = new double[16];
+    // the number of items whose values are up to date
+    private int size;
+    // the number of values before the first item, left by removeFirst()
+    private int start;
+    // the index of the first item that is not in ascending X order
+    private int unsortedAt = Integer.MAX_VALUE;
+
+    private int[] selected = new int[16];
+    private int selectedCount;
+    // the symbols that were shown by the last layout
+    private Node[] shown = new Node[0];
+    // the symbols hidden by decimation, which are the only ones it shows again
+    private final Set<Node> hidden = Collections.newSetFromMap(new WeakHashMap<>());
+
+    void invalidate() {
+        invalidateFrom(0);
+    }
+
+    void invalidateFrom(int index) {
+        size = Math.max(0, Math.min(size, index));
+        if (unsortedAt >= size) {
+            unsortedAt = Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Drops the values of the first item, which was removed from the
+     * displayed data, so that evicting old data from a sliding window does
+     * not recompute the values of the items that remain.
+     */
+    void removeFirst() {
+        if (unsortedAt != Integer.MAX_VALUE) {
+            invalidate();
+        } else if (size > 0) {
+            start++;
+            size--;
+        }
+    }
+
+    /**
+     * Brings the values up to date with the displayed data of the series and
+     * returns whether they are in ascending X order, which decimation needs.
+     */
+    boolean update(Series<X,Y> series, Axis<X> axisX, Axis<Y> axisY) {
+        final int n = series.getDataSize();
+        if (start > 0) {
+            System.arraycopy(xs, start, xs, 0, size);
+            System.arraycopy(ys, start, ys, 0, size);
+            start = 0;
+        }
+        if (xs.length < n) {
+            int capacity = Math.max(n, xs.length + (xs.length >> 1));
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+        }
+        for (int i = size; i < n; i++) {
+            Data<X,Y> item = series.getItem(i);
+            xs[i] = axisX.toNumericValue(item.getCurrentX());
+            ys[i] = axisY.toNumericValue(item.getCurrentY());
+            if (Double.isNaN(xs[i]) || (i > 0 && xs[i] < xs[i-1])) {
+                unsortedAt = Math.min(unsortedAt, i);
+            }
+            // symbols are only shown for the selected items
+            hideSymbol(item.getNode());
+        }
+        size = n;
+        return unsortedAt >= size;
+    }
+
+    /**
+     * Returns the number of items whose values are up to date.
+     */
+    int getValidCount() {
+        return size;
+    }
+
+    double getX(int index) {
+        return xs[index];
+    }
+
+    double getY(int index) {
+        return ys[index];
+    }
+
+    int getSelectedCount() {
+        return selectedCount;
+    }
+
+    int getSelected(int i) {
+        return selected[i];
+    }
+
+    /**
+     * Selects the items to draw between the X values lower and upper, which
+     * span the given number of pixel columns. One item on either side of the
+     * range is included so that lines continue to the edges of the plot.
+     */
+    void select(Decimation decimation, double lower, double upper, int columns) {
+        selectedCount = 0;
+        if (size == 0) return;
+        if (upper < lower) {
+            double t = lower; lower = upper; upper = t;
+        }
+        final int from = Math.max(0, firstIndexAtOrAbove(lower) - 1);
+        final int to = Math.min(size - 1, firstIndexAbove(upper));
+        final int count = to - from + 1;
+        columns = Math.max(columns, 1);
+        if (decimation == Decimation.LTTB && count > Math.max(columns, 3)) {
+            selectLargestTriangles(from, to, Math.max(columns, 3));
+        } else if (decimation == Decimation.MIN_MAX && count > columns * 4 && upper > lower) {
+            selectMinMax(from, to, lower, columns / (upper - lower));
+        } else {
+            for (int i = from; i <= to; i++) {
+                add(i);
+            }
+        }
+    }
+
+    // Keeps the first, last, lowest and highest item of every pixel column,
+    // which draws the same pixels as the full line.
+    private void selectMinMax(int from, int to, double lower, double scale) {
+        int i = from;
+        while (i <= to) {
+            final double column = Math.floor((xs[i] - lower) * scale);
+            int min = i, max = i, last = i;
+            int j = i + 1;
+            while (j <= to && Math.floor((xs[j] - lower) * scale) == column) {
+                if (ys[j] < ys[min]) min = j;
+                if (ys[j] > ys[max]) max = j;
+                last = j++;
+            }
+            add(i);
+            int lo = Math.min(min, max);
+            int hi = Math.max(min, max);
+            if (lo != i) add(lo);
+            if (hi != lo && hi != i) add(hi);
+            if (last != hi && last != i) add(last);
+            i = j;
+        }
+    }
+
+    // Largest-Triangle-Three-Buckets: splits the items into buckets and keeps
+    // the item of each bucket that forms the largest triangle with the item
+    // kept from the previous bucket and the average of the next bucket.
+    private void selectLargestTriangles(int from, int to, int threshold) {
+        final double every = (double) (to - from - 1) / (threshold - 2);
+        int a = from;
+        add(a);
+        for (int b = 0; b < threshold - 2; b++) {
+            int avgStart = Math.min(from + (int) ((b + 1) * every) + 1, to);
+            int avgEnd = Math.min(from + (int) ((b + 2) * every) + 1, to + 1);
+            avgEnd = Math.max(avgEnd, avgStart + 1);
+            double avgX = 0, avgY = 0;
+            for (int k = avgStart; k < avgEnd; k++) {
+                avgX += xs[k];
+                avgY += ys[k];
+            }
+            avgX /= (avgEnd - avgStart);
+            avgY /= (avgEnd - avgStart);
+
+            final int rangeStart = from + (int) (b * every) + 1;
+            final int rangeEnd = Math.min(from + (int) ((b + 1) * every) + 1, to);
+            double maxArea = -1;
+            int next = rangeStart;
+            for (int k = rangeStart; k < rangeEnd; k++) {
+                double area = Math.abs((xs[a] - avgX) * (ys[k] - ys[a]) -
+                                       (xs[a] - xs[k]) * (avgY - ys[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = k;
+                }
+            }
+            add(next);
+            a = next;
+        }
+        add(to);
+    }
+
+    private void add(int index) {
+        if (selectedCount == selected.length) {
+            selected = Arrays.copyOf(selected, selectedCount * 2);
+        }
+        selected[selectedCount++] = index;
+    }
+
+    private int firstIndexAtOrAbove(double value) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (xs[mid] < value) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    private int firstIndexAbove(double value) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (xs[mid] <= value) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Hides the symbols shown by the last layout and remembers the symbols
+     * of the selected items, which the caller lays out and shows with
+     * {@link #showSymbol}.
+     */
+    void updateShownSymbols(Series<X,Y> series) {
+        for (Node symbol : shown) {
+            hideSymbol(symbol);
+        }
+        shown = new Node[selectedCount];
+        for (int i = 0; i < selectedCount; i++) {
+            shown[i] = series.getItem(selected[i]).getNode();
+        }
+    }
+
+    // A symbol the application made invisible is left alone, so that it
+    // stays invisible when it is selected or when decimation stops.
+    private void hideSymbol(Node symbol) {
+        if (symbol != null && symbol.isVisible()) {
+            symbol.setVisible(false);
+            hidden.add(symbol);
+        }
+    }
+
+    /**
+     * Shows the symbol of a selected item if decimation hid it.
+     */
+    void showSymbol(Node symbol) {
+        if (hidden.remove(symbol)) {
+            symbol.setVisible(true);
+        }
+    }
+
+    /**
+     * Shows the symbols hidden by decimation again once it is turned off.
+     */
+    void showHiddenSymbols() {
+        for (Node symbol : hidden) {
+            symbol.setVisible(true);
+        }
+        hidden.clear();
+        shown = new Node[0];
+    }
+}
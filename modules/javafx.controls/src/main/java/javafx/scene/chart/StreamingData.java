@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.chart;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.sun.javafx.tk.TKPulseListener;
+import com.sun.javafx.tk.Toolkit;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.scene.chart.XYChart.Data;
+
+/**
+ * A list of data items for an {@link XYChart.Series} that holds at most a
+ * fixed number of items, for charts that show a sliding window of a stream
+ * of data. Adding items to a full list removes the same number of items from
+ * its start. The items are kept in a ring, so that appending and evicting
+ * an item takes constant time.
+ * <p>
+ * Items that are passed to {@link #append(XYChart.Data) append} are added
+ * together at the start of the next pulse, so that the chart is notified of a
+ * single change per pulse no matter how many items arrive in between.
+ * <p>
+ * While items are only appended and evicted, the list keeps track of the
+ * smallest and largest values of its items, which a chart with auto-ranging
+ * {@link ValueAxis value axes} uses instead of looking at every item when the
+ * range of an axis needs to be updated.
+ *
+ * <pre><code>
+ * StreamingData&lt;Number, Number&gt; window = new StreamingData&lt;&gt;(100_000);
+ * XYChart.Series&lt;Number, Number&gt; series = new XYChart.Series&lt;&gt;(window);
+ * ...
+ * window.append(new XYChart.Data&lt;&gt;(time, value));
+ * </code></pre>
+ *
+ * @param <X> the type of the X values of the data items
+ * @param <Y> the type of the Y values of the data items
+ * @since 22
+ */
+public final class StreamingData<X,Y> extends ModifiableObservableListBase<Data<X,Y>> {
+
+    private final int capacity;
+    private final RingList<Data<X,Y>> items = new RingList<>();
+
+    // the items passed to append() that are not added yet
+    private final List<Data<X,Y>> pending = new ArrayList<>();
+    private TKPulseListener flushListener;
+
+    // the sequence number of the first item, which increases as items are
+    // evicted so that the queues below can refer to items across evictions
+    private long firstSeq;
+    private boolean extremesValid = true;
+    private boolean nonNumeric;
+    private final MonotonicQueue minX = new MonotonicQueue(false);
+    private final MonotonicQueue maxX = new MonotonicQueue(true);
+    private final MonotonicQueue minY = new MonotonicQueue(false);
+    private final MonotonicQueue maxY = new MonotonicQueue(true);
+
+    /**
+     * Creates an empty list that holds at most the given number of items.
+     *
+     * @param capacity the maximum number of items
+     * @throws IllegalArgumentException if {@code capacity} is less than 1
+     */
+    public StreamingData(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets the maximum number of items of this list.
+     *
+     * @return the maximum number of items
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Adds the given item to the end of this list at the start of the next
+     * pulse, together with any other item appended before then. This method
+     * may be called on any thread.
+     *
+     * @param item the item to append
+     * @throws NullPointerException if {@code item} is {@code null}
+     */
+    public void append(Data<X,Y> item) {
+        Objects.requireNonNull(item, "item must not be null.");
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                Toolkit toolkit = Toolkit.getToolkit();
+                toolkit.addStageTkPulseListener(getFlushListener());
+                toolkit.requestNextPulse();
+            }
+            pending.add(item);
+        }
+    }
+
+    /**
+     * Adds the items passed to {@link #append(XYChart.Data) append} to this
+     * list right away instead of at the start of the next pulse. This method
+     * must be called on the JavaFX Application Thread.
+     */
+    public void flush() {
+        List<Data<X,Y>> added;
+        synchronized (pending) {
+            if (pending.isEmpty()) return;
+            Toolkit.getToolkit().removeStageTkPulseListener(flushListener);
+            added = new ArrayList<>(pending);
+            pending.clear();
+        }
+        addAll(added);
+    }
+
+    private synchronized TKPulseListener getFlushListener() {
+        if (flushListener == null) {
+            flushListener = this::flush;
+        }
+        return flushListener;
+    }
+
+    @Override
+    public Data<X,Y> get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    public void add(int index, Data<X,Y> element) {
+        addAll(index, Collections.singletonList(element));
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Data<X,Y>> c) {
+        return addAll(size(), c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Data<X,Y>> c) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        beginChange();
+        try {
+            if (index == size()) {
+                // evict before appending, which keeps the change a single
+                // removal from the start followed by a single addition
+                List<? extends Data<X,Y>> added = c instanceof List<? extends Data<X,Y>> l ? l : new ArrayList<>(c);
+                if (added.size() > capacity) {
+                    added = added.subList(added.size() - capacity, added.size());
+                }
+                removeRange(0, Math.max(0, size() + added.size() - capacity));
+                for (Data<X,Y> item : added) {
+                    super.add(size(), item);
+                }
+                return !added.isEmpty();
+            }
+            for (Data<X,Y> item : c) {
+                super.add(index++, item);
+            }
+            if (size() > capacity) {
+                removeRange(0, size() - capacity);
+            }
+            return !c.isEmpty();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, Data<X,Y> element) {
+        if (index == items.size() && extremesValid) {
+            push(firstSeq + index, element);
+        } else {
+            extremesValid = false;
+        }
+        items.add(index, element);
+    }
+
+    @Override
+    protected Data<X,Y> doSet(int index, Data<X,Y> element) {
+        extremesValid = false;
+        return items.set(index, element);
+    }
+
+    @Override
+    protected Data<X,Y> doRemove(int index) {
+        if (index == 0) {
+            minX.evict(firstSeq);
+            maxX.evict(firstSeq);
+            minY.evict(firstSeq);
+            maxY.evict(firstSeq);
+            firstSeq++;
+        } else {
+            extremesValid = false;
+        }
+        return items.remove(index);
+    }
+
+    /**
+     * Makes the extremes be found again from the items the next time they are
+     * needed. Called by the chart when the value of an item of this list
+     * changed, and when the list is shown by a chart, since the values of its
+     * items may have changed while it was not.
+     */
+    void invalidateExtremes() {
+        extremesValid = false;
+    }
+
+    private void push(long seq, Data<X,Y> item) {
+        Object x = item.getXValue();
+        Object y = item.getYValue();
+        if ((x != null && !(x instanceof Number)) || (y != null && !(y instanceof Number))) {
+            nonNumeric = true;
+            return;
+        }
+        // items without a value do not count, as they are not plotted
+        if (x != null && !Double.isNaN(((Number) x).doubleValue())) {
+            minX.push(seq, ((Number) x).doubleValue());
+            maxX.push(seq, ((Number) x).doubleValue());
+        }
+        if (y != null && !Double.isNaN(((Number) y).doubleValue())) {
+            minY.push(seq, ((Number) y).doubleValue());
+            maxY.push(seq, ((Number) y).doubleValue());
+        }
+    }
+
+    /**
+     * Adds the smallest and largest values of the items of this list to the
+     * given lists, which may be null. Returns false if they are not known,
+     * because not all of the values are numbers.
+     */
+    boolean addExtremes(List<X> xData, List<Y> yData) {
+        if (!extremesValid) {
+            minX.clear();
+            maxX.clear();
+            minY.clear();
+            maxY.clear();
+            nonNumeric = false;
+            for (int i = 0; i < items.size(); i++) {
+                push(firstSeq + i, items.get(i));
+            }
+            extremesValid = true;
+        }
+        if (nonNumeric) {
+            return false;
+        }
+        // an item that holds both extremes is only added once, as a single
+        // item at zero does not change the range of a chart
+        if (xData != null && !minX.isEmpty()) {
+            xData.add(item(minX).getXValue());
+            if (maxX.first() != minX.first()) xData.add(item(maxX).getXValue());
+        }
+        if (yData != null && !minY.isEmpty()) {
+            yData.add(item(minY).getYValue());
+            if (maxY.first() != minY.first()) yData.add(item(maxY).getYValue());
+        }
+        return true;
+    }
+
+    private Data<X,Y> item(MonotonicQueue queue) {
+        return items.get((int) (queue.first() - firstSeq));
+    }
+
+    /**
+     * The smallest or largest value among the values pushed at the end and
+     * evicted from the start of a sliding window, kept as the queue of values
+     * that may still become the extreme once the ones before them are evicted.
+     */
+    private static final class MonotonicQueue {
+        private final boolean max;
+        private long[] seqs = new long[16];
+        private double[] values = new double[16];
+        private int head;
+        private int count;
+
+        MonotonicQueue(boolean max) {
+            this.max = max;
+        }
+
+        void push(long seq, double value) {
+            while (count > 0) {
+                double last = values[(head + count - 1) & (values.length - 1)];
+                if (max ? last > value : last < value) break;
+                count--;
+            }
+            if (count == seqs.length) {
+                long[] newSeqs = new long[count * 2];
+                double[] newValues = new double[count * 2];
+                for (int i = 0; i < count; i++) {
+                    newSeqs[i] = seqs[(head + i) & (seqs.length - 1)];
+                    newValues[i] = values[(head + i) & (values.length - 1)];
+                }
+                seqs = newSeqs;
+                values = newValues;
+                head = 0;
+            }
+            int i = (head + count) & (seqs.length - 1);
+            seqs[i] = seq;
+            values[i] = value;
+            count++;
+        }
+
+        void evict(long seq) {
+            if (count > 0 && seqs[head] == seq) {
+                head = (head + 1) & (seqs.length - 1);
+                count--;
+            }
+        }
+
+        boolean isEmpty() {
+            return count == 0;
+        }
+
+        long first() {
+            return seqs[head];
+        }
+
+        void clear() {
+            head = 0;
+            count = 0;
+        }
+    }
+}
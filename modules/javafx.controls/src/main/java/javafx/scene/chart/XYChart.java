@@ -43,8 +43,10 @@ import com.sun.javafx.scene.control.skin.resources.ControlResources;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.StringBinding;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.BooleanPropertyBase;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
 import javafx.beans.property.ReadOnlyObjectProperty;
@@ -67,12 +69,14 @@ import javafx.geometry.Side;
 import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
 import javafx.scene.shape.ClosePath;
 import javafx.scene.shape.Line;
 import javafx.scene.shape.LineTo;
 import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.Shape;
 import javafx.util.Duration;
 
 import com.sun.javafx.collections.NonIterableChange;
@@ -118,6 +122,14 @@ public abstract class XYChart<X,Y> extends Chart {
     private final Rectangle plotAreaClip = new Rectangle();
 
     private final List<Series<X, Y>> displayedSeries = new ArrayList<>();
+    /** the canvas the series are drawn onto, while canvas rendering is on */
+    private ChartCanvas chartCanvas;
+    /** the nodes that style the symbols drawn onto the canvas, per series */
+    private final Map<Series<X, Y>, Region> canvasSymbols = new HashMap<>();
+    /** redraws the canvas when CSS changes a node that styles what is drawn onto it */
+    private final InvalidationListener canvasStyleListener = o -> {
+        if (chartCanvas != null) requestChartLayout();
+    };
     private Legend legend = new Legend();
 
     /** This is called when a series is added or removed from the chart */
@@ -162,6 +174,7 @@ public abstract class XYChart<X,Y> extends Chart {
                 seriesColorMap.put(s, nextClearBit%8);
                 // inform sub-classes of series added
                 seriesAdded(s, i);
+                if (chartCanvas != null) getCanvasSymbol(s, i);
             }
             if (c.getFrom() < c.getTo()) updateLegend();
             seriesChanged(c);
@@ -459,6 +472,89 @@ public abstract class XYChart<X,Y> extends Chart {
     public final void setHorizontalZeroLineVisible(boolean value) { horizontalZeroLineVisible.set(value); }
     public final BooleanProperty horizontalZeroLineVisibleProperty() { return horizontalZeroLineVisible; }
 
+    /**
+     * The way a chart that supports it reduces a series with more items than
+     * it has pixel columns to the items that are worth drawing. Decimation
+     * needs the items of a series to be in ascending order of their X values
+     * and lays out only items that are within the visible range of the X axis.
+     * The values of the items are kept in primitive arrays that are only
+     * recomputed from the first item that changed, so appending items to a
+     * large series is cheap. Symbols are only shown for the selected items,
+     * so the symbols of a {@link ScatterChart} are reduced whatever the mode.
+     * {@link LineChart}, {@link AreaChart} and {@link ScatterChart} support
+     * decimation.
+     *
+     * @see Decimation
+     * @defaultValue Decimation.NONE
+     * @since 22
+     */
+    private ObjectProperty<Decimation> decimation = new ObjectPropertyBase<>(Decimation.NONE) {
+        @Override protected void invalidated() {
+            requestChartLayout();
+        }
+
+        @Override
+        public Object getBean() {
+            return XYChart.this;
+        }
+
+        @Override
+        public String getName() {
+            return "decimation";
+        }
+    };
+    public final Decimation getDecimation() { return decimation.get(); }
+    public final void setDecimation(Decimation value) { decimation.set(value); }
+    public final ObjectProperty<Decimation> decimationProperty() { return decimation; }
+
+    /**
+     * Whether a chart that supports it draws its series onto a single canvas
+     * instead of laying out a node for the line of each series and for the
+     * symbol of each data item, which is much faster for large series. The
+     * lines and symbols are still styled through CSS, by a node for each
+     * series that is not shown. Data items have no node of their own while
+     * the chart draws onto a canvas, unless one is set on them, so they can
+     * not be styled one by one. Legends and axes are not affected.
+     * {@link LineChart} and {@link ScatterChart} support drawing onto a canvas.
+     *
+     * @defaultValue false
+     * @since 22
+     */
+    private BooleanProperty canvasRendering = new BooleanPropertyBase(false) {
+        @Override protected void invalidated() {
+            if (get()) {
+                chartCanvas = new ChartCanvas();
+                plotArea.getChildren().add(plotArea.getChildren().indexOf(plotContent), chartCanvas.getCanvas());
+            } else {
+                plotArea.getChildren().remove(chartCanvas.getCanvas());
+                chartCanvas = null;
+                getPlotChildren().removeAll(canvasSymbols.values());
+                canvasSymbols.clear();
+            }
+            canvasRenderingChanged();
+            if (chartCanvas != null) {
+                // styled by CSS before the first layout draws with them
+                for (int i = 0; i < getData().size(); i++) {
+                    getCanvasSymbol(getData().get(i), i);
+                }
+            }
+            requestChartLayout();
+        }
+
+        @Override
+        public Object getBean() {
+            return XYChart.this;
+        }
+
+        @Override
+        public String getName() {
+            return "canvasRendering";
+        }
+    };
+    public final boolean isCanvasRendering() { return canvasRendering.get(); }
+    public final void setCanvasRendering(boolean value) { canvasRendering.set(value); }
+    public final BooleanProperty canvasRenderingProperty() { return canvasRendering; }
+
     // -------------- PROTECTED PROPERTIES -----------------------------------------------------------------------------
 
     /**
@@ -555,12 +651,21 @@ public abstract class XYChart<X,Y> extends Chart {
             Data<X,Y> item = series.getData().get(i);
             dataItemAdded(series, i, item);
         }
+        if (series.decimator != null && addedTo > addedFrom) {
+            // Removed items were dropped from the decimator as they left the
+            // display, see removeDataItemFromDisplay(), so evicting from the
+            // start of a sliding window keeps the values of the items that
+            // remain and only the added items are recomputed.
+            series.decimator.invalidateFrom(
+                    series.displayedData.lastIndexOf(series.getData().get(addedFrom)));
+        }
         invalidateRange();
         requestChartLayout();
     }
 
     private <T> void dataValueChanged(Data<X,Y> item, T newValue, ObjectProperty<T> currentValueProperty) {
         if (currentValueProperty.get() != newValue) invalidateRange();
+        if (item.series.getData() instanceof StreamingData<X,Y> window) window.invalidateExtremes();
         dataItemChanged(item);
         if (shouldAnimate()) {
             animate(
@@ -691,17 +796,33 @@ public abstract class XYChart<X,Y> extends Chart {
         if(xa.isAutoRanging()) xData = new ArrayList<>();
         if(ya.isAutoRanging()) yData = new ArrayList<>();
         if(xData != null || yData != null) {
-            for(Series<X,Y> series : getData()) {
-                for(Data<X,Y> data: series.getData()) {
-                    if(xData != null) xData.add(data.getXValue());
-                    if(yData != null) yData.add(data.getYValue());
-                }
-            }
+            addRangeData(xData, yData);
             if(xData != null) xa.invalidateRange(xData);
             if(yData != null) ya.invalidateRange(yData);
         }
     }
 
+    /**
+     * Adds the X and Y values of the data of all series that the axes need
+     * to update their range to the given lists, which may be null.
+     */
+    final void addRangeData(List<X> xData, List<Y> yData) {
+        // the value axes only need the extremes, which streaming data
+        // keeps track of as it is appended and evicted
+        final boolean extremes = (xData == null || getXAxis() instanceof ValueAxis)
+                && (yData == null || getYAxis() instanceof ValueAxis);
+        for(Series<X,Y> series : getData()) {
+            if (extremes && series.getData() instanceof StreamingData<X,Y> window
+                    && window.addExtremes(xData, yData)) {
+                continue;
+            }
+            for(Data<X,Y> data: series.getData()) {
+                if(xData != null) xData.add(data.getXValue());
+                if(yData != null) yData.add(data.getYValue());
+            }
+        }
+    }
+
     /**
      * Called to update and layout the plot children. This should include all work to updates nodes representing
      * the plot on top of the axis and grid lines etc. The origin is the top left of the plot area, the plot area with
@@ -784,6 +905,10 @@ public abstract class XYChart<X,Y> extends Chart {
         xa.layout();
         ya.requestAxisLayout();
         ya.layout();
+        // clear the canvas before the series are drawn onto it
+        if (chartCanvas != null) {
+            chartCanvas.resizeRelocate(left, top, xAxisWidth, yAxisHeight);
+        }
         // layout plot content
         layoutPlotChildren();
         // get axis zero points
@@ -970,6 +1095,8 @@ public abstract class XYChart<X,Y> extends Chart {
         displayedSeries.remove(series);
         int idx = seriesColorMap.remove(series);
         colorBits.clear(idx);
+        Region symbol = canvasSymbols.remove(series);
+        if (symbol != null) getPlotChildren().remove(symbol);
     }
 
     /**
@@ -1114,7 +1241,118 @@ public abstract class XYChart<X,Y> extends Chart {
      * @param item   The item to remove from series's display list
      */
     protected final void removeDataItemFromDisplay(Series<X, Y> series, Data<X, Y> item) {
+        final boolean first = series.getDataSize() > 0 && series.getItem(0) == item;
         series.removeDataItemRef(item);
+        if (series.decimator != null) {
+            if (first) {
+                series.decimator.removeFirst();
+            } else {
+                series.decimator.invalidate();
+            }
+        }
+    }
+
+    /**
+     * Called when canvas rendering is turned on or off, so that charts that
+     * support it can add or remove the nodes of their data items.
+     */
+    void canvasRenderingChanged() {
+    }
+
+    /**
+     * Returns the canvas that the series are drawn onto, or null if canvas
+     * rendering is off.
+     */
+    final ChartCanvas getChartCanvas() {
+        return chartCanvas;
+    }
+
+    /**
+     * Returns the style classes of the node that styles the symbols of the
+     * given series drawn onto the canvas, or null if the chart draws no
+     * symbols onto the canvas.
+     */
+    String[] getCanvasSymbolStyleClass(Series<X,Y> series, int seriesIndex) {
+        return null;
+    }
+
+    /**
+     * Returns the node that styles the symbols of the series drawn onto the
+     * canvas. It is a plot child that is not shown, so that CSS applies to it
+     * like to the symbol of a data item. It is created as soon as the series
+     * is added or canvas rendering is turned on, so that CSS has styled it by
+     * the time the series is first drawn, and changes to its style redraw
+     * the canvas.
+     */
+    final Region getCanvasSymbol(Series<X,Y> series, int seriesIndex) {
+        final String[] styleClasses = getCanvasSymbolStyleClass(series, seriesIndex);
+        if (styleClasses == null) {
+            return null;
+        }
+        Region symbol = canvasSymbols.get(series);
+        if (symbol == null) {
+            symbol = new StackPane();
+            symbol.setVisible(false);
+            symbol.setManaged(false);
+            symbol.backgroundProperty().addListener(canvasStyleListener);
+            symbol.shapeProperty().addListener(canvasStyleListener);
+            symbol.paddingProperty().addListener(canvasStyleListener);
+            symbol.opacityProperty().addListener(canvasStyleListener);
+            canvasSymbols.put(series, symbol);
+            getPlotChildren().add(symbol);
+        }
+        if (!symbol.getStyleClass().equals(List.of(styleClasses))) {
+            symbol.getStyleClass().setAll(styleClasses);
+        }
+        return symbol;
+    }
+
+    /**
+     * Redraws the canvas whenever the stroke of the given shape changes,
+     * for shapes that style the lines drawn onto the canvas.
+     */
+    final void addCanvasStyleListener(Shape shape) {
+        shape.strokeProperty().addListener(canvasStyleListener);
+        shape.strokeWidthProperty().addListener(canvasStyleListener);
+        shape.strokeLineCapProperty().addListener(canvasStyleListener);
+        shape.strokeLineJoinProperty().addListener(canvasStyleListener);
+        shape.strokeMiterLimitProperty().addListener(canvasStyleListener);
+        shape.strokeDashOffsetProperty().addListener(canvasStyleListener);
+        shape.getStrokeDashArray().addListener(canvasStyleListener);
+        shape.opacityProperty().addListener(canvasStyleListener);
+    }
+
+    /**
+     * Selects the items of the series to lay out for the current decimation
+     * and range of the X axis. Returns null if decimation is off, not possible
+     * for the series or not allowed by the caller, in which case all of the
+     * items have to be laid out.
+     */
+    final SeriesDecimator<X,Y> decimate(Series<X,Y> series, boolean allowed) {
+        final Decimation mode = getDecimation();
+        if (mode == Decimation.NONE || !allowed) {
+            if (series.decimator != null) {
+                series.decimator.showHiddenSymbols();
+                series.decimator = null;
+            }
+            return null;
+        }
+        if (series.decimator == null) {
+            series.decimator = new SeriesDecimator<>();
+        }
+        final SeriesDecimator<X,Y> decimator = series.decimator;
+        final Axis<X> xa = getXAxis();
+        if (!decimator.update(series, xa, getYAxis())) {
+            decimator.showHiddenSymbols();
+            return null;
+        }
+        final double length = xa.getSide().isVertical() ? xa.getHeight() : xa.getWidth();
+        decimator.select(mode,
+                         xa.toNumericValue(xa.getValueForDisplay(0)),
+                         xa.toNumericValue(xa.getValueForDisplay(length)),
+                         (int) Math.ceil(length));
+        decimator.updateShownSymbols(series);
+        return decimator;
     }
 
     // -------------- STYLESHEET HANDLING ------------------------------------------------------------------------------
@@ -1412,7 +1650,11 @@ public abstract class XYChart<X,Y> extends Chart {
          * in any custom XYChart implementations. Some XYChart chart implementations such as LineChart also use this
          * to animate when data is added or removed.
          */
-        private ObjectProperty<X> currentX = new SimpleObjectProperty<>(this, "currentX");
+        private ObjectProperty<X> currentX = new SimpleObjectProperty<>(this, "currentX") {
+            @Override protected void invalidated() {
+                if (series != null) series.currentValueChanged(Data.this);
+            }
+        };
         final X getCurrentX() { return currentX.get(); }
         final void setCurrentX(X value) { currentX.set(value); }
         final ObjectProperty<X> currentXProperty() { return currentX; }
@@ -1423,7 +1665,11 @@ public abstract class XYChart<X,Y> extends Chart {
          * in any custom XYChart implementations. Some XYChart chart implementations such as LineChart also use this
          * to animate when data is added or removed.
          */
-        private ObjectProperty<Y> currentY = new SimpleObjectProperty<>(this, "currentY");
+        private ObjectProperty<Y> currentY = new SimpleObjectProperty<>(this, "currentY") {
+            @Override protected void invalidated() {
+                if (series != null) series.currentValueChanged(Data.this);
+            }
+        };
         final Y getCurrentY() { return currentY.get(); }
         final void setCurrentY(Y value) { currentY.set(value); }
         final ObjectProperty<Y> currentYProperty() { return currentY; }
@@ -1500,7 +1746,10 @@ public abstract class XYChart<X,Y> extends Chart {
         String defaultColorStyleClass;
         boolean setToRemove = false;
 
-        private List<Data<X, Y>> displayedData = new ArrayList<>();
+        private List<Data<X, Y>> displayedData = new RingList<>();
+
+        /** the values of the displayed data when the chart decimates it */
+        SeriesDecimator<X,Y> decimator;
 
         private final ListChangeListener<Data<X,Y>> dataChangeListener = new ListChangeListener<>() {
             @Override public void onChanged(Change<? extends Data<X, Y>> c) {
@@ -1511,11 +1760,25 @@ public abstract class XYChart<X,Y> extends Chart {
                         // RT-25187 Probably a sort happened, just reorder the pointers and return.
                         if (c.wasPermutated()) {
                             displayedData.sort((o1, o2) -> data.indexOf(o2) - data.indexOf(o1));
+                            if (decimator != null) decimator.invalidate();
                             return;
                         }
 
-                        Set<Data<X, Y>> dupCheck = new HashSet<>(displayedData);
-                        dupCheck.removeAll(c.getRemoved());
+                        // only items that already belong to this series can
+                        // duplicate the displayed data, so the whole of it is
+                        // only checked when one of them is added
+                        boolean member = false;
+                        for (Data<X, Y> d : c.getAddedSubList()) {
+                            if (d.series == Series.this) {
+                                member = true;
+                                break;
+                            }
+                        }
+                        Set<Data<X, Y>> dupCheck = new HashSet<>();
+                        if (member) {
+                            dupCheck.addAll(displayedData);
+                            dupCheck.removeAll(c.getRemoved());
+                        }
                         for (Data<X, Y> d : c.getAddedSubList()) {
                             if (!dupCheck.add(d)) {
                                 throw new IllegalArgumentException("Duplicate data added");
@@ -1541,7 +1804,8 @@ public abstract class XYChart<X,Y> extends Chart {
                             if (c.getFrom() == 0) {
                                 displayedData.addAll(0, c.getAddedSubList());
                             } else {
-                                displayedData.addAll(displayedData.indexOf(data.get(c.getFrom() - 1)) + 1, c.getAddedSubList());
+                                // data is usually added at the end
+                                displayedData.addAll(displayedData.lastIndexOf(data.get(c.getFrom() - 1)) + 1, c.getAddedSubList());
                             }
                         }
                         // inform chart
@@ -1570,9 +1834,16 @@ public abstract class XYChart<X,Y> extends Chart {
         private final ReadOnlyObjectWrapper<XYChart<X,Y>> chart = new ReadOnlyObjectWrapper<>(this, "chart") {
             @Override
             protected void invalidated() {
+                if (decimator != null) {
+                    decimator.showHiddenSymbols();
+                    decimator = null;
+                }
                 if (get() == null) {
                     displayedData.clear();
                 } else {
+                    // values changed while the series was not in a chart
+                    // did not update the extremes of a streaming list
+                    if (getData() instanceof StreamingData<X,Y> window) window.invalidateExtremes();
                     displayedData.addAll(getData());
                 }
             }
@@ -1620,6 +1891,7 @@ public abstract class XYChart<X,Y> extends Chart {
                 // add remove listeners
                 if(old != null) old.removeListener(dataChangeListener);
                 if(current != null) current.addListener(dataChangeListener);
+                if (current instanceof StreamingData<X,Y> window) window.invalidateExtremes();
                 // fire data change event if series are added or removed
                 if(old != null || current != null) {
                     final List<Data<X,Y>> removed = (old != null) ? old : Collections.<Data<X,Y>>emptyList();
@@ -1722,6 +1994,40 @@ public abstract class XYChart<X,Y> extends Chart {
         int getDataSize() {
             return displayedData.size();
         }
+
+        void currentValueChanged(Data<X,Y> item) {
+            if (decimator != null) {
+                // values usually change at the end of a series
+                decimator.invalidateFrom(displayedData.lastIndexOf(item));
+            }
+        }
+    }
+
+    /**
+     * This enum defines the ways of reducing a large series for
+     * {@link XYChart#decimationProperty()}.
+     * @since 22
+     */
+    public static enum Decimation {
+        /**
+         * All of the items are laid out.
+         */
+        NONE,
+        /**
+         * The first, last, lowest and highest item of every pixel column along
+         * the X axis are laid out, which draws the same pixels as the full
+         * line with at most four items per column. A chart that draws only
+         * symbols, such as {@link ScatterChart}, does not draw the symbols of
+         * the other items of a column.
+         */
+        MIN_MAX,
+        /**
+         * The Largest-Triangle-Three-Buckets algorithm keeps one item per
+         * pixel column along the X axis, chosen to preserve the visual shape
+         * of the series. It lays out fewer items than {@code MIN_MAX} but
+         * can drop narrow spikes.
+         */
+        LTTB
     }
 
 }
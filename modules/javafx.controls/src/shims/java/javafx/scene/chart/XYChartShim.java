@@ -51,6 +51,10 @@ public class XYChartShim {
         xy.removeDataItemFromDisplay(series, item);
     }
 
+    public static int Series_getDecimatedValueCount(Series s) {
+        return s.decimator != null ? s.decimator.getValidCount() : -1;
+    }
+
     public static Object Data_getCurrentExtraValue(XYChart.Data<Number, Number> d) {
         return d.getCurrentExtraValue();
     }
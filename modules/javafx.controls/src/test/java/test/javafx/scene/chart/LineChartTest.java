@@ -28,22 +28,33 @@ package test.javafx.scene.chart;
 import javafx.collections.ObservableList;
 import javafx.geometry.Point2D;
 import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.chart.Chart;
 import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.chart.XYChartShim;
+import javafx.scene.paint.Color;
 import javafx.scene.shape.LineTo;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.PathElement;
+import javafx.scene.shape.Rectangle;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 public class LineChartTest extends XYChartTestBase {
 
@@ -679,6 +690,253 @@ public class LineChartTest extends XYChartTestBase {
         assertArrayEquals(convertSeriesDataToPoint2D(expectedSeries).toArray(), findDataPointsFromPathLine(lineChart).toArray());
     }
 
+    private XYChart.Series<Number, Number> createLargeSeries(int n) {
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        List<XYChart.Data<Number, Number>> data = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            // a spike to 29 in the middle of values between 0 and 6
+            data.add(new XYChart.Data<>(i * 90.0 / n, i == n / 2 ? 29.0 : (double) (i % 7)));
+        }
+        series.getData().addAll(data);
+        return series;
+    }
+
+    private List<LineTo> getLineTos(XYChart.Series<Number, Number> series) {
+        return ((Path) series.getNode()).getElements().stream()
+                .filter(pathElement -> pathElement instanceof LineTo)
+                .map(pathElement -> (LineTo) pathElement)
+                .collect(Collectors.toList());
+    }
+
+    private boolean hasPointAtY(List<LineTo> points, double y) {
+        double displayY = lineChart.getYAxis().getDisplayPosition(y);
+        return points.stream().anyMatch(lineTo -> lineTo.getY() == displayY);
+    }
+
+    @Test public void testDecimationMinMaxKeepsExtremes() {
+        startApp();
+        lineChart.setCreateSymbols(false);
+        lineChart.setDecimation(XYChart.Decimation.MIN_MAX);
+        XYChart.Series<Number, Number> series = createLargeSeries(20000);
+        lineChart.getData().add(series);
+        pulse();
+
+        List<LineTo> points = getLineTos(series);
+        double columns = Math.ceil(lineChart.getXAxis().getWidth());
+        assertTrue(points.size() <= 4 * (columns + 1));
+        assertTrue(hasPointAtY(points, 29));
+        assertTrue(hasPointAtY(points, 0));
+        assertTrue(hasPointAtY(points, 6));
+    }
+
+    @Test public void testDecimationLTTB() {
+        startApp();
+        lineChart.setCreateSymbols(false);
+        lineChart.setDecimation(XYChart.Decimation.LTTB);
+        XYChart.Series<Number, Number> series = createLargeSeries(20000);
+        lineChart.getData().add(series);
+        pulse();
+
+        List<LineTo> points = getLineTos(series);
+        double columns = Math.ceil(lineChart.getXAxis().getWidth());
+        assertTrue(points.size() <= columns);
+        assertTrue(hasPointAtY(points, 29));
+    }
+
+    @Test public void testDecimationAfterAppend() {
+        startApp();
+        lineChart.setCreateSymbols(false);
+        lineChart.setDecimation(XYChart.Decimation.MIN_MAX);
+        XYChart.Series<Number, Number> series = createLargeSeries(20000);
+        lineChart.getData().add(series);
+        pulse();
+        series.getData().add(new XYChart.Data<>(89.999, 30.0));
+        pulse();
+
+        List<LineTo> points = getLineTos(series);
+        LineTo last = points.get(points.size() - 1);
+        assertEquals(lineChart.getXAxis().getDisplayPosition(89.999), last.getX(), 1e-9);
+        assertEquals(lineChart.getYAxis().getDisplayPosition(30.0), last.getY(), 1e-9);
+    }
+
+    @Test public void testDecimationFollowsAxisRange() {
+        startApp();
+        lineChart.setCreateSymbols(false);
+        lineChart.setDecimation(XYChart.Decimation.MIN_MAX);
+        XYChart.Series<Number, Number> series = createLargeSeries(20000);
+        lineChart.getData().add(series);
+        pulse();
+        NumberAxis xAxis = (NumberAxis) lineChart.getXAxis();
+        xAxis.setLowerBound(40);
+        xAxis.setUpperBound(41);
+        pulse();
+
+        // 223 items are within the range, plus one on either side
+        List<LineTo> points = getLineTos(series);
+        assertEquals(225, points.size());
+        assertTrue(points.get(0).getX() < xAxis.getDisplayPosition(40));
+        assertTrue(points.get(points.size() - 1).getX() > xAxis.getDisplayPosition(41));
+    }
+
+    @Test public void testDecimationShowsOnlySelectedSymbols() {
+        startApp();
+        lineChart.setDecimation(XYChart.Decimation.LTTB);
+        XYChart.Series<Number, Number> series = createLargeSeries(5000);
+        lineChart.getData().add(series);
+        pulse();
+
+        long visible = series.getData().stream().filter(d -> d.getNode().isVisible()).count();
+        assertEquals(getLineTos(series).size(), visible);
+
+        lineChart.setDecimation(XYChart.Decimation.NONE);
+        pulse();
+        assertTrue(series.getData().stream().allMatch(d -> d.getNode().isVisible()));
+        assertEquals(5000, getLineTos(series).size());
+    }
+
+    @Test public void testDecimationKeepsSymbolsHiddenByApplication() {
+        startApp();
+        lineChart.setDecimation(XYChart.Decimation.NONE);
+        XYChart.Series<Number, Number> series = createLargeSeries(5000);
+        lineChart.getData().add(series);
+        pulse();
+        Node first = series.getData().get(0).getNode();
+        Node other = series.getData().get(2500).getNode();
+        first.setVisible(false);
+        other.setVisible(false);
+
+        lineChart.setDecimation(XYChart.Decimation.LTTB);
+        pulse();
+        // the first item is always selected
+        assertFalse(first.isVisible());
+
+        lineChart.setDecimation(XYChart.Decimation.NONE);
+        pulse();
+        assertFalse(first.isVisible());
+        assertFalse(other.isVisible());
+        assertEquals(4998, series.getData().stream().filter(d -> d.getNode().isVisible()).count());
+    }
+
+    @Test public void testDecimationFallsBackForUnsortedData() {
+        startApp();
+        lineChart.setCreateSymbols(false);
+        lineChart.setDecimation(XYChart.Decimation.MIN_MAX);
+        XYChart.Series<Number, Number> series = createLargeSeries(5000);
+        series.getData().add(new XYChart.Data<>(1.0, 1.0));
+        lineChart.getData().add(series);
+        pulse();
+
+        assertEquals(5001, getLineTos(series).size());
+    }
+
+    private Canvas findPlotCanvas() {
+        return (Canvas) lineChart.lookup(".chart-plot-canvas");
+    }
+
+    @Test
+    public void testCanvasRenderingCreatesNoSymbols() {
+        startApp();
+        lineChart.setCanvasRendering(true);
+        lineChart.getData().addAll(series1);
+        pulse();
+        Canvas canvas = findPlotCanvas();
+        assertNotNull(canvas);
+        assertEquals(lineChart.getXAxis().getWidth(), canvas.getWidth(), 0);
+        assertEquals(lineChart.getYAxis().getHeight(), canvas.getHeight(), 0);
+        assertFalse(series1.getNode().isVisible());
+        // only the hidden node that styles the symbols of the series
+        assertEquals(1, countSymbols(lineChart, "chart-line-symbol"));
+        for (XYChart.Data<Number, Number> item : series1.getData()) {
+            assertNull(item.getNode());
+        }
+
+        series1.getData().add(new XYChart.Data<>(60d, 30d));
+        pulse();
+        assertEquals(1, countSymbols(lineChart, "chart-line-symbol"));
+        assertEquals(1, lineChart.getData().size());
+    }
+
+    @Test
+    public void testCanvasRenderingToggle() {
+        startApp();
+        lineChart.getData().addAll(series1);
+        pulse();
+        assertEquals(5, countSymbols(lineChart, "chart-line-symbol"));
+
+        lineChart.setCanvasRendering(true);
+        pulse();
+        assertNotNull(findPlotCanvas());
+        assertEquals(1, countSymbols(lineChart, "chart-line-symbol"));
+        assertFalse(series1.getNode().isVisible());
+
+        lineChart.setCanvasRendering(false);
+        pulse();
+        assertNull(findPlotCanvas());
+        assertEquals(5, countSymbols(lineChart, "chart-line-symbol"));
+        assertTrue(series1.getNode().isVisible());
+        assertEquals(5, getLineTos(series1).size());
+    }
+
+    @Test
+    public void testCanvasRenderingSymbolStyle() {
+        startApp();
+        lineChart.setCanvasRendering(true);
+        lineChart.getData().addAll(series1);
+        pulse();
+        Node symbol = XYChartShim.getPlotChildren(lineChart).stream()
+                .filter(n -> n.getStyleClass().contains("chart-line-symbol"))
+                .findFirst().get();
+        assertFalse(symbol.isVisible());
+        assertEquals(List.of("chart-line-symbol", "series0", "default-color0"), symbol.getStyleClass());
+
+        lineChart.setCreateSymbols(false);
+        pulse();
+        lineChart.getData().remove(series1);
+        pulse();
+        assertEquals(0, countSymbols(lineChart, "chart-line-symbol"));
+    }
+
+    private static String stylesheet(String css) {
+        return "data:text/css;base64," + Base64.getEncoder().encodeToString(css.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testCanvasRenderingFollowsLineAndSymbolStyle() {
+        lineChart.getStylesheets().add(stylesheet(
+                ".chart-series-line { -fx-stroke: red; } .chart-line-symbol { -fx-background-color: green; -fx-padding: 4; }"));
+        startApp();
+        lineChart.setCanvasRendering(true);
+        lineChart.getData().addAll(series1);
+        pulse();
+        // the first frame draws with the styles
+        GraphicsContext gc = findPlotCanvas().getGraphicsContext2D();
+        assertEquals(Color.RED, gc.getStroke());
+        assertEquals(Color.GREEN, gc.getFill());
+
+        // and so do the frames after a change of the styles alone
+        lineChart.getStylesheets().setAll(stylesheet(
+                ".chart-series-line { -fx-stroke: blue; } .chart-line-symbol { -fx-background-color: orange; -fx-padding: 4; }"));
+        pulse();
+        assertEquals(Color.BLUE, gc.getStroke());
+        assertEquals(Color.ORANGE, gc.getFill());
+    }
+
+    @Test
+    public void testCanvasRenderingKeepsItemNodes() {
+        startApp();
+        lineChart.setCanvasRendering(true);
+        Rectangle node = new Rectangle(4, 4);
+        XYChart.Data<Number, Number> item = new XYChart.Data<>(40d, 12d);
+        item.setNode(node);
+        series1.getData().add(item);
+        lineChart.getData().addAll(series1);
+        pulse();
+        assertTrue(XYChartShim.getPlotChildren(lineChart).contains(node));
+        assertTrue(node.isVisible());
+        assertEquals(((NumberAxis) lineChart.getXAxis()).getDisplayPosition(40d),
+                node.getLayoutX() + node.prefWidth(-1) / 2, 1e-6);
+    }
+
     private List<Point2D> convertSeriesDataToPoint2D(XYChart.Series<Number, Number> series) {
         return series.getData().stream()
                 .map(data -> new Point2D(data.getXValue().doubleValue(), data.getYValue().doubleValue()))
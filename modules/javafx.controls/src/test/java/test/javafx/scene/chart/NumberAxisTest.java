@@ -41,8 +41,10 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.List;
 import javafx.geometry.Side;
+import javafx.scene.Node;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.NumberAxisShim;
+import javafx.scene.text.Text;
 
 /**
  * All public members of NumberAxis are tested here .
@@ -312,4 +314,55 @@ public class NumberAxisTest {
         NumberAxisShim.calculateTickValues(axis, 500, range);
         NumberAxisShim.calculateMinorTickMarks(axis);
     }
+
+    private Text tickLabel(NumberAxis axis, String text) {
+        for (Node n : axis.getChildrenUnmodifiable()) {
+            if (n instanceof Text t && text.equals(t.getText())) {
+                return t;
+            }
+        }
+        return null;
+    }
+
+    @Test public void tickLabelNodesAreReusedWhenPanning() {
+        axis.setAutoRanging(false);
+        axis.setAnimated(false);
+        axis.setSide(Side.BOTTOM);
+        axis.setTickUnit(10);
+        axis.resize(500, 30);
+        axis.layout();
+        Text fifty = tickLabel(axis, "50");
+        Text zero = tickLabel(axis, "0");
+        assertNotNull(fifty);
+        assertNotNull(zero);
+
+        axis.setLowerBound(10);
+        axis.setUpperBound(110);
+        axis.layout();
+        assertSame(fifty, tickLabel(axis, "50"));
+        assertNull(tickLabel(axis, "0"));
+        // the label of the value that scrolled out is reused for the new one
+        assertSame(zero, tickLabel(axis, "110"));
+        assertEquals(11, axis.getTickMarks().size());
+    }
+
+    @Test public void tickLabelsFollowTheFormatter() {
+        axis.setAutoRanging(false);
+        axis.setAnimated(false);
+        axis.setSide(Side.BOTTOM);
+        axis.setTickUnit(10);
+        axis.resize(500, 30);
+        axis.layout();
+        Text fifty = tickLabel(axis, "50");
+
+        axis.setTickLabelFormatter(new StringConverter<>() {
+            @Override
+            public String toString(Number object) { return object.intValue() + "%"; }
+            @Override
+            public Number fromString(String string) { return null; }
+        });
+        axis.layout();
+        assertSame(fifty, tickLabel(axis, "50%"));
+        assertNull(tickLabel(axis, "50"));
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.chart;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.chart.Chart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.ScatterChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.chart.XYChartShim;
+import javafx.scene.paint.Color;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ScatterChartTest extends ChartTestBase {
+
+    private ScatterChart<Number,Number> chart;
+    private final XYChart.Series<Number,Number> series = new XYChart.Series<>();
+
+    @Override protected Chart createChart() {
+        chart = new ScatterChart<>(new NumberAxis(0, 100, 10), new NumberAxis(0, 100, 10));
+        for (int i = 0; i < 10; i++) {
+            series.getData().add(new XYChart.Data<>(i * 10, i * 5));
+        }
+        return chart;
+    }
+
+    private int countSymbols() {
+        int count = 0;
+        for (Node n : XYChartShim.getPlotChildren(chart)) {
+            if (n.getStyleClass().contains("chart-symbol")) count++;
+        }
+        return count;
+    }
+
+    @Test
+    public void testCanvasRendering() {
+        startApp();
+        chart.setCanvasRendering(true);
+        chart.getData().add(series);
+        pulse();
+        assertNotNull(chart.lookup(".chart-plot-canvas"));
+        // only the hidden node that styles the symbols of the series
+        assertEquals(1, countSymbols());
+        for (XYChart.Data<Number,Number> item : series.getData()) {
+            assertNull(item.getNode());
+        }
+
+        series.getData().remove(0);
+        series.getData().add(new XYChart.Data<>(95, 95));
+        pulse();
+        assertEquals(1, countSymbols());
+    }
+
+    private static String stylesheet(String css) {
+        return "data:text/css;base64," + Base64.getEncoder().encodeToString(css.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testCanvasRenderingFollowsSymbolStyle() {
+        chart.getStylesheets().add(stylesheet(".chart-symbol { -fx-background-color: red; -fx-padding: 4; }"));
+        startApp();
+        chart.setCanvasRendering(true);
+        chart.getData().add(series);
+        pulse();
+        // the first frame fills the symbols
+        GraphicsContext gc = ((Canvas) chart.lookup(".chart-plot-canvas")).getGraphicsContext2D();
+        assertEquals(Color.RED, gc.getFill());
+
+        // and so does a frame after the style of the symbols alone changed
+        chart.getStylesheets().setAll(stylesheet(".chart-symbol { -fx-background-color: blue; -fx-padding: 4; }"));
+        pulse();
+        assertEquals(Color.BLUE, gc.getFill());
+    }
+
+    @Test
+    public void testCanvasRenderingDrawsSymbolBorders() {
+        chart.getStylesheets().add(stylesheet(
+                ".chart-symbol { -fx-background-color: red; -fx-border-color: green; -fx-border-width: 2; -fx-padding: 4; }"));
+        startApp();
+        chart.setCanvasRendering(true);
+        chart.getData().add(series);
+        pulse();
+        GraphicsContext gc = ((Canvas) chart.lookup(".chart-plot-canvas")).getGraphicsContext2D();
+        assertEquals(Color.RED, gc.getFill());
+        assertEquals(Color.GREEN, gc.getStroke());
+        assertEquals(2, gc.getLineWidth(), 0);
+
+        // shaped symbols have their borders drawn too
+        chart.getStylesheets().setAll(stylesheet(
+                ".chart-symbol { -fx-background-color: red; -fx-border-color: blue; -fx-padding: 4; "
+                + "-fx-shape: \"M5,0 L10,8 L0,8 Z\"; }"));
+        pulse();
+        assertEquals(Color.BLUE, gc.getStroke());
+        assertEquals(1, gc.getLineWidth(), 0);
+    }
+
+    @Test
+    public void testCanvasRenderingToggle() {
+        startApp();
+        chart.getData().add(series);
+        pulse();
+        assertEquals(10, countSymbols());
+
+        chart.setCanvasRendering(true);
+        pulse();
+        assertEquals(1, countSymbols());
+
+        chart.setCanvasRendering(false);
+        pulse();
+        assertNull(chart.lookup(".chart-plot-canvas"));
+        assertEquals(10, countSymbols());
+        for (XYChart.Data<Number,Number> item : series.getData()) {
+            assertTrue(item.getNode().isVisible());
+        }
+    }
+
+    @Test
+    public void testCanvasRenderingLegend() {
+        startApp();
+        chart.setCanvasRendering(true);
+        series.setName("series");
+        chart.getData().add(series);
+        pulse();
+        Node legendSymbol = chart.lookup(".chart-legend-item-symbol");
+        assertNotNull(legendSymbol);
+        assertTrue(legendSymbol.getStyleClass().contains("chart-symbol"));
+        assertTrue(legendSymbol.getStyleClass().contains("default-color0"));
+        assertFalse(legendSymbol.getStyleClass().contains("data1"));
+    }
+}
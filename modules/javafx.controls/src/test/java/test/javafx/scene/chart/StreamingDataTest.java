@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.chart;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Node;
+import javafx.scene.chart.Chart;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.StreamingData;
+import javafx.scene.chart.XYChart;
+import javafx.scene.chart.XYChartShim;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class StreamingDataTest extends ChartTestBase {
+
+    private LineChart<Number,Number> lineChart;
+    private NumberAxis xAxis;
+    private NumberAxis yAxis;
+    private final StreamingData<Number,Number> window = new StreamingData<>(100);
+
+    @Override protected Chart createChart() {
+        xAxis = new NumberAxis();
+        yAxis = new NumberAxis();
+        xAxis.setForceZeroInRange(false);
+        yAxis.setForceZeroInRange(false);
+        lineChart = new LineChart<>(xAxis, yAxis);
+        lineChart.getData().add(new XYChart.Series<>(window));
+        return lineChart;
+    }
+
+    private static List<XYChart.Data<Number,Number>> items(int from, int to) {
+        List<XYChart.Data<Number,Number>> items = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            items.add(new XYChart.Data<>(i, i % 10));
+        }
+        return items;
+    }
+
+    private int countSymbols() {
+        int count = 0;
+        for (Node n : XYChartShim.getPlotChildren(lineChart)) {
+            if (n.getStyleClass().contains("chart-line-symbol")) count++;
+        }
+        return count;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroCapacity() {
+        new StreamingData<Number,Number>(0);
+    }
+
+    @Test
+    public void testAddEvictsFromStart() {
+        window.addAll(items(0, 80));
+        window.addAll(items(80, 130));
+        assertEquals(100, window.size());
+        assertEquals(30, window.get(0).getXValue());
+        assertEquals(129, window.get(99).getXValue());
+
+        window.add(new XYChart.Data<>(130, 0));
+        assertEquals(100, window.size());
+        assertEquals(31, window.get(0).getXValue());
+    }
+
+    @Test
+    public void testAddMoreThanCapacity() {
+        window.addAll(items(0, 250));
+        assertEquals(100, window.size());
+        assertEquals(150, window.get(0).getXValue());
+    }
+
+    @Test
+    public void testEvictionIsSingleChange() {
+        window.addAll(items(0, 100));
+        List<String> changes = new ArrayList<>();
+        window.addListener((ListChangeListener<XYChart.Data<Number,Number>>) c -> {
+            while (c.next()) {
+                changes.add(c.getFrom() + ":" + c.getRemovedSize() + ":" + c.getAddedSize());
+            }
+        });
+        window.addAll(items(100, 120));
+        assertEquals(List.of("0:20:0", "80:0:20"), changes);
+    }
+
+    @Test
+    public void testAppendIsAddedOnNextPulse() {
+        startApp();
+        List<Integer> added = new ArrayList<>();
+        window.addListener((ListChangeListener<XYChart.Data<Number,Number>>) c -> {
+            while (c.next()) {
+                if (c.wasAdded()) added.add(c.getAddedSize());
+            }
+        });
+        for (XYChart.Data<Number,Number> item : items(0, 150)) {
+            window.append(item);
+        }
+        assertTrue(window.isEmpty());
+        assertTrue(toolkit.isPulseRequested());
+        pulse();
+        assertEquals(List.of(100), added);
+        assertEquals(100, window.size());
+        assertEquals(50, window.get(0).getXValue());
+
+        pulse();
+        assertEquals(1, added.size());
+    }
+
+    @Test
+    public void testFlush() {
+        XYChart.Data<Number,Number> item = new XYChart.Data<>(1, 1);
+        window.append(item);
+        window.flush();
+        assertEquals(1, window.size());
+        assertSame(item, window.get(0));
+        window.flush();
+        assertEquals(1, window.size());
+    }
+
+    @Test
+    public void testChartShowsWindow() {
+        startApp();
+        window.addAll(items(0, 100));
+        pulse();
+        assertEquals(100, countSymbols());
+        window.addAll(items(100, 150));
+        pulse();
+        assertEquals(100, countSymbols());
+        assertEquals(50, window.get(0).getXValue());
+    }
+
+    @Test
+    public void testDecimatedWindow() {
+        startApp();
+        lineChart.setDecimation(XYChart.Decimation.LTTB);
+        window.addAll(items(0, 100));
+        pulse();
+        for (int i = 100; i < 400; i += 25) {
+            window.addAll(items(i, i + 25));
+            pulse();
+        }
+        List<Node> nodes = new ArrayList<>();
+        for (XYChart.Data<Number,Number> item : window) {
+            nodes.add(item.getNode());
+        }
+        int visible = 0;
+        for (Node n : XYChartShim.getPlotChildren(lineChart)) {
+            if (n.getStyleClass().contains("chart-line-symbol") && n.isVisible()) {
+                assertTrue(nodes.contains(n));
+                visible++;
+            }
+        }
+        assertEquals(100, countSymbols());
+        assertTrue(visible > 0);
+    }
+
+    @Test
+    public void testSlidingWindowOnlyDecimatesNewItems() {
+        startApp();
+        lineChart.setAnimated(false);
+        lineChart.setDecimation(XYChart.Decimation.LTTB);
+        XYChart.Series<Number,Number> series = lineChart.getData().get(0);
+        window.addAll(items(0, 100));
+        pulse();
+        assertEquals(100, XYChartShim.Series_getDecimatedValueCount(series));
+
+        for (int i = 100; i < 200; i += 25) {
+            window.addAll(items(i, i + 25));
+            // the values of the items that stay in the window are kept
+            assertEquals(75, XYChartShim.Series_getDecimatedValueCount(series));
+            pulse();
+            assertEquals(100, XYChartShim.Series_getDecimatedValueCount(series));
+        }
+    }
+
+    @Test
+    public void testAutoRangeFollowsWindow() {
+        startApp();
+        window.addAll(items(0, 100));
+        pulse();
+        assertEquals(0, xAxis.getLowerBound(), 0);
+        assertEquals(99, xAxis.getUpperBound(), 5);
+        assertEquals(0, yAxis.getLowerBound(), 0);
+        assertEquals(9, yAxis.getUpperBound(), 1);
+
+        window.addAll(items(1000, 1100));
+        pulse();
+        assertTrue(xAxis.getLowerBound() >= 900);
+        assertTrue(xAxis.getLowerBound() <= 1000);
+        assertTrue(xAxis.getUpperBound() >= 1099);
+    }
+
+    @Test
+    public void testAutoRangeAfterValueChange() {
+        startApp();
+        window.addAll(items(0, 100));
+        pulse();
+        window.get(50).setYValue(1000);
+        pulse();
+        assertTrue(yAxis.getUpperBound() >= 1000);
+
+        window.get(50).setYValue(5);
+        pulse();
+        assertFalse(yAxis.getUpperBound() >= 1000);
+    }
+
+    @Test
+    public void testAutoRangeAfterInsertAndRemove() {
+        startApp();
+        window.addAll(items(0, 100));
+        pulse();
+        window.remove(40, 60);
+        window.add(10, new XYChart.Data<>(10, -500));
+        pulse();
+        assertTrue(yAxis.getLowerBound() <= -500);
+
+        window.remove(10);
+        pulse();
+        assertFalse(yAxis.getLowerBound() <= -500);
+    }
+
+    @Test
+    public void testAutoRangeAfterValueChangeOutsideOfChart() {
+        startApp();
+        lineChart.setAnimated(false);
+        window.addAll(items(0, 100));
+        pulse();
+        XYChart.Series<Number,Number> series = lineChart.getData().remove(0);
+        pulse();
+
+        window.get(50).setYValue(1000);
+        lineChart.getData().add(series);
+        pulse();
+        assertTrue(yAxis.getUpperBound() >= 1000);
+    }
+}
@@ -83,12 +83,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -1696,6 +1699,35 @@ final public class StyleManager {
             return StyleMap.EMPTY_MAP;
         }
 
+        synchronized (styleLock) {
+
+            final Cache cache = findCache(node, subScene, cacheContainer);
+            if (cache == null) {
+                return StyleMap.EMPTY_MAP;
+            }
+
+            final String inlineStyle = node.getStyle();
+            final boolean hasInlineStyles = inlineStyle != null && inlineStyle.trim().isEmpty() == false;
+
+            //
+            // Create a style helper for this node from the styles that match.
+            //
+            final long[] prematched = takePrematchedStyles(node, cache, triggerStates);
+            StyleMap smap = cache.getStyleMap(cacheContainer, node, triggerStates, hasInlineStyles, prematched);
+
+            return smap;
+        }
+    }
+
+    /*
+     * Find the Cache of candidate selectors for the node, creating the Cache if there is
+     * not one already. Returns null if there are no stylesheets that could possibly apply
+     * to the node.
+     */
+    private Cache findCache(Node node, SubScene subScene, CacheContainer cacheContainer) {
+
+        final Scene scene = node.getScene();
+
         synchronized (styleLock) {
             final Parent parent =
                 (node instanceof Parent)
@@ -1755,7 +1787,7 @@ final public class StyleManager {
                     && hasSubSceneUserAgentStylesheet == false
                     && hasRegionUserAgentStylesheet == false
                     && platformUserAgentStylesheetContainers.isEmpty()) {
-                return StyleMap.EMPTY_MAP;
+                return null;
             }
 
             final String cname = node.getTypeSelector();
@@ -1905,12 +1937,228 @@ final public class StyleManager {
                 key = null;
             }
 
-            //
-            // Create a style helper for this node from the styles that match.
-            //
-            StyleMap smap = cache.getStyleMap(cacheContainer, node, triggerStates, hasInlineStyles);
+            return cache;
+        }
+    }
 
-            return smap;
+    ////////////////////////////////////////////////////////////////////////////
+    //
+    // Parallel selector matching
+    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /*
+     * The result of matching the selectors of a Cache against a node ahead of
+     * the call to findMatchingStyles for that node.
+     */
+    private static final class PrematchedStyles {
+
+        private final Node node;
+        private final Cache cache;
+        // the state of the node and its styleable parents, which is what the
+        // selectors are matched against
+        private final StyleableSnapshot snapshot;
+        private final PseudoClassState[] triggerStates;
+        private long[] key;
+
+        private PrematchedStyles(Node node, Cache cache, StyleableSnapshot snapshot, int depth) {
+            this.node = node;
+            this.cache = cache;
+            this.snapshot = snapshot;
+            this.triggerStates = new PseudoClassState[depth];
+        }
+
+        private void match() {
+            key = cache.matchSelectors(snapshot, triggerStates);
+        }
+
+        // Whether the node and its parents are still in the state they were
+        // matched in
+        private boolean isUnchanged() {
+            Styleable styleable = node;
+            for (StyleableSnapshot s = snapshot; s != null; s = s.getStyleableParent()) {
+                if (styleable == null || !s.isSnapshotOf(styleable)) {
+                    return false;
+                }
+                styleable = styleable.getStyleableParent();
+            }
+            return styleable == null;
+        }
+    }
+
+    /*
+     * Matches the selectors for a range of PrematchedStyles, splitting the
+     * range in half until it is small enough to match directly.
+     */
+    private static final class PrematchTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final int THRESHOLD = 64;
+
+        private final List<PrematchedStyles> work;
+        private final int from;
+        private final int to;
+
+        private PrematchTask(List<PrematchedStyles> work, int from, int to) {
+            this.work = work;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int n = from; n < to; n++) {
+                    work.get(n).match();
+                }
+            } else {
+                final int mid = (from + to) >>> 1;
+                invokeAll(new PrematchTask(work, from, mid), new PrematchTask(work, mid, to));
+            }
+        }
+    }
+
+    // Selectors matched ahead of time, keyed by node. Access is guarded by the styleLock.
+    private final Map<Node, PrematchedStyles> prematchedStylesMap = new IdentityHashMap<>();
+    // The number of results of prematchStyles used by findMatchingStyles
+    private long prematchedStylesHitCount;
+
+    /**
+     * Match selectors against the given nodes ahead of time, using the given
+     * pool to do the matching for independent nodes concurrently. The result
+     * for a node is used by the next call to findMatchingStyles for that node,
+     * provided the candidate selectors, the parents of the node and the ids,
+     * style-classes and orientations of the node and its parents have not
+     * changed in the meantime. Must be called on the thread that owns the
+     * scene-graph, which waits for the matching to complete. The selectors
+     * are matched against snapshots of the nodes, so the scene-graph is not
+     * read by the threads of the pool.
+     * Results that are not used are discarded by clearPrematchedStyles.
+     */
+    public void prematchStyles(List<Node> nodes, ForkJoinPool pool) {
+
+        synchronized (styleLock) {
+
+            final List<PrematchedStyles> work = new ArrayList<>(nodes.size());
+            final Map<Styleable, StyleableSnapshot> visited = new IdentityHashMap<>();
+            final List<Styleable> path = new ArrayList<>();
+
+            for (int n=0, nMax=nodes.size(); n<nMax; n++) {
+
+                final Node node = nodes.get(n);
+                if (node.getScene() == null) continue;
+
+                final SubScene subScene = NodeHelper.getSubScene(node);
+                final CacheContainer cacheContainer = getCacheContainer(node, subScene);
+                if (cacheContainer == null) continue;
+
+                final Cache cache = findCache(node, subScene, cacheContainer);
+                if (cache == null || cache.selectors.isEmpty()) continue;
+
+                //
+                // Selectors read state that a Node may compute lazily, so they
+                // are matched against snapshots of the node and its parents
+                // taken here. Matching also looks up the style-classes in
+                // StyleClassSet, which is not thread-safe. Looking them up
+                // here means the lookups made while matching only read.
+                //
+                path.clear();
+                StyleableSnapshot snapshot = null;
+                for (Styleable styleable = node; styleable != null; styleable = styleable.getStyleableParent()) {
+                    snapshot = visited.get(styleable);
+                    if (snapshot != null) break;
+                    path.add(styleable);
+                }
+                for (int p=path.size()-1; p>=0; p--) {
+                    final Styleable styleable = path.get(p);
+                    snapshot = new StyleableSnapshot(styleable, snapshot);
+                    visited.put(styleable, snapshot);
+                    final List<String> styleClasses = snapshot.getStyleClass();
+                    for (int c=0, cMax=styleClasses.size(); c<cMax; c++) {
+                        final String styleClass = styleClasses.get(c);
+                        if (styleClass == null || styleClass.isEmpty()) continue;
+                        StyleClassSet.getStyleClass(styleClass);
+                    }
+                }
+
+                int depth = 0;
+                for (StyleableSnapshot s = snapshot; s != null; s = s.getStyleableParent()) {
+                    depth++;
+                }
+                work.add(new PrematchedStyles(node, cache, snapshot, depth));
+            }
+
+            if (work.isEmpty()) {
+                return;
+            }
+
+            try {
+                pool.invoke(new PrematchTask(work, 0, work.size()));
+            } catch (RuntimeException e) {
+                // The styles will be matched as usual by findMatchingStyles.
+                getLogger().warning("Could not match styles ahead of time: " + e);
+                return;
+            }
+
+            for (int n=0, nMax=work.size(); n<nMax; n++) {
+                final PrematchedStyles prematched = work.get(n);
+                prematchedStylesMap.put(prematched.node, prematched);
+            }
+        }
+    }
+
+    /**
+     * Discard the results of prematchStyles that have not been used.
+     */
+    public void clearPrematchedStyles() {
+        synchronized (styleLock) {
+            prematchedStylesMap.clear();
+        }
+    }
+
+    /*
+     * Returns the selectors matched ahead of time for the node, or null if there
+     * are none or if they no longer apply. The caller must hold the styleLock.
+     */
+    private long[] takePrematchedStyles(Node node, Cache cache, Set<PseudoClass>[] triggerStates) {
+
+        if (prematchedStylesMap.isEmpty()) {
+            return null;
+        }
+
+        final PrematchedStyles prematched = prematchedStylesMap.remove(node);
+        if (prematched == null
+                || prematched.key == null
+                || prematched.cache != cache
+                || !prematched.isUnchanged()) {
+            return null;
+        }
+
+        if (triggerStates != null) {
+            if (triggerStates.length != prematched.triggerStates.length) {
+                return null;
+            }
+            for (int n=0; n<triggerStates.length; n++) {
+                if (prematched.triggerStates[n] == null) continue;
+                if (triggerStates[n] == null) {
+                    triggerStates[n] = new PseudoClassState();
+                }
+                triggerStates[n].addAll(prematched.triggerStates[n]);
+            }
+        }
+
+        prematchedStylesHitCount++;
+        return prematched.key;
+    }
+
+    /*
+     * Returns the number of results of prematchStyles that were used.
+     * Used for testing.
+     */
+    long getPrematchedStylesHitCount() {
+        synchronized (styleLock) {
+            return prematchedStylesHitCount;
         }
     }
 
@@ -2195,54 +2443,26 @@ final public class StyleManager {
         }
 
         private StyleMap getStyleMap(CacheContainer cacheContainer, Node node, Set<PseudoClass>[] triggerStates, boolean hasInlineStyle) {
+            return getStyleMap(cacheContainer, node, triggerStates, hasInlineStyle, null);
+        }
+
+        private StyleMap getStyleMap(CacheContainer cacheContainer, Node node, Set<PseudoClass>[] triggerStates, boolean hasInlineStyle, long[] prematched) {
 
             if ((selectors == null || selectors.isEmpty()) && !hasInlineStyle) {
                 return StyleMap.EMPTY_MAP;
             }
 
-            final int selectorDataSize = selectors.size();
-
-            //
-            // Since the list of selectors is found by matching only the
-            // rightmost selector, the set of selectors may larger than those
-            // selectors that actually match the node. The following loop
-            // whittles the list down to those selectors that apply.
-            //
             //
-            // To lookup from the cache, we construct a key from a Long
-            // where the selectors that match this particular node are
-            // represented by bits on the long[].
+            // If the selectors were matched ahead of time (see prematchStyles),
+            // the work of the matching loop has already been done.
             //
-            long key[] = new long[selectorDataSize/Long.SIZE + 1];
-            boolean nothingMatched = true;
-
-            for (int s = 0; s < selectorDataSize; s++) {
-
-                final Selector sel = selectors.get(s);
-
-                //
-                // This particular flavor of applies takes a PseudoClassState[]
-                // fills in the pseudo-class states from the selectors where
-                // they apply to a node. This is an expedient to looking the
-                // applies loopa second time on the matching selectors. This has to
-                // be done ahead of the cache lookup since not all nodes that
-                // have the same set of selectors will have the same node hierarchy.
-                //
-                // For example, if I have .foo:hover:focused .bar:selected {...}
-                // and the "bar" node is 4 away from the root and the foo
-                // node is two away from the root, pseudoclassBits would be
-                // [selected, 0, hover:focused, 0]
-                // Note that the states run from leaf to root. This is how
-                // the code in StyleHelper expects things.
-                // Note also that, if the selector does not apply, the triggerStates
-                // is unchanged.
-                //
+            final long key[] = prematched != null ? prematched : matchSelectors(node, triggerStates);
 
-                if (sel.applies(node, triggerStates, 0)) {
-                    final int index = s / Long.SIZE;
-                    final long mask = key[index] | 1l << s;
-                    key[index] = mask;
+            boolean nothingMatched = true;
+            for (int k = 0; k < key.length; k++) {
+                if (key[k] != 0) {
                     nothingMatched = false;
+                    break;
                 }
             }
 
@@ -2294,6 +2514,57 @@ final public class StyleManager {
             return styleMap;
         }
 
+        /*
+         * Since the list of selectors is found by matching only the
+         * rightmost selector, the set of selectors may larger than those
+         * selectors that actually match the node. This whittles the list
+         * down to those selectors that apply.
+         *
+         * The selectors that match this particular node are represented
+         * by bits on the returned long[], which is used as the key to
+         * look up the StyleMap.
+         *
+         * Only a StyleableSnapshot may be matched on a thread other than the
+         * one that owns the scene-graph, since matching a Node reads, and may
+         * compute, the state of the node and its parents.
+         */
+        private long[] matchSelectors(Styleable node, Set<PseudoClass>[] triggerStates) {
+
+            final int selectorDataSize = selectors.size();
+            final long key[] = new long[selectorDataSize/Long.SIZE + 1];
+
+            for (int s = 0; s < selectorDataSize; s++) {
+
+                final Selector sel = selectors.get(s);
+
+                //
+                // This particular flavor of applies takes a PseudoClassState[]
+                // fills in the pseudo-class states from the selectors where
+                // they apply to a node. This is an expedient to looking the
+                // applies loopa second time on the matching selectors. This has to
+                // be done ahead of the cache lookup since not all nodes that
+                // have the same set of selectors will have the same node hierarchy.
+                //
+                // For example, if I have .foo:hover:focused .bar:selected {...}
+                // and the "bar" node is 4 away from the root and the foo
+                // node is two away from the root, pseudoclassBits would be
+                // [selected, 0, hover:focused, 0]
+                // Note that the states run from leaf to root. This is how
+                // the code in StyleHelper expects things.
+                // Note also that, if the selector does not apply, the triggerStates
+                // is unchanged.
+                //
+
+                if (sel.applies(node, triggerStates, 0)) {
+                    final int index = s / Long.SIZE;
+                    final long mask = key[index] | 1l << s;
+                    key[index] = mask;
+                }
+            }
+
+            return key;
+        }
+
     }
 
     /**
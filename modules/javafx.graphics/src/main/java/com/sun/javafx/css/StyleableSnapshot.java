@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.css;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
+import javafx.css.CssMetaData;
+import javafx.css.PseudoClass;
+import javafx.css.Styleable;
+import javafx.geometry.NodeOrientation;
+import javafx.scene.Node;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable copy of the state of a Styleable that selectors are matched
+ * against: its type selector, id, style-classes, pseudo-class states and
+ * node orientation, and a snapshot of its styleable parent.
+ * <p>
+ * Selectors read this state lazily, and reading it from a Node may compute
+ * and cache node state. A snapshot is taken on the thread that owns the
+ * scene-graph, after which selectors may be matched against it on any thread.
+ */
+public final class StyleableSnapshot implements Styleable {
+
+    private final Styleable styleable;
+    private final StyleableSnapshot parent;
+    private final String typeSelector;
+    private final String id;
+    private final String style;
+    private final ObservableList<String> styleClass;
+    private final ObservableSet<PseudoClass> pseudoClassStates;
+    private final NodeOrientation nodeOrientation;
+
+    /**
+     * Takes a snapshot of the given styleable.
+     *
+     * @param styleable the styleable
+     * @param parent the snapshot of the styleable parent of the styleable,
+     *        or null if it has none
+     */
+    public StyleableSnapshot(Styleable styleable, StyleableSnapshot parent) {
+        this.styleable = styleable;
+        this.parent = parent;
+        this.typeSelector = styleable.getTypeSelector();
+        this.id = styleable.getId();
+        this.style = styleable.getStyle();
+        this.styleClass = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(styleable.getStyleClass()));
+        final PseudoClassState states = new PseudoClassState();
+        states.addAll(styleable.getPseudoClassStates());
+        this.pseudoClassStates = FXCollections.unmodifiableObservableSet(states);
+        this.nodeOrientation = getNodeOrientation(styleable);
+    }
+
+    /*
+     * The orientation that the :dir() pseudo-class is matched against, or
+     * null if the styleable is not a Node.
+     */
+    private static NodeOrientation getNodeOrientation(Styleable styleable) {
+        if (styleable instanceof Node) {
+            final Node node = (Node) styleable;
+            final NodeOrientation orientation = node.getNodeOrientation();
+            return orientation == NodeOrientation.INHERIT
+                    ? node.getEffectiveNodeOrientation() : orientation;
+        }
+        return null;
+    }
+
+    /**
+     * Gets the orientation that the :dir() pseudo-class is matched against,
+     * which is the effective orientation of a node that inherits it.
+     *
+     * @return the orientation, or null if the styleable is not a Node
+     */
+    public NodeOrientation getNodeOrientation() {
+        return nodeOrientation;
+    }
+
+    /**
+     * Whether this is a snapshot of the given styleable, and the id,
+     * style-classes and orientation of the styleable have not changed since
+     * it was taken. Must be called on the thread that owns the scene-graph.
+     *
+     * @param styleable the styleable
+     * @return true if this is an up to date snapshot of the styleable
+     */
+    public boolean isSnapshotOf(Styleable styleable) {
+        return this.styleable == styleable
+                && Objects.equals(id, styleable.getId())
+                && styleClass.equals(styleable.getStyleClass())
+                && nodeOrientation == getNodeOrientation(styleable);
+    }
+
+    @Override
+    public String getTypeSelector() {
+        return typeSelector;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public ObservableList<String> getStyleClass() {
+        return styleClass;
+    }
+
+    @Override
+    public String getStyle() {
+        return style;
+    }
+
+    /**
+     * Returns an empty list, since selectors do not depend on the
+     * CSS meta data.
+     */
+    @Override
+    public List<CssMetaData<? extends Styleable, ?>> getCssMetaData() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public StyleableSnapshot getStyleableParent() {
+        return parent;
+    }
+
+    @Override
+    public ObservableSet<PseudoClass> getPseudoClassStates() {
+        return pseudoClassStates;
+    }
+}
@@ -64,6 +64,16 @@ public interface ImageFormatDescription {
      */
     List<String> getMIMESubtypes();
 
+    /**
+     * Returns whether an image stored in this format may be an animation
+     * made of several frames.
+     *
+     * @return true if the format supports animations.
+     */
+    default boolean supportsAnimation() {
+        return false;
+    }
+
     /**
      * Represents a sequences of bytes which can appear at the beginning of
      * the stream of an image stored in this format.
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.iio;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * The frames of an image. Usually all frames have been decoded, but the
+ * frames of a large animation may be kept encoded and decoded only when
+ * needed, which bounds the memory used by the animation at the cost of
+ * decoding its frames every time they are shown.
+ * <p>
+ * Frames that are not retained can be decoded in any order, but decoding them
+ * in increasing order is cheapest, as the image data are read sequentially.
+ */
+public final class ImageFrameSequence {
+    private final ImageFrame[] frames;
+    private final ImageMetadata[] metadata;
+
+    // the encoded image data, or null if all frames are retained
+    private final byte[] source;
+    private final int width;
+    private final int height;
+    private final boolean preserveAspectRatio;
+    private final boolean smooth;
+    private final float pixelScale;
+
+    // the loader reading the source, and the index of its next frame
+    private ImageLoader loader;
+    private int nextIndex;
+
+    ImageFrameSequence(ImageFrame[] frames) {
+        this.frames = frames;
+        this.metadata = null;
+        this.source = null;
+        this.width = 0;
+        this.height = 0;
+        this.preserveAspectRatio = false;
+        this.smooth = false;
+        this.pixelScale = 1.0f;
+    }
+
+    ImageFrameSequence(ImageFrame firstFrame, ImageMetadata[] metadata, byte[] source,
+                       int width, int height, boolean preserveAspectRatio,
+                       boolean smooth, float pixelScale) {
+        this.frames = new ImageFrame[] { firstFrame };
+        this.metadata = metadata;
+        this.source = source;
+        this.width = width;
+        this.height = height;
+        this.preserveAspectRatio = preserveAspectRatio;
+        this.smooth = smooth;
+        this.pixelScale = pixelScale;
+    }
+
+    /**
+     * Returns whether all frames have been decoded, or whether they are
+     * decoded by {@link #getFrame} when needed.
+     */
+    public boolean isRetained() {
+        return source == null;
+    }
+
+    public int getFrameCount() {
+        return source == null ? frames.length : metadata.length;
+    }
+
+    /**
+     * Returns all the frames, which must be retained.
+     */
+    public ImageFrame[] getFrames() {
+        if (source != null) {
+            throw new IllegalStateException("Frames are not retained");
+        }
+        return frames;
+    }
+
+    public ImageMetadata getMetadata(int index) {
+        return source == null ? frames[index].getMetadata() : metadata[index];
+    }
+
+    /**
+     * Returns the frame at the given index, decoding it if it is not
+     * retained. Returns null if the frame can no longer be decoded.
+     */
+    public ImageFrame getFrame(int index) {
+        if (source == null || index == 0) {
+            return frames[index];
+        }
+        synchronized (this) {
+            try {
+                if (loader == null || index < nextIndex) {
+                    restart();
+                }
+                ImageFrame frame = null;
+                while (nextIndex <= index) {
+                    frame = loader.load(nextIndex++, width, height, preserveAspectRatio, smooth);
+                    if (frame == null) {
+                        return null;
+                    }
+                }
+                frame.setPixelScale(pixelScale);
+                return frame;
+            } catch (IOException e) {
+                dispose();
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Releases the resources used to decode frames. Frames can still be
+     * decoded afterwards.
+     */
+    public synchronized void dispose() {
+        if (loader != null) {
+            loader.dispose();
+            loader = null;
+        }
+    }
+
+    private void restart() throws IOException {
+        dispose();
+        loader = ImageStorage.getInstance().createLoader(new ByteArrayInputStream(source));
+        nextIndex = 0;
+    }
+}
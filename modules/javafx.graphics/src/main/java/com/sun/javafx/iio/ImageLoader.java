@@ -25,6 +25,7 @@
 
 package com.sun.javafx.iio;
 
+import com.sun.javafx.iio.common.ImageTools;
 import java.io.IOException;
 
 /**
@@ -76,4 +77,34 @@ public interface ImageLoader {
      */
     public ImageFrame load(int imageIndex, int width, int height,
             boolean preserveAspectRatio, boolean smooth) throws IOException;
+
+    /**
+     * Loads a region of the image at a given index, keeping one pixel out of
+     * <code>subsampling</code> in each direction: the pixel at <code>(i, j)</code>
+     * of the result is the pixel at <code>(x + i * subsampling, y + j * subsampling)</code>
+     * of the image, or an average of the pixels around it. The region is
+     * clipped to the bounds of the image.
+     * <p>
+     * Loaders override this method to avoid decoding the pixels which are not
+     * part of the result. The default implementation loads the whole image
+     * and then extracts the region.
+     *
+     * @param imageIndex the zero-relative index of the image to load.
+     * @param x the left edge of the region.
+     * @param y the top edge of the region.
+     * @param width the width of the region.
+     * @param height the height of the region.
+     * @param subsampling the distance between the pixels kept, at least 1.
+     * @return the region of the image at the specified index or <code>null</code>
+     * if no image exists at that index.
+     * @throws IllegalArgumentException if the region does not intersect the
+     * image or <code>subsampling</code> is less than 1.
+     */
+    public default ImageFrame loadRegion(int imageIndex, int x, int y, int width, int height,
+            int subsampling) throws IOException {
+        final ImageFrame image = load(imageIndex, 0, 0, true, false);
+        return image != null
+                ? ImageTools.extractRegion(image, x, y, width, height, subsampling)
+                : null;
+    }
 }
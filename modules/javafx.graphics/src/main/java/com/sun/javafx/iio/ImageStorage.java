@@ -33,12 +33,15 @@ import com.sun.javafx.iio.gif.GIFImageLoaderFactory;
 import com.sun.javafx.iio.ios.IosImageLoaderFactory;
 import com.sun.javafx.iio.jpeg.JPEGImageLoaderFactory;
 import com.sun.javafx.iio.png.PNGImageLoaderFactory;
+import com.sun.javafx.iio.qoi.QOIImageLoaderFactory;
 import com.sun.javafx.logging.PlatformLogger;
 import com.sun.javafx.util.DataURI;
 import com.sun.javafx.util.Logging;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.SequenceInputStream;
@@ -150,7 +153,8 @@ public class ImageStorage {
                 GIFImageLoaderFactory.getInstance(),
                 JPEGImageLoaderFactory.getInstance(),
                 PNGImageLoaderFactory.getInstance(),
-                BMPImageLoaderFactory.getInstance()
+                BMPImageLoaderFactory.getInstance(),
+                QOIImageLoaderFactory.getInstance()
                 // Note: append ImageLoadFactory for any new format here.
             };
         }
@@ -277,19 +281,42 @@ public class ImageStorage {
     public ImageFrame[] loadAll(InputStream input, ImageLoadListener listener,
             double width, double height, boolean preserveAspectRatio,
             float pixelScale, boolean smooth) throws ImageStorageException {
+        final ImageFrameSequence frames = loadFrames(input, listener, width, height,
+                preserveAspectRatio, pixelScale, smooth, Long.MAX_VALUE);
+        return frames != null ? frames.getFrames() : null;
+    }
+
+    /**
+     * Loads all images present in the specified input, like
+     * {@link #loadAll(InputStream, ImageLoadListener, double, double, boolean, float, boolean)},
+     * except that if they are the frames of an animation taking more than
+     * {@code maxFramesSize} bytes once decoded, only the first frame is
+     * retained, and the other frames are decoded again from a copy of the
+     * input when they are needed.
+     *
+     * @return the frames of the image or <code>null</code> on error.
+     */
+    public ImageFrameSequence loadFrames(InputStream input, ImageLoadListener listener,
+            double width, double height, boolean preserveAspectRatio,
+            float pixelScale, boolean smooth, long maxFramesSize) throws ImageStorageException {
         ImageLoader loader = null;
-        ImageFrame[] images = null;
+        ImageFrameSequence images = null;
 
         try {
+            RecordingInputStream recorder = null;
             if (isIOS) {
                 // no extension/signature recognition done here,
                 // we always want the iOS native loader
                 loader = IosImageLoaderFactory.getInstance().createImageLoader(input);
             } else {
+                if (maxFramesSize != Long.MAX_VALUE) {
+                    input = recorder = new RecordingInputStream(input);
+                }
                 loader = getLoaderBySignature(input, listener);
             }
             if (loader != null) {
-                images = loadAll(loader, width, height, preserveAspectRatio, pixelScale, smooth);
+                images = loadFrames(loader, width, height, preserveAspectRatio, pixelScale, smooth,
+                                    maxFramesSize, recorder);
             } else {
                 throw new ImageStorageException("No loader for image data");
             }
@@ -312,14 +339,27 @@ public class ImageStorage {
     public ImageFrame[] loadAll(String input, ImageLoadListener listener,
             double width, double height, boolean preserveAspectRatio,
             float devPixelScale, boolean smooth) throws ImageStorageException {
+        final ImageFrameSequence frames = loadFrames(input, listener, width, height,
+                preserveAspectRatio, devPixelScale, smooth, Long.MAX_VALUE);
+        return frames != null ? frames.getFrames() : null;
+    }
+
+    /**
+     * Loads all images present in the specified input. For more details refer to
+     * {@link #loadFrames(InputStream, ImageLoadListener, double, double, boolean, float, boolean, long)}.
+     */
+    public ImageFrameSequence loadFrames(String input, ImageLoadListener listener,
+            double width, double height, boolean preserveAspectRatio,
+            float devPixelScale, boolean smooth, long maxFramesSize) throws ImageStorageException {
 
         if (input == null || input.isEmpty()) {
             throw new ImageStorageException("URL can't be null or empty");
         }
 
-        ImageFrame[] images = null;
+        ImageFrameSequence images = null;
         InputStream theStream = null;
         ImageLoader loader = null;
+        RecordingInputStream recorder = null;
 
         try {
             float imgPixelScale = 1.0f;
@@ -339,6 +379,9 @@ public class ImageStorage {
 
                     // We also inspect the image file signature to confirm that it matches the MIME type.
                     theStream = new ByteArrayInputStream(dataUri.getData());
+                    if (maxFramesSize != Long.MAX_VALUE) {
+                        theStream = recorder = new RecordingInputStream(theStream);
+                    }
                     ImageLoader loaderBySignature = getLoaderBySignature(theStream, listener);
 
                     if (loaderBySignature != null) {
@@ -365,6 +408,7 @@ public class ImageStorage {
                         // stream for the image loader that matches the MIME type.
                         theStream.close();
                         theStream = new ByteArrayInputStream(dataUri.getData());
+                        recorder = null;
                         loader = factory.createImageLoader(theStream);
                     }
                 } else {
@@ -385,6 +429,9 @@ public class ImageStorage {
                     if (isIOS) {
                         loader = IosImageLoaderFactory.getInstance().createImageLoader(theStream);
                     } else {
+                        if (maxFramesSize != Long.MAX_VALUE) {
+                            theStream = recorder = new RecordingInputStream(theStream);
+                        }
                         loader = getLoaderBySignature(theStream, listener);
                     }
                 }
@@ -393,7 +440,8 @@ public class ImageStorage {
             }
 
             if (loader != null) {
-                images = loadAll(loader, width, height, preserveAspectRatio, imgPixelScale, smooth);
+                images = loadFrames(loader, width, height, preserveAspectRatio, imgPixelScale, smooth,
+                                    maxFramesSize, recorder);
             } else {
                 throw new ImageStorageException("No loader for image data");
             }
@@ -427,11 +475,19 @@ public class ImageStorage {
         return maxSignatureLength;
     }
 
-    private ImageFrame[] loadAll(ImageLoader loader,
+    private ImageFrameSequence loadFrames(ImageLoader loader,
             double width, double height, boolean preserveAspectRatio,
-            float pixelScale, boolean smooth) throws ImageStorageException {
-        ImageFrame[] images = null;
+            float pixelScale, boolean smooth, long maxFramesSize,
+            RecordingInputStream recorder) throws ImageStorageException {
+        if (recorder != null && !loader.getFormatDescription().supportsAnimation()) {
+            recorder.stopRecording();
+            recorder = null;
+        }
+
         ArrayList<ImageFrame> list = new ArrayList<>();
+        ArrayList<ImageMetadata> metadata = new ArrayList<>();
+        long framesSize = 0;
+        boolean retained = true;
         int imageIndex = 0;
         ImageFrame image = null;
         int imgw = (int) Math.round(width * pixelScale);
@@ -449,17 +505,96 @@ public class ImageStorage {
             }
             if (image != null) {
                 image.setPixelScale(pixelScale);
-                list.add(image);
+                metadata.add(image.getMetadata());
+                if (retained) {
+                    list.add(image);
+                    framesSize += (long) image.getStride() * image.getHeight();
+                    if (recorder != null && list.size() > 1 && framesSize > maxFramesSize) {
+                        // Keep only the first frame; the following ones are
+                        // still decoded to find out how many there are
+                        retained = false;
+                        list.subList(1, list.size()).clear();
+                    }
+                }
             } else {
                 break;
             }
         } while (true);
-        int numImages = list.size();
-        if (numImages > 0) {
-            images = new ImageFrame[numImages];
-            list.toArray(images);
+
+        if (list.isEmpty()) {
+            return null;
+        }
+        if (retained) {
+            return new ImageFrameSequence(list.toArray(new ImageFrame[list.size()]));
+        }
+        return new ImageFrameSequence(list.get(0),
+                metadata.toArray(new ImageMetadata[metadata.size()]),
+                recorder.toByteArray(), imgw, imgh, preserveAspectRatio, smooth, pixelScale);
+    }
+
+    /*
+     * Creates a loader for the image data in the given stream, which must have
+     * a known signature.
+     */
+    ImageLoader createLoader(InputStream stream) throws IOException {
+        final ImageLoader loader = getLoaderBySignature(stream, null);
+        if (loader == null) {
+            throw new ImageStorageException("No loader for image data");
+        }
+        return loader;
+    }
+
+    /*
+     * Keeps a copy of the data read from a stream, so that the frames of an
+     * animation that are not retained can be decoded again.
+     */
+    private static final class RecordingInputStream extends FilterInputStream {
+        private ByteArrayOutputStream data = new ByteArrayOutputStream();
+
+        RecordingInputStream(InputStream in) {
+            super(in);
+        }
+
+        void stopRecording() {
+            data = null;
+        }
+
+        byte[] toByteArray() {
+            return data.toByteArray();
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = in.read();
+            if (b >= 0 && data != null) {
+                data.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int n = in.read(b, off, len);
+            if (n > 0 && data != null) {
+                data.write(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            if (data == null) {
+                return in.skip(n);
+            }
+            final byte[] buf = new byte[(int) Math.min(n, 8192)];
+            final int count = read(buf, 0, buf.length);
+            return Math.max(count, 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
         }
-        return images;
     }
 
 //    private static ImageLoader getLoaderByExtension(String input, ImageLoadListener listener) {
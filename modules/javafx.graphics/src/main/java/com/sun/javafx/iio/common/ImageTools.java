@@ -694,6 +694,57 @@ public class ImageTools {
         return new int[]{finalWidth, finalHeight};
     }
 
+    /**
+     * Checks the arguments of {@link com.sun.javafx.iio.ImageLoader#loadRegion}
+     * and returns the region clipped to the image bounds as
+     * <code>{x, y, width, height}</code>.
+     */
+    public static int[] clipRegion(int imageWidth, int imageHeight,
+            int x, int y, int width, int height, int subsampling) {
+        if (subsampling < 1) {
+            throw new IllegalArgumentException("subsampling < 1: " + subsampling);
+        }
+        int x0 = Math.max(x, 0);
+        int y0 = Math.max(y, 0);
+        int x1 = (int) Math.min((long) x + width, imageWidth);
+        int y1 = (int) Math.min((long) y + height, imageHeight);
+        if (x0 >= x1 || y0 >= y1) {
+            throw new IllegalArgumentException("Region is outside of the image");
+        }
+        return new int[] {x0, y0, x1 - x0, y1 - y0};
+    }
+
+    /**
+     * Copies a region of an image, keeping one pixel out of
+     * <code>subsampling</code> in each direction.
+     */
+    public static ImageFrame extractRegion(ImageFrame src,
+            int x, int y, int width, int height, int subsampling)
+    {
+        int[] region = clipRegion(src.getWidth(), src.getHeight(), x, y, width, height, subsampling);
+        if (region[0] == 0 && region[1] == 0 && subsampling == 1
+                && region[2] == src.getWidth() && region[3] == src.getHeight()) {
+            return src;
+        }
+
+        int numBands = ImageStorage.getInstance().getNumBands(src.getImageType());
+        int destWidth = (region[2] + subsampling - 1) / subsampling;
+        int destHeight = (region[3] + subsampling - 1) / subsampling;
+        int srcStride = src.getStride();
+        ByteBuffer srcData = (ByteBuffer) src.getImageData();
+        byte[] dst = new byte[destWidth * destHeight * numBands];
+        for (int j = 0, dstPos = 0; j != destHeight; ++j) {
+            int srcPos = (region[1] + j * subsampling) * srcStride + region[0] * numBands;
+            for (int i = 0; i != destWidth; ++i, srcPos += subsampling * numBands) {
+                for (int b = 0; b != numBands; ++b) {
+                    dst[dstPos++] = srcData.get(srcPos + b);
+                }
+            }
+        }
+        return new ImageFrame(src.getImageType(), ByteBuffer.wrap(dst),
+                destWidth, destHeight, destWidth * numBands, src.getPalette(), src.getMetadata());
+    }
+
     public static ImageFrame scaleImageFrame(ImageFrame src,
             int destWidth, int destHeight, boolean isSmooth)
     {
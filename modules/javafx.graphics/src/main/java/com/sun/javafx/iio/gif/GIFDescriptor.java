@@ -45,6 +45,11 @@ public class GIFDescriptor extends ImageDescriptor {
         super(formatName, extensions, signatures, mimeSubtypes);
     }
 
+    @Override
+    public boolean supportsAnimation() {
+        return true;
+    }
+
     public static synchronized ImageDescriptor getInstance() {
         if (theInstance == null) {
             theInstance = new GIFDescriptor();
@@ -209,8 +209,6 @@ public class JPEGImageLoader extends ImageLoaderImpl {
             return null;
         }
 
-        accessLock.lock();
-
         // Determine output image dimensions.
         int[] widthHeight = ImageTools.computeDimensions(inWidth, inHeight, width, height, preserveAspectRatio);
         width = widthHeight[0];
@@ -222,6 +220,60 @@ public class JPEGImageLoader extends ImageLoaderImpl {
 
         updateImageMetadata(md);
 
+        ImageFrame frame = decompress(width, height, md);
+
+        // Check whether the decompressed image has been scaled to the correct
+        // dimensions. If not, downscale it here. Note outData, outHeight, and
+        // outWidth refer to the image as returned by the decompressor. This
+        // image might have been downscaled from the original source by a factor
+        // of N/8 where 1 <= N <=8.
+        if (outWidth != width || outHeight != height) {
+            frame = ImageTools.scaleImageFrame(frame, width, height, smooth);
+        }
+
+        return frame;
+    }
+
+    /**
+     * Loads a region of the image. The decompressor scales the image down by
+     * the largest power of two up to 8 dividing the subsampling, which skips
+     * most of the decoding work, and the region is then cropped from the
+     * scaled image.
+     */
+    @Override
+    public ImageFrame loadRegion(int imageIndex, int x, int y, int w, int h,
+            int subsampling) throws IOException {
+        if (imageIndex != 0) {
+            return null;
+        }
+
+        int[] region = ImageTools.clipRegion(inWidth, inHeight, x, y, w, h, subsampling);
+        int scale = Math.min(Integer.lowestOneBit(subsampling), 8);
+
+        ImageMetadata md = new ImageMetadata(null, true,
+                null, null, null, null, null,
+                (region[2] + subsampling - 1) / subsampling,
+                (region[3] + subsampling - 1) / subsampling, null, null, null);
+
+        updateImageMetadata(md);
+
+        // Dimensions of at most 1/scale of the source make the decompressor
+        // scale the image by 1/scale
+        ImageFrame frame = decompress(Math.max(1, inWidth / scale),
+                                      Math.max(1, inHeight / scale), md);
+        scale = Math.max(1, Math.round((float) inWidth / outWidth));
+
+        return ImageTools.extractRegion(frame,
+                region[0] / scale, region[1] / scale,
+                (region[2] + scale - 1) / scale, (region[3] + scale - 1) / scale,
+                Math.max(1, subsampling / scale));
+    }
+
+    // Decompresses the image, scaled down by the factor from 1/1 to 1/8
+    // closest to the given dimensions.
+    private ImageFrame decompress(int width, int height, ImageMetadata md) throws IOException {
+        accessLock.lock();
+
         ByteBuffer buffer = null;
 
         int outNumComponents;
@@ -256,18 +308,8 @@ public class JPEGImageLoader extends ImageLoaderImpl {
             throw new IOException("Error decompressing JPEG stream!");
         }
 
-        // Check whether the decompressed image has been scaled to the correct
-        // dimensions. If not, downscale it here. Note outData, outHeight, and
-        // outWidth refer to the image as returned by the decompressor. This
-        // image might have been downscaled from the original source by a factor
-        // of N/8 where 1 <= N <=8.
-        if (outWidth != width || outHeight != height) {
-            buffer = ImageTools.scaleImage(buffer,
-                    outWidth, outHeight, outNumComponents, width, height, smooth);
-        }
-
         return new ImageFrame(outImageType, buffer,
-                width, height, width * outNumComponents, null, md);
+                outWidth, outHeight, outWidth * outNumComponents, null, md);
     }
 
     private static class Lock {
@@ -33,7 +33,20 @@ import com.sun.javafx.iio.*;
 import com.sun.javafx.iio.common.*;
 import java.io.*;
 import java.nio.ByteBuffer;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.*;
 
 public final class PNGImageLoader2 extends ImageLoaderImpl {
@@ -536,12 +549,99 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         return start[mip] + pos * increment[mip];
     }
 
+    // The pixels kept when loading a region of the image: those at
+    // (regionX + i * subsampling, regionY + j * subsampling)
+    private int regionX, regionY, regionWidth, regionHeight;
+    private int subsampling = 1;
+    // whether each kept pixel is replaced by the average of the
+    // subsampling x subsampling block it starts
+    private boolean averaging;
+
+    private boolean isWholeImage() {
+        return subsampling == 1 && regionWidth == width && regionHeight == height;
+    }
+
+    private int getOutputWidth() {
+        return (regionWidth + subsampling - 1) / subsampling;
+    }
+
+    private int getOutputHeight() {
+        return (regionHeight + subsampling - 1) / subsampling;
+    }
+
+    private boolean isKept(int pos, int regionPos, int regionSize) {
+        return pos >= regionPos && pos < regionPos + regionSize
+                && (pos - regionPos) % subsampling == 0;
+    }
+
+    private boolean hasKeptPixels(int mip) {
+        boolean row = false, column = false;
+        for (int y = starting_y[mip]; y < height && !row; y += increment_y[mip]) {
+            row = isKept(y, regionY, regionHeight);
+        }
+        for (int x = starting_x[mip]; x < width && !column; x += increment_x[mip]) {
+            column = isKept(x, regionX, regionWidth);
+        }
+        return row && column;
+    }
+
+    private void convertScanline(byte line[], byte image[], int pos, int w, int step, int resultBpp) {
+        if (bitDepth == 16) {
+            downsample16to8(line, image, pos, step, resultBpp);
+        } else if (bitDepth < 8) {
+            upsampleTo8(line, image, pos, w, step, resultBpp);
+        } else {
+            copy(line, image, pos, step, resultBpp);
+        }
+    }
+
+    // Whole image passes holding at least this many bytes of filtered data
+    // are decoded in two stages: the calling thread inflates the scanlines
+    // while a worker thread unfilters and converts them.
+    private static final int PIPELINE_MIN_SIZE = 1 << 20;
+    // number of scanlines in flight between the two stages
+    private static final int PIPELINE_ROWS = 16;
+    private static final boolean PIPELINE_ENABLED =
+            Runtime.getRuntime().availableProcessors() > 1;
+    private static final byte[] PIPELINE_ABORT = new byte[0];
+
+    private static final class PipelineExecutor {
+        static final ExecutorService EXECUTOR = createExecutor();
+
+        private static ExecutorService createExecutor() {
+            @SuppressWarnings("removal")
+            final ThreadFactory threadFactory =
+                    runnable -> AccessController.doPrivileged(
+                            (PrivilegedAction<Thread>) () -> {
+                                final Thread newThread =
+                                        new Thread(runnable, "PNG scanline decoding thread");
+                                newThread.setDaemon(true);
+                                return newThread;
+                            }
+                    );
+
+            // Every worker is paired with a decoding thread that feeds it,
+            // so a task is never queued behind the other decodes: when all
+            // the workers are busy it is rejected, and the decoding thread
+            // decodes the scanlines on its own.
+            return new ThreadPoolExecutor(
+                    0, Runtime.getRuntime().availableProcessors(), 1, TimeUnit.SECONDS,
+                    new SynchronousQueue<>(), threadFactory);
+        }
+    }
+
     private void loadMip(byte image[], InputStream data, int mip) throws IOException {
 
         int mipWidth = mipSize(width, mip, starting_x, increment_x);
         int mipHeight = mipSize(height, mip, starting_y, increment_y);
 
         int scanLineSize = (mipWidth * bitDepth * numBandsPerColorType[colorType] + 7) / 8;
+        if (PIPELINE_ENABLED && isWholeImage()
+                && (long) (scanLineSize + 1) * mipHeight >= PIPELINE_MIN_SIZE
+                && loadMipPipelined(image, data, mip, mipWidth, mipHeight, scanLineSize)) {
+            return;
+        }
+
         byte scanLine0[] = new byte[scanLineSize];
         byte scanLine1[] = new byte[scanLineSize];
 
@@ -549,7 +649,18 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         // to support tRNS
         int resultBpp = bpp(), srcBpp = numBandsPerColorType[colorType] * bytesPerColor();
 
+        boolean wholeImage = isWholeImage();
+        byte row[] = wholeImage ? null : new byte[mipWidth * resultBpp];
+        int outWidth = getOutputWidth();
+        int sums[] = averaging ? new int[outWidth * resultBpp] : null;
+
         for (int y = 0; y != mipHeight; ++y) {
+            int imageY = mipPos(y, mip, starting_y, increment_y);
+            if (!wholeImage && mip == 7 && imageY >= regionY + regionHeight) {
+                // the following rows are not part of the region
+                return;
+            }
+
             int filterByte = data.read();
             if (filterByte == -1) {
                 throw new EOFException();
@@ -561,15 +672,29 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
 
             doFilter(scanLine0, scanLine1, filterByte, srcBpp);
 
-            int pos = (mipPos(y, mip, starting_y, increment_y) * width + starting_x[mip]) * resultBpp;
-            int step = increment_x[mip];
-
-            if (bitDepth == 16) {
-                downsample16to8(scanLine0, image, pos, step, resultBpp);
-            } else if (bitDepth < 8) {
-                upsampleTo8(scanLine0, image, pos, mipWidth, step, resultBpp);
-            } else {
-                copy(scanLine0, image, pos, step, resultBpp);
+            if (wholeImage) {
+                int pos = (imageY * width + starting_x[mip]) * resultBpp;
+                convertScanline(scanLine0, image, pos, mipWidth, increment_x[mip], resultBpp);
+            } else if (averaging) {
+                if (imageY >= regionY && imageY < regionY + regionHeight) {
+                    convertScanline(scanLine0, row, 0, mipWidth, 1, resultBpp);
+                    addToSums(row, sums, resultBpp);
+                    int blockRow = (imageY - regionY) % subsampling;
+                    if (blockRow == subsampling - 1 || imageY == regionY + regionHeight - 1) {
+                        storeAverages(sums, image, (imageY - regionY) / subsampling,
+                                blockRow + 1, resultBpp);
+                    }
+                }
+            } else if (isKept(imageY, regionY, regionHeight)) {
+                convertScanline(scanLine0, row, 0, mipWidth, 1, resultBpp);
+                int outPos = (imageY - regionY) / subsampling * outWidth;
+                for (int x = 0; x != mipWidth; ++x) {
+                    int imageX = mipPos(x, mip, starting_x, increment_x);
+                    if (isKept(imageX, regionX, regionWidth)) {
+                        System.arraycopy(row, x * resultBpp, image,
+                                (outPos + (imageX - regionX) / subsampling) * resultBpp, resultBpp);
+                    }
+                }
             }
 
             byte scanLineSwp[] = scanLine0;
@@ -578,9 +703,135 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         }
     }
 
+    // Averaging only happens for non interlaced images, where a scanline
+    // holds every pixel of an image row.
+    private void addToSums(byte row[], int sums[], int bpp) {
+        for (int x = regionX; x != regionX + regionWidth; ++x) {
+            int sum = (x - regionX) / subsampling * bpp;
+            for (int b = 0; b != bpp; ++b) {
+                sums[sum + b] += row[x * bpp + b] & 0xFF;
+            }
+        }
+    }
+
+    private void storeAverages(int sums[], byte image[], int outY, int blockRows, int bpp) {
+        int outWidth = getOutputWidth();
+        int outPos = outY * outWidth * bpp;
+        for (int outX = 0; outX != outWidth; ++outX) {
+            int blockColumns = Math.min(subsampling, regionWidth - outX * subsampling);
+            int count = blockRows * blockColumns;
+            int pos = outX * bpp;
+            for (int b = 0; b != bpp; ++b) {
+                image[outPos + pos + b] = (byte) ((sums[pos + b] + count / 2) / count);
+            }
+        }
+        Arrays.fill(sums, 0);
+    }
+
+    // Returns false, without reading any data, if no worker thread is available.
+    private boolean loadMipPipelined(byte image[], InputStream data, int mip,
+                                     int mipWidth, int mipHeight, int scanLineSize) throws IOException {
+        int resultBpp = bpp(), srcBpp = numBandsPerColorType[colorType] * bytesPerColor();
+
+        // each buffer holds the filter byte followed by the scanline
+        BlockingQueue<byte[]> free = new ArrayBlockingQueue<>(PIPELINE_ROWS);
+        BlockingQueue<byte[]> filled = new ArrayBlockingQueue<>(PIPELINE_ROWS);
+        for (int i = 0; i != PIPELINE_ROWS; ++i) {
+            free.add(new byte[scanLineSize + 1]);
+        }
+
+        Callable<Void> unfilter = () -> {
+            byte scanLine0[] = new byte[scanLineSize];
+            byte scanLine1[] = new byte[scanLineSize];
+            for (int y = 0; y != mipHeight; ++y) {
+                byte buffer[] = filled.take();
+                if (buffer == PIPELINE_ABORT) {
+                    return null;
+                }
+                int filterByte = buffer[0] & 0xFF;
+                System.arraycopy(buffer, 1, scanLine0, 0, scanLineSize);
+                free.put(buffer);
+
+                doFilter(scanLine0, scanLine1, filterByte, srcBpp);
+
+                int imageY = mipPos(y, mip, starting_y, increment_y);
+                int pos = (imageY * width + starting_x[mip]) * resultBpp;
+                convertScanline(scanLine0, image, pos, mipWidth, increment_x[mip], resultBpp);
+
+                byte scanLineSwp[] = scanLine0;
+                scanLine0 = scanLine1;
+                scanLine1 = scanLineSwp;
+            }
+            return null;
+        };
+
+        Future<Void> worker;
+        try {
+            worker = PipelineExecutor.EXECUTOR.submit(unfilter);
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+
+        boolean completed = false;
+        try {
+            for (int y = 0; y != mipHeight; ++y) {
+                byte buffer[] = take(free, worker);
+                int filterByte = data.read();
+                if (filterByte == -1) {
+                    throw new EOFException();
+                }
+                buffer[0] = (byte) filterByte;
+                if (data.read(buffer, 1, scanLineSize) != scanLineSize) {
+                    throw new EOFException();
+                }
+                filled.put(buffer);
+            }
+            worker.get();
+            completed = true;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            if (!completed) {
+                filled.offer(PIPELINE_ABORT);
+                worker.cancel(true);
+            }
+        }
+    }
+
+    // waits for a free buffer, giving up if the worker has failed
+    private static byte[] take(BlockingQueue<byte[]> free, Future<Void> worker)
+            throws InterruptedException, ExecutionException {
+        while (true) {
+            byte buffer[] = free.poll(10, TimeUnit.MILLISECONDS);
+            if (buffer != null) {
+                return buffer;
+            }
+            if (worker.isDone()) {
+                worker.get();
+            }
+        }
+    }
+
     private void load(byte image[], InputStream data) throws IOException {
         if (isInterlaced) {
-            for (int mip = 0; mip != 7; ++mip) {
+            // the passes after the last one holding pixels of the region
+            // need not be decoded
+            int lastMip = 6;
+            while (lastMip > 0 && !isWholeImage() && !hasKeptPixels(lastMip)) {
+                --lastMip;
+            }
+            for (int mip = 0; mip <= lastMip; ++mip) {
                 if (width > starting_x[mip] && height > starting_y[mip]) {
                     loadMip(image, data, mip);
                 }
@@ -590,7 +841,8 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         }
     }
 
-    private ImageFrame decodePalette(byte srcImage[], ImageMetadata metadata) throws IOException {
+    private ImageFrame decodePalette(byte srcImage[], int width, int height,
+                                     ImageMetadata metadata) throws IOException {
         int bpp = tRNS_present ? 4 : 3;
         if (width >= (Integer.MAX_VALUE / height / bpp)) {
             throw new IOException("Bad PNG image size!");
@@ -651,11 +903,6 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
             return null;
         }
 
-        int bpp = bpp();
-        if (width >= (Integer.MAX_VALUE / height / bpp)) {
-            throw new IOException("Bad PNG image size!");
-        }
-
         int[] outWH = ImageTools.computeDimensions(width, height, rWidth, rHeight, preserveAspectRatio);
         rWidth = outWH[0];
         rHeight = outWH[1];
@@ -664,7 +911,79 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
                 null, null, null, null, null, rWidth, rHeight, null, null, null);
         updateImageMetadata(metaData);
 
-        ByteBuffer bb = ByteBuffer.allocate(bpp * width * height);
+        // When smoothing a large reduction, average blocks of pixels while
+        // decoding, keeping at least two block averages per destination pixel
+        // in each direction, so the whole image is never held in memory.
+        // Palette indices cannot be averaged and the rows of an interlaced
+        // image are only complete after its last pass, so these images are
+        // decoded whole. Nearest neighbour scaling picks pixels that are not
+        // on the subsampling grid, so it also starts from the whole image.
+        int sub = 1;
+        while (smooth && !isInterlaced && colorType != PNG_COLOR_PALETTE
+                && sub < (1 << 16)
+                && width / (sub * 2) >= rWidth * 2
+                && height / (sub * 2) >= rHeight * 2) {
+            sub *= 2;
+        }
+
+        ImageFrame imgPNG = decode(dataSize, 0, 0, width, height, sub, sub > 1, metaData);
+
+        if (imgPNG.getWidth() != rWidth || imgPNG.getHeight() != rHeight) {
+            imgPNG = ImageTools.scaleImageFrame(imgPNG, rWidth, rHeight, smooth);
+        }
+
+        return imgPNG;
+    }
+
+    /**
+     * Loads a region of the image, only converting the pixels that are kept.
+     * Decoding stops after the last row of the region, and after the last
+     * pass of an interlaced image holding kept pixels, so a subsampling of 8
+     * only decodes the first pass.
+     */
+    @Override
+    public ImageFrame loadRegion(int imageIndex, int x, int y, int w, int h,
+            int subsampling) throws IOException {
+
+        if (imageIndex != 0) {
+            return null;
+        }
+
+        int dataSize = parsePngMeta();
+
+        if (dataSize == 0) {
+            emitWarning("No image data in PNG");
+            return null;
+        }
+
+        int[] region = ImageTools.clipRegion(width, height, x, y, w, h, subsampling);
+        int outWidth = (region[2] + subsampling - 1) / subsampling;
+        int outHeight = (region[3] + subsampling - 1) / subsampling;
+
+        ImageMetadata metaData = new ImageMetadata(null, true,
+                null, null, null, null, null, outWidth, outHeight, null, null, null);
+        updateImageMetadata(metaData);
+
+        return decode(dataSize, region[0], region[1], region[2], region[3], subsampling, false, metaData);
+    }
+
+    private ImageFrame decode(int dataSize, int x, int y, int w, int h, int sub,
+                              boolean average, ImageMetadata metaData) throws IOException {
+        regionX = x;
+        regionY = y;
+        regionWidth = w;
+        regionHeight = h;
+        subsampling = sub;
+        averaging = average;
+        int outWidth = getOutputWidth();
+        int outHeight = getOutputHeight();
+
+        int bpp = bpp();
+        if (outWidth >= (Integer.MAX_VALUE / outHeight / bpp)) {
+            throw new IOException("Bad PNG image size!");
+        }
+
+        ByteBuffer bb = ByteBuffer.allocate(bpp * outWidth * outHeight);
 
         PNGIDATChunkInputStream iDat = new PNGIDATChunkInputStream(stream, dataSize);
         Inflater inf = new Inflater();
@@ -680,14 +999,8 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
             }
         }
 
-        ImageFrame imgPNG = colorType == PNG_COLOR_PALETTE
-                ? decodePalette(bb.array(), metaData)
-                : new ImageFrame(getType(), bb, width, height, bpp * width, palette, metaData);
-
-        if (width != rWidth || height != rHeight) {
-            imgPNG = ImageTools.scaleImageFrame(imgPNG, rWidth, rHeight, smooth);
-        }
-
-        return imgPNG;
+        return colorType == PNG_COLOR_PALETTE
+                ? decodePalette(bb.array(), outWidth, outHeight, metaData)
+                : new ImageFrame(getType(), bb, outWidth, outHeight, bpp * outWidth, palette, metaData);
     }
 }
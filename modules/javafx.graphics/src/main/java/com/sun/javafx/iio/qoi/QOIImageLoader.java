@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/*
+ * loader implementation for the QOI ("Quite OK Image") file format
+ * specification https://qoiformat.org/qoi-specification.pdf
+ */
+package com.sun.javafx.iio.qoi;
+
+import com.sun.javafx.iio.*;
+import com.sun.javafx.iio.common.*;
+import java.io.*;
+import java.nio.ByteBuffer;
+
+public final class QOIImageLoader extends ImageLoaderImpl {
+
+    // file signature
+    static final int QOI_MAGIC = 0x716f6966; // "qoif"
+    static final int HEADER_SIZE = 14;
+    // chunk tags
+    static final int QOI_OP_INDEX = 0x00; // 00xxxxxx
+    static final int QOI_OP_DIFF  = 0x40; // 01xxxxxx
+    static final int QOI_OP_LUMA  = 0x80; // 10xxxxxx
+    static final int QOI_OP_RUN   = 0xc0; // 11xxxxxx
+    static final int QOI_OP_RGB   = 0xfe; // 11111110
+    static final int QOI_OP_RGBA  = 0xff; // 11111111
+    static final int QOI_MASK_2   = 0xc0; // 11000000
+    // the end of the data stream
+    static final byte END_MARKER[] = {0, 0, 0, 0, 0, 0, 0, 1};
+
+    static int hash(int r, int g, int b, int a) {
+        return (r * 3 + g * 5 + b * 7 + a * 11) & 63;
+    }
+
+    private final InputStream stream;
+    private final int width, height, channels;
+    // the data stream is read through this buffer as the decoder consumes
+    // it one byte at a time
+    private final byte buffer[] = new byte[8192];
+    private int bufferPos, bufferLength;
+
+    public QOIImageLoader(InputStream input) throws IOException {
+        super(QOIDescriptor.getInstance());
+        stream = input;
+
+        DataInputStream header = new DataInputStream(input);
+        if (header.readInt() != QOI_MAGIC) {
+            throw new IOException("Bad QOI signature!");
+        }
+        width = header.readInt();
+        height = header.readInt();
+        channels = header.readUnsignedByte();
+        header.readUnsignedByte(); // colorspace, informative only
+
+        if (width <= 0 || height <= 0) {
+            throw new IOException("Bad QOI image size!");
+        }
+        if (channels != 3 && channels != 4) {
+            throw new IOException("Bad QOI channel count " + channels);
+        }
+    }
+
+    private int read() throws IOException {
+        if (bufferPos == bufferLength) {
+            bufferPos = 0;
+            bufferLength = stream.read(buffer, 0, buffer.length);
+            if (bufferLength <= 0) {
+                bufferLength = 0;
+                throw new EOFException();
+            }
+        }
+        return buffer[bufferPos++] & 0xFF;
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    private void decode(byte image[], int bpp) throws IOException {
+        // previously seen pixels, packed as RGBA
+        int index[] = new int[64];
+        int r = 0, g = 0, b = 0, a = 0xff;
+        int run = 0;
+        int stride = width * bpp;
+
+        for (int y = 0, pos = 0; y != height; ++y) {
+            for (int end = pos + stride; pos != end; pos += bpp) {
+                if (run > 0) {
+                    --run;
+                } else {
+                    int op = read();
+                    if (op == QOI_OP_RGB) {
+                        r = read();
+                        g = read();
+                        b = read();
+                    } else if (op == QOI_OP_RGBA) {
+                        r = read();
+                        g = read();
+                        b = read();
+                        a = read();
+                    } else {
+                        switch (op & QOI_MASK_2) {
+                            case QOI_OP_INDEX: {
+                                int px = index[op];
+                                r = px >>> 24;
+                                g = (px >> 16) & 0xff;
+                                b = (px >> 8) & 0xff;
+                                a = px & 0xff;
+                                break;
+                            }
+                            case QOI_OP_DIFF:
+                                r = (r + ((op >> 4) & 3) - 2) & 0xff;
+                                g = (g + ((op >> 2) & 3) - 2) & 0xff;
+                                b = (b + (op & 3) - 2) & 0xff;
+                                break;
+                            case QOI_OP_LUMA: {
+                                int drdb = read();
+                                int dg = (op & 0x3f) - 32;
+                                r = (r + dg - 8 + (drdb >> 4)) & 0xff;
+                                g = (g + dg) & 0xff;
+                                b = (b + dg - 8 + (drdb & 0xf)) & 0xff;
+                                break;
+                            }
+                            default: // QOI_OP_RUN
+                                run = op & 0x3f;
+                                break;
+                        }
+                    }
+                    index[hash(r, g, b, a)] = (r << 24) | (g << 16) | (b << 8) | a;
+                }
+
+                image[pos] = (byte) r;
+                image[pos + 1] = (byte) g;
+                image[pos + 2] = (byte) b;
+                if (bpp == 4) {
+                    image[pos + 3] = (byte) a;
+                }
+            }
+            updateImageProgress(100f * (y + 1) / height);
+        }
+    }
+
+    @Override
+    public ImageFrame load(int imageIndex, int rWidth, int rHeight,
+            boolean preserveAspectRatio, boolean smooth) throws IOException {
+
+        if (imageIndex != 0) {
+            return null;
+        }
+
+        int[] outWH = ImageTools.computeDimensions(width, height, rWidth, rHeight, preserveAspectRatio);
+        rWidth = outWH[0];
+        rHeight = outWH[1];
+
+        int bpp = channels;
+        if (width >= (Integer.MAX_VALUE / height / bpp)) {
+            throw new IOException("Bad QOI image size!");
+        }
+
+        ImageMetadata metadata = new ImageMetadata(null, Boolean.TRUE,
+                null, null, null, null, null, rWidth, rHeight, null, null, null);
+        updateImageMetadata(metadata);
+
+        byte image[] = new byte[width * height * bpp];
+        decode(image, bpp);
+
+        ImageStorage.ImageType type = bpp == 4
+                ? ImageStorage.ImageType.RGBA
+                : ImageStorage.ImageType.RGB;
+        ByteBuffer img = ByteBuffer.wrap(image);
+        if (width != rWidth || height != rHeight) {
+            img = ImageTools.scaleImage(img, width, height, bpp,
+                    rWidth, rHeight, smooth);
+        }
+
+        return new ImageFrame(type, img, rWidth, rHeight, rWidth * bpp, null, metadata);
+    }
+}
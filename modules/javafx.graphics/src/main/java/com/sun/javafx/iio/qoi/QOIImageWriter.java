@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.iio.qoi;
+
+import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageStorage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import static com.sun.javafx.iio.qoi.QOIImageLoader.*;
+
+/**
+ * Encodes images in the QOI format read by {@link QOIImageLoader}, so that
+ * images decoded by the other loaders can be converted to a format which is
+ * much faster to decode.
+ */
+public final class QOIImageWriter {
+
+    private final OutputStream stream;
+    private final byte buffer[] = new byte[8192];
+    private int bufferPos;
+
+    private QOIImageWriter(OutputStream stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * Writes the indicated image frame.
+     * Frames of type {@code RGB} and {@code GRAY} are written with 3 channels,
+     * frames of type {@code RGBA} and {@code GRAY_ALPHA} with 4 channels.
+     *
+     * @param frame the image frame to write
+     * @param output the stream the encoded image is written to, which is
+     *        neither flushed nor closed
+     * @throws IllegalArgumentException if the type of the frame is not
+     *         supported
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(ImageFrame frame, OutputStream output) throws IOException {
+        ImageStorage.ImageType type = frame.getImageType();
+        int width = frame.getWidth();
+        int height = frame.getHeight();
+        int stride = frame.getStride();
+        ByteBuffer data = ((ByteBuffer) frame.getImageData()).duplicate();
+
+        int srcBpp, channels;
+        switch (type) {
+            case GRAY: srcBpp = 1; channels = 3; break;
+            case GRAY_ALPHA: srcBpp = 2; channels = 4; break;
+            case RGB: srcBpp = 3; channels = 3; break;
+            case RGBA: srcBpp = 4; channels = 4; break;
+            default:
+                throw new IllegalArgumentException("Unsupported image type " + type);
+        }
+
+        // expand the frame to RGB or RGBA
+        byte pixels[] = new byte[width * height * channels];
+        for (int y = 0, pos = 0; y != height; ++y) {
+            for (int x = 0, src = y * stride; x != width; ++x, src += srcBpp, pos += channels) {
+                if (srcBpp <= 2) {
+                    byte gray = data.get(src);
+                    pixels[pos] = pixels[pos + 1] = pixels[pos + 2] = gray;
+                    if (srcBpp == 2) {
+                        pixels[pos + 3] = data.get(src + 1);
+                    }
+                } else {
+                    for (int c = 0; c != channels; ++c) {
+                        pixels[pos + c] = data.get(src + c);
+                    }
+                }
+            }
+        }
+        write(pixels, 0, width * channels, width, height, channels, output);
+    }
+
+    /**
+     * Writes the indicated pixels, stored as RGB or non premultiplied RGBA
+     * bytes.
+     *
+     * @param pixels the pixels
+     * @param offset the index of the first byte of the top left pixel
+     * @param stride the number of bytes between the starts of two rows
+     * @param width the width of the image
+     * @param height the height of the image
+     * @param channels 3 for RGB pixels or 4 for RGBA pixels
+     * @param output the stream the encoded image is written to, which is
+     *        neither flushed nor closed
+     * @throws IllegalArgumentException if the size or channel count is invalid
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(byte pixels[], int offset, int stride,
+                             int width, int height, int channels,
+                             OutputStream output) throws IOException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Bad image size " + width + "x" + height);
+        }
+        if (channels != 3 && channels != 4) {
+            throw new IllegalArgumentException("Bad channel count " + channels);
+        }
+        QOIImageWriter writer = new QOIImageWriter(output);
+        writer.writeInt(QOI_MAGIC);
+        writer.writeInt(width);
+        writer.writeInt(height);
+        writer.write(channels);
+        writer.write(0); // sRGB with linear alpha
+        writer.encode(pixels, offset, stride, width, height, channels);
+        for (byte b : END_MARKER) {
+            writer.write(b);
+        }
+        writer.flush();
+    }
+
+    private void encode(byte pixels[], int offset, int stride,
+                        int width, int height, int channels) throws IOException {
+        int index[] = new int[64];
+        int pr = 0, pg = 0, pb = 0, pa = 0xff;
+        int run = 0;
+
+        for (int y = 0; y != height; ++y) {
+            for (int x = 0, pos = offset + y * stride; x != width; ++x, pos += channels) {
+                int r = pixels[pos] & 0xff;
+                int g = pixels[pos + 1] & 0xff;
+                int b = pixels[pos + 2] & 0xff;
+                int a = channels == 4 ? pixels[pos + 3] & 0xff : 0xff;
+
+                if (r == pr && g == pg && b == pb && a == pa) {
+                    if (++run == 62) {
+                        write(QOI_OP_RUN | (run - 1));
+                        run = 0;
+                    }
+                    continue;
+                }
+                if (run > 0) {
+                    write(QOI_OP_RUN | (run - 1));
+                    run = 0;
+                }
+
+                int px = (r << 24) | (g << 16) | (b << 8) | a;
+                int hash = hash(r, g, b, a);
+                if (index[hash] == px) {
+                    write(QOI_OP_INDEX | hash);
+                } else {
+                    index[hash] = px;
+                    if (a == pa) {
+                        // differences wrap around like the decoder's sums
+                        int dr = (byte) (r - pr);
+                        int dg = (byte) (g - pg);
+                        int db = (byte) (b - pb);
+                        int drdg = dr - dg;
+                        int dbdg = db - dg;
+                        if (dr >= -2 && dr <= 1 && dg >= -2 && dg <= 1 && db >= -2 && db <= 1) {
+                            write(QOI_OP_DIFF | (dr + 2) << 4 | (dg + 2) << 2 | (db + 2));
+                        } else if (dg >= -32 && dg <= 31 && drdg >= -8 && drdg <= 7 && dbdg >= -8 && dbdg <= 7) {
+                            write(QOI_OP_LUMA | (dg + 32));
+                            write((drdg + 8) << 4 | (dbdg + 8));
+                        } else {
+                            write(QOI_OP_RGB);
+                            write(r);
+                            write(g);
+                            write(b);
+                        }
+                    } else {
+                        write(QOI_OP_RGBA);
+                        write(r);
+                        write(g);
+                        write(b);
+                        write(a);
+                    }
+                }
+                pr = r;
+                pg = g;
+                pb = b;
+                pa = a;
+            }
+        }
+        if (run > 0) {
+            write(QOI_OP_RUN | (run - 1));
+        }
+    }
+
+    private void write(int b) throws IOException {
+        if (bufferPos == buffer.length) {
+            flush();
+        }
+        buffer[bufferPos++] = (byte) b;
+    }
+
+    private void writeInt(int v) throws IOException {
+        write(v >>> 24);
+        write(v >>> 16);
+        write(v >>> 8);
+        write(v);
+    }
+
+    private void flush() throws IOException {
+        stream.write(buffer, 0, bufferPos);
+        bufferPos = 0;
+    }
+}
@@ -53,6 +53,22 @@ public class PixelUtils {
                          (xrgb      ) & 0xff);
     }
 
+    // RECIPROCALS[a] is ceil(2^32 / a), so that (x * RECIPROCALS[a]) >>> 32
+    // is exactly x / a for all 0 <= x < 2^16, which covers every
+    // (component * 0xff + alpha / 2) value produced when unpremultiplying
+    private static final long RECIPROCALS[] = new long[256];
+    static {
+        for (int a = 1; a < 256; a++) {
+            RECIPROCALS[a] = ((1L << 32) + a - 1) / a;
+        }
+    }
+
+    // divides x in [0, 0xffff] by alpha in [1, 0xff] with a multiplication,
+    // which is several times cheaper than an integer division
+    public static int divideByAlpha(int x, int alpha) {
+        return (int) ((x * RECIPROCALS[alpha]) >>> 32);
+    }
+
     public static int NonPretoPre(int nonpre, int alpha) {
         if (alpha == 0xff) return nonpre;
         if (alpha == 0x00) return 0;
@@ -61,7 +77,7 @@ public class PixelUtils {
 
     public static int PreToNonPre(int pre, int alpha) {
         if (alpha == 0xff || alpha == 0x00) return pre;
-        return (pre >= alpha) ? 0xff : (pre * 0xff + (alpha >> 1)) / alpha;
+        return (pre >= alpha) ? 0xff : divideByAlpha(pre * 0xff + (alpha >> 1), alpha);
     }
 
     public static int NonPretoPre(int nonpre) {
@@ -84,9 +100,9 @@ public class PixelUtils {
         int g = (pre >>  8) & 0xff;
         int b = (pre      ) & 0xff;
         int halfa = a >> 1;
-        r = (r >= a) ? 0xff : (r * 0xff + halfa) / a;
-        g = (g >= a) ? 0xff : (g * 0xff + halfa) / a;
-        b = (b >= a) ? 0xff : (b * 0xff + halfa) / a;
+        r = (r >= a) ? 0xff : divideByAlpha(r * 0xff + halfa, a);
+        g = (g >= a) ? 0xff : divideByAlpha(g * 0xff + halfa, a);
+        b = (b >= a) ? 0xff : divideByAlpha(b * 0xff + halfa, a);
         return (a << 24) | (r << 16) | (g << 8) | b;
     }
 
@@ -32,7 +32,10 @@ import com.sun.javafx.image.BytePixelSetter;
 import com.sun.javafx.image.ByteToBytePixelConverter;
 import com.sun.javafx.image.ByteToIntPixelConverter;
 import com.sun.javafx.image.PixelUtils;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.IntBuffer;
 
 public class ByteBgra {
@@ -206,6 +209,11 @@ public class ByteBgra {
         static final ByteToIntPixelConverter nonpremul = new ToIntArgbSameConv(false);
         static final ByteToIntPixelConverter    premul = new ToIntArgbSameConv(true);
 
+        private static final VarHandle BYTES_AS_INTS =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+        private static final VarHandle BUFFER_AS_INTS =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
         private ToIntArgbSameConv(boolean isPremult) {
             super(isPremult ? ByteBgraPre.getter : ByteBgra.getter,
                   isPremult ?  IntArgbPre.setter :  IntArgb.setter);
@@ -219,12 +227,10 @@ public class ByteBgra {
             srcscanbytes -= w * 4;
             dstscanints -= w;
             while (--h >= 0) {
+                // the little endian int at each pixel already is its ARGB value
                 for (int x = 0; x < w; x++) {
-                    dstarr[dstoff++] =
-                        ((srcarr[srcoff++] & 0xff)      ) |
-                        ((srcarr[srcoff++] & 0xff) <<  8) |
-                        ((srcarr[srcoff++] & 0xff) << 16) |
-                        ((srcarr[srcoff++]       ) << 24);
+                    dstarr[dstoff++] = (int) BYTES_AS_INTS.get(srcarr, srcoff);
+                    srcoff += 4;
                 }
                 srcoff += srcscanbytes;
                 dstoff += dstscanints;
@@ -239,11 +245,7 @@ public class ByteBgra {
             srcscanbytes -= w * 4;
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    dstbuf.put(dstoff + x,
-                               ((srcbuf.get(srcoff    ) & 0xff)      ) |
-                               ((srcbuf.get(srcoff + 1) & 0xff) <<  8) |
-                               ((srcbuf.get(srcoff + 2) & 0xff) << 16) |
-                               ((srcbuf.get(srcoff + 3)       ) << 24));
+                    dstbuf.put(dstoff + x, (int) BUFFER_AS_INTS.get(srcbuf, srcoff));
                     srcoff += 4;
                 }
                 srcoff += srcscanbytes;
@@ -150,9 +150,9 @@ public class ByteBgraPre {
                     int  a = srcarr[srcoff++] & 0xff;
                     if (a > 0 && a < 0xff) {
                         int halfa = a >> 1;
-                        b = (byte) (((b & 0xff) * 0xff + halfa) / a);
-                        g = (byte) (((g & 0xff) * 0xff + halfa) / a);
-                        r = (byte) (((r & 0xff) * 0xff + halfa) / a);
+                        b = (byte) PixelUtils.divideByAlpha((b & 0xff) * 0xff + halfa, a);
+                        g = (byte) PixelUtils.divideByAlpha((g & 0xff) * 0xff + halfa, a);
+                        r = (byte) PixelUtils.divideByAlpha((r & 0xff) * 0xff + halfa, a);
                     }
                     dstarr[dstoff++] = b;
                     dstarr[dstoff++] = g;
@@ -180,9 +180,9 @@ public class ByteBgraPre {
                     srcoff += 4;
                     if (a > 0 && a < 0xff) {
                         int halfa = a >> 1;
-                        b = (byte) (((b & 0xff) * 0xff + halfa) / a);
-                        g = (byte) (((g & 0xff) * 0xff + halfa) / a);
-                        r = (byte) (((r & 0xff) * 0xff + halfa) / a);
+                        b = (byte) PixelUtils.divideByAlpha((b & 0xff) * 0xff + halfa, a);
+                        g = (byte) PixelUtils.divideByAlpha((g & 0xff) * 0xff + halfa, a);
+                        r = (byte) PixelUtils.divideByAlpha((r & 0xff) * 0xff + halfa, a);
                     }
                     dstbuf.put(dstoff    , b);
                     dstbuf.put(dstoff + 1, g);
@@ -219,9 +219,9 @@ public class ByteBgraPre {
                     int a = srcarr[srcoff++] & 0xff;
                     if (a > 0 && a < 0xff) {
                         int halfa = a >> 1;
-                        r = (r * 0xff + halfa) / a;
-                        g = (g * 0xff + halfa) / a;
-                        b = (b * 0xff + halfa) / a;
+                        r = PixelUtils.divideByAlpha(r * 0xff + halfa, a);
+                        g = PixelUtils.divideByAlpha(g * 0xff + halfa, a);
+                        b = PixelUtils.divideByAlpha(b * 0xff + halfa, a);
                     }
                     dstarr[dstoff++] =
                         (a << 24) | (r << 16) | (g << 8) | b;
@@ -246,9 +246,9 @@ public class ByteBgraPre {
                     srcoff += 4;
                     if (a > 0 && a < 0xff) {
                         int halfa = a >> 1;
-                        r = (r * 0xff + halfa) / a;
-                        g = (g * 0xff + halfa) / a;
-                        b = (b * 0xff + halfa) / a;
+                        r = PixelUtils.divideByAlpha(r * 0xff + halfa, a);
+                        g = PixelUtils.divideByAlpha(g * 0xff + halfa, a);
+                        b = PixelUtils.divideByAlpha(b * 0xff + halfa, a);
                     }
                     dstbuf.put(dstoff + x, (a << 24) | (r << 16) | (g << 8) | b);
                 }
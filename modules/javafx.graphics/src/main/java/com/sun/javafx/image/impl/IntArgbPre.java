@@ -141,9 +141,9 @@ public class IntArgbPre {
                     int a = pixel >>> 24;
                     if (a > 0 && a < 0xff) {
                         int halfa = a >> 1;
-                        int r = (((pixel >> 16) & 0xff) * 0xff + halfa) / a;
-                        int g = (((pixel >>  8) & 0xff) * 0xff + halfa) / a;
-                        int b = (((pixel      ) & 0xff) * 0xff + halfa) / a;
+                        int r = PixelUtils.divideByAlpha(((pixel >> 16) & 0xff) * 0xff + halfa, a);
+                        int g = PixelUtils.divideByAlpha(((pixel >>  8) & 0xff) * 0xff + halfa, a);
+                        int b = PixelUtils.divideByAlpha(((pixel      ) & 0xff) * 0xff + halfa, a);
                         pixel = (a << 24) | (r << 16) | (g << 8) | b;
                     }
                     dstarr[dstoff++] = pixel;
@@ -164,9 +164,9 @@ public class IntArgbPre {
                     int a = pixel >>> 24;
                     if (a > 0 && a < 0xff) {
                         int halfa = a >> 1;
-                        int r = (((pixel >> 16) & 0xff) * 0xff + halfa) / a;
-                        int g = (((pixel >>  8) & 0xff) * 0xff + halfa) / a;
-                        int b = (((pixel      ) & 0xff) * 0xff + halfa) / a;
+                        int r = PixelUtils.divideByAlpha(((pixel >> 16) & 0xff) * 0xff + halfa, a);
+                        int g = PixelUtils.divideByAlpha(((pixel >>  8) & 0xff) * 0xff + halfa, a);
+                        int b = PixelUtils.divideByAlpha(((pixel      ) & 0xff) * 0xff + halfa, a);
                         pixel = (a << 24) | (r << 16) | (g << 8) | b;
                     }
                     dstbuf.put(dstoff + x, pixel);
@@ -201,9 +201,9 @@ public class IntArgbPre {
                     int b = (pixel      ) & 0xff;
                     if (a > 0 && a < 0xff) {
                         int halfa = a >> 1;
-                        r = (r * 0xff + halfa) / a;
-                        g = (g * 0xff + halfa) / a;
-                        b = (b * 0xff + halfa) / a;
+                        r = PixelUtils.divideByAlpha(r * 0xff + halfa, a);
+                        g = PixelUtils.divideByAlpha(g * 0xff + halfa, a);
+                        b = PixelUtils.divideByAlpha(b * 0xff + halfa, a);
                     }
                     dstarr[dstoff++] = (byte) b;
                     dstarr[dstoff++] = (byte) g;
@@ -230,9 +230,9 @@ public class IntArgbPre {
                     int b = (pixel      ) & 0xff;
                     if (a > 0 && a < 0xff) {
                         int halfa = a >> 1;
-                        r = (r * 0xff + halfa) / a;
-                        g = (g * 0xff + halfa) / a;
-                        b = (b * 0xff + halfa) / a;
+                        r = PixelUtils.divideByAlpha(r * 0xff + halfa, a);
+                        g = PixelUtils.divideByAlpha(g * 0xff + halfa, a);
+                        b = PixelUtils.divideByAlpha(b * 0xff + halfa, a);
                     }
                     dstbuf.put(dstoff    , (byte) b);
                     dstbuf.put(dstoff + 1, (byte) g);
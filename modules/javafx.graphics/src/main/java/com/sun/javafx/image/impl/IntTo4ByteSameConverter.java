@@ -25,13 +25,22 @@
 
 package com.sun.javafx.image.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.IntBuffer;
 import com.sun.javafx.image.BytePixelSetter;
 import com.sun.javafx.image.IntPixelGetter;
 
 class IntTo4ByteSameConverter extends BaseIntToByteConverter {
 
+    // each pixel is stored as the little endian form of its int value
+    private static final VarHandle BYTES_AS_INTS =
+        MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_AS_INTS =
+        MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
     IntTo4ByteSameConverter(IntPixelGetter getter, BytePixelSetter setter) {
         super(getter, setter);
     }
@@ -45,11 +54,8 @@ class IntTo4ByteSameConverter extends BaseIntToByteConverter {
         dstscanbytes -= w * 4;
         while (--h >= 0) {
             for (int x = 0; x < w; x++) {
-                int pixel = srcarr[srcoff++];
-                dstarr[dstoff++] = (byte) (pixel      );
-                dstarr[dstoff++] = (byte) (pixel >>  8);
-                dstarr[dstoff++] = (byte) (pixel >> 16);
-                dstarr[dstoff++] = (byte) (pixel >> 24);
+                BYTES_AS_INTS.set(dstarr, dstoff, srcarr[srcoff++]);
+                dstoff += 4;
             }
             srcoff += srcscanints;
             dstoff += dstscanbytes;
@@ -64,11 +70,7 @@ class IntTo4ByteSameConverter extends BaseIntToByteConverter {
         dstscanbytes -= w * 4;
         while (--h >= 0) {
             for (int x = 0; x < w; x++) {
-                int pixel = srcbuf.get(srcoff + x);
-                dstbuf.put(dstoff    , (byte) (pixel      ));
-                dstbuf.put(dstoff + 1, (byte) (pixel >>  8));
-                dstbuf.put(dstoff + 2, (byte) (pixel >> 16));
-                dstbuf.put(dstoff + 3, (byte) (pixel >> 24));
+                BUFFER_AS_INTS.set(dstbuf, dstoff, srcbuf.get(srcoff + x));
                 dstoff += 4;
             }
             srcoff += srcscanints;
@@ -113,6 +113,9 @@ public class NGCanvas extends NGNode {
     public static final byte STROKE_ARC        = OP_BASE + 9;
     public static final byte FILL_TEXT         = OP_BASE + 10;
     public static final byte STROKE_TEXT       = OP_BASE + 11;
+    public static final byte FILL_RECTS        = OP_BASE + 12;
+    public static final byte STROKE_LINES      = OP_BASE + 13;
+    public static final byte FILL_POINTS       = OP_BASE + 14;
 
     public static final byte                PATH_BASE = 40;
     public static final byte PATHSTART    = PATH_BASE + 0;
@@ -130,6 +133,7 @@ public class NGCanvas extends NGNode {
     public static final byte DRAW_SUBIMAGE   = IMG_BASE + 1;
     public static final byte PUT_ARGB        = IMG_BASE + 2;
     public static final byte PUT_ARGBPRE_BUF = IMG_BASE + 3;
+    public static final byte DRAW_PICTURE    = IMG_BASE + 4;
 
     public static final byte                   FX_BASE = 60;
     public static final byte FX_APPLY_EFFECT = FX_BASE + 0;
@@ -137,6 +141,7 @@ public class NGCanvas extends NGNode {
     public static final byte                   UTIL_BASE = 70;
     public static final byte RESET           = UTIL_BASE + 0;
     public static final byte SET_DIMS        = UTIL_BASE + 1;
+    public static final byte RESET_ATTRS     = UTIL_BASE + 2;
 
     public static final byte CAP_BUTT   = 0;
     public static final byte CAP_ROUND  = 1;
@@ -313,8 +318,14 @@ public class NGCanvas extends NGNode {
     private static Blend BLENDER = new MyBlend(Mode.SRC_OVER, null, null);
 
     private GrowableDataBuffer thebuf;
+    private BaseBounds damageBounds = new RectBounds();
 
     private final float highestPixelScale;
+    // Maps canvas coordinates to the pixels of the texture: a scale by
+    // highestPixelScale, or any transform for the raster of a picture.
+    private final Affine2D pixelTransform;
+    private final boolean isPictureRaster;
+    private float pictureWidth, pictureHeight;
     private int tw, th;
     private int cw, ch;
     private RenderBuf cv;
@@ -353,14 +364,30 @@ public class NGCanvas extends NGNode {
     private static RectBounds TEMP_RECTBOUNDS = new RectBounds();
 
     public NGCanvas() {
-        Toolkit tk = Toolkit.getToolkit();
-        ScreenConfigurationAccessor screenAccessor = tk.getScreenConfigurationAccessor();
-        float hPS = 1.0f;
-        for (Object screen : tk.getScreens()) {
-            hPS = Math.max(screenAccessor.getRecommendedOutputScaleX(screen), hPS);
-            hPS = Math.max(screenAccessor.getRecommendedOutputScaleY(screen), hPS);
-        }
-        highestPixelScale = (float) Math.ceil(hPS);
+        this(getHighestPixelScale());
+    }
+
+    private NGCanvas(float pixelScale) {
+        this(BaseTransform.getScaleInstance(pixelScale, pixelScale), pixelScale, false);
+    }
+
+    // Creates a canvas that rasterizes a picture of the given size with the
+    // given transform into a texture just large enough to hold the result,
+    // used to cache the pixels of an NGCanvasPicture as they are drawn.
+    NGCanvas(BaseTransform pixelTransform, float w, float h) {
+        this(pixelTransform, (float) Math.sqrt(Math.abs(pixelTransform.getDeterminant())), true);
+        RectBounds bounds = new RectBounds(0, 0, w, h);
+        pixelTransform.transform(bounds, bounds);
+        this.pictureWidth = w;
+        this.pictureHeight = h;
+        this.tw = (int) Math.ceil(bounds.getMaxX());
+        this.th = (int) Math.ceil(bounds.getMaxY());
+    }
+
+    private NGCanvas(BaseTransform pixelTransform, float pixelScale, boolean isPictureRaster) {
+        this.pixelTransform = new Affine2D(pixelTransform);
+        this.isPictureRaster = isPictureRaster;
+        highestPixelScale = pixelScale;
 
         cv = new RenderBuf(InitType.PRESERVE_UPPER_LEFT);
         temp = new RenderBuf(InitType.CLEAR);
@@ -374,6 +401,17 @@ public class NGCanvas extends NGNode {
         initAttributes();
     }
 
+    private static float getHighestPixelScale() {
+        Toolkit tk = Toolkit.getToolkit();
+        ScreenConfigurationAccessor screenAccessor = tk.getScreenConfigurationAccessor();
+        float hPS = 1.0f;
+        for (Object screen : tk.getScreens()) {
+            hPS = Math.max(screenAccessor.getRecommendedOutputScaleX(screen), hPS);
+            hPS = Math.max(screenAccessor.getRecommendedOutputScaleY(screen), hPS);
+        }
+        return (float) Math.ceil(hPS);
+    }
+
     private void initAttributes() {
         globalAlpha = 1.0f;
         blendmode = Mode.SRC_OVER;
@@ -394,7 +432,7 @@ public class NGCanvas extends NGNode {
         imageSmoothing = true;
         align = ALIGN_LEFT;
         baseline = VPos.BASELINE.ordinal();
-        transform.setToScale(highestPixelScale, highestPixelScale);
+        transform.setTransform(pixelTransform);
         clipStack.clear();
         resetClip(false);
     }
@@ -819,7 +857,17 @@ public class NGCanvas extends NGNode {
                     this.ch = this.th;
                     clearCanvas(0, 0, this.tw, this.th);
                     break;
+                case RESET_ATTRS:
+                    // like RESET, but keeps the pixels of the canvas
+                    initAttributes();
+                    break;
                 case SET_DIMS:
+                    if (isPictureRaster) {
+                        // the texture of a picture always holds all of it
+                        buf.getFloat();
+                        buf.getFloat();
+                        break;
+                    }
                     int neww = (int) Math.ceil(buf.getFloat() * highestPixelScale);
                     int newh = (int) Math.ceil(buf.getFloat() * highestPixelScale);
                     int clearx = Math.min(neww, this.cw);
@@ -863,17 +911,16 @@ public class NGCanvas extends NGNode {
                     path.closePath();
                     break;
                 case PATHEND:
-                    if (highestPixelScale != 1.0f) {
-                        TEMP_TX.setToScale(highestPixelScale, highestPixelScale);
-                        path.transform(TEMP_TX);
+                    if (!pixelTransform.isIdentity()) {
+                        path.transform(pixelTransform);
                     }
                     break;
                 case PUSH_CLIP:
                 {
                     Path2D clippath = (Path2D) buf.getObject();
-                    if (highestPixelScale != 1.0f) {
-                        TEMP_TX.setToScale(highestPixelScale, highestPixelScale);
-                        clippath.transform(TEMP_TX);
+                    if (!pixelTransform.isIdentity()) {
+                        // transform a copy, the same path is replayed by pictures
+                        clippath = new Path2D(clippath, pixelTransform);
                     }
                     clipStack.addLast(clippath);
                     break;
@@ -901,9 +948,16 @@ public class NGCanvas extends NGNode {
                     Graphics gr = cv.g;
                     gr.setExtraAlpha(1.0f);
                     gr.setCompositeMode(CompositeMode.SRC);
-                    gr.setTransform(BaseTransform.IDENTITY_TRANSFORM);
-                    dx1 *= highestPixelScale;
-                    dy1 *= highestPixelScale;
+                    float size;
+                    if (isPictureRaster) {
+                        gr.setTransform(pixelTransform);
+                        size = 1.0f;
+                    } else {
+                        gr.setTransform(BaseTransform.IDENTITY_TRANSFORM);
+                        dx1 *= highestPixelScale;
+                        dy1 *= highestPixelScale;
+                        size = highestPixelScale;
+                    }
                     float a = ((argb) >>> 24) / 255.0f;
                     float r = (((argb) >> 16) & 0xff) / 255.0f;
                     float g = (((argb) >>  8) & 0xff) / 255.0f;
@@ -913,7 +967,7 @@ public class NGCanvas extends NGNode {
                     // mode does not interact well with antialiasing.
                     // fillQuad does hard edges which matches the concept
                     // of setting adjacent abutting, non-overlapping "pixels"
-                    gr.fillQuad(dx1, dy1, dx1+highestPixelScale, dy1+highestPixelScale);
+                    gr.fillQuad(dx1, dy1, dx1+size, dy1+size);
                     gr.setCompositeMode(CompositeMode.SRC_OVER);
                     break;
                 }
@@ -929,14 +983,18 @@ public class NGCanvas extends NGNode {
                     ResourceFactory factory = gr.getResourceFactory();
                     Texture tex =
                         factory.getCachedTexture(img, Texture.WrapMode.CLAMP_TO_EDGE);
-                    gr.setTransform(BaseTransform.IDENTITY_TRANSFORM);
                     gr.setCompositeMode(CompositeMode.SRC);
                     float dx2 = dx1 + w;
                     float dy2 = dy1 + h;
-                    dx1 *= highestPixelScale;
-                    dy1 *= highestPixelScale;
-                    dx2 *= highestPixelScale;
-                    dy2 *= highestPixelScale;
+                    if (isPictureRaster) {
+                        gr.setTransform(pixelTransform);
+                    } else {
+                        gr.setTransform(BaseTransform.IDENTITY_TRANSFORM);
+                        dx1 *= highestPixelScale;
+                        dy1 *= highestPixelScale;
+                        dx2 *= highestPixelScale;
+                        dy2 *= highestPixelScale;
+                    }
                     gr.drawTexture(tex,
                                    dx1, dy1, dx2, dy2,
                                    0, 0, w, h);
@@ -947,13 +1005,20 @@ public class NGCanvas extends NGNode {
                 }
                 case TRANSFORM:
                 {
-                    double mxx = buf.getDouble() * highestPixelScale;
-                    double mxy = buf.getDouble() * highestPixelScale;
-                    double mxt = buf.getDouble() * highestPixelScale;
-                    double myx = buf.getDouble() * highestPixelScale;
-                    double myy = buf.getDouble() * highestPixelScale;
-                    double myt = buf.getDouble() * highestPixelScale;
-                    transform.setTransform(mxx, myx, mxy, myy, mxt, myt);
+                    double mxx = buf.getDouble();
+                    double mxy = buf.getDouble();
+                    double mxt = buf.getDouble();
+                    double myx = buf.getDouble();
+                    double myy = buf.getDouble();
+                    double myt = buf.getDouble();
+                    if (isPictureRaster) {
+                        transform.setTransform(pixelTransform);
+                        transform.concatenate(mxx, mxy, mxt, myx, myy, myt);
+                    } else {
+                        transform.setTransform(mxx * highestPixelScale, myx * highestPixelScale,
+                                               mxy * highestPixelScale, myy * highestPixelScale,
+                                               mxt * highestPixelScale, myt * highestPixelScale);
+                    }
                     inversedirty = true;
                     break;
                 }
@@ -1054,8 +1119,12 @@ public class NGCanvas extends NGNode {
                 case STROKE_ARC:
                 case DRAW_IMAGE:
                 case DRAW_SUBIMAGE:
+                case DRAW_PICTURE:
                 case FILL_TEXT:
                 case STROKE_TEXT:
+                case FILL_RECTS:
+                case STROKE_LINES:
+                case FILL_POINTS:
                 {
                     RenderBuf dest;
                     boolean tempvalidated;
@@ -1166,6 +1235,38 @@ public class NGCanvas extends NGNode {
         }
     }
 
+    static void batchBounds(int token, float coords[], int n, float size,
+                            RectBounds bounds)
+    {
+        float minx = Float.POSITIVE_INFINITY, miny = Float.POSITIVE_INFINITY;
+        float maxx = Float.NEGATIVE_INFINITY, maxy = Float.NEGATIVE_INFINITY;
+        if (token == FILL_POINTS) {
+            for (int i = 0; i < n * 2; i += 2) {
+                minx = Math.min(minx, coords[i]);
+                miny = Math.min(miny, coords[i+1]);
+                maxx = Math.max(maxx, coords[i]);
+                maxy = Math.max(maxy, coords[i+1]);
+            }
+            float half = size / 2f;
+            bounds.setBounds(minx - half, miny - half, maxx + half, maxy + half);
+            return;
+        }
+        for (int i = 0; i < n * 4; i += 4) {
+            float x1 = coords[i], y1 = coords[i+1];
+            float x2 = coords[i+2], y2 = coords[i+3];
+            if (token == FILL_RECTS) {
+                // x2, y2 are the width and height, which may be negative
+                x2 += x1;
+                y2 += y1;
+            }
+            minx = Math.min(minx, Math.min(x1, x2));
+            miny = Math.min(miny, Math.min(y1, y2));
+            maxx = Math.max(maxx, Math.max(x1, x2));
+            maxy = Math.max(maxy, Math.max(y1, y2));
+        }
+        bounds.setBounds(minx, miny, maxx, maxy);
+    }
+
     /**
      * Calculate bounds and/or render one single rendering operation.
      * All of the data for the rendering operation should be consumed
@@ -1263,6 +1364,45 @@ public class NGCanvas extends NGNode {
                 }
                 break;
             }
+            case STROKE_LINES:
+            case FILL_RECTS:
+            case FILL_POINTS:
+            {
+                strokeBounds = (token == STROKE_LINES);
+                // The batch shares a single clip, blend and effect setup
+                // and the primitives are queued into the same vertex batch.
+                float size = (token == FILL_POINTS) ? buf.getFloat() : 0f;
+                int n = buf.getInt();
+                float coords[] = (float[]) buf.getObject();
+                if (bounds != null) {
+                    batchBounds(token, coords, n, size, bounds);
+                    transformBounds = true;
+                }
+                if (gr != null) {
+                    switch (token) {
+                        case FILL_RECTS:
+                            setupFill(gr);
+                            for (int i = 0; i < n * 4; i += 4) {
+                                gr.fillRect(coords[i], coords[i+1], coords[i+2], coords[i+3]);
+                            }
+                            break;
+                        case STROKE_LINES:
+                            setupStroke(gr);
+                            for (int i = 0; i < n * 4; i += 4) {
+                                gr.drawLine(coords[i], coords[i+1], coords[i+2], coords[i+3]);
+                            }
+                            break;
+                        case FILL_POINTS:
+                            setupFill(gr);
+                            float half = size / 2f;
+                            for (int i = 0; i < n * 2; i += 2) {
+                                gr.fillRect(coords[i] - half, coords[i+1] - half, size, size);
+                            }
+                            break;
+                    }
+                }
+                break;
+            }
             case STROKE_ROUND_RECT:
                 strokeBounds = true;
             case FILL_ROUND_RECT:
@@ -1365,6 +1505,22 @@ public class NGCanvas extends NGNode {
                 }
                 break;
             }
+            case DRAW_PICTURE:
+            {
+                NGCanvasPicture picture = (NGCanvasPicture) buf.getObject();
+                float w = picture.getWidth();
+                float h = picture.getHeight();
+                if (gr != null) {
+                    // may rasterize the picture, which uses the shared
+                    // temporary bounds, so it is done before setting them
+                    picture.render(gr);
+                }
+                if (bounds != null) {
+                    bounds.setBounds(0, 0, w, h);
+                    transformBounds = true;
+                }
+                break;
+            }
             case FILL_TEXT:
             case STROKE_TEXT:
             {
@@ -1530,6 +1686,54 @@ public class NGCanvas extends NGNode {
         }
     }
 
+    // Renders any pending commands and returns the texture holding the
+    // pixels of this canvas, or null if it is empty.
+    RTTexture renderToTexture(Graphics g) {
+        initCanvas(g);
+        if (cv.tex != null && thebuf != null) {
+            renderStream(thebuf);
+            GrowableDataBuffer.returnBuffer(thebuf);
+            thebuf = null;
+            if (isPictureRaster) {
+                clearOutsidePicture();
+            }
+            cv.save(tw, th);
+        }
+        this.temp.g = this.clip.g = this.cv.g = null;
+        return cv.tex;
+    }
+
+    // The commands of a picture are clipped to its bounds, which need not be
+    // aligned with the pixels of its texture when it is rotated, skewed or
+    // drawn at a fractional position, so erase whatever was drawn outside.
+    private void clearOutsidePicture() {
+        Path2D outside = new Path2D(Path2D.WIND_EVEN_ODD);
+        outside.append(new RoundRectangle2D(0, 0, tw, th, 0, 0), false);
+        outside.append(new Path2D(new RoundRectangle2D(0, 0, pictureWidth, pictureHeight, 0, 0),
+                                  pixelTransform), false);
+        Graphics gr = cv.g;
+        gr.setTransform(BaseTransform.IDENTITY_TRANSFORM);
+        gr.setExtraAlpha(1.0f);
+        gr.setPaint(Color.BLACK);
+        gr.setCompositeMode(CompositeMode.DST_OUT);
+        gr.fill(outside);
+        gr.setCompositeMode(CompositeMode.SRC_OVER);
+    }
+
+    int getTextureWidth() {
+        return tw;
+    }
+
+    int getTextureHeight() {
+        return th;
+    }
+
+    void disposeBuffers() {
+        cv.dispose();
+        temp.dispose();
+        clip.dispose();
+    }
+
     public void updateBounds(float w, float h) {
         this.tw = (int) Math.ceil(w * highestPixelScale);
         this.th = (int) Math.ceil(h * highestPixelScale);
@@ -1542,6 +1746,14 @@ public class NGCanvas extends NGNode {
     // detects a full-canvas clear command even if it looks like it
     // is superfluous.
     public boolean updateRendering(GrowableDataBuffer buf) {
+        return updateRendering(buf, null);
+    }
+
+    // The damage is the area of the canvas, in local coordinates, that the
+    // new commands may change, or null if they may change all of it. Only
+    // that area is added to the dirty region of the scene unless the stream
+    // starts with a RESET, which clears the whole canvas.
+    public boolean updateRendering(GrowableDataBuffer buf, RectBounds damage) {
         if (buf.isEmpty()) {
             GrowableDataBuffer.returnBuffer(buf);
             return (this.thebuf != null);
@@ -1555,7 +1767,11 @@ public class NGCanvas extends NGNode {
             this.thebuf.append(buf);
             retbuf = buf;
         }
-        geometryChanged();
+        if (reset || damage == null) {
+            geometryChanged();
+        } else {
+            contentsDamaged(damage);
+        }
         if (retbuf != null) {
             GrowableDataBuffer.returnBuffer(retbuf);
             return true;
@@ -1563,6 +1779,31 @@ public class NGCanvas extends NGNode {
         return false;
     }
 
+    private void contentsDamaged(RectBounds damage) {
+        if (damage.isEmpty()) {
+            // only attributes changed, they will be rendered along with
+            // the next commands that touch any pixels
+            return;
+        }
+        if (getEffectFilter() != null) {
+            // the effect may spread the damage beyond its own bounds
+            geometryChanged();
+            return;
+        }
+        invalidateCache();
+        // An empty dirtyBounds on a dirty node already stands for all of
+        // its transformed bounds, which covers the damage.
+        if (dirty == DirtyFlag.CLEAN || !dirtyBounds.isEmpty()) {
+            damageBounds = getTransform().transform(damage, damageBounds);
+            if (dirtyBounds.isEmpty()) {
+                dirtyBounds = dirtyBounds.deriveWithNewBounds(damageBounds);
+            } else {
+                dirtyBounds = dirtyBounds.deriveWithUnion(damageBounds);
+            }
+        }
+        markDirty();
+    }
+
     class RenderInput extends Effect {
         float x, y, w, h;
         int token;
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.sg.prism;
+
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.transform.Affine2D;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.prism.Graphics;
+import com.sun.prism.RTTexture;
+import com.sun.prism.impl.Disposer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The render-side peer of a recorded canvas display list. The recorded
+ * commands are immutable and may be drawn into any number of canvases.
+ * The picture keeps the pixels of its last few rasterizations, each made
+ * with the exact transform it was drawn with up to a whole pixel translation,
+ * and only replays the commands again when it is drawn with another one.
+ */
+public class NGCanvasPicture {
+    // The number of rasterizations kept, enough for a picture that is drawn
+    // with a few transforms in every frame.
+    private static final int MAX_RASTERS = 3;
+    // Transforms that differ by less than this are considered the same.
+    private static final double TOLERANCE = 1e-3;
+
+    private final float width;
+    private final float height;
+    private final GrowableDataBuffer commands;
+    private final RasterCache rasters = new RasterCache();
+
+    public NGCanvasPicture(float width, float height, GrowableDataBuffer commands) {
+        this.width = width;
+        this.height = height;
+        this.commands = commands;
+        // The textures are locked for as long as they are cached, so release
+        // them as soon as the picture can no longer be drawn.
+        Disposer.addRecord(this, rasters);
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    void render(Graphics g) {
+        if (commands == null || width <= 0 || height <= 0) {
+            return;
+        }
+        BaseTransform tx = g.getTransformNoClone();
+        RectBounds bounds = new RectBounds(0, 0, width, height);
+        tx.transform(bounds, bounds);
+        int x = (int) Math.floor(bounds.getMinX());
+        int y = (int) Math.floor(bounds.getMinY());
+        int maxSize = g.getResourceFactory().getMaximumTextureSize();
+        if (Math.ceil(bounds.getMaxX()) - x > maxSize ||
+            Math.ceil(bounds.getMaxY()) - y > maxSize)
+        {
+            renderScaled(g, tx, maxSize);
+            return;
+        }
+        // The raster holds the pixels of the picture as they appear on the
+        // destination, translated by whole pixels to the origin of the texture.
+        Affine2D pixelTransform = new Affine2D();
+        pixelTransform.setToTranslation(-x, -y);
+        pixelTransform.concatenate(tx);
+        NGCanvas raster = getRaster(pixelTransform, width, height);
+        RTTexture tex = raster.renderToTexture(g);
+        if (tex != null) {
+            Affine2D saved = new Affine2D(tx);
+            g.setTransform(BaseTransform.getTranslateInstance(x, y));
+            g.drawTexture(tex, 0, 0, raster.getTextureWidth(), raster.getTextureHeight());
+            g.setTransform(saved);
+        }
+    }
+
+    // Draws a picture too large to rasterize with the full transform from a
+    // raster at the largest scale that fits, resampled by the transform.
+    private void renderScaled(Graphics g, BaseTransform tx, int maxSize) {
+        double sx = Math.hypot(tx.getMxx(), tx.getMyx());
+        double sy = Math.hypot(tx.getMxy(), tx.getMyy());
+        float scale = (float) Math.min(Math.max(sx, sy), maxSize / Math.max(width, height));
+        if (!(scale > 0)) {
+            return;
+        }
+        NGCanvas raster = getRaster(BaseTransform.getScaleInstance(scale, scale),
+                                    width, height);
+        RTTexture tex = raster.renderToTexture(g);
+        if (tex != null) {
+            int tw = raster.getTextureWidth();
+            int th = raster.getTextureHeight();
+            g.drawTexture(tex,
+                          0, 0, tw / scale, th / scale,
+                          0, 0, tw, th);
+        }
+    }
+
+    private NGCanvas getRaster(BaseTransform pixelTransform, float w, float h) {
+        List<Raster> list = rasters.list;
+        for (int i = 0; i < list.size(); i++) {
+            Raster r = list.get(i);
+            if (r.matches(pixelTransform)) {
+                if (i > 0) {
+                    list.remove(i);
+                    list.add(0, r);
+                }
+                return r.canvas;
+            }
+        }
+        if (list.size() >= MAX_RASTERS) {
+            list.remove(list.size() - 1).canvas.disposeBuffers();
+        }
+        Raster r = new Raster(pixelTransform, new NGCanvas(pixelTransform, w, h));
+        GrowableDataBuffer buf =
+            GrowableDataBuffer.getBuffer(commands.writeValuePosition(),
+                                         commands.writeObjectPosition());
+        buf.append(commands);
+        r.canvas.updateRendering(buf);
+        list.add(0, r);
+        return r.canvas;
+    }
+
+    int getRasterCount() {
+        return rasters.list.size();
+    }
+
+    private static final class Raster {
+        private final Affine2D pixelTransform;
+        private final NGCanvas canvas;
+
+        Raster(BaseTransform pixelTransform, NGCanvas canvas) {
+            this.pixelTransform = new Affine2D(pixelTransform);
+            this.canvas = canvas;
+        }
+
+        boolean matches(BaseTransform tx) {
+            return Math.abs(pixelTransform.getMxx() - tx.getMxx()) < TOLERANCE &&
+                   Math.abs(pixelTransform.getMxy() - tx.getMxy()) < TOLERANCE &&
+                   Math.abs(pixelTransform.getMxt() - tx.getMxt()) < TOLERANCE &&
+                   Math.abs(pixelTransform.getMyx() - tx.getMyx()) < TOLERANCE &&
+                   Math.abs(pixelTransform.getMyy() - tx.getMyy()) < TOLERANCE &&
+                   Math.abs(pixelTransform.getMyt() - tx.getMyt()) < TOLERANCE;
+        }
+    }
+
+    // Accessed on the render thread only, by render and by the Disposer.
+    private static final class RasterCache implements Disposer.Record {
+        private final List<Raster> list = new ArrayList<>();
+
+        @Override
+        public void dispose() {
+            for (Raster r : list) {
+                r.canvas.disposeBuffers();
+            }
+            list.clear();
+        }
+    }
+}
@@ -68,6 +68,12 @@ public class NGGroup extends NGNode {
      */
     private final List<NGNode> viewOrderChildren = new ArrayList<>(1);
 
+    /**
+     * Fills runs of plain shapes among the children together, created when
+     * the group first renders two or more children.
+     */
+    private ShapeInstances shapeInstances;
+
     /**
      * This mask has all bits that mark that a region intersects this group.
      * Which means it looks like this: 00010101010101010101010101010101 (first bit for sign)
@@ -258,7 +264,17 @@ public class NGGroup extends NGNode {
         if (blendMode == Blend.Mode.SRC_OVER ||
                 orderedChildren.size() < 2) {  // Blend modes only work "between" siblings
 
+            if (shapeInstances == null && orderedChildren.size() > 1) {
+                shapeInstances = new ShapeInstances();
+            }
             for (int i = startPos; i < orderedChildren.size(); i++) {
+                if (shapeInstances != null) {
+                    int next = shapeInstances.render(g, orderedChildren, i);
+                    if (next > i) {
+                        i = next - 1;
+                        continue;
+                    }
+                }
                 NGNode child;
                 try {
                     child = orderedChildren.get(i);
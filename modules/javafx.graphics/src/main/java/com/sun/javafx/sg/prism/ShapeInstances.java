@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.sg.prism;
+
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+
+import java.util.Arrays;
+import java.util.List;
+import com.sun.javafx.geom.Ellipse2D;
+import com.sun.javafx.geom.RoundRectangle2D;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.logging.PulseLogger;
+import com.sun.prism.BasicStroke;
+import com.sun.prism.Graphics;
+import com.sun.prism.PrinterGraphics;
+import com.sun.prism.impl.PrismSettings;
+import com.sun.prism.paint.Color;
+
+/**
+ * Fills runs of sibling circles, ellipses and rectangles that are filled with
+ * a plain color and only translated with a single {@link Graphics#fillEllipses}
+ * or {@link Graphics#fillRects} call. Each shape of a run becomes one instance
+ * of the batch, with its translation folded into its bounds, so that scenes
+ * with thousands of such shapes skip the transform, filter and shape rep work
+ * of rendering every node, and the pipeline validates its state once per run.
+ * The shapes are filled in the order of the children, so the result is the
+ * same as rendering them one by one.
+ * <p>
+ * Shapes that are also stroked with a plain color are queued in groups of up
+ * to {@link #QUEUE_SIZE}. The order in which shapes are painted only matters
+ * where they overlap, so when no two shapes of a group overlap, all of the
+ * fills of the group are drawn first and all of the strokes after them, which
+ * lets the pipeline keep the same shader for each instead of switching, and
+ * flushing its vertices, twice per shape. The shapes of a group that overlap
+ * are filled and stroked one after the other as usual.
+ */
+final class ShapeInstances {
+    private static final int NONE = 0;
+    private static final int ELLIPSE = 1;
+    private static final int RECT = 2;
+
+    // runs shorter than this are rendered node by node
+    private static final int MIN_RUN = 2;
+
+    // the number of stroked shapes that are checked for overlaps together
+    static final int QUEUE_SIZE = 256;
+
+    private float[] bounds;
+    private Color[] colors;
+    private Color[] strokeColors;
+    private BasicStroke[] strokes;
+
+    // the fills of a group that is drawn fills first
+    private float[] fillBounds;
+    private Color[] fillColors;
+    // the bounds of the shapes of a group, padded by their stroke and
+    // antialiasing, and their indices sorted by the left edge
+    private float[] boxes;
+    private long[] sorted;
+
+    /**
+     * Renders the run of shapes that starts at the given child and returns
+     * the index of the first child after it, or {@code from} if there is no
+     * run to batch there.
+     */
+    int render(Graphics g, List<NGNode> children, int from) {
+        if (!canBatch(g)) {
+            return from;
+        }
+        final boolean depthTest = g.isDepthTest();
+        final int type = getType(getChild(children, from), depthTest);
+        if (type == NONE) {
+            return from;
+        }
+        int to = from + 1;
+        while (getType(getChild(children, to), depthTest) == type) {
+            to++;
+        }
+        if (to - from < MIN_RUN) {
+            return from;
+        }
+
+        final int count = to - from;
+        if (bounds == null || bounds.length < count * 4) {
+            final int capacity = Math.max(count, 16);
+            bounds = new float[capacity * 4];
+            colors = new Color[capacity];
+            strokeColors = new Color[capacity];
+            strokes = new BasicStroke[capacity];
+        }
+        int n = 0;
+        boolean stroked = false;
+        for (int i = from; i < to; i++) {
+            final NGShape shape = (NGShape) children.get(i);
+            if (PULSE_LOGGING_ENABLED) {
+                PulseLogger.incrementCounter("Nodes visited during render");
+            }
+            shape.clearDirty();
+            if (!shape.isVisible() || shape.getOpacity() == 0f || isCulled(g, shape)) {
+                continue;
+            }
+            final NGShape.Mode mode = shape.getMode();
+            final boolean hasStroke =
+                    mode != NGShape.Mode.FILL && shape.drawStroke.getLineWidth() > 0;
+            if (mode == NGShape.Mode.STROKE && !hasStroke) {
+                // a stroke of zero width renders nothing, and the shape
+                // must not reach the fills with a null color
+                continue;
+            }
+            final BaseTransform tx = shape.getTransform();
+            final float tx0 = (float) tx.getMxt();
+            final float ty0 = (float) tx.getMyt();
+            if (type == ELLIPSE) {
+                final Ellipse2D e = (Ellipse2D) shape.getShape();
+                bounds[n*4] = e.x + tx0;
+                bounds[n*4+1] = e.y + ty0;
+                bounds[n*4+2] = e.width;
+                bounds[n*4+3] = e.height;
+            } else {
+                final RoundRectangle2D r = (RoundRectangle2D) shape.getShape();
+                bounds[n*4] = r.x + tx0;
+                bounds[n*4+1] = r.y + ty0;
+                bounds[n*4+2] = r.width;
+                bounds[n*4+3] = r.height;
+            }
+            colors[n] = mode != NGShape.Mode.STROKE ? (Color) shape.getFillPaint() : null;
+            if (hasStroke) {
+                strokeColors[n] = (Color) shape.drawPaint;
+                strokes[n] = shape.drawStroke;
+                stroked = true;
+            } else {
+                strokeColors[n] = null;
+                strokes[n] = null;
+            }
+            n++;
+            if (PULSE_LOGGING_ENABLED) {
+                PulseLogger.incrementCounter("Nodes rendered");
+            }
+        }
+
+        if (n > 0) {
+            g.setState3D(false);
+            final boolean saveAA = g.isAntialiasedShape();
+            g.setAntialiasedShape(true);
+            if (!stroked) {
+                fill(g, type, bounds, colors, n);
+            } else {
+                final float pad = getPixelSize(g.getTransformNoClone());
+                for (int start = 0; start < n; start += QUEUE_SIZE) {
+                    final int end = Math.min(n, start + QUEUE_SIZE);
+                    if (pad > 0 && !overlaps(start, end, pad)) {
+                        renderFillsFirst(g, type, start, end);
+                    } else {
+                        renderInOrder(g, type, start, end);
+                    }
+                }
+            }
+            g.setAntialiasedShape(saveAA);
+        }
+        // don't hold on to the paints and strokes of removed nodes
+        Arrays.fill(colors, 0, n, null);
+        Arrays.fill(strokeColors, 0, n, null);
+        Arrays.fill(strokes, 0, n, null);
+        return to;
+    }
+
+    private static void fill(Graphics g, int type, float[] bounds, Color[] colors, int n) {
+        if (type == ELLIPSE) {
+            g.fillEllipses(bounds, colors, n);
+        } else {
+            g.fillRects(bounds, colors, n);
+        }
+    }
+
+    private void renderFillsFirst(Graphics g, int type, int start, int end) {
+        if (fillBounds == null) {
+            fillBounds = new float[QUEUE_SIZE * 4];
+            fillColors = new Color[QUEUE_SIZE];
+        }
+        int fills = 0;
+        for (int i = start; i < end; i++) {
+            if (colors[i] != null) {
+                System.arraycopy(bounds, i * 4, fillBounds, fills * 4, 4);
+                fillColors[fills++] = colors[i];
+            }
+        }
+        if (fills > 0) {
+            fill(g, type, fillBounds, fillColors, fills);
+            Arrays.fill(fillColors, 0, fills, null);
+        }
+        for (int i = start; i < end; i++) {
+            if (strokes[i] != null) {
+                stroke(g, type, i);
+            }
+        }
+    }
+
+    private void renderInOrder(Graphics g, int type, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (colors[i] != null) {
+                g.setPaint(colors[i]);
+                if (type == ELLIPSE) {
+                    g.fillEllipse(bounds[i*4], bounds[i*4+1], bounds[i*4+2], bounds[i*4+3]);
+                } else {
+                    g.fillRect(bounds[i*4], bounds[i*4+1], bounds[i*4+2], bounds[i*4+3]);
+                }
+            }
+            if (strokes[i] != null) {
+                stroke(g, type, i);
+            }
+        }
+    }
+
+    private void stroke(Graphics g, int type, int i) {
+        g.setPaint(strokeColors[i]);
+        g.setStroke(strokes[i]);
+        if (type == ELLIPSE) {
+            g.drawEllipse(bounds[i*4], bounds[i*4+1], bounds[i*4+2], bounds[i*4+3]);
+        } else {
+            g.drawRect(bounds[i*4], bounds[i*4+1], bounds[i*4+2], bounds[i*4+3]);
+        }
+    }
+
+    /**
+     * Returns the size of a device pixel in the coordinates of the shapes,
+     * or 0 if the transform is degenerate. It is at most the length of the
+     * longest column of the transform divided by its determinant.
+     */
+    private static float getPixelSize(BaseTransform tx) {
+        final double det = Math.abs(tx.getDeterminant());
+        if (det == 0 || Double.isNaN(det)) {
+            return 0f;
+        }
+        final double norm = Math.sqrt(tx.getMxx() * tx.getMxx() + tx.getMxy() * tx.getMxy() +
+                                      tx.getMyx() * tx.getMyx() + tx.getMyy() * tx.getMyy());
+        return (float) (norm / det);
+    }
+
+    /**
+     * Returns whether any two of the given shapes touch a common pixel, with
+     * a sweep over the shapes sorted by their left edge. Gives up and returns
+     * true if the shapes are so crowded that the sweep becomes expensive.
+     */
+    private boolean overlaps(int start, int end, float pad) {
+        final int count = end - start;
+        if (boxes == null) {
+            boxes = new float[QUEUE_SIZE * 4];
+            sorted = new long[QUEUE_SIZE];
+        }
+        for (int k = 0; k < count; k++) {
+            final int i = start + k;
+            // generous enough for the corners of any stroke type and join
+            final float p = pad + (strokes[i] != null ? 2 * strokes[i].getLineWidth() : 0);
+            final float x = bounds[i*4], y = bounds[i*4+1];
+            boxes[k*4] = x - p;
+            boxes[k*4+1] = y - p;
+            boxes[k*4+2] = x + bounds[i*4+2] + p;
+            boxes[k*4+3] = y + bounds[i*4+3] + p;
+            int bits = Float.floatToIntBits(boxes[k*4]);
+            if (bits < 0) {
+                bits ^= 0x7fffffff;
+            }
+            sorted[k] = ((long) bits << 32) | k;
+        }
+        Arrays.sort(sorted, 0, count);
+
+        int budget = count * 16;
+        for (int a = 0; a < count; a++) {
+            final int i = (int) sorted[a];
+            for (int b = a + 1; b < count; b++) {
+                final int j = (int) sorted[b];
+                if (!(boxes[j*4] < boxes[i*4+2])) {
+                    break;
+                }
+                if (--budget < 0 ||
+                    (boxes[j*4+1] < boxes[i*4+3] && boxes[i*4+1] < boxes[j*4+3]))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean canBatch(Graphics g) {
+        return !PrismSettings.showOverdraw &&
+               !(g instanceof PrinterGraphics) &&
+               g.getTransformNoClone().is2D();
+    }
+
+    private static NGNode getChild(List<NGNode> children, int index) {
+        // minimal protection against concurrent update of the list,
+        // as in NGGroup.renderContent()
+        try {
+            return index < children.size() ? children.get(index) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static int getType(NGNode node, boolean depthTest) {
+        if (node == null) {
+            return NONE;
+        }
+        // Only the exact classes are batched, since subclasses may render
+        // themselves differently.
+        final Class<?> c = node.getClass();
+        final int type;
+        if (c == NGCircle.class || c == NGEllipse.class) {
+            type = ELLIPSE;
+        } else if (c == NGRectangle.class && !((NGRectangle) node).isRounded()) {
+            type = RECT;
+        } else {
+            return NONE;
+        }
+        final NGShape shape = (NGShape) node;
+        if (!shape.isVisible() || shape.getOpacity() == 0f) {
+            // renders nothing, but must not end the run
+            return type;
+        }
+        final BaseTransform tx = shape.getTransform();
+        final NGShape.Mode mode = shape.getMode();
+        if (mode == NGShape.Mode.EMPTY ||
+            (mode != NGShape.Mode.STROKE && !(shape.getFillPaint() instanceof Color)) ||
+            (mode != NGShape.Mode.FILL &&
+                (!(shape.drawPaint instanceof Color) || shape.drawStroke == null)) ||
+            !shape.isSmooth() ||
+            shape.getOpacity() < 1f ||
+            !tx.is2D() || !tx.isTranslateOrIdentity() ||
+            shape.needsBlending() ||
+            shape.getCacheFilter() != null ||
+            shape.getClipNode() != null ||
+            shape.getEffectFilter() != null ||
+            shape.isDepthTest() != depthTest)
+        {
+            return NONE;
+        }
+        return type;
+    }
+
+    private static boolean isCulled(Graphics g, NGNode node) {
+        if (PrismSettings.dirtyOptsEnabled && g.hasPreCullingBits()) {
+            final int bits = node.cullingBits >> (g.getClipRectIndex() * 2);
+            return (bits & NGNode.DIRTY_REGION_CONTAINS_OR_INTERSECTS_NODE_BOUNDS) == 0;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.tk;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.sun.javafx.logging.PlatformLogger;
+
+/**
+ * A process-wide cache of decoded images, shared by the
+ * {@code javafx.scene.image.Image} objects that are loaded from the same URL
+ * with the same requested size, {@code preserveRatio} and {@code smooth}
+ * flags. Such images share the platform image of the first of them to be
+ * loaded, and so share its texture too.
+ * <p>
+ * The cache holds the decoded images it has most recently handed out, up to
+ * a budget of bytes of decoded pixels. When the budget is exceeded, the least
+ * recently used images are evicted. Evicted images are kept with a soft
+ * reference, so they can still be found until the garbage collector needs
+ * the memory they use.
+ * <p>
+ * The cache is disabled unless the {@code javafx.image.cacheSize} system
+ * property is set to the budget, in bytes, optionally followed by
+ * {@code k}, {@code m} or {@code g}. This class is thread-safe.
+ */
+public final class DecodedImageCache {
+
+    private static final DecodedImageCache instance;
+
+    static {
+        @SuppressWarnings("removal")
+        String size = AccessController.doPrivileged(
+                (PrivilegedAction<String>) () -> System.getProperty("javafx.image.cacheSize"));
+        instance = new DecodedImageCache(parseSize(size));
+    }
+
+    /**
+     * Returns the process-wide cache.
+     */
+    public static DecodedImageCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Identifies the images that can share a decoded image.
+     */
+    public record Key(String url, double requestedWidth, double requestedHeight,
+                      boolean preserveRatio, boolean smooth) {
+    }
+
+    private static final class SoftEntry extends SoftReference<ImageLoader> {
+        final Key key;
+
+        SoftEntry(Key key, ImageLoader loader, ReferenceQueue<ImageLoader> queue) {
+            super(loader, queue);
+            this.key = key;
+        }
+    }
+
+    private record Entry(ImageLoader loader, long size) {
+    }
+
+    // In access order, so that the first entry is the least recently used one
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Key, SoftEntry> evicted = new HashMap<>();
+    private final ReferenceQueue<ImageLoader> evictedQueue = new ReferenceQueue<>();
+
+    private long maxSize;
+    private long size;
+
+    private long hitCount;
+    private long softHitCount;
+    private long missCount;
+    private long evictionCount;
+
+    private DecodedImageCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the decoded image for the key, or null if it is not cached or
+     * the cache is disabled.
+     */
+    public synchronized ImageLoader get(Key key) {
+        if (maxSize == 0) {
+            return null;
+        }
+        expungeEvicted();
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            hitCount++;
+            return entry.loader;
+        }
+
+        SoftEntry softEntry = evicted.remove(key);
+        ImageLoader loader = softEntry != null ? softEntry.get() : null;
+        if (loader != null) {
+            hitCount++;
+            softHitCount++;
+            add(key, loader);
+            return loader;
+        }
+
+        missCount++;
+        return null;
+    }
+
+    /**
+     * Adds a decoded image to the cache. Images that failed to load are not
+     * cached, nor are animations whose frames are decoded as they are shown,
+     * as every image showing one needs a loader of its own. Nothing is cached
+     * if the cache is disabled.
+     */
+    public synchronized void put(Key key, ImageLoader loader) {
+        if (maxSize == 0 || loader == null || loader.getException() != null || loader.getFrameCount() == 0
+                || loader.isStreamed()) {
+            return;
+        }
+        expungeEvicted();
+        evicted.remove(key);
+        add(key, loader);
+    }
+
+    private void add(Key key, ImageLoader loader) {
+        final long entrySize = sizeOf(loader);
+        final Entry old = entries.put(key, new Entry(loader, entrySize));
+        if (old != null) {
+            size -= old.size;
+        }
+        size += entrySize;
+        trim();
+    }
+
+    private void trim() {
+        Iterator<Map.Entry<Key, Entry>> iter = entries.entrySet().iterator();
+        while (size > maxSize && iter.hasNext()) {
+            Map.Entry<Key, Entry> eldest = iter.next();
+            iter.remove();
+            size -= eldest.getValue().size;
+            evictionCount++;
+            evicted.put(eldest.getKey(),
+                    new SoftEntry(eldest.getKey(), eldest.getValue().loader, evictedQueue));
+        }
+    }
+
+    // Removes the evicted entries whose images have been garbage collected
+    private void expungeEvicted() {
+        SoftEntry softEntry;
+        while ((softEntry = (SoftEntry) evictedQueue.poll()) != null) {
+            evicted.remove(softEntry.key, softEntry);
+        }
+    }
+
+    /**
+     * Removes all images from the cache. The statistics are not reset.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        evicted.clear();
+        size = 0;
+    }
+
+    /**
+     * Resets the statistics to zero.
+     */
+    public synchronized void resetStatistics() {
+        hitCount = softHitCount = missCount = evictionCount = 0;
+    }
+
+    /**
+     * Sets the budget of the cache in bytes, evicting images if needed.
+     * A budget of 0 disables the cache and removes all images from it.
+     */
+    public synchronized void setMaxSize(long maxSize) {
+        this.maxSize = Math.max(maxSize, 0);
+        if (this.maxSize == 0) {
+            clear();
+        } else {
+            trim();
+        }
+    }
+
+    public synchronized boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    public synchronized long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the estimated number of bytes of the decoded images held by
+     * the cache, not counting the evicted images that are still softly
+     * reachable.
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    public synchronized int getImageCount() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of lookups that found an image, including those
+     * that found an evicted image.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that found an image which had been
+     * evicted, but not yet garbage collected.
+     */
+    public synchronized long getSoftHitCount() {
+        return softHitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "DecodedImageCache[images=" + entries.size() + ", size=" + size + "/" + maxSize
+                + ", hits=" + hitCount + " (soft " + softHitCount + "), misses=" + missCount
+                + ", evictions=" + evictionCount + "]";
+    }
+
+    // Estimates the memory used by the frames of a decoded image, assuming
+    // 4 bytes per pixel
+    private static long sizeOf(ImageLoader loader) {
+        long pixels = (long) Math.ceil(loader.getWidth()) * (long) Math.ceil(loader.getHeight());
+        return pixels * 4 * loader.getFrameCount();
+    }
+
+    private static long parseSize(String s) {
+        if (s == null || s.isEmpty()) {
+            return 0;
+        }
+        long mult = 1;
+        char unit = Character.toLowerCase(s.charAt(s.length() - 1));
+        if (unit == 'k') {
+            mult = 1024L;
+        } else if (unit == 'm') {
+            mult = 1024L * 1024L;
+        } else if (unit == 'g') {
+            mult = 1024L * 1024L * 1024L;
+        }
+        if (mult > 1) {
+            s = s.substring(0, s.length() - 1);
+        }
+        try {
+            return Math.max(Long.parseLong(s.trim()) * mult, 0);
+        } catch (NumberFormatException e) {
+            PlatformLogger.getLogger("javafx.scene.image")
+                    .warning("Invalid javafx.image.cacheSize: " + s);
+            return 0;
+        }
+    }
+}
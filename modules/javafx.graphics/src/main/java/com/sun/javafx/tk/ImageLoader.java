@@ -34,4 +34,10 @@ public interface ImageLoader {
     public int getLoopCount();
     public double getWidth();
     public double getHeight();
+
+    // Whether the frames are decoded again as the animation shows them, in
+    // which case the loader holds the state of a single animation.
+    public default boolean isStreamed() {
+        return false;
+    }
 }
@@ -102,4 +102,15 @@ public interface PlatformImage {
                           PixelReader reader, int srcx, int srcy);
 
     public void bufferDirty(Rectangle rect);
+
+    /**
+     * Replaces the buffer this image was created from with another buffer of
+     * the same format and size, and marks the given region dirty. Must only
+     * be called while the renderer is not using this image.
+     *
+     * @param buffer the new pixel buffer
+     * @param rect the region that differs from the previous buffer, or null
+     *  if the whole image is dirty
+     */
+    public void bufferSwapped(Buffer buffer, Rectangle rect);
 }
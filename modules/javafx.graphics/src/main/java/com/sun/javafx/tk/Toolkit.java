@@ -66,6 +66,7 @@ import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import com.sun.glass.ui.CommonDialogs.FileChooserResult;
 import com.sun.glass.ui.GlassRobot;
 import com.sun.glass.utils.NativeLibLoader;
@@ -558,6 +559,11 @@ public abstract class Toolkit {
     // this flag is cleared each cycle so subsequent pulses must be requested
     public abstract void requestNextPulse();
 
+    // wait until the renderer is done with the previous frame; must be called
+    // on the FX thread, toolkits that render synchronously need not override it
+    public void waitForRenderingToComplete() {
+    }
+
     public abstract Future addRenderJob(RenderJob rj);
 
     public abstract ImageLoader loadImage(String url,
@@ -859,6 +865,26 @@ public abstract class Toolkit {
 
     public abstract Object renderToImage(ImageRenderingContext context);
 
+    /*
+     * This method renders a PG-graph to a platform image object in the
+     * same way as renderToImage(ImageRenderingContext), but does not wait
+     * for the rendering to complete. The listener is called with the
+     * platform image once it has been rendered. It may be called on any
+     * thread, including the calling thread, and it is called with the
+     * platformImage of the context if the image could not be rendered.
+     * The PG-graph must not be modified until the listener has been called.
+     *
+     * The default implementation renders synchronously and then calls the
+     * listener.
+     *
+     * @param context a ImageRenderingContext instance specifying
+     *               the various rendering parameters
+     * @param listener called with the platform specific image object
+     */
+    public void renderToImage(ImageRenderingContext context, Consumer<Object> listener) {
+        listener.accept(renderToImage(context));
+    }
+
     /**
      * Returns the key code for the key which is commonly used on the
      * corresponding platform as a modifier key in shortcuts. For example
@@ -36,6 +36,7 @@ import com.sun.glass.ui.Application;
 import com.sun.glass.ui.Window;
 import com.sun.javafx.tk.CompletionListener;
 import com.sun.javafx.tk.RenderJob;
+import com.sun.prism.impl.RenderStatistics;
 
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 import com.sun.javafx.logging.PulseLogger;
@@ -309,6 +310,7 @@ final class PaintCollector implements CompletionListener {
             // If pulse logging is enabled, then we must call renderEnd now
             // that we know that all of the scene's being rendered are finished
             if (PULSE_LOGGING_ENABLED) {
+                RenderStatistics.frameRendered();
                 PulseLogger.renderEnd();
             }
         }
@@ -29,6 +29,7 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageFrameSequence;
 import com.sun.javafx.iio.ImageLoadListener;
 import com.sun.javafx.iio.ImageLoader;
 import com.sun.javafx.iio.ImageMetadata;
@@ -47,6 +48,7 @@ import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -56,7 +58,19 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
 
     private static PlatformLogger imageioLogger = null;
 
+    // The number of frames of a streamed animation that are kept decoded:
+    // the frame being shown and the next ones, decoded ahead of time
+    private static final int STREAMED_FRAMES = 4;
+
     private Image[] images;
+    // The frames of an animation that is too large to keep decoded, or null.
+    // Then only the first frame and the STREAMED_FRAMES frames whose indices
+    // are in streamedIndices are present in images.
+    private ImageFrameSequence frameSequence;
+    private int[] streamedIndices;
+    private int nextStreamedIndex;
+    private boolean decodingAhead;
+    private Image lastFrame;
     private int[] delayTimes;
     private int loopCount;
     private double width;
@@ -77,6 +91,10 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         loadAll(stream, width, height, preserveRatio, smooth);
     }
 
+    PrismImageLoader2(ImageFrameSequence imgFrames) {
+        convertAll(imgFrames);
+    }
+
     @Override
     public double getWidth() {
         return width;
@@ -100,7 +118,83 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         if (images == null) {
             return null;
         }
-        return images[index];
+        if (frameSequence == null) {
+            return images[index];
+        }
+
+        Image frame;
+        synchronized (this) {
+            frame = images[index];
+        }
+        if (frame == null) {
+            frame = decodeFrame(index);
+        }
+        decodeAhead(index);
+        synchronized (this) {
+            if (frame != null) {
+                lastFrame = frame;
+            }
+            // keep showing the last frame if the data are corrupted
+            return lastFrame != null ? lastFrame : images[0];
+        }
+    }
+
+    @Override
+    public boolean isStreamed() {
+        return frameSequence != null;
+    }
+
+    synchronized boolean isDecoded(int index) {
+        return images[index] != null;
+    }
+
+    private Image decodeFrame(int index) {
+        final ImageFrame imageFrame = frameSequence.getFrame(index);
+        if (imageFrame == null) {
+            return null;
+        }
+        final Image frame = com.sun.prism.Image.convertImageFrame(imageFrame);
+        synchronized (this) {
+            if (images[index] == null) {
+                final int evicted = streamedIndices[nextStreamedIndex];
+                if (evicted > 0) {
+                    images[evicted] = null;
+                }
+                streamedIndices[nextStreamedIndex] = index;
+                nextStreamedIndex = (nextStreamedIndex + 1) % STREAMED_FRAMES;
+                images[index] = frame;
+            }
+            return images[index];
+        }
+    }
+
+    // Decodes the frames following the given one in background, so that they
+    // are ready when the animation shows them.
+    private void decodeAhead(int index) {
+        synchronized (this) {
+            if (decodingAhead) {
+                return;
+            }
+            decodingAhead = true;
+        }
+        FrameDecoder.EXECUTOR.execute(() -> {
+            try {
+                for (int i = 1; i < STREAMED_FRAMES; i++) {
+                    final int next = (index + i) % images.length;
+                    final boolean decoded;
+                    synchronized (this) {
+                        decoded = images[next] != null;
+                    }
+                    if (!decoded && decodeFrame(next) == null) {
+                        break;
+                    }
+                }
+            } finally {
+                synchronized (this) {
+                    decodingAhead = false;
+                }
+            }
+        });
     }
 
     @Override
@@ -130,8 +224,9 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
     {
         ImageLoadListener listener = new PrismLoadListener();
         try {
-            ImageFrame[] imgFrames =
-                ImageStorage.getInstance().loadAll(url, listener, w, h, preserveRatio, pixelScale, smooth);
+            ImageFrameSequence imgFrames =
+                ImageStorage.getInstance().loadFrames(url, listener, w, h, preserveRatio, pixelScale, smooth,
+                                                      getMaxFramesSize());
             convertAll(imgFrames);
         } catch (ImageStorageException e) {
             handleException(e);
@@ -145,8 +240,9 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
     {
         ImageLoadListener listener = new PrismLoadListener();
         try {
-            ImageFrame[] imgFrames =
-                ImageStorage.getInstance().loadAll(stream, listener, w, h, preserveRatio, 1.0f, smooth);
+            ImageFrameSequence imgFrames =
+                ImageStorage.getInstance().loadFrames(stream, listener, w, h, preserveRatio, 1.0f, smooth,
+                                                      getMaxFramesSize());
             convertAll(imgFrames);
         } catch (ImageStorageException e) {
             handleException(e);
@@ -172,14 +268,24 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         this.exception = exception;
     }
 
-    private void convertAll(ImageFrame[] imgFrames) {
-        int numFrames = imgFrames.length;
+    private static long getMaxFramesSize() {
+        return PrismSettings.maxAnimationSize > 0 ? PrismSettings.maxAnimationSize : Long.MAX_VALUE;
+    }
+
+    private void convertAll(ImageFrameSequence imgFrames) {
+        int numFrames = imgFrames.getFrameCount();
         images = new Image[numFrames];
         delayTimes = new int[numFrames];
         for (int i = 0; i < numFrames; i++) {
-            ImageFrame frame = imgFrames[i];
-            images[i] = com.sun.prism.Image.convertImageFrame(frame);
-            ImageMetadata metadata = frame.getMetadata();
+            if (i == 0 || imgFrames.isRetained()) {
+                ImageFrame frame = imgFrames.getFrame(i);
+                images[i] = com.sun.prism.Image.convertImageFrame(frame);
+                if (i == 0) {
+                    width = frame.getWidth();
+                    height = frame.getHeight();
+                }
+            }
+            ImageMetadata metadata = imgFrames.getMetadata(i);
             if (metadata != null) {
                 Integer delay = metadata.delayTime;
                 if (delay != null) {
@@ -190,10 +296,10 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
                     this.loopCount = loopCount;
                 }
             }
-            if (i == 0) {
-                width = frame.getWidth();
-                height = frame.getHeight();
-            }
+        }
+        if (!imgFrames.isRetained()) {
+            frameSequence = imgFrames;
+            streamedIndices = new int[STREAMED_FRAMES];
         }
     }
 
@@ -232,6 +338,29 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         }
     }
 
+    static final class FrameDecoder {
+        static final ExecutorService EXECUTOR = createExecutor();
+
+        private static ExecutorService createExecutor() {
+            @SuppressWarnings("removal")
+            final ThreadFactory threadFactory =
+                    runnable -> AccessController.doPrivileged(
+                            (PrivilegedAction<Thread>) () -> {
+                                final Thread newThread =
+                                        new Thread(runnable, "Animated image decoding thread");
+                                newThread.setDaemon(true);
+                                newThread.setPriority(Thread.MIN_PRIORITY);
+                                return newThread;
+                            }
+                    );
+
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
     static final class AsyncImageLoader
         extends AbstractRemoteResource<PrismImageLoader2>
     {
@@ -74,6 +74,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import com.sun.glass.ui.Application;
 import com.sun.glass.ui.Clipboard;
@@ -906,6 +907,11 @@ public final class QuantumToolkit extends Toolkit {
         nextPulseRequested.set(true);
     }
 
+    @Override public void waitForRenderingToComplete() {
+        checkFxUserThread();
+        PaintCollector.getInstance().waitForRenderingToComplete();
+    }
+
     @Override public void waitFor(Task t) {
         if (t.isFinished()) {
             return;
@@ -1473,11 +1479,48 @@ public final class QuantumToolkit extends Toolkit {
     @Override
     public Object renderToImage(ImageRenderingContext p) {
         Object saveImage = p.platformImage;
+
+        RenderJob re = createRenderToImageJob(p);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        re.setCompletionListener(job -> latch.countDown());
+        addRenderJob(re);
+
+        do {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException ex) {
+                ex.printStackTrace();
+            }
+        } while (true);
+
+        Object image = p.platformImage;
+        p.platformImage = saveImage;
+
+        return image;
+    }
+
+    @Override
+    public void renderToImage(ImageRenderingContext p, Consumer<Object> listener) {
+        final Object saveImage = p.platformImage;
+
+        RenderJob re = createRenderToImageJob(p);
+
+        re.setCompletionListener(job -> {
+            Object image = p.platformImage;
+            p.platformImage = saveImage;
+            listener.accept(image);
+        });
+        addRenderJob(re);
+    }
+
+    private RenderJob createRenderToImageJob(ImageRenderingContext p) {
         final ImageRenderingContext params = p;
         final com.sun.prism.paint.Paint currentPaint = p.platformPaint instanceof com.sun.prism.paint.Paint ?
                 (com.sun.prism.paint.Paint)p.platformPaint : null;
 
-        RenderJob re = new RenderJob(new Runnable() {
+        return new RenderJob(new Runnable() {
 
             private com.sun.prism.paint.Color getClearColor() {
                 if (currentPaint == null) {
@@ -1682,24 +1725,6 @@ public final class QuantumToolkit extends Toolkit {
                 }
             }
         });
-
-        final CountDownLatch latch = new CountDownLatch(1);
-        re.setCompletionListener(job -> latch.countDown());
-        addRenderJob(re);
-
-        do {
-            try {
-                latch.await();
-                break;
-            } catch (InterruptedException ex) {
-                ex.printStackTrace();
-            }
-        } while (true);
-
-        Object image = params.platformImage;
-        params.platformImage = saveImage;
-
-        return image;
     }
 
     @Override
@@ -131,6 +131,30 @@ public interface Graphics {
     public void drawRoundRect(float x, float y, float width, float height, float arcw, float arch);
     public void drawEllipse(float x, float y, float width, float height);
 
+    /**
+     * Fills {@code count} rectangles, given as consecutive x, y, width and
+     * height values in {@code bounds}, each with the color at the same index
+     * in {@code colors}. This is the same as setting each color as the paint
+     * and calling {@link #fillRect}, which leaves the last color as the
+     * paint, but lets a pipeline validate its state once for the batch.
+     */
+    default void fillRects(float[] bounds, Color[] colors, int count) {
+        for (int i = 0; i < count; i++) {
+            setPaint(colors[i]);
+            fillRect(bounds[i*4], bounds[i*4+1], bounds[i*4+2], bounds[i*4+3]);
+        }
+    }
+
+    /**
+     * Fills {@code count} ellipses in the same way as {@link #fillRects}.
+     */
+    default void fillEllipses(float[] bounds, Color[] colors, int count) {
+        for (int i = 0; i < count; i++) {
+            setPaint(colors[i]);
+            fillEllipse(bounds[i*4], bounds[i*4+1], bounds[i*4+2], bounds[i*4+3]);
+        }
+    }
+
     /**
      * Set the node bounds for any node that would like to render objects of a
      * different size to self.
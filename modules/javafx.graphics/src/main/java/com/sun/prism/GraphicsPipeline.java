@@ -29,6 +29,7 @@ import com.sun.glass.ui.Screen;
 import com.sun.javafx.font.FontFactory;
 import com.sun.javafx.font.PrismFontFactory;
 import com.sun.prism.impl.PrismSettings;
+import com.sun.prism.impl.ResourcePoolStatistics;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -151,6 +152,18 @@ public abstract class GraphicsPipeline {
         return getPipeline().getDefaultResourceFactory(screens);
     }
 
+    /**
+     * Returns a snapshot of the usage of the texture pool of the default
+     * resource factory of this pipeline.
+     *
+     * @return the texture pool statistics, or null if this pipeline has no
+     *         default resource factory
+     */
+    public ResourcePoolStatistics getTexturePoolStatistics() {
+        ResourceFactory factory = getDefaultResourceFactory(Screen.getScreens());
+        return factory == null ? null : factory.getTextureResourcePool().getStatistics();
+    }
+
     public FontFactory getFontFactory() {
         if (fontFactory == null) {
             fontFactory = PrismFontFactory.getFontFactory();
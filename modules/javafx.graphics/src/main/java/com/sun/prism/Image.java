@@ -65,7 +65,7 @@ public class Image implements PlatformImage {
     static final javafx.scene.image.PixelFormat<ByteBuffer> FX_ByteRgb_FORMAT =
         javafx.scene.image.PixelFormat.getByteRgbInstance();
 
-    private final Buffer pixelBuffer;
+    private volatile Buffer pixelBuffer;
     private final int minX;
     private final int minY;
     private final int width;
@@ -662,6 +662,14 @@ public class Image implements PlatformImage {
         updateSerial(rect);
     }
 
+    @Override
+    public void bufferSwapped(Buffer buffer, Rectangle rect) {
+        // Called on FX Application thread while the renderer is idle
+        pixelBuffer = buffer;
+        pixelaccessor = null;
+        updateSerial(rect);
+    }
+
     @Override
     public javafx.scene.image.PixelFormat<?> getPlatformPixelFormat() {
         return getPixelAccessor().getPlatformPixelFormat();
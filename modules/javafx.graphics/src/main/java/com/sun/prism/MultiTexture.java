@@ -297,6 +297,13 @@ public final class MultiTexture implements Texture {
         }
     }
 
+    @Override
+    public void makeReloadable() {
+        for (Texture tex : textures) {
+            tex.makeReloadable();
+        }
+    }
+
     @Override
     public void contentsUseful() {
         for (Texture tex : textures) {
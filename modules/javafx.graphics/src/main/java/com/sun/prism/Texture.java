@@ -483,6 +483,14 @@ public interface Texture extends GraphicsResource {
     public int getLockCount();
     public void assertLocked();
     public void makePermanent();
+
+    /**
+     * Marks the contents of this texture as a copy of data that can be
+     * uploaded again, such as the pixels of a cached image, so that the
+     * texture may be evicted when it is not locked and its pool is over
+     * its budget.
+     */
+    public void makeReloadable();
     public void contentsUseful();
     public void contentsNotUseful();
 
@@ -37,6 +37,7 @@ class D3DVramPool extends BaseResourcePool<D3DTextureData>
 
     private D3DVramPool() {
         super(PrismSettings.targetVram, PrismSettings.maxVram);
+        setBudget(Math.min(Math.max(PrismSettings.textureBudget, 0), max()));
     }
 
     @Override
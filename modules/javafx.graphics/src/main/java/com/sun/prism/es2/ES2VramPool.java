@@ -37,6 +37,7 @@ class ES2VramPool extends BaseResourcePool<ES2TextureData>
 
     private ES2VramPool() {
         super(PrismSettings.targetVram, PrismSettings.maxVram);
+        setBudget(Math.min(Math.max(PrismSettings.textureBudget, 0), max()));
     }
 
     @Override
@@ -123,6 +123,7 @@ public abstract class BaseContext {
     public void drawQuads(float coordArray[], byte colorArray[], int numVertices) {
         flushMask();
         renderQuads(coordArray, colorArray, numVertices);
+        RenderStatistics.drawCall();
     }
 
     protected GeneralTransform3D getPerspectiveTransformNoClone() {
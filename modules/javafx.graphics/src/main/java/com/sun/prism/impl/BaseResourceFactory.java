@@ -216,6 +216,7 @@ public abstract class BaseResourceFactory implements ResourceFactory {
                         // the contents are useful, but for completeness we
                         // will register both references as "useful"
                         tex.contentsUseful();
+                        tex.makeReloadable();
                         texCache.put(image, tex);
                     }
                 }
@@ -237,6 +238,8 @@ public abstract class BaseResourceFactory implements ResourceFactory {
 
             tex = createTexture(image, Usage.DEFAULT, wrapMode, useMipmap);
             if (tex != null) {
+                // the texture is uploaded again if it is evicted
+                tex.makeReloadable();
                 tex.setLastImageSerial(idRect.getKey());
                 texCache.put(image, tex);
             }
@@ -70,6 +70,9 @@ public abstract class BaseResourcePool<T> implements ResourcePool<T> {
     final long origTarget;
     long curTarget;
     final long maxSize;
+    long budget;
+    long evictedSize;
+    long evictedCount;
     final ResourcePool<T> sharedParent;
     private final Thread managerThread;
     private WeakLinkedList<T> resourceHead;
@@ -115,6 +118,9 @@ public abstract class BaseResourcePool<T> implements ResourcePool<T> {
      * @return boolean indicating if the requested space is now available
      */
     public boolean cleanup(long needed) {
+        if (budget > 0) {
+            evictToBudget(needed);
+        }
         if (used() + needed <= target()) return true;
         long wasused = used();
         long wanted = target() / 16;
@@ -218,6 +224,15 @@ public abstract class BaseResourcePool<T> implements ResourcePool<T> {
     }
 
     private void cleanup(Predicate predicate) {
+        cleanup(predicate, false);
+    }
+
+    /**
+     * Free the resources which are not locked or permanent and match the
+     * predicate, counting them in the eviction statistics if they were
+     * evicted to keep the pool within its budget.
+     */
+    private void cleanup(Predicate predicate, boolean evicting) {
         WeakLinkedList<T> prev = resourceHead;
         WeakLinkedList<T> cur = prev.next;
         while (cur != null) {
@@ -235,6 +250,10 @@ public abstract class BaseResourcePool<T> implements ResourcePool<T> {
                 mr.free();
                 mr.resource = null;
                 recordFree(cur.size);
+                if (evicting) {
+                    evictedSize += cur.size;
+                    evictedCount++;
+                }
                 cur = cur.next;
                 prev.next = cur;
             } else {
@@ -244,6 +263,70 @@ public abstract class BaseResourcePool<T> implements ResourcePool<T> {
         }
     }
 
+    /**
+     * Evict the least recently used resources which are marked as reloadable
+     * and not locked or permanent until the managed resources and the
+     * indicated amount fit within the budget of this pool, or until there
+     * are no such resources left.
+     * Resources used since the last call to
+     * {@link #freeDisposalRequestedAndCheckResources(boolean)} are kept.
+     *
+     * @param needed the amount about to be allocated
+     */
+    private void evictToBudget(long needed) {
+        long excess = managed() + needed - budget;
+        if (excess <= 0) {
+            return;
+        }
+
+        // Find the age above which enough resources can be evicted, the
+        // age of a resource being the number of frames since it was locked.
+        long sizeByAge[] = new long[FOREVER + 1];
+        for (WeakLinkedList<T> cur = resourceHead.next; cur != null; cur = cur.next) {
+            ManagedResource<T> mr = cur.getResource();
+            if (mr != null && mr.isValid() && mr.isReloadable() &&
+                !mr.isPermanent() && !mr.isLocked() && mr.getAge() > 0)
+            {
+                sizeByAge[mr.getAge()] += cur.size;
+            }
+        }
+        int minAge = FOREVER + 1;
+        long evictable = 0;
+        while (evictable < excess && minAge > 1) {
+            evictable += sizeByAge[--minAge];
+        }
+        if (evictable == 0) {
+            return;
+        }
+
+        if (PrismSettings.poolDebug) {
+            System.err.printf("Evicting %,d over budget %,d (reloadable older than %d) in pool: %s\n",
+                              excess, budget, minAge - 1, this);
+        }
+        // Evict everything older than the cutoff age, and as many of the
+        // resources of exactly that age as needed.
+        final int cutoff = minAge;
+        final long remaining[] = { excess - (evictable - sizeByAge[cutoff]) };
+        cleanup((mr) -> {
+            if (!mr.isReloadable() || mr.getAge() < cutoff) {
+                return false;
+            }
+            if (mr.getAge() > cutoff) {
+                return true;
+            }
+            if (remaining[0] <= 0) {
+                return false;
+            }
+            remaining[0] -= sizeOf(mr);
+            return true;
+        }, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private long sizeOf(ManagedResource<?> mr) {
+        return size((T) mr.resource);
+    }
+
     static void showLink(String label, WeakLinkedList<?> cur, boolean showAge) {
         ManagedResource<?> mr = cur.getResource();
         System.err.printf("%s: %s (size=%,d)", label, mr, cur.size);
@@ -275,6 +358,10 @@ public abstract class BaseResourcePool<T> implements ResourcePool<T> {
      */
     @Override
     public void freeDisposalRequestedAndCheckResources(boolean forgiveStaleLocks) {
+        if (budget > 0) {
+            evictToBudget(0);
+        }
+
         boolean anyLockedResources = false;
         WeakLinkedList<T> prev = resourceHead;
         WeakLinkedList<T> cur = prev.next;
@@ -331,6 +418,10 @@ public abstract class BaseResourcePool<T> implements ResourcePool<T> {
                           this, used(), percentUsed,
                           target(), percentTarget,
                           max());
+        if (budget > 0 || evictedCount > 0) {
+            System.err.printf("%,d budget, %,d evicted in %,d resources\n",
+                              budget, evictedSize, evictedCount);
+        }
 
         for (WeakLinkedList<T> cur = resourceHead.next; cur != null; cur = cur.next) {
             ManagedResource<T> mr = cur.getResource();
@@ -425,6 +516,27 @@ public abstract class BaseResourcePool<T> implements ResourcePool<T> {
         curTarget = newTarget;
     }
 
+    @Override
+    public final long budget() {
+        return budget;
+    }
+
+    @Override
+    public final void setBudget(long newBudget) {
+        if (newBudget < 0 || newBudget > maxSize) {
+            throw new IllegalArgumentException("Budget "+newBudget+
+                                               " not between 0 and max "+maxSize);
+        }
+        budget = newBudget;
+    }
+
+    @Override
+    public ResourcePoolStatistics getStatistics() {
+        return new ResourcePoolStatistics(toString(), used(), managed(),
+                                          target(), max(), budget,
+                                          evictedSize, evictedCount);
+    }
+
     @Override
     public boolean prepareForAllocation(long size) {
         return cleanup(size);
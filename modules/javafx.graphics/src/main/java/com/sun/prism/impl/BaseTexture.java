@@ -277,6 +277,11 @@ public abstract class BaseTexture<T extends ManagedResource> implements Texture
         resource.makePermanent();
     }
 
+    @Override
+    public final void makeReloadable() {
+        resource.makeReloadable();
+    }
+
     @Override
     public final void contentsUseful() {
         resource.contentsUseful();
@@ -48,6 +48,7 @@ public abstract class ManagedResource<T> implements GraphicsResource {
     private int employcount;
     ArrayList<Throwable> lockedFrom;
     private boolean permanent;
+    private boolean reloadable;
     private boolean mismatchDetected;
     private boolean disposalRequested;
     private int age;
@@ -101,6 +102,10 @@ public abstract class ManagedResource<T> implements GraphicsResource {
         return permanent;
     }
 
+    public final boolean isReloadable() {
+        return reloadable;
+    }
+
     public final boolean isInteresting() {
         return employcount > 0;
     }
@@ -136,6 +141,10 @@ public abstract class ManagedResource<T> implements GraphicsResource {
         permanent = true;
     }
 
+    public final void makeReloadable() {
+        reloadable = true;
+    }
+
     public final T lock() {
         lockcount++;
         age = 0;
@@ -72,8 +72,10 @@ public final class PrismSettings {
     public static final boolean allowHiDPIScaling;
     public static final long maxVram;
     public static final long targetVram;
+    public static final long textureBudget;
     public static final boolean poolStats;
     public static final boolean poolDebug;
+    public static final long maxAnimationSize;
     public static final boolean disableEffects;
     public static final int glyphCacheWidth;
     public static final int glyphCacheHeight;
@@ -270,9 +272,24 @@ public final class PrismSettings {
                           "Try -Dprism.maxvram=<long>[kKmMgG]");
         targetVram = getLong(systemProperties, "prism.targetvram", maxVram / 8, maxVram,
                              "Try -Dprism.targetvram=<long>[kKmMgG]|<double(0,100)>%");
+        /*
+         * Texture pools evict the least recently used textures that can be
+         * uploaded again from their image when they hold more than this.
+         * Zero or a negative value disables the budget.
+         */
+        textureBudget = getLong(systemProperties, "prism.texturebudget", 0,
+                                "Try -Dprism.texturebudget=<long>[kKmMgG]");
         poolStats = getBoolean(systemProperties, "prism.poolstats", false);
         poolDebug = getBoolean(systemProperties, "prism.pooldebug", false);
 
+        /*
+         * Animated images whose decoded frames would take more memory than
+         * this are decoded frame by frame while they are shown.
+         * Zero or a negative value keeps all frames of any animation.
+         */
+        maxAnimationSize = getLong(systemProperties, "prism.maxanimationsize", 64 * 1024 * 1024,
+                                   "Try -Dprism.maxanimationsize=<long>[kKmMgG]");
+
         if (verbose) {
             System.out.print("Prism pipeline init order: ");
             for (String s : tryOrder) {
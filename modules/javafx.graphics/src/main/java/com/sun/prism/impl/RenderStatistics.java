@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl;
+
+import com.sun.javafx.logging.PulseLogger;
+
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+
+/**
+ * Counts the work the graphics pipelines submit to the GPU while a frame is
+ * rendered, so that the pulse loggers can show how well the rendering of a
+ * scene is batched. The counts are only kept while pulse logging is enabled.
+ * All methods must be called on the render thread.
+ */
+public final class RenderStatistics {
+    private static int drawCalls;
+    private static int textureBinds;
+    private static int shaderSwitches;
+    private static int stateFlushes;
+
+    private RenderStatistics() {
+    }
+
+    /**
+     * Counts a batch of vertices that was drawn.
+     */
+    public static void drawCall() {
+        if (PULSE_LOGGING_ENABLED) {
+            drawCalls++;
+        }
+    }
+
+    /**
+     * Counts a texture that was bound to a texture unit.
+     */
+    public static void textureBind() {
+        if (PULSE_LOGGING_ENABLED) {
+            textureBinds++;
+        }
+    }
+
+    /**
+     * Counts a shader that was enabled in place of another one.
+     */
+    public static void shaderSwitch() {
+        if (PULSE_LOGGING_ENABLED) {
+            shaderSwitches++;
+        }
+    }
+
+    /**
+     * Counts a batch of vertices that had to be drawn before the vertex
+     * buffer was full because the render state changed.
+     */
+    public static void stateFlush() {
+        if (PULSE_LOGGING_ENABLED) {
+            stateFlushes++;
+        }
+    }
+
+    public static int getDrawCalls() {
+        return drawCalls;
+    }
+
+    public static int getTextureBinds() {
+        return textureBinds;
+    }
+
+    public static int getShaderSwitches() {
+        return shaderSwitches;
+    }
+
+    public static int getStateFlushes() {
+        return stateFlushes;
+    }
+
+    /**
+     * Reports the counts for the frame that finished rendering to the pulse
+     * loggers and starts counting the next frame.
+     */
+    public static void frameRendered() {
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.addRenderStatistics(drawCalls, textureBinds,
+                                            shaderSwitches, stateFlushes);
+        }
+        drawCalls = textureBinds = shaderSwitches = stateFlushes = 0;
+    }
+}
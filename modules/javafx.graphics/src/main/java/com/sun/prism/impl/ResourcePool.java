@@ -134,6 +134,33 @@ public interface ResourcePool<T> {
      */
     public void setTarget(long newTarget);
 
+    /**
+     * The amount of space in this resource pool that managed resources may
+     * hold before the least recently used of the unlocked resources marked
+     * {@link ManagedResource#isReloadable() reloadable} are evicted, or 0 if
+     * the pool has no budget.
+     * Unlike the {@link target()}, the budget never grows.
+     * @return the budget of this resource pool
+     * @see #setBudget(long)
+     */
+    public long budget();
+
+    /**
+     * Sets the budget of this resource pool.
+     * The specified {@code budget} must be 0 to disable the budget or
+     * positive and less than or equal to the amount returned by the
+     * {@link max()} method.
+     * @param budget the new budget, or 0 for no budget
+     */
+    public void setBudget(long budget);
+
+    /**
+     * Returns a snapshot of the usage of this resource pool, including the
+     * amount of space reclaimed by evicting resources.
+     * @return the statistics of this resource pool
+     */
+    public ResourcePoolStatistics getStatistics();
+
     /**
      * The estimated size of the indicated resource.
      *
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl;
+
+/**
+ * An immutable snapshot of the usage of a {@link ResourcePool}.
+ * All amounts are in the units of the pool, usually bytes.
+ */
+public final class ResourcePoolStatistics {
+    private final String name;
+    private final long used;
+    private final long managed;
+    private final long target;
+    private final long max;
+    private final long budget;
+    private final long evicted;
+    private final long evictedCount;
+
+    public ResourcePoolStatistics(String name, long used, long managed,
+                                  long target, long max, long budget,
+                                  long evicted, long evictedCount)
+    {
+        this.name = name;
+        this.used = used;
+        this.managed = managed;
+        this.target = target;
+        this.max = max;
+        this.budget = budget;
+        this.evicted = evicted;
+        this.evictedCount = evictedCount;
+    }
+
+    /**
+     * @return a human readable name of the pool
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the amount used by managed and unmanaged resources
+     * @see ResourcePool#used()
+     */
+    public long getUsed() {
+        return used;
+    }
+
+    /**
+     * @return the amount used by managed resources
+     * @see ResourcePool#managed()
+     */
+    public long getManaged() {
+        return managed;
+    }
+
+    /**
+     * @return the current target of the pool
+     * @see ResourcePool#target()
+     */
+    public long getTarget() {
+        return target;
+    }
+
+    /**
+     * @return the maximum size of the pool
+     * @see ResourcePool#max()
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @return the budget of the pool, or 0 if it has none
+     * @see ResourcePool#budget()
+     */
+    public long getBudget() {
+        return budget;
+    }
+
+    /**
+     * @return the total amount freed by evicting resources that were still
+     *         alive since the pool was created
+     */
+    public long getEvicted() {
+        return evicted;
+    }
+
+    /**
+     * @return the number of resources evicted since the pool was created
+     */
+    public long getEvictedCount() {
+        return evictedCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %,d used, %,d managed, %,d target, %,d max, "
+                             + "%,d budget, %,d evicted in %,d resources",
+                             name, used, managed, target, max,
+                             budget, evicted, evictedCount);
+    }
+}
@@ -100,6 +100,10 @@ public final class VertexBuffer {
         }
     }
 
+    public final boolean isEmpty() {
+        return index == 0;
+    }
+
     public final void rewind() {
         index = 0;
     }
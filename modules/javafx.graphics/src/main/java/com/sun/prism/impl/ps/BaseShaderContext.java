@@ -39,6 +39,7 @@ import com.sun.prism.ResourceFactory;
 import com.sun.prism.Texture;
 import com.sun.prism.impl.BaseContext;
 import com.sun.prism.impl.BaseGraphics;
+import com.sun.prism.impl.RenderStatistics;
 import com.sun.prism.paint.Color;
 import com.sun.prism.paint.Gradient;
 import com.sun.prism.paint.ImagePattern;
@@ -384,7 +385,7 @@ public abstract class BaseShaderContext extends BaseContext {
             state.lastConst3 != k3 || state.lastConst4 != k4 ||
             state.lastConst5 != k5 || state.lastConst6 != k6)
         {
-            flushVertexBuffer();
+            flushForStateChange();
 
             state.lastConst1 = k1;
             state.lastConst2 = k2;
@@ -410,7 +411,7 @@ public abstract class BaseShaderContext extends BaseContext {
             state.lastConst3 != k3 || state.lastConst4 != k4 ||
             state.lastConst5 != k5 || state.lastConst6 != k6)
         {
-            flushVertexBuffer();
+            flushForStateChange();
 
             state.lastConst1 = k1;
             state.lastConst2 = k2;
@@ -452,7 +453,7 @@ public abstract class BaseShaderContext extends BaseContext {
                 // case of proportional gradients, but the case where the
                 // same paint parameters are used multiple times in a row
                 // is so rare that it's not worth optimizing this any further)
-                flushVertexBuffer();
+                flushForStateChange();
                 // we have to fetch the texture containing the gradient
                 // colors in advance since checkState() is responsible for
                 // binding the texture(s)
@@ -463,7 +464,7 @@ public abstract class BaseShaderContext extends BaseContext {
                 }
             } else if (paint.getType() == Paint.Type.IMAGE_PATTERN) {
                 // We need to flush here. See comment above about paint parameters changing.
-                flushVertexBuffer();
+                flushForStateChange();
                 ImagePattern texPaint = (ImagePattern)paint;
                 ResourceFactory rf = g.getResourceFactory();
                 paintTex = rf.getCachedTexture(texPaint.getImage(), Texture.WrapMode.REPEAT);
@@ -662,7 +663,7 @@ public abstract class BaseShaderContext extends BaseContext {
         // shader constants, and we set the externalShader instance variable.
         // Later in checkState(), we will set the externalShader and
         // update the current transform state "for real".
-        flushVertexBuffer();
+        flushForStateChange();
         if (shader != null) {
             shader.enable();
         }
@@ -680,8 +681,9 @@ public abstract class BaseShaderContext extends BaseContext {
 
         if ((checkFlags & CHECK_SHADER) != 0) {
             if (shader != state.lastShader) {
-                flushVertexBuffer();
+                flushForStateChange();
                 shader.enable();
+                RenderStatistics.shaderSwitch();
                 state.lastShader = shader;
                 // the transform matrix is part of the state of each shader
                 // (in ES2 at least), so we need to make sure the transform
@@ -693,7 +695,7 @@ public abstract class BaseShaderContext extends BaseContext {
 
         if ((checkFlags & CHECK_TRANSFORM) != 0) {
             if (!state.isXformValid || !xform.equals(state.lastTransform)) {
-                flushVertexBuffer();
+                flushForStateChange();
                 updateShaderTransform(shader, xform);
                 state.lastTransform.setTransform(xform);
                 state.isXformValid = true;
@@ -703,7 +705,7 @@ public abstract class BaseShaderContext extends BaseContext {
         if ((checkFlags & CHECK_CLIP) != 0) {
             Rectangle clip = g.getClipRectNoClone();
             if (clip != state.lastClip) {
-                flushVertexBuffer();
+                flushForStateChange();
                 updateClipRect(clip);
                 state.lastClip = clip;
             }
@@ -712,20 +714,32 @@ public abstract class BaseShaderContext extends BaseContext {
         if ((checkFlags & CHECK_COMPOSITE) != 0) {
             CompositeMode mode = g.getCompositeMode();
             if (mode != state.lastComp) {
-                flushVertexBuffer();
+                flushForStateChange();
                 updateCompositeMode(mode);
                 state.lastComp = mode;
             }
         }
     }
 
+    /**
+     * Draws the vertices that were validated against the current state
+     * before the state is changed.
+     */
+    private void flushForStateChange() {
+        if (!getVertexBuffer().isEmpty()) {
+            RenderStatistics.stateFlush();
+        }
+        flushVertexBuffer();
+    }
+
     private void setTexture(int texUnit, Texture tex) {
         if (checkDisposed()) return;
 
         if (tex != null) tex.assertLocked();
         if (tex != state.lastTextures[texUnit]) {
-            flushVertexBuffer();
+            flushForStateChange();
             updateTexture(texUnit, tex);
+            RenderStatistics.textureBind();
             state.lastTextures[texUnit] = tex;
         }
     }
@@ -786,7 +800,7 @@ public abstract class BaseShaderContext extends BaseContext {
             camera != state.lastCamera ||
             depthTest != state.lastDepthTest)
         {
-            flushVertexBuffer();
+            flushForStateChange();
             state = updateRenderTarget(target, camera, depthTest);
             state.lastRenderTarget = target;
             state.lastCamera = camera;
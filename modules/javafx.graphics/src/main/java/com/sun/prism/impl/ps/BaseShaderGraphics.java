@@ -79,6 +79,10 @@ public abstract class BaseShaderGraphics
     private final BaseShaderContext context;
     private Shader externalShader;
     private boolean isComplexPaint;
+    // true while filling a batch of rectangles or ellipses, along with the
+    // shape type whose state has been validated for the batch so far
+    private boolean batchingFills;
+    private MaskType batchedFillType;
 
     protected BaseShaderGraphics(BaseShaderContext context,
                                  RenderTarget renderTarget)
@@ -922,9 +926,9 @@ public abstract class BaseShaderGraphics
                 uLL *= pwdist;    vLL *= phdist;
                 uLR *= pwdist;    vLR *= phdist;
             }
-            context.validatePaintOp(this, rendertx, type, rx, ry, rw, rh);
+            validateFillOp(rendertx, type, rx, ry, rw, rh);
         } else if (type == MaskType.FILL_PGRAM) {
-            context.validatePaintOp(this, rendertx, type, rx, ry, rw, rh);
+            validateFillOp(rendertx, type, rx, ry, rw, rh);
         }
 
         context.getVertexBuffer().addMappedPgram(xUL, yUL, xUR, yUR,
@@ -1510,6 +1514,56 @@ public abstract class BaseShaderGraphics
         return true;
     }
 
+    private void validateFillOp(BaseTransform rendertx, MaskType type,
+                                float rx, float ry, float rw, float rh)
+    {
+        if (type == batchedFillType) {
+            // the shader, transform, clip and composite were validated for
+            // an earlier shape of the batch, only the vertex color differs
+            context.getVertexBuffer().setPerVertexColor((Color) paint, getExtraAlpha());
+            return;
+        }
+        context.validatePaintOp(this, rendertx, type, rx, ry, rw, rh);
+        if (batchingFills) {
+            batchedFillType = type;
+        }
+    }
+
+    @Override
+    public void fillRects(float[] bounds, Color[] colors, int count) {
+        fillShapes(false, bounds, colors, count);
+    }
+
+    @Override
+    public void fillEllipses(float[] bounds, Color[] colors, int count) {
+        fillShapes(true, bounds, colors, count);
+    }
+
+    private void fillShapes(boolean ellipses, float[] bounds, Color[] colors, int count) {
+        // Only the shapes drawn by the antialiasing shaders are batched, the
+        // primitive textures and the non antialiased paths validate their
+        // state per shape as usual.  The shapes still go into the same
+        // vertex buffer, which is submitted once it is full or the state
+        // changes.
+        batchingFills = isAntialiasedShape() && PrismSettings.primTextureSize == 0;
+        batchedFillType = null;
+        try {
+            for (int i = 0; i < count; i++) {
+                setPaint(colors[i]);
+                float x = bounds[i*4], y = bounds[i*4+1];
+                float w = bounds[i*4+2], h = bounds[i*4+3];
+                if (ellipses) {
+                    fillEllipse(x, y, w, h);
+                } else {
+                    fillRect(x, y, w, h);
+                }
+            }
+        } finally {
+            batchingFills = false;
+            batchedFillType = null;
+        }
+    }
+
     @Override
     public void fillRect(float x, float y, float w, float h) {
         if (w <= 0 || h <= 0) {
@@ -49,6 +49,7 @@ class J2DTexturePool extends BaseResourcePool<BufferedImage>
 
     private J2DTexturePool() {
         super(null, targetVram(), maxVram());
+        setBudget(Math.min(Math.max(PrismSettings.textureBudget, 0), max()));
     }
 
     @Override
@@ -115,6 +115,11 @@ abstract class SWTexture implements Texture {
         permanent = true;
     }
 
+    @Override
+    public void makeReloadable() {
+        // software textures are never evicted
+    }
+
     int employcount;
     @Override
     public void contentsUseful() {
@@ -39,6 +39,7 @@ import java.util.Set;
 
 import com.sun.javafx.css.PseudoClassState;
 import com.sun.javafx.css.StyleClassSet;
+import com.sun.javafx.css.StyleableSnapshot;
 
 import static javafx.geometry.NodeOrientation.INHERIT;
 import static javafx.geometry.NodeOrientation.LEFT_TO_RIGHT;
@@ -209,6 +210,12 @@ final public class SimpleSelector extends Selector {
             {
                 return false;
             }
+        } else if (nodeOrientation != INHERIT && styleable instanceof StyleableSnapshot) {
+            // the orientation was resolved when the snapshot was taken
+            final NodeOrientation orientation = ((StyleableSnapshot)styleable).getNodeOrientation();
+            if (orientation != null && orientation != nodeOrientation) {
+                return false;
+            }
         }
 
         // if the selector has an id,
@@ -34,6 +34,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -63,6 +64,7 @@ import com.sun.javafx.css.StyleCache;
 import com.sun.javafx.css.StyleCacheEntry;
 import com.sun.javafx.css.StyleManager;
 import com.sun.javafx.css.StyleMap;
+import com.sun.javafx.scene.CssFlags;
 import javafx.css.converter.FontConverter;
 import com.sun.javafx.util.Logging;
 import com.sun.javafx.util.Utils;
@@ -226,6 +228,76 @@ final class CssStyleHelper {
         }
 
     }
+
+    //
+    // If javafx.css.parallelMatching is true, the selectors for the nodes
+    // that will have CSS reapplied in a CSS pass are matched on the common
+    // ForkJoinPool before the pass. The state the selectors depend on is
+    // copied from the nodes on the FX thread first, so the nodes can be
+    // matched concurrently while the FX thread waits. Creating the style
+    // helpers and applying the styles is still done on the FX thread, by the
+    // CSS pass.
+    //
+    private static final boolean PARALLEL_MATCHING =
+            PropertyHelper.getBooleanProperty("javafx.css.parallelMatching");
+
+    // Below this number of nodes, matching in parallel isn't worth the
+    // overhead.
+    private static final int PARALLEL_MATCHING_THRESHOLD = 256;
+
+    /*
+     * Called before processCSS on the root of a scene.
+     */
+    static void prematchStyles(Parent root) {
+
+        if (PARALLEL_MATCHING == false) return;
+
+        final List<Node> nodes = new ArrayList<>();
+        collectNodesToReapply(root, false, nodes);
+
+        if (nodes.size() >= PARALLEL_MATCHING_THRESHOLD) {
+            StyleManager.getInstance().prematchStyles(nodes, ForkJoinPool.commonPool());
+        }
+    }
+
+    /*
+     * Called after processCSS on the root of a scene.
+     */
+    static void clearPrematchedStyles() {
+
+        if (PARALLEL_MATCHING == false) return;
+
+        StyleManager.getInstance().clearPrematchedStyles();
+    }
+
+    //
+    // A node whose cssFlag is REAPPLY will have a new style helper created for it
+    // and for each of its descendants. A node that is otherwise not CLEAN may have
+    // descendants that need CSS reapplied.
+    //
+    private static void collectNodesToReapply(Node node, boolean reapply, List<Node> nodes) {
+
+        reapply = reapply || node.cssFlag == CssFlags.REAPPLY;
+
+        if (reapply) {
+            nodes.add(node);
+        } else if (node.cssFlag == CssFlags.CLEAN) {
+            return;
+        }
+
+        if (node instanceof Parent) {
+            final List<Node> children = ((Parent) node).getChildren();
+            for (int n = 0, nMax = children.size(); n < nMax; n++) {
+                collectNodesToReapply(children.get(n), reapply, nodes);
+            }
+        } else if (node instanceof SubScene) {
+            final Node subSceneRoot = ((SubScene) node).getRoot();
+            if (subSceneRoot != null) {
+                collectNodesToReapply(subSceneRoot, reapply, nodes);
+            }
+        }
+    }
+
     //
     // return true if the fontStyleableProperty's origin is USER
     //
@@ -111,6 +111,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import com.sun.glass.ui.Accessible;
 import com.sun.glass.ui.Application;
@@ -162,6 +163,9 @@ import com.sun.scenario.effect.EffectHelper;
 import javafx.scene.shape.Shape3D;
 import com.sun.javafx.logging.PlatformLogger;
 import com.sun.javafx.logging.PlatformLogger.Level;
+import com.sun.javafx.logging.PulseLogger;
+
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 
 /**
  * Base class for scene graph nodes. A scene graph is a set of tree data structures
@@ -2089,12 +2093,32 @@ public abstract class Node implements EventTarget, Styleable {
             doCSSLayoutSyncForSnapshot();
         }
 
-        BaseTransform transform = BaseTransform.IDENTITY_TRANSFORM;
-        if (params.getTransform() != null) {
-            Affine3D tempTx = new Affine3D();
-            TransformHelper.apply(params.getTransform(), tempTx);
-            transform = tempTx;
+        return renderSnapshot(params, img, null);
+    }
+
+    /*
+     * Variant of doSnapshot that does not wait for the rendering to complete.
+     * The listener is called on the FX thread with the image once it has been
+     * rendered, or with null if it could not be rendered. This node must not
+     * be modified until then. The camera of the params is not used.
+     */
+    void doSnapshotAsync(SnapshotParameters params, WritableImage img, Consumer<WritableImage> listener) {
+        if (getScene() != null) {
+            getScene().doCSSLayoutSyncForSnapshot(this);
+        } else {
+            doCSSLayoutSyncForSnapshot();
         }
+
+        renderSnapshot(params, img, listener);
+    }
+
+    // Renders this node, which must have had CSS, layout and sync done. If the
+    // listener is null, the rendered image is returned, else the image is passed
+    // to the listener when it has been rendered and null is returned.
+    private WritableImage renderSnapshot(SnapshotParameters params, WritableImage img,
+            Consumer<WritableImage> listener) {
+
+        BaseTransform transform = getSnapshotTransform(params);
         double x;
         double y;
         double w;
@@ -2116,6 +2140,14 @@ public abstract class Node implements EventTarget, Styleable {
             w = tempBounds.getWidth();
             h = tempBounds.getHeight();
         }
+
+        if (listener != null) {
+            Scene.doSnapshotAsync(getScene(), x, y, w, h,
+                    this, transform, params.isDepthBufferInternal(),
+                    params.getFill(), img, listener);
+            return null;
+        }
+
         WritableImage result = Scene.doSnapshot(getScene(), x, y, w, h,
                 this, transform, params.isDepthBufferInternal(),
                 params.getFill(), params.getEffectiveCamera(), img);
@@ -2123,6 +2155,15 @@ public abstract class Node implements EventTarget, Styleable {
         return result;
     }
 
+    private static BaseTransform getSnapshotTransform(SnapshotParameters params) {
+        if (params.getTransform() == null) {
+            return BaseTransform.IDENTITY_TRANSFORM;
+        }
+        Affine3D tempTx = new Affine3D();
+        TransformHelper.apply(params.getTransform(), tempTx);
+        return tempTx;
+    }
+
     /**
      * Takes a snapshot of this node and returns the rendered image when
      * it is ready.
@@ -2313,6 +2354,117 @@ public abstract class Node implements EventTarget, Styleable {
         Scene.addSnapshotRunnable(snapshotRunnable);
     }
 
+    /**
+     * Takes a snapshot of this node and delivers it to the given sink in
+     * tiles, rather than as a single image. This allows snapshots to be taken
+     * that are too large to be held in memory, for example to encode them
+     * to a file as they are rendered. At most four tile images, one for each
+     * distinct tile size, are allocated, regardless of the size of the
+     * snapshot.
+     * <p>
+     * The snapshot covers the same area, and is rendered in the same way, as
+     * the image returned by {@link #snapshot(SnapshotParameters, WritableImage)}
+     * when no image is supplied. It is divided into tiles of the given size,
+     * except for the tiles at the right and bottom edges, which are smaller if
+     * the size of the snapshot is not a multiple of the tile size. The tiles
+     * are rendered and passed to the sink one at a time, row by row from left
+     * to right. A tile width that is at least the width of the snapshot
+     * delivers the snapshot in horizontal bands, which suits encoders that
+     * write images one row at a time.
+     * <p>
+     * The sink is called on the JavaFX Application Thread before this
+     * method returns. It must not modify this node, or any of its children.
+     * The camera specified by the SnapshotParameters is not used; the
+     * snapshot is always rendered with a parallel camera.
+     *
+     * @param params the snapshot parameters containing attributes that
+     * will control the rendering. If the SnapshotParameters object is null,
+     * then the Scene's attributes will be used if this node is part of a scene,
+     * or default attributes will be used if this node is not part of a scene.
+     * @param tileWidth the maximum width of a tile in pixels
+     * @param tileHeight the maximum height of a tile in pixels
+     * @param sink the consumer that is called with each tile
+     *
+     * @throws IllegalStateException if this method is called on a thread
+     *     other than the JavaFX Application Thread.
+     * @throws IllegalArgumentException if {@code tileWidth} or
+     *     {@code tileHeight} is less than 1
+     * @throws NullPointerException if {@code sink} is null
+     *
+     * @since 22
+     */
+    public void snapshotTiles(SnapshotParameters params, int tileWidth, int tileHeight,
+            Consumer<SnapshotTile> sink) {
+
+        Toolkit.getToolkit().checkFxUserThread();
+        if (tileWidth < 1 || tileHeight < 1) {
+            throw new IllegalArgumentException("The tile size must be at least 1x1");
+        }
+        if (sink == null) {
+            throw new NullPointerException("The sink must not be null");
+        }
+
+        if (params == null) {
+            params = new SnapshotParameters();
+            Scene s = getScene();
+            if (s != null) {
+                params.setDepthBuffer(s.isDepthBufferInternal());
+                params.setFill(s.getFill());
+            }
+        }
+
+        if (getScene() != null) {
+            getScene().doCSSLayoutSyncForSnapshot(this);
+        } else {
+            doCSSLayoutSyncForSnapshot();
+        }
+
+        BaseTransform transform = getSnapshotTransform(params);
+        double x;
+        double y;
+        double w;
+        double h;
+        Rectangle2D viewport = params.getViewport();
+        if (viewport != null) {
+            x = viewport.getMinX();
+            y = viewport.getMinY();
+            w = viewport.getWidth();
+            h = viewport.getHeight();
+        } else {
+            BaseBounds tempBounds = TempState.getInstance().bounds;
+            tempBounds = getTransformedBounds(tempBounds, transform);
+            x = tempBounds.getMinX();
+            y = tempBounds.getMinY();
+            w = tempBounds.getWidth();
+            h = tempBounds.getHeight();
+        }
+
+        // The integer area covered by the snapshot, as in Scene.doSnapshot
+        final int xMin = (int)Math.floor(x);
+        final int yMin = (int)Math.floor(y);
+        final int width = Math.max((int)Math.ceil(x + w) - xMin, 1);
+        final int height = Math.max((int)Math.ceil(y + h) - yMin, 1);
+
+        // Tiles at the right and bottom edges may be smaller than the others,
+        // so there are at most four distinct tile sizes
+        final WritableImage[] tileImages = new WritableImage[4];
+        for (int ty = 0; ty < height; ty += tileHeight) {
+            final int th = Math.min(tileHeight, height - ty);
+            for (int tx = 0; tx < width; tx += tileWidth) {
+                final int tw = Math.min(tileWidth, width - tx);
+                final int index = (tw < tileWidth ? 1 : 0) | (th < tileHeight ? 2 : 0);
+                WritableImage tileImage = tileImages[index];
+                if (tileImage == null) {
+                    tileImage = tileImages[index] = new WritableImage(tw, th);
+                }
+                Scene.doSnapshot(getScene(), xMin + tx, yMin + ty, tw, th,
+                        this, transform, params.isDepthBufferInternal(),
+                        params.getFill(), null, tileImage);
+                sink.accept(new SnapshotTile(tileImage, tx, ty, width, height));
+            }
+        }
+    }
+
     /* ************************************************************************
      *                                                                        *
      *
@@ -9493,8 +9645,16 @@ public abstract class Node implements EventTarget, Styleable {
         // CSS state is "REAPPLY"
         cssFlag = CssFlags.REAPPLY;
 
+        final boolean nodeStatistics = PULSE_LOGGING_ENABLED && PulseLogger.isNodeStatisticsEnabled();
+        final long start = nodeStatistics ? System.nanoTime() : 0L;
+
         styleHelper = CssStyleHelper.createStyleHelper(this);
 
+        if (nodeStatistics) {
+            // The node is counted when its styles are applied in doProcessCSS
+            PulseLogger.addNodeStatistics(getClass(), 0, System.nanoTime() - start);
+        }
+
         // REAPPLY to my children, too.
         if (this instanceof Parent) {
 
@@ -9682,10 +9842,17 @@ public abstract class Node implements EventTarget, Styleable {
         // other than clean by downstream processing.
         cssFlag = CssFlags.CLEAN;
 
+        final boolean nodeStatistics = PULSE_LOGGING_ENABLED && PulseLogger.isNodeStatisticsEnabled();
+        final long start = nodeStatistics ? System.nanoTime() : 0L;
+
         // Transition to the new state and apply styles
         if (styleHelper != null && getScene() != null) {
             styleHelper.transitionToState(this);
         }
+
+        if (nodeStatistics) {
+            PulseLogger.addNodeStatistics(getClass(), 1, System.nanoTime() - start);
+        }
     }
 
 
@@ -48,6 +48,7 @@ import com.sun.javafx.geom.Point2D;
 import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.NoninvertibleTransformException;
+import com.sun.javafx.logging.PulseLogger;
 import com.sun.javafx.scene.CssFlags;
 import com.sun.javafx.scene.DirtyBits;
 import com.sun.javafx.scene.input.PickResultChooser;
@@ -61,6 +62,8 @@ import com.sun.javafx.stage.WindowHelper;
 import java.util.Collections;
 import javafx.stage.Window;
 
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+
 /**
  * The base class for all nodes that have children in the scene graph.
  * <p>
@@ -1205,7 +1208,13 @@ public abstract class Parent extends Node {
                     break;
                 }
                 performingLayout = true;
-                layoutChildren();
+                if (PULSE_LOGGING_ENABLED && PulseLogger.isNodeStatisticsEnabled()) {
+                    final long start = System.nanoTime();
+                    layoutChildren();
+                    PulseLogger.addNodeStatistics(getClass(), 1, System.nanoTime() - start);
+                } else {
+                    layoutChildren();
+                }
                 // Intended fall-through
             case DIRTY_BRANCH:
                 for (int i = 0, max = children.size(); i < max; i++) {
@@ -91,6 +91,7 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import com.sun.javafx.logging.PulseLogger;
 
@@ -584,7 +585,12 @@ public class Scene implements EventTarget {
             // The cssFlag is set to clean in either Node.processCSS or
             // NodeHelper.processCSS
             sceneRoot.clearDirty(com.sun.javafx.scene.DirtyBits.NODE_CSS);
-            sceneRoot.processCSS();
+            CssStyleHelper.prematchStyles(sceneRoot);
+            try {
+                sceneRoot.processCSS();
+            } finally {
+                CssStyleHelper.clearPrematchedStyles();
+            }
         }
     }
 
@@ -1305,62 +1311,32 @@ public class Scene implements EventTarget {
             Paint fill, Camera camera, WritableImage wimg) {
 
         Toolkit tk = Toolkit.getToolkit();
-        Toolkit.ImageRenderingContext context = new Toolkit.ImageRenderingContext();
 
-        int xMin = (int)Math.floor(x);
-        int yMin = (int)Math.floor(y);
-        int width;
-        int height;
         if (wimg == null) {
-            int xMax = (int)Math.ceil(x + w);
-            int yMax = (int)Math.ceil(y + h);
-            width = Math.max(xMax - xMin, 1);
-            height = Math.max(yMax - yMin, 1);
-            wimg = new WritableImage(width, height);
-        } else {
-            width = (int)wimg.getWidth();
-            height = (int)wimg.getHeight();
+            wimg = createSnapshotImage(x, y, w, h);
         }
 
         setAllowPGAccess(true);
-        context.x = xMin;
-        context.y = yMin;
-        context.width = width;
-        context.height = height;
-        context.transform = transform;
-        context.depthBuffer = depthBuffer;
-        context.root = root.getPeer();
-        context.platformPaint = fill == null ? null : tk.getPaint(fill);
+        Toolkit.ImageRenderingContext context = createSnapshotContext(scene, x, y,
+                root, transform, depthBuffer, fill, wimg);
         double cameraViewWidth = 1.0;
         double cameraViewHeight = 1.0;
         if (camera != null) {
             // temporarily adjust camera viewport to the snapshot size
             cameraViewWidth = camera.getViewWidth();
             cameraViewHeight = camera.getViewHeight();
-            camera.setViewWidth(width);
-            camera.setViewHeight(height);
+            camera.setViewWidth(context.width);
+            camera.setViewHeight(context.height);
             NodeHelper.updatePeer(camera);
             context.camera = camera.getPeer();
         } else {
             context.camera = null;
         }
-
-        // Grab the lights from the scene
-        context.lights = null;
-        if (scene != null && !scene.lights.isEmpty()) {
-            context.lights = new NGLightBase[scene.lights.size()];
-            for (int i = 0; i < scene.lights.size(); i++) {
-                context.lights[i] = scene.lights.get(i).getPeer();
-            }
-        }
-
-        Toolkit.WritableImageAccessor accessor = Toolkit.getWritableImageAccessor();
-        context.platformImage = accessor.getTkImageLoader(wimg);
         setAllowPGAccess(false);
         Object tkImage = tk.renderToImage(context);
 
         if (tkImage != null) {
-            accessor.loadTkImage(wimg, tkImage);
+            Toolkit.getWritableImageAccessor().loadTkImage(wimg, tkImage);
         }
 
         if (camera != null) {
@@ -1381,6 +1357,76 @@ public class Scene implements EventTarget {
         return wimg;
     }
 
+    // Variant of doSnapshot that does not wait for the rendering to complete.
+    // The listener is called on the FX thread with the image once it has been
+    // rendered, or with null if it could not be rendered. The peers of root
+    // must not be modified until then. Rendering is always done with the
+    // default camera.
+    static void doSnapshotAsync(Scene scene,
+            double x, double y, double w, double h,
+            Node root, BaseTransform transform, boolean depthBuffer,
+            Paint fill, WritableImage wimg, Consumer<WritableImage> listener) {
+
+        Toolkit tk = Toolkit.getToolkit();
+
+        final WritableImage image = wimg != null ? wimg : createSnapshotImage(x, y, w, h);
+
+        setAllowPGAccess(true);
+        Toolkit.ImageRenderingContext context = createSnapshotContext(scene, x, y,
+                root, transform, depthBuffer, fill, image);
+        context.camera = null;
+        setAllowPGAccess(false);
+
+        tk.renderToImage(context, tkImage -> tk.defer(() -> {
+            if (tkImage != null) {
+                Toolkit.getWritableImageAccessor().loadTkImage(image, tkImage);
+            }
+            listener.accept(tkImage != null ? image : null);
+        }));
+    }
+
+    private static WritableImage createSnapshotImage(double x, double y, double w, double h) {
+        int xMin = (int)Math.floor(x);
+        int yMin = (int)Math.floor(y);
+        int xMax = (int)Math.ceil(x + w);
+        int yMax = (int)Math.ceil(y + h);
+        int width = Math.max(xMax - xMin, 1);
+        int height = Math.max(yMax - yMin, 1);
+        return new WritableImage(width, height);
+    }
+
+    // Must be called with PG access allowed. The camera is left to the caller.
+    private static Toolkit.ImageRenderingContext createSnapshotContext(Scene scene,
+            double x, double y, Node root, BaseTransform transform,
+            boolean depthBuffer, Paint fill, WritableImage wimg) {
+
+        Toolkit tk = Toolkit.getToolkit();
+        Toolkit.ImageRenderingContext context = new Toolkit.ImageRenderingContext();
+
+        context.x = (int)Math.floor(x);
+        context.y = (int)Math.floor(y);
+        context.width = (int)wimg.getWidth();
+        context.height = (int)wimg.getHeight();
+        context.transform = transform;
+        context.depthBuffer = depthBuffer;
+        context.root = root.getPeer();
+        context.platformPaint = fill == null ? null : tk.getPaint(fill);
+
+        // Grab the lights from the scene
+        context.lights = null;
+        if (scene != null && !scene.lights.isEmpty()) {
+            context.lights = new NGLightBase[scene.lights.size()];
+            for (int i = 0; i < scene.lights.size(); i++) {
+                context.lights[i] = scene.lights.get(i).getPeer();
+            }
+        }
+
+        Toolkit.WritableImageAccessor accessor = Toolkit.getWritableImageAccessor();
+        context.platformImage = accessor.getTkImageLoader(wimg);
+
+        return context;
+    }
+
     /**
      * Implementation method for snapshot
      */
@@ -2477,13 +2523,20 @@ public class Scene implements EventTarget {
             } else {
                 // This is not the first time this scene has been synchronized,
                 // so we will only synchronize those nodes that need it
+                final boolean nodeStatistics = PULSE_LOGGING_ENABLED && PulseLogger.isNodeStatisticsEnabled();
                 for (int i = 0 ; i < dirtyNodesSize; ++i) {
                     Node node = dirtyNodes[i];
                     dirtyNodes[i] = null;
                     if (node.getScene() == Scene.this) {
+                        if (nodeStatistics) {
+                            final long start = System.nanoTime();
+                            node.syncPeer();
+                            PulseLogger.addNodeStatistics(node.getClass(), 1, System.nanoTime() - start);
+                        } else {
                             node.syncPeer();
                         }
                     }
+                }
                 dirtyNodesSize = 0;
             }
 
@@ -2495,7 +2548,13 @@ public class Scene implements EventTarget {
          * The return value is the number of nodes in the graph.
          */
         private int syncAll(Node node) {
-            node.syncPeer();
+            if (PULSE_LOGGING_ENABLED && PulseLogger.isNodeStatisticsEnabled()) {
+                final long start = System.nanoTime();
+                node.syncPeer();
+                PulseLogger.addNodeStatistics(node.getClass(), 1, System.nanoTime() - start);
+            } else {
+                node.syncPeer();
+            }
             int size = 1;
             if (node instanceof Parent) {
                 Parent p = (Parent) node;
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javafx.scene.image.WritableImage;
+import javafx.util.Duration;
+import com.sun.javafx.tk.Toolkit;
+
+/**
+ * Renders scene graphs that are not shown in any window to images. This is
+ * intended for applications that produce images rather than display them,
+ * for example a server that renders charts or reports.
+ * <p>
+ * Each job submitted to the service renders its content in the same way as
+ * {@link Node#snapshot(SnapshotParameters, WritableImage)}: CSS and layout
+ * are applied to the content, which is then rendered to a new
+ * {@code WritableImage}. Unlike {@code Node.snapshot}, the JavaFX Application
+ * Thread does not wait for the rendering of a job to finish. The service
+ * prepares the next jobs while earlier jobs are being rendered, so the time
+ * spent in CSS and layout overlaps with the time spent rendering.
+ * <p>
+ * Jobs may be submitted from any thread. They wait in a queue of bounded
+ * capacity, and {@link #submit submit} rejects jobs when the queue is full,
+ * so that producers cannot get arbitrarily far ahead of the renderer. The
+ * content of a job must not be part of a scene, and must not be modified
+ * until its job completes. It is made the root of a scene owned by the
+ * service while the job runs, and is removed from it again afterwards.
+ * <p>
+ * The futures returned by {@code submit} are completed on the JavaFX
+ * Application Thread. The JavaFX runtime must have been started, for example
+ * with {@link javafx.application.Platform#startup(Runnable)}, but no
+ * {@code Stage} needs to be shown.
+ *
+ * @since 22
+ */
+public final class SnapshotService {
+
+    /*
+     * The maximum number of jobs that have been prepared, but not rendered.
+     * Two is enough to keep the render thread busy while the FX thread
+     * prepares the next job, and keeps the number of scene graphs that must
+     * not be modified small.
+     */
+    private static final int MAX_RENDERS_IN_FLIGHT = 2;
+
+    private final BlockingQueue<Job> queue;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private volatile boolean shutdown;
+
+    // Accessed on the FX thread only
+    private int rendersInFlight;
+    private boolean draining;
+
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong prepareNanos = new AtomicLong();
+    private final AtomicLong renderNanos = new AtomicLong();
+
+    /**
+     * Creates a {@code SnapshotService} that queues at most the given
+     * number of jobs.
+     *
+     * @param capacity the maximum number of jobs waiting to be prepared
+     * @throws IllegalArgumentException if {@code capacity} is less than 1
+     */
+    public SnapshotService(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Submits a job that renders the given content. This method may be called
+     * on any thread.
+     * <p>
+     * The returned future is completed with the rendered image, or completed
+     * exceptionally if the content could not be rendered, for example
+     * because it is part of a scene. Cancelling the future before the job has
+     * started removes the job from the service.
+     *
+     * @param content the node to render
+     * @param params the snapshot parameters, or null to use default
+     *     parameters. The parameters are copied, and the camera is not used.
+     * @return a future that is completed with the rendered image
+     * @throws NullPointerException if {@code content} is null
+     * @throws RejectedExecutionException if the queue is full, or the
+     *     service has been shut down
+     */
+    public CompletableFuture<WritableImage> submit(Node content, SnapshotParameters params) {
+        Objects.requireNonNull(content, "content must not be null");
+
+        Job job = new Job(content, params != null ? params.copy() : new SnapshotParameters());
+        if (shutdown) {
+            rejectedCount.incrementAndGet();
+            throw new RejectedExecutionException("SnapshotService has been shut down");
+        }
+        if (!queue.offer(job)) {
+            rejectedCount.incrementAndGet();
+            throw new RejectedExecutionException("SnapshotService queue is full");
+        }
+        submittedCount.incrementAndGet();
+        scheduleDrain();
+        return job.future;
+    }
+
+    /**
+     * Shuts down this service. Jobs that have not been started are cancelled
+     * and no new jobs are accepted. Jobs that are already being rendered
+     * complete normally. This method may be called on any thread.
+     */
+    public void shutdown() {
+        shutdown = true;
+        Job job;
+        while ((job = queue.poll()) != null) {
+            job.future.cancel(false);
+        }
+    }
+
+    /**
+     * Returns whether {@link #shutdown} has been called.
+     *
+     * @return true if this service has been shut down
+     */
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Returns the number of jobs waiting to be prepared.
+     *
+     * @return the number of queued jobs
+     */
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the number of jobs accepted by {@link #submit submit}.
+     *
+     * @return the number of submitted jobs
+     */
+    public long getSubmittedCount() {
+        return submittedCount.get();
+    }
+
+    /**
+     * Returns the number of jobs that completed with a rendered image.
+     *
+     * @return the number of completed jobs
+     */
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+
+    /**
+     * Returns the number of jobs that completed exceptionally.
+     *
+     * @return the number of failed jobs
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * Returns the number of jobs rejected by {@link #submit submit}.
+     *
+     * @return the number of rejected jobs
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * Returns the total time spent on the JavaFX Application Thread to apply
+     * CSS and layout to the content of jobs and to prepare it for rendering.
+     *
+     * @return the total preparation time
+     */
+    public Duration getTotalPrepareTime() {
+        return Duration.millis(prepareNanos.get() / 1e6);
+    }
+
+    /**
+     * Returns the total time between the end of the preparation of jobs and
+     * the completion of their rendering.
+     *
+     * @return the total rendering time
+     */
+    public Duration getTotalRenderTime() {
+        return Duration.millis(renderNanos.get() / 1e6);
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            Toolkit.getToolkit().defer(this::drain);
+        }
+    }
+
+    // Called on the FX thread
+    private void drain() {
+        drainScheduled.set(false);
+        // A toolkit that renders and defers synchronously completes jobs, and
+        // so calls drain again, from within start. The loop below then picks
+        // up whatever those calls would have started.
+        if (draining) {
+            return;
+        }
+
+        draining = true;
+        try {
+            Job job;
+            while (rendersInFlight < MAX_RENDERS_IN_FLIGHT && (job = queue.poll()) != null) {
+                if (shutdown) {
+                    job.future.cancel(false);
+                } else if (!job.future.isDone()) {
+                    start(job);
+                }
+            }
+        } finally {
+            draining = false;
+        }
+    }
+
+    private void start(Job job) {
+        final Node content = job.content;
+        final long startTime = System.nanoTime();
+        Scene scene = null;
+        try {
+            if (content.getScene() != null || content.getParent() != null) {
+                throw new IllegalArgumentException("content must not be part of a scene");
+            }
+            scene = new Scene(content instanceof Parent p ? p : new Group(content));
+
+            final Scene jobScene = scene;
+            rendersInFlight++;
+            content.doSnapshotAsync(job.params, null, image -> {
+                // The listener runs later on the FX thread, unless the toolkit
+                // renders and defers synchronously, as its default
+                // implementation does. The job is then not yet prepared, and
+                // its rendering time counts as preparation time.
+                if (job.prepared != 0) {
+                    renderNanos.addAndGet(System.nanoTime() - job.prepared);
+                }
+                rendersInFlight--;
+                finish(job, jobScene, image, null);
+                drain();
+            });
+            job.prepared = System.nanoTime();
+            prepareNanos.addAndGet(job.prepared - startTime);
+        } catch (RuntimeException e) {
+            if (scene != null) {
+                rendersInFlight--;
+            }
+            finish(job, scene, null, e);
+        }
+    }
+
+    private void finish(Job job, Scene scene, WritableImage image, Throwable failure) {
+        if (scene != null) {
+            // Detach the content so that it can be reused
+            Parent root = scene.getRoot();
+            scene.setRoot(new Group());
+            if (root != job.content) {
+                ((Group) root).getChildren().clear();
+            }
+        }
+
+        if (image != null) {
+            completedCount.incrementAndGet();
+            job.future.complete(image);
+        } else {
+            failedCount.incrementAndGet();
+            job.future.completeExceptionally(failure != null ? failure
+                    : new IllegalStateException("snapshot could not be rendered"));
+        }
+    }
+
+    private static final class Job {
+        final Node content;
+        final SnapshotParameters params;
+        final CompletableFuture<WritableImage> future = new CompletableFuture<>();
+        long prepared;
+
+        Job(Node content, SnapshotParameters params) {
+            this.content = content;
+            this.params = params;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene;
+
+import javafx.scene.image.WritableImage;
+
+/**
+ * A tile of a snapshot that is delivered in tiles by
+ * {@link Node#snapshotTiles(SnapshotParameters, int, int, java.util.function.Consumer)}.
+ *
+ * @since 22
+ */
+public final class SnapshotTile {
+    private final WritableImage image;
+    private final int x;
+    private final int y;
+    private final int snapshotWidth;
+    private final int snapshotHeight;
+
+    // Package scope constructor
+    SnapshotTile(WritableImage image, int x, int y, int snapshotWidth, int snapshotHeight) {
+        this.image = image;
+        this.x = x;
+        this.y = y;
+        this.snapshotWidth = snapshotWidth;
+        this.snapshotHeight = snapshotHeight;
+    }
+
+    /**
+     * Gets the image holding the pixels of this tile. The image is reused
+     * for later tiles of the same size, so its pixels must be copied if they
+     * are needed after the sink has returned.
+     *
+     * @return the image of this tile
+     */
+    public WritableImage getImage() {
+        return image;
+    }
+
+    /**
+     * Gets the x coordinate of the upper-left pixel of this tile in the
+     * snapshot.
+     *
+     * @return the x coordinate of this tile
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the y coordinate of the upper-left pixel of this tile in the
+     * snapshot.
+     *
+     * @return the y coordinate of this tile
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Gets the width of the whole snapshot.
+     *
+     * @return the width of the snapshot in pixels
+     */
+    public int getSnapshotWidth() {
+        return snapshotWidth;
+    }
+
+    /**
+     * Gets the height of the whole snapshot.
+     *
+     * @return the height of the snapshot in pixels
+     */
+    public int getSnapshotHeight() {
+        return snapshotHeight;
+    }
+}
@@ -38,6 +38,10 @@ import com.sun.javafx.scene.canvas.CanvasHelper;
 import com.sun.javafx.sg.prism.GrowableDataBuffer;
 import com.sun.javafx.sg.prism.NGCanvas;
 import com.sun.javafx.sg.prism.NGNode;
+import com.sun.javafx.tk.TKPulseListener;
+import com.sun.javafx.tk.Toolkit;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * {@code Canvas} is an image that can be drawn on using a set of graphics
@@ -106,8 +110,17 @@ public class Canvas extends Node {
     private int recentobjsizes[];
     private int lastsizeindex;
 
+    // The area, in local coordinates, that the commands in the current
+    // buffer may change, so that only that part of the scene is repainted.
+    private final RectBounds damage = new RectBounds();
+    private boolean damageAll;
+
     private GraphicsContext theContext;
 
+    // The latest frame passed to present() that has not been shown yet.
+    private final AtomicReference<DisplayList> pendingFrame = new AtomicReference<>();
+    private TKPulseListener presentListener;
+
     {
         // To initialize the class helper at the begining each constructor of this class
         CanvasHelper.initHelper(this);
@@ -153,6 +166,41 @@ public class Canvas extends Node {
         return current;
     }
 
+    // Hands the commands recorded so far over to the caller, used to
+    // record a DisplayList with a canvas that is never rendered.
+    GrowableDataBuffer takeBuffer() {
+        GrowableDataBuffer buf = current;
+        current = null;
+        clearDamage();
+        return buf;
+    }
+
+    void addDamage(RectBounds bounds) {
+        if (!damageAll) {
+            if (Float.isNaN(bounds.getMinX() + bounds.getMinY() +
+                            bounds.getMaxX() + bounds.getMaxY()))
+            {
+                damageAll = true;
+            } else {
+                damage.unionWith(bounds);
+            }
+        }
+    }
+
+    void damageAll() {
+        damageAll = true;
+    }
+
+    // used for testing, returns null if all of the canvas is damaged
+    RectBounds getDamage() {
+        return damageAll ? null : damage;
+    }
+
+    private void clearDamage() {
+        damage.makeEmpty();
+        damageAll = false;
+    }
+
     boolean isRendererFallingBehind() {
         return rendererBehind;
     }
@@ -168,6 +216,46 @@ public class Canvas extends Node {
         return theContext;
     }
 
+    /**
+     * Replaces the contents of this {@code Canvas} with the given frame at the
+     * start of the next pulse. This method may be called on any thread, which
+     * allows the drawing of a frame to be recorded with
+     * {@link DisplayList#record DisplayList.record} on a background thread
+     * and handed over without blocking the JavaFX Application Thread.
+     * <p>
+     * Only the most recent frame is shown: a frame that is replaced by another
+     * call to {@code present} before the next pulse is dropped. Commands issued
+     * to the {@link GraphicsContext} of this {@code Canvas} before the frame is
+     * shown are discarded, while its rendering attributes and transform are kept.
+     *
+     * @param frame the frame to show
+     * @throws NullPointerException if {@code frame} is {@code null}
+     * @since 22
+     */
+    public void present(DisplayList frame) {
+        Objects.requireNonNull(frame, "frame must not be null.");
+        if (pendingFrame.getAndSet(frame) == null) {
+            Toolkit toolkit = Toolkit.getToolkit();
+            toolkit.addStageTkPulseListener(getPresentListener());
+            toolkit.requestNextPulse();
+        }
+    }
+
+    private synchronized TKPulseListener getPresentListener() {
+        if (presentListener == null) {
+            presentListener = () -> {
+                // remove the listener before taking the frame, so that a frame
+                // presented concurrently registers it again
+                Toolkit.getToolkit().removeStageTkPulseListener(presentListener);
+                DisplayList frame = pendingFrame.getAndSet(null);
+                if (frame != null) {
+                    getGraphicsContext2D().present(frame.getCommands());
+                }
+            };
+        }
+        return presentListener;
+    }
+
     /**
      * Defines the width of the canvas.
      *
@@ -273,8 +361,14 @@ public class Canvas extends Node {
                 }
                 recentvalsizes[lastsizeindex] = current.writeValuePosition();
                 recentobjsizes[lastsizeindex] = current.writeObjectPosition();
-                rendererBehind = peer.updateRendering(current);
+                RectBounds changed = null;
+                if (!damageAll) {
+                    damage.intersectWith(0, 0, (float) getWidth(), (float) getHeight());
+                    changed = damage;
+                }
+                rendererBehind = peer.updateRendering(current, changed);
                 current = null;
+                clearDamage();
             }
         }
     }
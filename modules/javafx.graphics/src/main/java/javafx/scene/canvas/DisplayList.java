@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.canvas;
+
+import com.sun.javafx.sg.prism.GrowableDataBuffer;
+import com.sun.javafx.sg.prism.NGCanvasPicture;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * An immutable sequence of drawing operations that were recorded from a
+ * {@link GraphicsContext} and can be drawn into any number of {@link Canvas}
+ * nodes, any number of times, with
+ * {@link GraphicsContext#drawDisplayList(DisplayList) drawDisplayList}.
+ * <p>
+ * Drawing a display list is much cheaper than issuing its operations again:
+ * the operations are encoded once when the list is recorded, and the renderer
+ * rasterizes them once and reuses the resulting pixels for as long as the
+ * display list is drawn with the same transform, up to a translation by whole
+ * pixels. A display list is therefore well suited for static layers, like the
+ * grid and axes of a plot, that are drawn again in every frame.
+ * <p>
+ * The operations are recorded with a fresh set of rendering attributes, and
+ * their results are clipped to the bounds given when recording, which are
+ * positioned at the origin of the coordinate system in effect when the display
+ * list is drawn.
+ * <p>
+ * Example code that records a grid and draws it at the start of each frame:
+ * <pre>{@code  DisplayList grid = DisplayList.record(width, height, gc -> {
+ *     gc.setStroke(Color.LIGHTGRAY);
+ *     for (int x = 0; x < width; x += 10) {
+ *         gc.strokeLine(x, 0, x, height);
+ *     }
+ * });
+ * ...
+ * gc.clearRect(0, 0, width, height);
+ * gc.drawDisplayList(grid);}</pre>
+ *
+ * <p>
+ * Because a display list can be recorded on any thread, it can also be used
+ * to prepare complete frames in the background and hand them to a
+ * {@code Canvas} with {@link Canvas#present(DisplayList)}.
+ *
+ * @see GraphicsContext#drawDisplayList(DisplayList)
+ * @see GraphicsContext#drawDisplayList(DisplayList, javafx.scene.transform.Affine)
+ * @since 22
+ */
+public final class DisplayList {
+
+    private final double width;
+    private final double height;
+    private final GrowableDataBuffer commands;
+    private final NGCanvasPicture picture;
+
+    private DisplayList(double width, double height, GrowableDataBuffer commands) {
+        this.width = width;
+        this.height = height;
+        this.commands = commands;
+        this.picture = new NGCanvasPicture((float) width, (float) height, commands);
+    }
+
+    /**
+     * Records a new {@code DisplayList} of the given size. The {@code drawing}
+     * function is invoked once with a {@code GraphicsContext} that records the
+     * operations issued to it. The {@code GraphicsContext} must not be used
+     * after the function returns.
+     * <p>
+     * This method may be called on any thread, as long as the images, fonts and
+     * other objects used by the drawing function are not modified concurrently.
+     *
+     * @param width the width of the recorded area
+     * @param height the height of the recorded area
+     * @param drawing the function that issues the operations to record
+     * @return the recorded {@code DisplayList}
+     * @throws IllegalArgumentException if {@code width} or {@code height} is
+     *         negative or not a number
+     * @throws NullPointerException if {@code drawing} is {@code null}
+     */
+    public static DisplayList record(double width, double height, Consumer<GraphicsContext> drawing) {
+        Objects.requireNonNull(drawing, "drawing must not be null.");
+        if (!(width >= 0 && height >= 0)) {
+            throw new IllegalArgumentException("DisplayList dimensions must not be negative");
+        }
+        Canvas recorder = new Canvas(width, height);
+        drawing.accept(recorder.getGraphicsContext2D());
+        return new DisplayList(width, height, recorder.takeBuffer());
+    }
+
+    /**
+     * Returns the width of the recorded area.
+     *
+     * @return the width of the recorded area
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the recorded area.
+     *
+     * @return the height of the recorded area
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    GrowableDataBuffer getCommands() {
+        return commands;
+    }
+
+    NGCanvasPicture getPicture() {
+        return picture;
+    }
+}
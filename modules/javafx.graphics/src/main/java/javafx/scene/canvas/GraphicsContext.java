@@ -29,6 +29,7 @@ import com.sun.javafx.geom.Arc2D;
 import com.sun.javafx.geom.IllegalPathStateException;
 import com.sun.javafx.geom.Path2D;
 import com.sun.javafx.geom.PathIterator;
+import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.transform.Affine2D;
 import com.sun.javafx.geom.transform.NoninvertibleTransformException;
 import com.sun.javafx.image.*;
@@ -61,6 +62,7 @@ import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
 import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.Objects;
 import javafx.scene.text.FontSmoothingType;
 
 /**
@@ -599,6 +601,7 @@ public final class GraphicsContext {
             while (ctx.curState.numClipPaths > numClipPaths) {
                 ctx.curState.numClipPaths--;
                 ctx.clipStack.removeLast();
+                ctx.clipBounds = null;
                 buf.putByte(NGCanvas.POP_CLIP);
             }
             ctx.setFillRule(fillRule);
@@ -647,6 +650,90 @@ public final class GraphicsContext {
             pathDirty = false;
         }
         buf.putByte(command);
+        // the path segments were already transformed into canvas coordinates
+        RectBounds bounds = path.getBounds();
+        if (command == NGCanvas.STROKE_PATH) {
+            float pad = (float) (strokePad() * transformScale());
+            bounds.grow(pad, pad);
+        }
+        damageCanvas(bounds);
+    }
+
+    private final RectBounds damageBounds = new RectBounds();
+
+    // Adds the area that a command drawn within the given rectangle in user
+    // space may touch to the damage of the canvas.
+    private void damage(double x1, double y1, double x2, double y2, double pad) {
+        damageBounds.setBoundsAndSort((float) x1, (float) y1, (float) x2, (float) y2);
+        damageBounds.grow((float) pad, (float) pad);
+        damageCanvas((RectBounds) curState.transform.transform(damageBounds, damageBounds));
+    }
+
+    private void damageCanvas(RectBounds bounds) {
+        if (curState.effect != null) {
+            // effects may render anywhere on the canvas
+            theCanvas.damageAll();
+            return;
+        }
+        // NaN bounds are left to the canvas, which damages all of it for them
+        if (curState.numClipPaths > 0 && !bounds.isEmpty()) {
+            // nothing is drawn outside of the clip paths
+            bounds.intersectWith(getClipBounds());
+            if (bounds.isEmpty()) {
+                return;
+            }
+        }
+        // antialiasing may touch the pixels just outside of the bounds
+        bounds.grow(1f, 1f);
+        theCanvas.addDamage(bounds);
+    }
+
+    // The intersection of the bounds of the clip paths in canvas space,
+    // or null if it must be computed again after the clip stack changed.
+    private RectBounds clipBounds;
+
+    private RectBounds getClipBounds() {
+        if (clipBounds == null) {
+            clipBounds = clipStack.getFirst().getBounds();
+            for (int i = 1; i < clipStack.size(); i++) {
+                clipBounds.intersectWith(clipStack.get(i).getBounds());
+            }
+        }
+        return clipBounds;
+    }
+
+    // The largest distance from the outline of a shape that a stroke
+    // with the current attributes may reach, in user space.
+    private double strokePad() {
+        double pad = curState.linewidth / 2.0;
+        if (curState.linejoin == StrokeLineJoin.MITER) {
+            return pad * Math.max(curState.miterlimit, SQRT_2);
+        }
+        return pad * SQRT_2;
+    }
+
+    private double strokePad(byte command) {
+        switch (command) {
+            case NGCanvas.STROKE_LINE:
+            case NGCanvas.STROKE_RECT:
+            case NGCanvas.STROKE_OVAL:
+            case NGCanvas.STROKE_ARC:
+            case NGCanvas.STROKE_ROUND_RECT:
+            case NGCanvas.STROKE_PATH:
+            case NGCanvas.STROKE_LINES:
+                return strokePad();
+            default:
+                return 0.0;
+        }
+    }
+
+    private static final double SQRT_2 = Math.sqrt(2.0);
+
+    // An upper bound on how much the current transform scales distances.
+    private double transformScale() {
+        Affine2D tx = curState.transform;
+        return Math.sqrt(tx.getMxx() * tx.getMxx() + tx.getMxy() * tx.getMxy() +
+                         tx.getMyx() * tx.getMyx() + tx.getMyy() * tx.getMyy());
     }
 
     private void writePaint(Paint p, byte command) {
@@ -680,6 +767,12 @@ public final class GraphicsContext {
     private void writeOp4(double x, double y, double w, double h, byte command) {
         updateTransform();
         writeRectParams(getBuffer(), x, y, w, h, command);
+        if (command == NGCanvas.STROKE_LINE) {
+            // the parameters are the two end points of the line
+            damage(x, y, w, h, strokePad(command));
+        } else {
+            damage(x, y, x + w, y + h, strokePad(command));
+        }
     }
 
     private void writeOp6(double x, double y, double w, double h,
@@ -694,6 +787,7 @@ public final class GraphicsContext {
         buf.putFloat((float) h);
         buf.putFloat((float) v1);
         buf.putFloat((float) v2);
+        damage(x, y, x + w, y + h, strokePad(command));
     }
 
     private float polybuf[] = new float[512];
@@ -736,6 +830,57 @@ public final class GraphicsContext {
         buf.putByte(command);
         // Now that we have changed the PG layer path, we need to mark our path dirty.
         markPathDirty();
+        if (nPoints > 0) {
+            double minx = xPoints[0], miny = yPoints[0];
+            double maxx = minx, maxy = miny;
+            for (int i = 1; i < nPoints; i++) {
+                minx = Math.min(minx, xPoints[i]);
+                miny = Math.min(miny, yPoints[i]);
+                maxx = Math.max(maxx, xPoints[i]);
+                maxy = Math.max(maxy, yPoints[i]);
+            }
+            damage(minx, miny, maxx, maxy, strokePad(command));
+        }
+    }
+
+    private void writeBatch(double coords[], int offset, int count, int stride,
+                            float size, byte command)
+    {
+        if (coords == null) return;
+        Objects.checkFromIndexSize(offset, (long) count * stride, coords.length);
+        if (count == 0 || (command == NGCanvas.FILL_POINTS && !(size > 0))) return;
+        float fcoords[] = new float[count * stride];
+        double minx = Double.POSITIVE_INFINITY, miny = Double.POSITIVE_INFINITY;
+        double maxx = Double.NEGATIVE_INFINITY, maxy = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < fcoords.length; i += stride) {
+            for (int j = 0; j < stride; j++) {
+                fcoords[i + j] = (float) coords[offset + i + j];
+            }
+            double x1 = fcoords[i], y1 = fcoords[i + 1];
+            double x2 = x1, y2 = y1;
+            if (command == NGCanvas.FILL_RECTS) {
+                // the width and height may be negative
+                x2 += fcoords[i + 2];
+                y2 += fcoords[i + 3];
+            } else if (command == NGCanvas.STROKE_LINES) {
+                x2 = fcoords[i + 2];
+                y2 = fcoords[i + 3];
+            }
+            minx = Math.min(minx, Math.min(x1, x2));
+            miny = Math.min(miny, Math.min(y1, y2));
+            maxx = Math.max(maxx, Math.max(x1, x2));
+            maxy = Math.max(maxy, Math.max(y1, y2));
+        }
+        updateTransform();
+        GrowableDataBuffer buf = getBuffer();
+        buf.putByte(command);
+        if (command == NGCanvas.FILL_POINTS) {
+            buf.putFloat(size);
+        }
+        buf.putInt(count);
+        buf.putObject(fcoords);
+        double pad = (command == NGCanvas.FILL_POINTS) ? size / 2.0 : strokePad(command);
+        damage(minx, miny, maxx, maxy, pad);
     }
 
     private void writeImage(Image img,
@@ -748,6 +893,7 @@ public final class GraphicsContext {
         GrowableDataBuffer buf = getBuffer();
         writeRectParams(buf, dx, dy, dw, dh, NGCanvas.DRAW_IMAGE);
         buf.putObject(platformImg);
+        damage(dx, dy, dx + dw, dy + dh, 0.0);
     }
 
     private void writeImage(Image img,
@@ -765,6 +911,7 @@ public final class GraphicsContext {
         buf.putFloat((float) sw);
         buf.putFloat((float) sh);
         buf.putObject(platformImg);
+        damage(dx, dy, dx + dw, dy + dh, 0.0);
     }
 
     private void writeText(String text, double x, double y, double maxWidth,
@@ -779,6 +926,8 @@ public final class GraphicsContext {
         buf.putFloat((float) maxWidth);
         buf.putBoolean(theCanvas.getEffectiveNodeOrientation() == NodeOrientation.RIGHT_TO_LEFT);
         buf.putObject(text);
+        // the extent of the text is only known once it is laid out
+        theCanvas.damageAll();
     }
 
     void writeParam(double v, byte command) {
@@ -829,21 +978,44 @@ public final class GraphicsContext {
             buf.reset();
             buf.putByte(NGCanvas.RESET);
             updateDimensions();
-            txdirty = true;
-            pathDirty = true;
-            State s = this.curState;
-            int numClipPaths = this.curState.numClipPaths;
-            this.curState = new State();
-            for (int i = 0; i < numClipPaths; i++) {
-                Path2D clip = clipStack.get(i);
-                buf.putByte(NGCanvas.PUSH_CLIP);
-                buf.putObject(clip);
-            }
-            this.curState.numClipPaths = numClipPaths;
-            s.restore(this);
+            resendState(buf);
         }
     }
 
+    // Sends the current state again after the renderer has reset its
+    // attributes to their initial values.
+    private void resendState(GrowableDataBuffer buf) {
+        txdirty = true;
+        pathDirty = true;
+        State s = this.curState;
+        int numClipPaths = this.curState.numClipPaths;
+        this.curState = new State();
+        for (int i = 0; i < numClipPaths; i++) {
+            Path2D clip = clipStack.get(i);
+            buf.putByte(NGCanvas.PUSH_CLIP);
+            buf.putObject(clip);
+        }
+        this.curState.numClipPaths = numClipPaths;
+        s.restore(this);
+    }
+
+    // Replaces the contents of the canvas with a frame recorded by a
+    // DisplayList, dropping any commands that were not rendered yet.
+    void present(GrowableDataBuffer frame) {
+        GrowableDataBuffer buf = getBuffer();
+        buf.reset();
+        buf.putByte(NGCanvas.RESET);
+        updateDimensions();
+        if (frame != null) {
+            buf.append(frame);
+            // the frame started from the initial attributes and may
+            // have left them, and its dimensions, in any state
+            buf.putByte(NGCanvas.RESET_ATTRS);
+            updateDimensions();
+        }
+        resendState(buf);
+    }
+
     private void resetIfCovers(Paint p, double x, double y, double w, double h) {
         Affine2D tx = this.curState.transform;
         if (tx.isTranslateOrIdentity()) {
@@ -2333,6 +2505,7 @@ public final class GraphicsContext {
     public void clip() {
         Path2D clip = new Path2D(path);
         clipStack.addLast(clip);
+        clipBounds = null;
         curState.numClipPaths++;
         GrowableDataBuffer buf = getBuffer();
         buf.putByte(NGCanvas.PUSH_CLIP);
@@ -2647,6 +2820,100 @@ public final class GraphicsContext {
         }
     }
 
+    /**
+     * Fills a number of rectangles using the current fill paint.
+     * The rectangles are stored in the {@code rects} array as consecutive
+     * {@code x, y, w, h} quadruples, starting at {@code offset}.
+     * All of the rectangles are recorded as a single operation and rendered
+     * together, which is much faster than calling {@link #fillRect fillRect}
+     * for each of them.
+     * With no effect and the default {@link BlendMode#SRC_OVER SRC_OVER}
+     * blend mode the result is the same as calling {@code fillRect} for each
+     * rectangle. Otherwise the effect or blend mode is applied once to the
+     * combined result of all of the rectangles, as it would be for a
+     * single path.
+     * A {@code null} value for the array will be ignored and nothing will be drawn.
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#fill-attr">fill</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>.
+     * </p>
+     *
+     * @param rects array containing the x, y, width and height of each rectangle or null.
+     * @param offset the index of the x coordinate of the first rectangle.
+     * @param count the number of rectangles to fill.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code count} is negative
+     *         or if the array holds fewer than {@code offset + 4 * count} values.
+     * @since 22
+     */
+    public void fillRects(double rects[], int offset, int count) {
+        writeBatch(rects, offset, count, 4, 0f, NGCanvas.FILL_RECTS);
+    }
+
+    /**
+     * Strokes a number of independent line segments using the current stroke paint.
+     * The segments are stored in the {@code lines} array as consecutive
+     * {@code x1, y1, x2, y2} quadruples, starting at {@code offset}.
+     * All of the segments are recorded as a single operation and rendered
+     * together, which is much faster than calling {@link #strokeLine strokeLine}
+     * for each of them.
+     * With no effect and the default {@link BlendMode#SRC_OVER SRC_OVER}
+     * blend mode the result is the same as calling {@code strokeLine} for each
+     * segment. Otherwise the effect or blend mode is applied once to the
+     * combined result of all of the segments, as it would be for a
+     * single path.
+     * A {@code null} value for the array will be ignored and nothing will be drawn.
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#strk-attr">stroke</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>.
+     * </p>
+     *
+     * @param lines array containing the start and end coordinates of each segment or null.
+     * @param offset the index of the x coordinate of the starting point of the first segment.
+     * @param count the number of segments to stroke.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code count} is negative
+     *         or if the array holds fewer than {@code offset + 4 * count} values.
+     * @since 22
+     */
+    public void strokeLines(double lines[], int offset, int count) {
+        writeBatch(lines, offset, count, 4, 0f, NGCanvas.STROKE_LINES);
+    }
+
+    /**
+     * Fills a square marker of the given size centered on each of a number of
+     * points using the current fill paint.
+     * The points are stored in the {@code points} array as consecutive
+     * {@code x, y} pairs, starting at {@code offset}.
+     * All markers are recorded as a single operation and rendered together,
+     * which is much faster than filling each of them separately.
+     * Any effect or non-default blend mode is applied once to the combined
+     * result of all of the markers, as it would be for a single path.
+     * A {@code null} value for the array will be ignored and nothing will be drawn.
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#fill-attr">fill</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>.
+     * </p>
+     *
+     * @param points array containing the x and y coordinates of each point or null.
+     * @param offset the index of the x coordinate of the first point.
+     * @param count the number of points to draw.
+     * @param size the width and height of the marker drawn at each point.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code count} is negative
+     *         or if the array holds fewer than {@code offset + 2 * count} values.
+     * @since 22
+     */
+    public void fillPoints(double points[], int offset, int count, double size) {
+        writeBatch(points, offset, count, 2, (float) size, NGCanvas.FILL_POINTS);
+    }
+
     /**
      * Draws an image at the given x, y position using the width
      * and height of the given image.
@@ -2721,6 +2988,60 @@ public final class GraphicsContext {
         writeImage(img, dx, dy, dw, dh, sx, sy, sw, sh);
     }
 
+    /**
+     * Draws the given display list with its upper left corner at the origin
+     * of the current transform.
+     * A {@code null} display list value will be ignored.
+     * <p>
+     * The operations of the display list use their own recorded attributes,
+     * but the result is affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>.
+     * </p>
+     *
+     * @param list the display list to be drawn or null.
+     * @since 22
+     */
+    public void drawDisplayList(DisplayList list) {
+        if (list == null) return;
+        updateTransform();
+        GrowableDataBuffer buf = getBuffer();
+        buf.putByte(NGCanvas.DRAW_PICTURE);
+        buf.putObject(list.getPicture());
+        damage(0, 0, list.getWidth(), list.getHeight(), 0.0);
+    }
+
+    /**
+     * Draws the given display list with the given transform concatenated
+     * to the current transform.
+     * A {@code null} display list value will be ignored, and a {@code null}
+     * transform is treated as the identity transform.
+     * <p>
+     * The operations of the display list use their own recorded attributes,
+     * but the result is affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>.
+     * </p>
+     *
+     * @param list the display list to be drawn or null.
+     * @param xform the transform applied to the display list or null.
+     * @since 22
+     */
+    public void drawDisplayList(DisplayList list, Affine xform) {
+        if (list == null) return;
+        if (xform == null) {
+            drawDisplayList(list);
+            return;
+        }
+        Affine2D saved = new Affine2D(curState.transform);
+        transform(xform);
+        drawDisplayList(list);
+        curState.transform.setTransform(saved);
+        txdirty = true;
+    }
+
     private PixelWriter writer;
     /**
      * Returns a {@link PixelWriter} object that can be used to modify
@@ -2753,6 +3074,7 @@ public final class GraphicsContext {
                     buf.putInt(x);
                     buf.putInt(y);
                     buf.putInt(argb);
+                    damagePixels(x, y, 1, 1);
                 }
 
                 @Override
@@ -2775,6 +3097,13 @@ public final class GraphicsContext {
                     buf.putInt(w);
                     buf.putInt(h);
                     buf.putObject(pixels);
+                    damagePixels(x, y, w, h);
+                }
+
+                // pixels are written in device space, ignoring the transform
+                private void damagePixels(int x, int y, int w, int h) {
+                    damageBounds.setBounds(x, y, x + w, y + h);
+                    theCanvas.addDamage(damageBounds);
                 }
 
                 private int[] checkBounds(int x, int y, int w, int h,
@@ -3010,5 +3339,6 @@ public final class GraphicsContext {
         Effect effect = EffectHelper.copy(e);
         EffectHelper.sync(effect);
         buf.putObject(EffectHelper.getPeer(effect));
+        theCanvas.damageAll();
     }
 }
@@ -32,8 +32,6 @@ import java.net.URL;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
-import java.util.LinkedList;
-import java.util.Queue;
 import java.util.concurrent.CancellationException;
 import java.util.regex.Pattern;
 import javafx.animation.KeyFrame;
@@ -52,6 +50,7 @@ import javafx.scene.paint.Color;
 import javafx.util.Duration;
 import com.sun.javafx.runtime.async.AsyncOperation;
 import com.sun.javafx.runtime.async.AsyncOperationListener;
+import com.sun.javafx.tk.DecodedImageCache;
 import com.sun.javafx.tk.ImageLoader;
 import com.sun.javafx.tk.PlatformImage;
 import com.sun.javafx.tk.Toolkit;
@@ -71,6 +70,7 @@ import javafx.beans.property.SimpleIntegerProperty;
  * <li><a href="http://www.w3.org/Graphics/GIF/spec-gif89a.txt">GIF</a></li>
  * <li><a href="http://www.ijg.org">JPEG</a></li>
  * <li><a href="http://www.libpng.org/pub/png/spec/">PNG</a></li>
+ * <li><a href="https://qoiformat.org/qoi-specification.pdf">QOI</a></li>
  * </ul>
  *
  * <p>
@@ -781,8 +781,12 @@ public class Image {
      * has already completed.</p>
      */
     public void cancel() {
-        if (backgroundTask != null) {
-            backgroundTask.cancel();
+        final ImageTask task = backgroundTask;
+        if (task != null) {
+            task.cancel();
+        } else if (loadRequest != null
+                && ImageLoadScheduler.getInstance().cancel(loadRequest)) {
+            finishImage(new CancellationException("Loading cancelled"));
         }
     }
 
@@ -798,7 +802,11 @@ public class Image {
         });
     }
 
-    private ImageTask backgroundTask;
+    // Set by the thread starting the load, which may not be the FX thread
+    private volatile ImageTask backgroundTask;
+    private ImageLoadScheduler.Request loadRequest;
+    // The number of ImageViews in a scene showing this image
+    int viewerCount;
 
     private void initialize(Object externalImage) {
         // we need to check the original values here, because setting placeholder
@@ -855,17 +863,13 @@ public class Image {
     private volatile boolean isAnimated;
     // We keep the animation frames associated with the Image rather than with
     // the animation, so most of the data can be garbage collected while
-    // the animation is still running.
-    private PlatformImage[] animFrames;
+    // the animation is still running. The loader of a large animation may
+    // only keep a few frames decoded, and decode the others when asked for.
+    private ImageLoader animFrames;
 
     // Generates the animation Timeline for multiframe images.
     private void initializeAnimatedImage(ImageLoader loader) {
-        final int frameCount = loader.getFrameCount();
-        animFrames = new PlatformImage[frameCount];
-
-        for (int i = 0; i < frameCount; ++i) {
-            animFrames[i] = loader.getFrame(i);
-        }
+        animFrames = loader;
 
         PlatformImage zeroFrame = loader.getFrame(0);
 
@@ -921,7 +925,7 @@ public class Image {
             final Image image = imageRef.get();
             if (image != null) {
                 image.platformImagePropertyImpl().set(
-                        image.animFrames[frameIndex]);
+                        image.animFrames.getFrame(frameIndex));
             } else {
                 timeline.stop();
             }
@@ -935,35 +939,49 @@ public class Image {
         }
     }
 
-    private void cycleTasks() {
-        synchronized (pendingTasks) {
-            runningTasks--;
-            // do we have any pending tasks to run ?
-            // we can assume we are under the throttle limit because
-            // one task just completed.
-            final ImageTask nextTask = pendingTasks.poll();
-            if (nextTask != null) {
-                runningTasks++;
-                nextTask.start();
-            }
+    private void loadInBackground() {
+        // An image that has already been decoded needs no background task,
+        // but it is still finished later on the FX thread, as a background
+        // load is, and not while the constructor runs.
+        final ImageLoader cached = DecodedImageCache.getInstance().get(
+                new DecodedImageCache.Key(url, requestedWidth, requestedHeight, preserveRatio, smooth));
+        if (cached != null) {
+            Toolkit.getToolkit().defer(() -> finishImage(cached));
+            return;
         }
+
+        // The scheduler limits the number of images that are loaded at the
+        // same time, as with large images we can quickly use up the heap
+        // even if they result in thumbnails.
+        loadRequest = ImageLoadScheduler.getInstance().submit(this, url);
     }
 
-    private void loadInBackground() {
-        backgroundTask = new ImageTask();
-        // This is an artificial throttle on background image loading tasks.
-        // It has been shown that with large images, we can quickly use up the
-        // heap loading images, even if they result in thumbnails.
-        // The limit of MAX_RUNNING_TASKS is arbitrary, and was based on initial
-        // testing with
-        // about 60 2-6 megapixel images.
-        synchronized (pendingTasks) {
-            if (runningTasks >= MAX_RUNNING_TASKS) {
-                pendingTasks.offer(backgroundTask);
-            } else {
-                runningTasks++;
-                backgroundTask.start();
-            }
+    /*
+     * Called by the ImageLoadScheduler when the background load of this image
+     * may start.
+     */
+    void startBackgroundLoad(ImageLoadScheduler.Request request) {
+        backgroundTask = new ImageTask(request);
+        backgroundTask.start();
+    }
+
+    /*
+     * Called on the FX thread when an ImageView showing this image is added
+     * to a scene.
+     */
+    void addViewer() {
+        if (viewerCount++ == 0 && loadRequest != null) {
+            ImageLoadScheduler.getInstance().setShown(loadRequest, true);
+        }
+    }
+
+    /*
+     * Called on the FX thread when an ImageView showing this image is removed
+     * from its scene or shows another image.
+     */
+    void removeViewer() {
+        if (--viewerCount == 0 && loadRequest != null) {
+            ImageLoadScheduler.getInstance().setShown(loadRequest, false);
         }
     }
 
@@ -1012,36 +1030,36 @@ public class Image {
         platformImage.set(newPlatformImage);
     }
 
-    private static final int MAX_RUNNING_TASKS = 4;
-    private static int runningTasks = 0;
-    private static final Queue<ImageTask> pendingTasks =
-            new LinkedList<>();
-
     private final class ImageTask
             implements AsyncOperationListener<ImageLoader> {
 
+        private final ImageLoadScheduler.Request request;
         private final AsyncOperation peer;
 
-        public ImageTask() {
+        public ImageTask(ImageLoadScheduler.Request request) {
+            this.request = request;
             peer = constructPeer();
         }
 
         @Override
         public void onCancel() {
             finishImage(new CancellationException("Loading cancelled"));
-            cycleTasks();
+            ImageLoadScheduler.getInstance().finished(request);
         }
 
         @Override
         public void onException(Exception exception) {
             finishImage(exception);
-            cycleTasks();
+            ImageLoadScheduler.getInstance().finished(request);
         }
 
         @Override
         public void onCompletion(ImageLoader value) {
+            DecodedImageCache.getInstance().put(
+                    new DecodedImageCache.Key(url, requestedWidth, requestedHeight, preserveRatio, smooth),
+                    value);
             finishImage(value);
-            cycleTasks();
+            ImageLoadScheduler.getInstance().finished(request);
         }
 
         @Override
@@ -1072,9 +1090,15 @@ public class Image {
     private static ImageLoader loadImage(
             String url, double width, double height,
             boolean preserveRatio, boolean smooth) {
-        return Toolkit.getToolkit().loadImage(url, width, height,
-                                              preserveRatio, smooth);
-
+        final DecodedImageCache.Key key =
+                new DecodedImageCache.Key(url, width, height, preserveRatio, smooth);
+        ImageLoader loader = DecodedImageCache.getInstance().get(key);
+        if (loader == null) {
+            loader = Toolkit.getToolkit().loadImage(url, width, height,
+                                                    preserveRatio, smooth);
+            DecodedImageCache.getInstance().put(key, loader);
+        }
+        return loader;
     }
 
     private static ImageLoader loadImage(
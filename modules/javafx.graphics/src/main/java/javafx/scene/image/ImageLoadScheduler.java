@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.image;
+
+import java.lang.ref.WeakReference;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Decides when the background loads of images are started.
+ * <p>
+ * At most {@code javafx.image.backgroundLoads} images (4 by default) are
+ * loaded at the same time, and at most
+ * {@code javafx.image.backgroundLoadsPerHost} of them from the same host
+ * (unlimited by default). This limits the memory used by images that are
+ * being decoded, and the number of connections to a server.
+ * <p>
+ * Loads of images that are shown by an {@code ImageView} in a scene are
+ * started first. The other loads are started in the order in which they
+ * were requested, or in the reverse order if
+ * {@code javafx.image.backgroundLoadOrder} is {@code lifo}; the most
+ * recently requested images are typically the ones the user is looking at,
+ * for example when scrolling through a grid of photos. When every
+ * {@code ImageView} showing an image that is still waiting to be loaded
+ * leaves its scene, the load is postponed: it is started after the loads
+ * of the other images, or as soon as the image is shown again. A load that
+ * is still waiting when its image is garbage collected is not started at
+ * all.
+ * <p>
+ * This class is thread-safe.
+ */
+final class ImageLoadScheduler {
+
+    private enum State { QUEUED, POSTPONED, RUNNING, DONE }
+
+    /**
+     * The background load of an image.
+     */
+    static final class Request {
+        private final WeakReference<Image> imageRef;
+        private final String host;
+        private State state = State.QUEUED;
+        // Whether the image has been shown by an ImageView, which gives the
+        // load priority over the loads of images that have not been shown
+        private boolean shown;
+        // Whether the load was cancelled after it was taken from its queue
+        // but before the image started it
+        private boolean cancelPending;
+
+        private Request(Image image, String host) {
+            this.imageRef = new WeakReference<>(image);
+            this.host = host;
+        }
+    }
+
+    private static volatile ImageLoadScheduler instance;
+
+    static {
+        @SuppressWarnings("removal")
+        ImageLoadScheduler scheduler = AccessController.doPrivileged(
+                (PrivilegedAction<ImageLoadScheduler>) () -> new ImageLoadScheduler(
+                        Integer.getInteger("javafx.image.backgroundLoads", 4),
+                        Integer.getInteger("javafx.image.backgroundLoadsPerHost", 0),
+                        "lifo".equalsIgnoreCase(System.getProperty("javafx.image.backgroundLoadOrder"))));
+        instance = scheduler;
+    }
+
+    static ImageLoadScheduler getInstance() {
+        return instance;
+    }
+
+    /*
+     * used for testing
+     */
+    static void setInstance(ImageLoadScheduler scheduler) {
+        instance = scheduler;
+    }
+
+    private final int maxRunning;
+    private final int maxRunningPerHost;
+    private final boolean lifo;
+
+    private final ArrayDeque<Request> shownQueue = new ArrayDeque<>();
+    private final ArrayDeque<Request> queue = new ArrayDeque<>();
+    private final ArrayDeque<Request> postponedQueue = new ArrayDeque<>();
+    private final Map<String, Integer> runningPerHost = new HashMap<>();
+    private int running;
+
+    ImageLoadScheduler(int maxRunning, int maxRunningPerHost, boolean lifo) {
+        this.maxRunning = Math.max(maxRunning, 1);
+        this.maxRunningPerHost = maxRunningPerHost;
+        this.lifo = lifo;
+    }
+
+    /**
+     * Requests the background load of the given image. The load is started,
+     * possibly right away, by calling {@link Image#startBackgroundLoad}.
+     */
+    Request submit(Image image, String url) {
+        final Request request = new Request(image, hostOf(url));
+        synchronized (this) {
+            queue.addLast(request);
+        }
+        startQueued();
+        return request;
+    }
+
+    /**
+     * Must be called when a load that was started has completed, failed or
+     * been cancelled.
+     */
+    void finished(Request request) {
+        synchronized (this) {
+            if (request.state != State.RUNNING) {
+                return;
+            }
+            request.state = State.DONE;
+            running--;
+            if (request.host != null) {
+                runningPerHost.merge(request.host, -1, (a, b) -> a + b == 0 ? null : a + b);
+            }
+        }
+        startQueued();
+    }
+
+    /**
+     * Removes a load that has not been started. Returns false if it has
+     * already been started or finished; a load that is being started is
+     * cancelled as soon as the image has started it.
+     */
+    synchronized boolean cancel(Request request) {
+        switch (request.state) {
+            case QUEUED:
+            case POSTPONED:
+                queueOf(request).remove(request);
+                request.state = State.DONE;
+                return true;
+            case RUNNING:
+                request.cancelPending = true;
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Called when the image of the request starts or stops being shown by an
+     * ImageView in a scene.
+     */
+    void setShown(Request request, boolean shown) {
+        synchronized (this) {
+            if (shown) {
+                if (request.state == State.QUEUED && !request.shown) {
+                    queue.remove(request);
+                    shownQueue.addLast(request);
+                } else if (request.state == State.POSTPONED) {
+                    postponedQueue.remove(request);
+                    request.state = State.QUEUED;
+                    shownQueue.addLast(request);
+                }
+                request.shown = true;
+            } else if (request.state == State.QUEUED && request.shown) {
+                shownQueue.remove(request);
+                request.state = State.POSTPONED;
+                postponedQueue.addLast(request);
+                return;
+            } else {
+                return;
+            }
+        }
+        startQueued();
+    }
+
+    private void startQueued() {
+        while (true) {
+            Request request;
+            Image image;
+            synchronized (this) {
+                request = next();
+                if (request == null) {
+                    return;
+                }
+                request.state = State.RUNNING;
+                running++;
+                if (request.host != null) {
+                    runningPerHost.merge(request.host, 1, Integer::sum);
+                }
+                image = request.imageRef.get();
+            }
+
+            if (image != null) {
+                image.startBackgroundLoad(request);
+                if (isCancelPending(request)) {
+                    // the image was cancelled before it knew about its load
+                    image.cancel();
+                }
+            } else {
+                // the image was garbage collected while waiting
+                finished(request);
+                return;
+            }
+        }
+    }
+
+    private synchronized boolean isCancelPending(Request request) {
+        return request.cancelPending;
+    }
+
+    private ArrayDeque<Request> queueOf(Request request) {
+        if (request.state == State.POSTPONED) {
+            return postponedQueue;
+        }
+        return request.shown ? shownQueue : queue;
+    }
+
+    // Removes and returns the next request to start, or null if there is none
+    // or no more loads may be started
+    private Request next() {
+        if (running >= maxRunning) {
+            return null;
+        }
+        Request request = poll(shownQueue);
+        if (request == null) {
+            request = poll(queue);
+        }
+        return request != null ? request : poll(postponedQueue);
+    }
+
+    private Request poll(ArrayDeque<Request> q) {
+        final Iterator<Request> iter = lifo ? q.descendingIterator() : q.iterator();
+        while (iter.hasNext()) {
+            final Request request = iter.next();
+            if (request.imageRef.get() == null) {
+                iter.remove();
+                request.state = State.DONE;
+                continue;
+            }
+            if (maxRunningPerHost > 0 && request.host != null
+                    && runningPerHost.getOrDefault(request.host, 0) >= maxRunningPerHost) {
+                continue;
+            }
+            iter.remove();
+            return request;
+        }
+        return null;
+    }
+
+    private static String hostOf(String url) {
+        if (url == null) {
+            return null;
+        }
+        try {
+            return new URI(url).getHost();
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+}
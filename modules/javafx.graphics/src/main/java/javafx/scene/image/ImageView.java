@@ -37,6 +37,7 @@ import com.sun.javafx.sg.prism.NGImageView;
 import com.sun.javafx.sg.prism.NGNode;
 import com.sun.javafx.tk.Toolkit;
 import javafx.beans.DefaultProperty;
+import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.property.*;
 import javafx.css.CssMetaData;
@@ -251,6 +252,7 @@ public class ImageView extends Node {
                         NodeHelper.geomChanged(ImageView.this);
                     }
                     NodeHelper.markDirty(ImageView.this, DirtyBits.NODE_CONTENTS);
+                    updateShownImage();
                 }
 
                 @Override
@@ -308,6 +310,51 @@ public class ImageView extends Node {
         return imageUrl;
     }
 
+    /*
+     * The image that is still being loaded in background and is shown by this
+     * ImageView in a scene. The load of an image that is shown is started
+     * before the loads of images that are not.
+     */
+    private Image shownImage;
+    // The image that is still being loaded in background, whose progress and
+    // the scene of this ImageView are listened to while it is loading
+    private Image loadingImage;
+    private InvalidationListener loadingListener;
+
+    private void updateShownImage() {
+        final Image _image = getImage();
+        final Image newLoadingImage =
+                (_image != null && _image.isBackgroundLoading() && _image.getProgress() < 1)
+                ? _image : null;
+        if (newLoadingImage != loadingImage) {
+            if (loadingListener == null) {
+                loadingListener = valueModel -> updateShownImage();
+            }
+            if (loadingImage != null) {
+                loadingImage.progressProperty().removeListener(loadingListener);
+            } else {
+                sceneProperty().addListener(loadingListener);
+            }
+            loadingImage = newLoadingImage;
+            if (loadingImage != null) {
+                loadingImage.progressProperty().addListener(loadingListener);
+            } else {
+                sceneProperty().removeListener(loadingListener);
+            }
+        }
+
+        final Image newShownImage = getScene() != null ? loadingImage : null;
+        if (newShownImage != shownImage) {
+            if (shownImage != null) {
+                shownImage.removeViewer();
+            }
+            shownImage = newShownImage;
+            if (shownImage != null) {
+                shownImage.addViewer();
+            }
+        }
+    }
+
     private final AbstractNotifyListener platformImageChangeListener =
             new AbstractNotifyListener() {
         @Override
@@ -26,6 +26,7 @@
 package javafx.scene.image;
 
 import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.tk.TKPulseListener;
 import com.sun.javafx.tk.Toolkit;
 import javafx.geometry.Rectangle2D;
 import javafx.util.Callback;
@@ -61,6 +62,32 @@ import java.util.Objects;
  * PixelFormat<IntBuffer> pixelFormat = PixelFormat.getIntArgbPreInstance();
  * PixelBuffer<IntBuffer> pixelBuffer = new PixelBuffer<>(width, height, intBuffer, pixelFormat);
  * Image img = new WritableImage(pixelBuffer);}</pre>
+ * <p>
+ * Producers running on other threads can write into the buffer and report the
+ * regions they changed with {@link #markDirty markDirty}. The marked regions are
+ * merged and applied to the {@code WritableImage}s once per pulse, so that only the
+ * union of the changed pixels is uploaded to the graphics card.
+ * <p>
+ * A {@code PixelBuffer} that is constructed with a second buffer is double-buffered:
+ * the {@code WritableImage}s show the front buffer returned by {@link #getBuffer()},
+ * while producers draw into the back buffer returned by {@link #getBackBuffer()}
+ * and then call {@link #swapBuffers()}. The buffers are exchanged at the start of
+ * the next pulse, after the previous frame has been rendered, so the renderer never
+ * reads a buffer that is being written. After each swap, the regions that were marked
+ * dirty are copied into the new back buffer, so producers only need to redraw
+ * what changes from one frame to the next.
+ * <pre>{@code  // Drawing on a background thread into a double-buffered PixelBuffer.
+ * PixelBuffer<ByteBuffer> pixelBuffer = new PixelBuffer<>(width, height,
+ *         ByteBuffer.allocateDirect(width * height * 4),
+ *         ByteBuffer.allocateDirect(width * height * 4), pixelFormat);
+ * Image img = new WritableImage(pixelBuffer);
+ * ...
+ * while (running) {
+ *     ByteBuffer back = pixelBuffer.getBackBuffer();
+ *     // Update a region of the back buffer.
+ *     pixelBuffer.markDirty(new Rectangle2D(x, y, dirtyWidth, dirtyHeight));
+ *     pixelBuffer.swapBuffers();
+ * }}</pre>
  *
  * @param <T> the type of {@code Buffer} that stores the pixel data.
  *           Only {@code ByteBuffer} and {@code IntBuffer} are supported.
@@ -69,12 +96,30 @@ import java.util.Objects;
  */
 public class PixelBuffer<T extends Buffer> {
 
-    private final T buffer;
+    private volatile T buffer;
+    private volatile T backBuffer;
     private final int width;
     private final int height;
     private final PixelFormat<T> pixelFormat;
     private final List<WeakReference<WritableImage>> imageRefs;
 
+    // The dirty region and swap requests of the producer threads, guarded by dirtyLock.
+    // The empty region is represented by dirtyX1 >= dirtyX2.
+    private final Object dirtyLock = new Object();
+    private int dirtyX1, dirtyY1, dirtyX2, dirtyY2;
+    private boolean allDirty;
+    private boolean flushPending;
+    private boolean swapRequested;
+    private long startedSwaps;
+    private long finishedSwaps;
+
+    // Whether the back buffer holds the same pixels as the front buffer, accessed on
+    // the JavaFX Application Thread only.
+    private boolean buffersInSync;
+
+    // Held strongly here, the toolkit only keeps weak references to its listeners.
+    private final TKPulseListener flushListener = this::flush;
+
     /**
      * Constructs a {@code PixelBuffer} using the specified {@code Buffer} and {@code PixelFormat}.
      * The type of the specified {@code PixelFormat} must be either {@code PixelFormat.Type.INT_ARGB_PRE}
@@ -102,6 +147,47 @@ public class PixelBuffer<T extends Buffer> {
         if (width <= 0 || height <= 0) {
             throw new IllegalArgumentException("PixelBuffer dimensions must be positive (w,h > 0)");
         }
+        validateBuffer(width, height, buffer, pixelFormat);
+        this.buffer = buffer;
+        this.width = width;
+        this.height = height;
+        this.pixelFormat = pixelFormat;
+        this.imageRefs = new LinkedList<>();
+    }
+
+    /**
+     * Constructs a double-buffered {@code PixelBuffer} using the specified {@code Buffer}s and
+     * {@code PixelFormat}. The {@code buffer} is initially shown by the {@code WritableImage}s
+     * created using this {@code PixelBuffer}, and {@code backBuffer} is the buffer that producers
+     * draw into before calling {@link #swapBuffers()}. Both buffers must meet the requirements
+     * described in {@link #PixelBuffer(int, int, Buffer, PixelFormat)}.
+     *
+     * @param width       width in pixels of this {@code PixelBuffer}
+     * @param height      height in pixels of this {@code PixelBuffer}
+     * @param buffer      the buffer that stores the pixel data that is initially shown
+     * @param backBuffer  the buffer that stores the pixel data of the next frame
+     * @param pixelFormat the format of pixels in both buffers
+     * @throws IllegalArgumentException if either {@code width} or {@code height}
+     *                                  is negative or zero, or if the type of {@code pixelFormat}
+     *                                  is unsupported, or if either buffer does
+     *                                  not have sufficient memory, or if the type of either buffer
+     *                                  and {@code pixelFormat} do not match, or if
+     *                                  {@code buffer} and {@code backBuffer} are the same buffer
+     * @throws NullPointerException     if {@code buffer}, {@code backBuffer} or {@code pixelFormat}
+     *                                  is {@code null}
+     * @since 22
+     */
+    public PixelBuffer(int width, int height, T buffer, T backBuffer, PixelFormat<T> pixelFormat) {
+        this(width, height, buffer, pixelFormat);
+        Objects.requireNonNull(backBuffer, "backBuffer must not be null.");
+        if (backBuffer == buffer) {
+            throw new IllegalArgumentException("buffer and backBuffer must be different buffers.");
+        }
+        validateBuffer(width, height, backBuffer, pixelFormat);
+        this.backBuffer = backBuffer;
+    }
+
+    private static void validateBuffer(int width, int height, Buffer buffer, PixelFormat<?> pixelFormat) {
         switch (pixelFormat.getType()) {
             case BYTE_BGRA_PRE:
                 if (buffer.capacity() / width / 4 < height) {
@@ -122,15 +208,12 @@ public class PixelBuffer<T extends Buffer> {
             default:
                 throw new IllegalArgumentException("Unsupported PixelFormat: " + pixelFormat.getType());
         }
-        this.buffer = buffer;
-        this.width = width;
-        this.height = height;
-        this.pixelFormat = pixelFormat;
-        this.imageRefs = new LinkedList<>();
     }
 
     /**
      * Returns the {@code buffer} of this {@code PixelBuffer}.
+     * For a double-buffered {@code PixelBuffer} this is the front buffer, which is
+     * currently shown by the {@code WritableImage}s and changes with each swap.
      *
      * @return the {@code buffer} of this {@code PixelBuffer}
      */
@@ -138,6 +221,18 @@ public class PixelBuffer<T extends Buffer> {
         return buffer;
     }
 
+    /**
+     * Returns the back buffer of this {@code PixelBuffer}, which producers draw the
+     * next frame into before calling {@link #swapBuffers()}. The returned buffer changes
+     * with each swap, so it must be queried again after {@code swapBuffers} returns.
+     *
+     * @return the back buffer, or {@code null} if this {@code PixelBuffer} is not double-buffered
+     * @since 22
+     */
+    public T getBackBuffer() {
+        return backBuffer;
+    }
+
     /**
      * Returns the {@code width} of this {@code PixelBuffer}.
      *
@@ -202,7 +297,178 @@ public class PixelBuffer<T extends Buffer> {
         }
     }
 
+    /**
+     * Marks a region of this {@code PixelBuffer} as changed. This method may be called
+     * on any thread. The regions marked between two pulses are merged into a single
+     * dirty region that encloses all of them.
+     * <p>For a {@code PixelBuffer} with a single buffer the {@code WritableImage}s are
+     * updated with the merged region on the next pulse. For a double-buffered
+     * {@code PixelBuffer} the region refers to the back buffer and is applied by the
+     * next {@link #swapBuffers()}.
+     *
+     * @param region the region that has changed, or {@code null} to indicate that the
+     *               entire buffer has changed
+     * @since 22
+     */
+    public void markDirty(Rectangle2D region) {
+        synchronized (dirtyLock) {
+            if (region == null) {
+                allDirty = true;
+            } else {
+                int x1 = Math.max(0, (int) Math.floor(region.getMinX()));
+                int y1 = Math.max(0, (int) Math.floor(region.getMinY()));
+                int x2 = Math.min(width, (int) Math.ceil(region.getMaxX()));
+                int y2 = Math.min(height, (int) Math.ceil(region.getMaxY()));
+                if (x1 >= x2 || y1 >= y2) {
+                    return;
+                }
+                if (dirtyX1 >= dirtyX2) {
+                    dirtyX1 = x1;
+                    dirtyY1 = y1;
+                    dirtyX2 = x2;
+                    dirtyY2 = y2;
+                } else {
+                    dirtyX1 = Math.min(dirtyX1, x1);
+                    dirtyY1 = Math.min(dirtyY1, y1);
+                    dirtyX2 = Math.max(dirtyX2, x2);
+                    dirtyY2 = Math.max(dirtyY2, y2);
+                }
+            }
+            if (backBuffer == null) {
+                requestFlush();
+            }
+        }
+    }
+
+    /**
+     * Presents the back buffer of a double-buffered {@code PixelBuffer}. The front and
+     * back buffers are exchanged at the start of the next pulse, once the renderer has
+     * finished with the previous frame, and the {@code WritableImage}s are updated with
+     * the region marked by {@link #markDirty markDirty} since the last swap. If no region
+     * was marked, the entire buffer is considered changed.
+     * <p>When called on a thread other than the JavaFX Application Thread, this method
+     * blocks until the swap has happened, after which the caller can draw the next frame
+     * into the new back buffer. When several threads draw the same frame, they must all
+     * have finished drawing before one of them calls this method; all threads waiting
+     * in this method return after the same swap. When called on the JavaFX Application
+     * Thread, the buffers are swapped immediately.
+     *
+     * @throws IllegalStateException if this {@code PixelBuffer} is not double-buffered
+     * @throws InterruptedException  if the calling thread is interrupted while waiting
+     *                               for the swap
+     * @since 22
+     */
+    public void swapBuffers() throws InterruptedException {
+        if (backBuffer == null) {
+            throw new IllegalStateException("PixelBuffer is not double-buffered.");
+        }
+        boolean fxThread = Toolkit.getToolkit().isFxUserThread();
+        synchronized (dirtyLock) {
+            swapRequested = true;
+            requestFlush();
+            if (!fxThread) {
+                long swap = startedSwaps + 1;
+                while (finishedSwaps < swap) {
+                    dirtyLock.wait();
+                }
+                return;
+            }
+        }
+        flush();
+    }
+
+    // Called with dirtyLock held.
+    private void requestFlush() {
+        if (!flushPending) {
+            flushPending = true;
+            Toolkit toolkit = Toolkit.getToolkit();
+            toolkit.addStageTkPulseListener(flushListener);
+            toolkit.requestNextPulse();
+        }
+    }
+
+    // Called on the JavaFX Application Thread at the start of a pulse, before
+    // the scenes are synchronized, so that the changes show up in this pulse.
+    private void flush() {
+        final Rectangle rect;
+        final boolean swap;
+        synchronized (dirtyLock) {
+            if (!flushPending) {
+                return;
+            }
+            flushPending = false;
+            Toolkit.getToolkit().removeStageTkPulseListener(flushListener);
+            if (allDirty || dirtyX1 >= dirtyX2) {
+                rect = null;
+            } else {
+                rect = new Rectangle(dirtyX1, dirtyY1, dirtyX2 - dirtyX1, dirtyY2 - dirtyY1);
+            }
+            swap = swapRequested;
+            if (swap) {
+                swapRequested = false;
+                startedSwaps++;
+            }
+            allDirty = false;
+            dirtyX1 = dirtyX2 = 0;
+        }
+        if (!swap) {
+            bufferDirty(rect);
+            return;
+        }
+        try {
+            swap(rect);
+        } finally {
+            synchronized (dirtyLock) {
+                finishedSwaps++;
+                dirtyLock.notifyAll();
+            }
+        }
+    }
+
+    private void swap(Rectangle rect) {
+        // The renderer may still be uploading from the front buffer, which is
+        // about to be handed to the producers.
+        Toolkit.getToolkit().waitForRenderingToComplete();
+        if (!buffersInSync) {
+            rect = null;
+        }
+        T front = backBuffer;
+        backBuffer = buffer;
+        buffer = front;
+        bufferSwapped(front, rect);
+        copyRegion(front, backBuffer, rect);
+        buffersInSync = true;
+    }
+
+    private void copyRegion(T src, T dst, Rectangle rect) {
+        int x = 0, y = 0, w = width, h = height;
+        if (rect != null) {
+            x = rect.x;
+            y = rect.y;
+            w = rect.width;
+            h = rect.height;
+        }
+        if (src instanceof ByteBuffer) {
+            ByteBuffer srcBuf = (ByteBuffer) src;
+            ByteBuffer dstBuf = (ByteBuffer) dst;
+            for (int row = y; row < y + h; row++) {
+                int offset = (row * width + x) * 4;
+                dstBuf.put(offset, srcBuf, offset, w * 4);
+            }
+        } else {
+            IntBuffer srcBuf = (IntBuffer) src;
+            IntBuffer dstBuf = (IntBuffer) dst;
+            for (int row = y; row < y + h; row++) {
+                int offset = row * width + x;
+                dstBuf.put(offset, srcBuf, offset, w);
+            }
+        }
+    }
+
     private void bufferDirty(Rectangle rect) {
+        // the front buffer no longer matches the back buffer if it was
+        // updated directly
+        buffersInSync = false;
         Iterator<WeakReference<WritableImage>> iter = imageRefs.iterator();
         while (iter.hasNext()) {
             final WritableImage image = iter.next().get();
@@ -214,6 +480,18 @@ public class PixelBuffer<T extends Buffer> {
         }
     }
 
+    private void bufferSwapped(T front, Rectangle rect) {
+        Iterator<WeakReference<WritableImage>> iter = imageRefs.iterator();
+        while (iter.hasNext()) {
+            final WritableImage image = iter.next().get();
+            if (image != null) {
+                image.bufferSwapped(front, rect);
+            } else {
+                iter.remove();
+            }
+        }
+    }
+
     void addImage(WritableImage image) {
         imageRefs.add(new WeakReference<>(image));
         imageRefs.removeIf(imageRef -> (imageRef.get() == null));
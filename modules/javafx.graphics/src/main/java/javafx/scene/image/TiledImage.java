@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.image;
+
+import java.util.Objects;
+
+/**
+ * Describes a very large image stored as a pyramid of tiles, for display
+ * by a {@link TiledImageView}.
+ * <p>
+ * Level 0 of the pyramid holds the image at full resolution, split into
+ * square tiles of {@code tileSize} pixels; the tiles in the last row and
+ * column may be smaller. Each following level holds the image at half the
+ * resolution of the previous one, so that the tile at {@code (x, y)} of level
+ * {@code n} covers the image area {@code tileSize * 2^n} pixels wide starting
+ * at {@code (x * tileSize * 2^n, y * tileSize * 2^n)}.
+ * <p>
+ * The tiles are loaded from URLs obtained by replacing {@code {level}},
+ * {@code {x}} and {@code {y}} in a URL pattern, which is the layout used by
+ * most tile servers and tiling tools:
+ * <pre>{@code
+ * TiledImage slide = new TiledImage("https://example.com/slide/{level}/{x}_{y}.jpg",
+ *                                   40000, 40000, 256);
+ * }</pre>
+ * <p>
+ * Every tile is a separate image that has to exist at its URL. A single
+ * large image file is not cut into tiles on demand; it has to be tiled
+ * beforehand, for example by a tiling tool or a tile server.
+ *
+ * @since 22
+ */
+public final class TiledImage {
+    private final String urlPattern;
+    private final double width;
+    private final double height;
+    private final int tileSize;
+    private final int levelCount;
+
+    /**
+     * Creates a tiled image with as many levels as needed for the image to
+     * fit in a single tile at the last level.
+     *
+     * @param urlPattern the pattern of the tile URLs
+     * @param width the width of the image at full resolution
+     * @param height the height of the image at full resolution
+     * @param tileSize the width and height of the tiles, in pixels
+     * @throws NullPointerException if {@code urlPattern} is null
+     * @throws IllegalArgumentException if a size is not positive
+     */
+    public TiledImage(String urlPattern, double width, double height, int tileSize) {
+        this(urlPattern, width, height, tileSize,
+             tileSize > 0 ? levelsToFit(Math.max(width, height), tileSize) : 1);
+    }
+
+    /**
+     * Creates a tiled image with the given number of levels.
+     *
+     * @param urlPattern the pattern of the tile URLs
+     * @param width the width of the image at full resolution
+     * @param height the height of the image at full resolution
+     * @param tileSize the width and height of the tiles, in pixels
+     * @param levelCount the number of levels of the pyramid
+     * @throws NullPointerException if {@code urlPattern} is null
+     * @throws IllegalArgumentException if a size or {@code levelCount} is
+     *         not positive
+     */
+    public TiledImage(String urlPattern, double width, double height, int tileSize, int levelCount) {
+        this.urlPattern = Objects.requireNonNull(urlPattern, "urlPattern must not be null");
+        if (!(width > 0) || !(height > 0) || tileSize <= 0) {
+            throw new IllegalArgumentException("Sizes must be positive: " + width + "x" + height
+                                               + ", tile size " + tileSize);
+        }
+        if (levelCount <= 0) {
+            throw new IllegalArgumentException("levelCount must be positive: " + levelCount);
+        }
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+        this.levelCount = levelCount;
+    }
+
+    private static int levelsToFit(double size, int tileSize) {
+        int levels = 1;
+        while (size > tileSize && levels < 31) {
+            size /= 2;
+            levels++;
+        }
+        return levels;
+    }
+
+    /**
+     * Gets the pattern of the tile URLs.
+     *
+     * @return the pattern of the tile URLs
+     */
+    public String getUrlPattern() {
+        return urlPattern;
+    }
+
+    /**
+     * Gets the width of the image at full resolution.
+     *
+     * @return the width of the image
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the image at full resolution.
+     *
+     * @return the height of the image
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the width and height of the tiles, in pixels.
+     *
+     * @return the size of the tiles
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Gets the number of levels of the pyramid.
+     *
+     * @return the number of levels
+     */
+    public int getLevelCount() {
+        return levelCount;
+    }
+
+    /**
+     * Gets the URL of a tile.
+     *
+     * @param level the level of the tile, 0 being the full resolution
+     * @param x the column of the tile in its level
+     * @param y the row of the tile in its level
+     * @return the URL of the tile
+     */
+    public String getTileUrl(int level, int x, int y) {
+        return urlPattern.replace("{level}", Integer.toString(level))
+                         .replace("{x}", Integer.toString(x))
+                         .replace("{y}", Integer.toString(y));
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.image;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ObjectPropertyBase;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Displays a {@link TiledImage}, loading only the tiles that are visible, at
+ * the level of the pyramid matching the current zoom. The tiles are loaded
+ * from their URLs like any other {@link Image}, so the pyramid has to be
+ * stored as separate tile images.
+ * <p>
+ * The {@code viewport} is the area of the full resolution image that is
+ * shown. It is scaled to fit the size of this view, preserving its aspect
+ * ratio, and centered. Panning and zooming are done by changing the viewport.
+ * <p>
+ * Tiles are loaded in background. Until a tile is loaded, the matching area
+ * shows a tile of a lower resolution level that has already been loaded, if
+ * any. Loaded tiles are cached, and the least recently shown tiles are
+ * discarded when there are more than {@code cacheSize} of them.
+ *
+ * @since 22
+ */
+public class TiledImageView extends Region {
+
+    private static final class Tile {
+        final int level;
+        final int x;
+        final int y;
+        final ImageView view;
+
+        Tile(int level, int x, int y, Image image) {
+            this.level = level;
+            this.x = x;
+            this.y = y;
+            this.view = new ImageView(image);
+            view.setSmooth(true);
+        }
+
+        Image getImage() {
+            return view.getImage();
+        }
+
+        boolean isLoaded() {
+            final Image image = getImage();
+            return image.getProgress() >= 1 && !image.isError();
+        }
+    }
+
+    private final Map<Long, Tile> tiles = new LinkedHashMap<>(16, 0.75f, true);
+    private final InvalidationListener tileProgressListener = observable -> {
+        // show the tile instead of the lower resolution ones
+        if (((ObservableDoubleValue) observable).get() >= 1) {
+            requestLayout();
+        }
+    };
+
+    /**
+     * Creates a view with no image.
+     */
+    public TiledImageView() {
+        final Rectangle clip = new Rectangle();
+        clip.widthProperty().bind(widthProperty());
+        clip.heightProperty().bind(heightProperty());
+        setClip(clip);
+    }
+
+    /**
+     * Creates a view displaying the given image.
+     *
+     * @param image the image to display
+     */
+    public TiledImageView(TiledImage image) {
+        this();
+        setImage(image);
+    }
+
+    /**
+     * The image displayed by this view.
+     *
+     * @defaultValue null
+     */
+    private final ObjectProperty<TiledImage> image = new ObjectPropertyBase<>() {
+        @Override
+        protected void invalidated() {
+            clearTiles();
+            requestLayout();
+        }
+
+        @Override
+        public Object getBean() {
+            return TiledImageView.this;
+        }
+
+        @Override
+        public String getName() {
+            return "image";
+        }
+    };
+
+    public final ObjectProperty<TiledImage> imageProperty() {
+        return image;
+    }
+
+    public final TiledImage getImage() {
+        return image.get();
+    }
+
+    public final void setImage(TiledImage value) {
+        image.set(value);
+    }
+
+    /**
+     * The area of the full resolution image displayed by this view. If null,
+     * the whole image is displayed.
+     *
+     * @defaultValue null
+     */
+    private final ObjectProperty<Rectangle2D> viewport = new ObjectPropertyBase<>() {
+        @Override
+        protected void invalidated() {
+            requestLayout();
+        }
+
+        @Override
+        public Object getBean() {
+            return TiledImageView.this;
+        }
+
+        @Override
+        public String getName() {
+            return "viewport";
+        }
+    };
+
+    public final ObjectProperty<Rectangle2D> viewportProperty() {
+        return viewport;
+    }
+
+    public final Rectangle2D getViewport() {
+        return viewport.get();
+    }
+
+    public final void setViewport(Rectangle2D value) {
+        viewport.set(value);
+    }
+
+    /**
+     * The maximum number of tiles kept in memory. Tiles that are visible are
+     * kept even if there are more of them.
+     *
+     * @defaultValue 256
+     */
+    private final IntegerProperty cacheSize = new SimpleIntegerProperty(this, "cacheSize", 256) {
+        @Override
+        protected void invalidated() {
+            requestLayout();
+        }
+    };
+
+    public final IntegerProperty cacheSizeProperty() {
+        return cacheSize;
+    }
+
+    public final int getCacheSize() {
+        return cacheSize.get();
+    }
+
+    public final void setCacheSize(int value) {
+        cacheSize.set(value);
+    }
+
+    private Rectangle2D getEffectiveViewport(TiledImage tiledImage) {
+        final Rectangle2D vp = getViewport();
+        return vp != null && vp.getWidth() > 0 && vp.getHeight() > 0
+                ? vp : new Rectangle2D(0, 0, tiledImage.getWidth(), tiledImage.getHeight());
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        final TiledImage tiledImage = getImage();
+        return tiledImage != null ? getEffectiveViewport(tiledImage).getWidth() : 0;
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        final TiledImage tiledImage = getImage();
+        return tiledImage != null ? getEffectiveViewport(tiledImage).getHeight() : 0;
+    }
+
+    @Override
+    protected void layoutChildren() {
+        final TiledImage tiledImage = getImage();
+        final double width = getWidth();
+        final double height = getHeight();
+        if (tiledImage == null || width <= 0 || height <= 0) {
+            getChildren().clear();
+            return;
+        }
+
+        final Rectangle2D vp = getEffectiveViewport(tiledImage);
+        final double scale = Math.min(width / vp.getWidth(), height / vp.getHeight());
+        final double offsetX = (width - vp.getWidth() * scale) / 2 - vp.getMinX() * scale;
+        final double offsetY = (height - vp.getHeight() * scale) / 2 - vp.getMinY() * scale;
+
+        // the level whose resolution is the closest above the displayed one
+        final int level = Math.max(0, Math.min(tiledImage.getLevelCount() - 1,
+                (int) Math.floor(-Math.log(scale) / Math.log(2))));
+        final double span = tiledImage.getTileSize() * Math.pow(2, level);
+        final int maxX = (int) Math.ceil(tiledImage.getWidth() / span) - 1;
+        final int maxY = (int) Math.ceil(tiledImage.getHeight() / span) - 1;
+        final int minTileX = Math.max(0, (int) Math.floor(vp.getMinX() / span));
+        final int minTileY = Math.max(0, (int) Math.floor(vp.getMinY() / span));
+        final int maxTileX = Math.min(maxX, (int) Math.ceil(vp.getMaxX() / span) - 1);
+        final int maxTileY = Math.min(maxY, (int) Math.ceil(vp.getMaxY() / span) - 1);
+
+        final List<Tile> visible = new ArrayList<>();
+        final Set<Tile> fallbacks = new HashSet<>();
+        for (int y = minTileY; y <= maxTileY; y++) {
+            for (int x = minTileX; x <= maxTileX; x++) {
+                final Tile tile = getTile(tiledImage, level, x, y);
+                visible.add(tile);
+                if (!tile.isLoaded()) {
+                    final Tile fallback = findLoadedTile(tiledImage, level, x, y);
+                    if (fallback != null) {
+                        fallbacks.add(fallback);
+                    }
+                }
+            }
+        }
+
+        final List<Node> children = new ArrayList<>(fallbacks.size() + visible.size());
+        final List<Tile> shown = new ArrayList<>(fallbacks);
+        // lower resolution tiles are drawn first, below the others
+        shown.sort((a, b) -> b.level - a.level);
+        shown.addAll(visible);
+        for (Tile tile : shown) {
+            final double tileSpan = tiledImage.getTileSize() * Math.pow(2, tile.level);
+            final double minX = tile.x * tileSpan;
+            final double minY = tile.y * tileSpan;
+            final double maxTileRight = Math.min(minX + tileSpan, tiledImage.getWidth());
+            final double maxTileBottom = Math.min(minY + tileSpan, tiledImage.getHeight());
+            tile.view.setLayoutX(offsetX + minX * scale);
+            tile.view.setLayoutY(offsetY + minY * scale);
+            tile.view.setFitWidth((maxTileRight - minX) * scale);
+            tile.view.setFitHeight((maxTileBottom - minY) * scale);
+            children.add(tile.view);
+        }
+        if (!children.equals(getChildren())) {
+            getChildren().setAll(children);
+        }
+
+        evictTiles(shown);
+    }
+
+    private static long getTileKey(int level, int x, int y) {
+        return ((long) level << 50) | ((long) x << 25) | y;
+    }
+
+    private Tile getTile(TiledImage tiledImage, int level, int x, int y) {
+        final long key = getTileKey(level, x, y);
+        Tile tile = tiles.get(key);
+        if (tile == null) {
+            final Image tileImage = new Image(tiledImage.getTileUrl(level, x, y), true);
+            tile = new Tile(level, x, y, tileImage);
+            if (!tile.isLoaded()) {
+                tileImage.progressProperty().addListener(tileProgressListener);
+            }
+            tiles.put(key, tile);
+        }
+        return tile;
+    }
+
+    // Finds a loaded tile of a lower resolution level covering the given tile
+    private Tile findLoadedTile(TiledImage tiledImage, int level, int x, int y) {
+        for (int l = level + 1; l < tiledImage.getLevelCount(); l++) {
+            final int shift = l - level;
+            final Tile tile = tiles.get(getTileKey(l, x >> shift, y >> shift));
+            if (tile != null && tile.isLoaded()) {
+                return tile;
+            }
+        }
+        return null;
+    }
+
+    private void evictTiles(List<Tile> shown) {
+        final int max = Math.max(getCacheSize(), 0);
+        final Set<Tile> keep = new HashSet<>(shown);
+        final Iterator<Tile> iter = tiles.values().iterator();
+        while (tiles.size() > max && iter.hasNext()) {
+            final Tile tile = iter.next();
+            if (!keep.contains(tile)) {
+                iter.remove();
+                discard(tile);
+            }
+        }
+    }
+
+    private void clearTiles() {
+        for (Tile tile : tiles.values()) {
+            discard(tile);
+        }
+        tiles.clear();
+        getChildren().clear();
+    }
+
+    private void discard(Tile tile) {
+        final Image tileImage = tile.getImage();
+        tileImage.progressProperty().removeListener(tileProgressListener);
+        tileImage.cancel();
+    }
+}
@@ -172,6 +172,11 @@ public class WritableImage extends Image {
         pixelsDirty();
     }
 
+    void bufferSwapped(Buffer buffer, Rectangle rect) {
+        getWritablePlatformImage().bufferSwapped(buffer, rect);
+        pixelsDirty();
+    }
+
     private static PixelBuffer<? extends Buffer> validatePixelBuffer(PixelBuffer<? extends Buffer> pixelBuffer) {
         return (Objects.requireNonNull(pixelBuffer, "pixelBuffer must not be null."));
     }
@@ -2,6 +2,7 @@ package com.sun.javafx.css;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import javafx.css.PseudoClass;
 import javafx.css.Styleable;
 import javafx.css.Stylesheet;
@@ -160,6 +161,18 @@ public class StyleManagerShim {
         return sm.findMatchingStyles(node, subScene, triggerStates);
     }
 
+    public void prematchStyles(List<Node> nodes, ForkJoinPool pool) {
+        sm.prematchStyles(nodes, pool);
+    }
+
+    public void clearPrematchedStyles() {
+        sm.clearPrematchedStyles();
+    }
+
+    public long getPrematchedStylesHitCount() {
+        return sm.getPrematchedStylesHitCount();
+    }
+
     public byte[] calculateCheckSum(String fname) {
         return sm.calculateCheckSum(fname);
     }
@@ -24,6 +24,7 @@
  */
 package com.sun.javafx.sg.prism;
 
+import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.DirtyRegionContainer;
 import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.transform.BaseTransform;
@@ -59,6 +60,10 @@ public abstract class NGNodeShim extends NGNode {
         return node.dirty;
     }
 
+    public static BaseBounds dirtyBounds(NGNode node) {
+        return node.dirtyBounds;
+    }
+
     public static boolean isOpaqueRegionInvalid(NGNode node) {
         return node.isOpaqueRegionInvalid();
     }
@@ -68,4 +68,8 @@ public class ImageShim extends Image {
         image.setProgress(value);
     }
 
+    public static int getViewerCount(Image image) {
+        return image.viewerCount;
+    }
+
 }
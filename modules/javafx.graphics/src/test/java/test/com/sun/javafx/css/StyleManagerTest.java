@@ -34,7 +34,9 @@ import javafx.css.CssParser;
 import javafx.css.StyleOrigin;
 import javafx.css.StyleableProperty;
 import javafx.css.Stylesheet;
+import javafx.geometry.NodeOrientation;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.SubScene;
@@ -53,6 +55,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.*;
@@ -1170,4 +1173,132 @@ public class StyleManagerTest {
             Application.setUserAgentStylesheet("data:,");
         }
     }
+
+    @Test
+    public void testFindMatchingStyles_prematchedStyles() {
+
+        StyleManagerShim sm = StyleManagerShim.getInstance();
+        sm.setDefaultUserAgentStylesheet("/test/com/sun/javafx/css/ua0.css");
+
+        List<Node> nodes = new ArrayList<>();
+        Group root = new Group();
+        for (int n = 0; n < 500; n++) {
+            Rectangle rect = new Rectangle();
+            if (n % 2 == 0) rect.getStyleClass().add("rect");
+            root.getChildren().add(rect);
+            nodes.add(rect);
+        }
+        Scene scene = new Scene(root);
+
+        List<StyleMap> expected = new ArrayList<>();
+        for (Node node : nodes) {
+            expected.add(sm.findMatchingStyles(node, null, null));
+        }
+
+        long hitCount = sm.getPrematchedStylesHitCount();
+        sm.prematchStyles(nodes, ForkJoinPool.commonPool());
+        try {
+            for (int n = 0; n < nodes.size(); n++) {
+                assertSame(expected.get(n), sm.findMatchingStyles(nodes.get(n), null, null));
+            }
+            // no selector can match the rectangles without a style-class
+            assertEquals(hitCount + nodes.size() / 2, sm.getPrematchedStylesHitCount());
+        } finally {
+            sm.clearPrematchedStyles();
+        }
+    }
+
+    @Test
+    public void testFindMatchingStyles_prematchedStylesIgnoredAfterReparenting() {
+
+        StyleManagerShim sm = StyleManagerShim.getInstance();
+        sm.setDefaultUserAgentStylesheet("/test/com/sun/javafx/css/ua0.css");
+
+        Rectangle rect = new Rectangle(){{ getStyleClass().add("rect"); }};
+        Group group = new Group(rect);
+        Group other = new Group();
+        Scene scene = new Scene(new Group(group, other));
+
+        long hitCount = sm.getPrematchedStylesHitCount();
+        sm.prematchStyles(List.of(rect), ForkJoinPool.commonPool());
+        try {
+            other.getChildren().add(rect);
+            scene.getRoot().applyCss();
+            assertEquals(Color.RED, rect.getFill());
+            assertEquals(hitCount, sm.getPrematchedStylesHitCount());
+        } finally {
+            sm.clearPrematchedStyles();
+        }
+    }
+
+    @Test
+    public void testFindMatchingStyles_prematchedStylesIgnoredAfterParentStyleClassChange() {
+
+        StyleManagerShim sm = StyleManagerShim.getInstance();
+        sm.setDefaultUserAgentStylesheet(new CssParser().parse(
+                ".rect { -fx-fill: red; } .blue .rect { -fx-fill: blue; }"));
+
+        Rectangle rect = new Rectangle(){{ getStyleClass().add("rect"); }};
+        Group group = new Group(rect);
+        Scene scene = new Scene(new Group(group));
+        scene.getRoot().applyCss();
+        assertEquals(Color.RED, rect.getFill());
+
+        long hitCount = sm.getPrematchedStylesHitCount();
+        sm.prematchStyles(List.of(rect), ForkJoinPool.commonPool());
+        try {
+            group.getStyleClass().add("blue");
+            scene.getRoot().applyCss();
+            assertEquals(Color.BLUE, rect.getFill());
+            assertEquals(hitCount, sm.getPrematchedStylesHitCount());
+        } finally {
+            sm.clearPrematchedStyles();
+        }
+    }
+
+    @Test
+    public void testFindMatchingStyles_prematchedStylesMatchEffectiveOrientation() {
+
+        StyleManagerShim sm = StyleManagerShim.getInstance();
+        sm.setDefaultUserAgentStylesheet(new CssParser().parse(
+                ".rect { -fx-fill: red; } .rect:dir(rtl) { -fx-fill: blue; }"));
+
+        Rectangle rect = new Rectangle(){{ getStyleClass().add("rect"); }};
+        Group root = new Group(new Group(rect));
+        root.setNodeOrientation(NodeOrientation.RIGHT_TO_LEFT);
+        Scene scene = new Scene(root);
+
+        long hitCount = sm.getPrematchedStylesHitCount();
+        sm.prematchStyles(List.of(rect), ForkJoinPool.commonPool());
+        try {
+            scene.getRoot().applyCss();
+            assertEquals(Color.BLUE, rect.getFill());
+            assertEquals(hitCount + 1, sm.getPrematchedStylesHitCount());
+        } finally {
+            sm.clearPrematchedStyles();
+        }
+    }
+
+    @Test
+    public void testFindMatchingStyles_prematchedStylesIgnoredAfterOrientationChange() {
+
+        StyleManagerShim sm = StyleManagerShim.getInstance();
+        sm.setDefaultUserAgentStylesheet(new CssParser().parse(
+                ".rect { -fx-fill: red; } .rect:dir(rtl) { -fx-fill: blue; }"));
+
+        Rectangle rect = new Rectangle(){{ getStyleClass().add("rect"); }};
+        Group root = new Group(new Group(rect));
+        Scene scene = new Scene(root);
+
+        long hitCount = sm.getPrematchedStylesHitCount();
+        sm.prematchStyles(List.of(rect), ForkJoinPool.commonPool());
+        try {
+            root.setNodeOrientation(NodeOrientation.RIGHT_TO_LEFT);
+            scene.getRoot().applyCss();
+            assertEquals(Color.BLUE, rect.getFill());
+            assertEquals(hitCount, sm.getPrematchedStylesHitCount());
+        } finally {
+            sm.clearPrematchedStyles();
+        }
+    }
 }
@@ -27,6 +27,7 @@ package test.com.sun.javafx.iio;
 
 import com.sun.javafx.iio.ImageFormatDescription;
 import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageFrameSequence;
 import com.sun.javafx.iio.ImageLoader;
 import com.sun.javafx.iio.ImageLoaderFactory;
 import com.sun.javafx.iio.ImageStorage;
@@ -92,6 +93,46 @@ public class ImageStorageTest {
         assertEquals(frames.length, 2);
     }
 
+    @Test
+    public void testRetainedAnimation() throws ImageStorageException {
+        String path = getResourcePath("gif/animation/test3Frames.gif");
+        ImageFrameSequence frames = new ImageStorage().loadFrames(path, null, 0, 0, true, 1.0f, true, Long.MAX_VALUE);
+        assertTrue(frames.isRetained());
+        assertEquals(3, frames.getFrames().length);
+    }
+
+    @Test
+    public void testStreamedAnimation() throws ImageStorageException {
+        String path = getResourcePath("gif/animation/test3Frames.gif");
+        ImageFrame[] expected = new ImageStorage().loadAll(path, null, 0, 0, true, 1.0f, true);
+        ImageFrameSequence frames = new ImageStorage().loadFrames(path, null, 0, 0, true, 1.0f, true, 1);
+        assertFalse(frames.isRetained());
+        assertEquals(3, frames.getFrameCount());
+
+        // frames are decoded in any order
+        for (int index : new int[] { 0, 1, 2, 1, 0, 2 }) {
+            ImageFrame frame = frames.getFrame(index);
+            assertEquals(expected[index].getImageData(), frame.getImageData());
+            assertEquals(expected[index].getMetadata().delayTime, frames.getMetadata(index).delayTime);
+        }
+    }
+
+    @Test
+    public void testStreamedIncompleteAnimation() throws ImageStorageException {
+        String path = getResourcePath("gif/animation/test3rdFrameIncomplete.gif");
+        ImageFrameSequence frames = new ImageStorage().loadFrames(path, null, 0, 0, true, 1.0f, true, 1);
+        assertEquals(2, frames.getFrameCount());
+        assertNotNull(frames.getFrame(1));
+    }
+
+    @Test
+    public void testStillImageIsRetained() throws ImageStorageException {
+        String path = getResourcePath("testpngnoextension");
+        ImageFrameSequence frames = new ImageStorage().loadFrames(path, null, 0, 0, true, 1.0f, true, 1);
+        assertTrue(frames.isRetained());
+        assertEquals(1, frames.getFrameCount());
+    }
+
     @Test(expected = ImageStorageException.class)
     public void testCorruptFirstFrame() throws ImageStorageException  {
         String path = getResourcePath("gif/animation/testBad.gif");
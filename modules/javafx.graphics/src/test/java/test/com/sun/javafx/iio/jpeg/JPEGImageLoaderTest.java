@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.iio.jpeg;
+
+import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.common.ImageTools;
+import com.sun.javafx.iio.ImageLoader;
+import com.sun.javafx.iio.jpeg.JPEGImageLoaderFactory;
+import test.com.sun.javafx.iio.ImageTestHelper;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class JPEGImageLoaderTest {
+
+    private static ByteArrayInputStream createJPEG(int width, int height) throws IOException {
+        BufferedImage bImg = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ImageTestHelper.drawImageRandom(bImg);
+        return ImageTestHelper.writeImageToStream(bImg, "jpeg", null);
+    }
+
+    private static ImageLoader createLoader(InputStream stream) throws IOException {
+        return JPEGImageLoaderFactory.getInstance().createImageLoader(stream);
+    }
+
+    @Test
+    public void testRegion() throws IOException {
+        ByteArrayInputStream jpeg = createJPEG(67, 45);
+        ImageFrame full = createLoader(jpeg).load(0, 0, 0, true, false);
+        int[][] regions = {
+            {0, 0, 67, 45}, {10, 5, 30, 20}, {60, 40, 100, 100},
+        };
+        for (int[] r : regions) {
+            jpeg.reset();
+            ImageFrame region = createLoader(jpeg).loadRegion(0, r[0], r[1], r[2], r[3], 1);
+            ImageFrame expected = ImageTools.extractRegion(full, r[0], r[1], r[2], r[3], 1);
+            assertEquals(expected.getImageType(), region.getImageType());
+            assertEquals(expected.getWidth(), region.getWidth());
+            assertEquals(expected.getHeight(), region.getHeight());
+            assertEquals(expected.getImageData(), region.getImageData());
+        }
+    }
+
+    @Test
+    public void testSubsampledRegion() throws IOException {
+        ByteArrayInputStream jpeg = createJPEG(200, 120);
+        // the decompressor scales by 1/2, 1/4 or 1/8, the remaining
+        // subsampling is done on the decoded pixels
+        int[][] regions = {
+            {0, 0, 200, 120, 2, 100, 60}, {0, 0, 200, 120, 8, 25, 15},
+            {16, 8, 64, 32, 4, 16, 8}, {10, 10, 50, 50, 3, 17, 17},
+            {0, 0, 200, 120, 16, 13, 8},
+        };
+        for (int[] r : regions) {
+            jpeg.reset();
+            ImageFrame region = createLoader(jpeg).loadRegion(0, r[0], r[1], r[2], r[3], r[4]);
+            assertEquals(r[5], region.getWidth());
+            assertEquals(r[6], region.getHeight());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegionOutsideOfImage() throws IOException {
+        createLoader(createJPEG(67, 45)).loadRegion(0, 100, 0, 10, 10, 1);
+    }
+}
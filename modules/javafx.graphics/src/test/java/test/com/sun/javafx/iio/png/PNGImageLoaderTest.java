@@ -25,13 +25,30 @@
 
 package test.com.sun.javafx.iio.png;
 
+import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.common.ImageTools;
 import com.sun.javafx.iio.png.PNGImageLoader2;
 import test.com.sun.javafx.iio.ImageTestHelper;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
 import org.junit.Test;
 
+import static org.junit.Assert.*;
+
 public class PNGImageLoaderTest {
 
     private void testImage(InputStream stream) throws IOException {
@@ -76,4 +93,172 @@ public class PNGImageLoaderTest {
         ByteArrayInputStream stream = ImageTestHelper.constructStreamFromInts(corruptedIDATLength);
         testImage(stream);
     }
+
+    private static byte[] createPNG(int type, boolean interlaced) throws IOException {
+        BufferedImage bImg = new BufferedImage(67, 45, type);
+        ImageTestHelper.drawImageRandom(bImg);
+        return createPNG(bImg, interlaced);
+    }
+
+    private static byte[] createPNG(BufferedImage bImg, boolean interlaced) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+            ImageWriteParam iwp = writer.getDefaultWriteParam();
+            iwp.setProgressiveMode(interlaced
+                    ? ImageWriteParam.MODE_DEFAULT : ImageWriteParam.MODE_DISABLED);
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(bImg, null, null), iwp);
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static void assertSameFrame(ImageFrame expected, ImageFrame actual) {
+        assertEquals(expected.getImageType(), actual.getImageType());
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        assertEquals(expected.getImageData(), actual.getImageData());
+    }
+
+    private void testRegion(int type, boolean interlaced) throws IOException {
+        byte[] png = createPNG(type, interlaced);
+        ImageFrame full = new PNGImageLoader2(new ByteArrayInputStream(png)).load(0, 0, 0, true, false);
+        int[][] regions = {
+            {0, 0, 67, 45, 1}, {0, 0, 67, 45, 2}, {0, 0, 67, 45, 8},
+            {10, 5, 30, 20, 1}, {3, 7, 50, 31, 4}, {60, 40, 100, 100, 3},
+        };
+        for (int[] r : regions) {
+            ImageFrame region = new PNGImageLoader2(new ByteArrayInputStream(png))
+                    .loadRegion(0, r[0], r[1], r[2], r[3], r[4]);
+            assertSameFrame(ImageTools.extractRegion(full, r[0], r[1], r[2], r[3], r[4]), region);
+        }
+    }
+
+    @Test
+    public void testRegionRGB() throws IOException {
+        testRegion(BufferedImage.TYPE_INT_RGB, false);
+    }
+
+    @Test
+    public void testRegionRGBInterlaced() throws IOException {
+        testRegion(BufferedImage.TYPE_INT_RGB, true);
+    }
+
+    @Test
+    public void testRegionRGBA() throws IOException {
+        testRegion(BufferedImage.TYPE_INT_ARGB, true);
+    }
+
+    @Test
+    public void testRegionPalette() throws IOException {
+        testRegion(BufferedImage.TYPE_BYTE_INDEXED, false);
+        testRegion(BufferedImage.TYPE_BYTE_BINARY, true);
+    }
+
+    @Test
+    public void testRegionGray() throws IOException {
+        testRegion(BufferedImage.TYPE_BYTE_GRAY, true);
+        testRegion(BufferedImage.TYPE_USHORT_GRAY, false);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegionOutsideOfImage() throws IOException {
+        new PNGImageLoader2(new ByteArrayInputStream(createPNG(BufferedImage.TYPE_INT_RGB, false)))
+                .loadRegion(0, 100, 0, 10, 10, 1);
+    }
+
+    @Test
+    public void testSubsampledThumbnail() throws IOException {
+        byte[] png = createPNG(BufferedImage.TYPE_INT_RGB, true);
+        ImageFrame thumbnail = new PNGImageLoader2(new ByteArrayInputStream(png)).load(0, 8, 5, false, false);
+        assertEquals(8, thumbnail.getWidth());
+        assertEquals(5, thumbnail.getHeight());
+        thumbnail = new PNGImageLoader2(new ByteArrayInputStream(png)).load(0, 8, 5, false, true);
+        assertEquals(8, thumbnail.getWidth());
+        assertEquals(5, thumbnail.getHeight());
+    }
+
+    @Test
+    public void testSmoothThumbnailAveragesSkippedPixels() throws IOException {
+        BufferedImage bImg = new BufferedImage(256, 256, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y != 256; ++y) {
+            for (int x = 0; x != 256; ++x) {
+                bImg.setRGB(x, y, (x + y) % 2 == 0 ? 0xFFFFFF : 0);
+            }
+        }
+        byte[] png = createPNG(bImg, false);
+        ImageFrame thumbnail = new PNGImageLoader2(new ByteArrayInputStream(png)).load(0, 16, 16, false, true);
+        assertEquals(16, thumbnail.getWidth());
+        assertEquals(16, thumbnail.getHeight());
+        // every pixel skipped by the subsampling contributes to the average,
+        // so the thumbnail is gray rather than black or white
+        ByteBuffer data = (ByteBuffer) thumbnail.getImageData();
+        for (int i = 0; i != 16 * 16 * 3; ++i) {
+            assertEquals("byte " + i, 128, data.get(i) & 0xFF);
+        }
+    }
+
+    private void testLargeImage(int type, boolean interlaced) throws IOException {
+        // large enough for the scanlines to be decoded on two threads
+        BufferedImage bImg = new BufferedImage(1024, 768, type);
+        ImageTestHelper.drawImageRandom(bImg);
+        byte[] png = createPNG(bImg, interlaced);
+        assertLargeImageDecoded(png, ImageIO.read(new ByteArrayInputStream(png)));
+    }
+
+    private static void assertLargeImageDecoded(byte[] png, BufferedImage expected) throws IOException {
+        ImageFrame frame = new PNGImageLoader2(new ByteArrayInputStream(png)).load(0, 0, 0, true, false);
+        assertEquals(1024, frame.getWidth());
+        assertEquals(768, frame.getHeight());
+        ByteBuffer data = (ByteBuffer) frame.getImageData();
+        int bpp = frame.getStride() / frame.getWidth();
+        for (int y = 0; y != 768; ++y) {
+            for (int x = 0; x != 1024; ++x) {
+                int pos = y * frame.getStride() + x * bpp;
+                int argb = (bpp == 4 ? (data.get(pos + 3) & 0xFF) : 0xFF) << 24
+                        | (data.get(pos) & 0xFF) << 16
+                        | (data.get(pos + 1) & 0xFF) << 8
+                        | (data.get(pos + 2) & 0xFF);
+                assertEquals("pixel " + x + "," + y, expected.getRGB(x, y), argb);
+            }
+        }
+    }
+
+    @Test
+    public void testLargeImageRGB() throws IOException {
+        testLargeImage(BufferedImage.TYPE_INT_RGB, false);
+    }
+
+    @Test
+    public void testLargeImageRGBAInterlaced() throws IOException {
+        testLargeImage(BufferedImage.TYPE_INT_ARGB, true);
+    }
+
+    @Test
+    public void testLargeImagesDecodedConcurrently() throws Exception {
+        BufferedImage bImg = new BufferedImage(1024, 768, BufferedImage.TYPE_INT_RGB);
+        ImageTestHelper.drawImageRandom(bImg);
+        byte[] png = createPNG(bImg, false);
+        BufferedImage expected = ImageIO.read(new ByteArrayInputStream(png));
+
+        // more decodes than worker threads, so some are decoded on the
+        // calling thread alone
+        int count = 2 * Runtime.getRuntime().availableProcessors() + 1;
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        try {
+            List<Future<Void>> decodes = new ArrayList<>();
+            for (int i = 0; i != count; ++i) {
+                decodes.add(executor.submit(() -> {
+                    assertLargeImageDecoded(png, expected);
+                    return null;
+                }));
+            }
+            for (Future<Void> decode : decodes) {
+                decode.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.iio.qoi;
+
+import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageStorage;
+import com.sun.javafx.iio.qoi.QOIImageLoader;
+import com.sun.javafx.iio.qoi.QOIImageWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class QOIImageLoaderTest {
+
+    private static byte[] encode(byte[] pixels, int width, int height, int channels) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        QOIImageWriter.write(pixels, 0, width * channels, width, height, channels, out);
+        return out.toByteArray();
+    }
+
+    private static ImageFrame decode(byte[] qoi) throws IOException {
+        return new QOIImageLoader(new ByteArrayInputStream(qoi)).load(0, 0, 0, true, false);
+    }
+
+    private static byte[] getPixels(ImageFrame frame) {
+        ByteBuffer data = (ByteBuffer) frame.getImageData();
+        byte[] pixels = new byte[data.capacity()];
+        data.duplicate().get(pixels);
+        return pixels;
+    }
+
+    // pixels with runs, small differences, repeated colors and random colors
+    private static byte[] createPixels(int width, int height, int channels) {
+        Random random = new Random(1);
+        byte[] pixels = new byte[width * height * channels];
+        int[] palette = new int[16];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = random.nextInt();
+        }
+        int px = 0;
+        for (int i = 0; i < width * height; i++) {
+            switch (random.nextInt(5)) {
+                case 0: break; // run
+                case 1: px += random.nextInt(3) - 1; break;
+                case 2: px += (random.nextInt(31) - 15) * 0x010101; break;
+                case 3: px = palette[random.nextInt(palette.length)]; break;
+                default: px = random.nextInt(); break;
+            }
+            for (int c = 0; c < channels; c++) {
+                pixels[i * channels + c] = (byte) (px >> (24 - c * 8));
+            }
+        }
+        return pixels;
+    }
+
+    private void testRoundTrip(int width, int height, int channels) throws IOException {
+        byte[] pixels = createPixels(width, height, channels);
+        ImageFrame frame = decode(encode(pixels, width, height, channels));
+        assertEquals(channels == 4 ? ImageStorage.ImageType.RGBA : ImageStorage.ImageType.RGB,
+                     frame.getImageType());
+        assertEquals(width, frame.getWidth());
+        assertEquals(height, frame.getHeight());
+        assertEquals(width * channels, frame.getStride());
+        assertArrayEquals(pixels, getPixels(frame));
+    }
+
+    @Test
+    public void testRoundTripRGB() throws IOException {
+        testRoundTrip(301, 97, 3);
+    }
+
+    @Test
+    public void testRoundTripRGBA() throws IOException {
+        testRoundTrip(97, 301, 4);
+    }
+
+    @Test
+    public void testLongRuns() throws IOException {
+        byte[] pixels = new byte[1000 * 4];
+        Arrays.fill(pixels, (byte) 0x7f);
+        byte[] qoi = encode(pixels, 100, 10, 4);
+        // one RGBA chunk, then 999 pixels in runs of at most 62 pixels
+        assertEquals(14 + 5 + 17 + 8, qoi.length);
+        assertArrayEquals(pixels, getPixels(decode(qoi)));
+    }
+
+    @Test
+    public void testDecodeChunks() throws IOException {
+        byte[] qoi = {
+            'q', 'o', 'i', 'f', 0, 0, 0, 3, 0, 0, 0, 2, 3, 0,
+            (byte) 0xfe, 10, 20, 30,      // QOI_OP_RGB
+            (byte) 0x76,                  // QOI_OP_DIFF +1, -1, 0
+            (byte) 0xa5, (byte) 0x5a,     // QOI_OP_LUMA dg = 5, dr - dg = -3, db - dg = 2
+            (byte) 0x09,                  // QOI_OP_INDEX of the first pixel
+            (byte) 0xc1,                  // QOI_OP_RUN of 2 pixels
+            0, 0, 0, 0, 0, 0, 0, 1
+        };
+        byte[] expected = {
+            10, 20, 30, 11, 19, 30, 13, 24, 37,
+            10, 20, 30, 10, 20, 30, 10, 20, 30
+        };
+        assertArrayEquals(expected, getPixels(decode(qoi)));
+    }
+
+    @Test
+    public void testLoadedByImageStorage() throws Exception {
+        byte[] pixels = createPixels(20, 10, 4);
+        ImageFrame[] frames = ImageStorage.getInstance().loadAll(
+                new ByteArrayInputStream(encode(pixels, 20, 10, 4)), null, 0, 0, true, 1.0f, false);
+        assertEquals(1, frames.length);
+        assertEquals(20, frames[0].getWidth());
+        assertEquals(10, frames[0].getHeight());
+        assertArrayEquals(pixels, getPixels(frames[0]));
+    }
+
+    @Test
+    public void testScaled() throws IOException {
+        byte[] qoi = encode(createPixels(40, 20, 3), 40, 20, 3);
+        ImageFrame frame = new QOIImageLoader(new ByteArrayInputStream(qoi)).load(0, 10, 10, true, true);
+        assertEquals(10, frame.getWidth());
+        assertEquals(5, frame.getHeight());
+    }
+
+    @Test
+    public void testWriteImageFrame() throws IOException {
+        byte[] pixels = createPixels(30, 20, 3);
+        ImageFrame frame = decode(encode(pixels, 30, 20, 3));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        QOIImageWriter.write(frame, out);
+        assertArrayEquals(pixels, getPixels(decode(out.toByteArray())));
+    }
+
+    @Test(expected = IOException.class)
+    public void testBadSignature() throws IOException {
+        byte[] qoi = encode(createPixels(4, 4, 3), 4, 4, 3);
+        qoi[0] = 'x';
+        decode(qoi);
+    }
+
+    @Test(timeout = 1000, expected = IOException.class)
+    public void testTruncated() throws IOException {
+        byte[] qoi = encode(createPixels(40, 40, 3), 40, 40, 3);
+        decode(Arrays.copyOf(qoi, qoi.length / 2));
+    }
+}
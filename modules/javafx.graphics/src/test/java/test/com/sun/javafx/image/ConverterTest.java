@@ -654,6 +654,36 @@ public class ConverterTest {
         assertNotNull(PixelUtils.getConverter(ByteBgraPre.getter, IntArgbPre.setter));
     }
 
+    @Test
+    public void testDivideByAlpha() {
+        for (int a = 1; a <= 0xff; a++) {
+            for (int x = 0; x <= 0xffff; x++) {
+                if (PixelUtils.divideByAlpha(x, a) != x / a) {
+                    fail(x + " / " + a + " = " + PixelUtils.divideByAlpha(x, a));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testUnpremultipliedComponents() {
+        for (int a = 1; a < 0xff; a++) {
+            for (int c = 0; c <= a; c++) {
+                int expected = (c * 0xff + (a >> 1)) / a;
+                int pre = (a << 24) | (c << 16) | (c << 8) | c;
+                int nonpre = (a << 24) | (expected << 16) | (expected << 8) | expected;
+                assertEquals(expected, PixelUtils.PreToNonPre(c, a));
+                assertEquals(nonpre, PixelUtils.PretoNonPre(pre));
+                assertEquals(nonpre, IntArgbPre.getter.getArgb(new int[] { pre }, 0));
+                byte bgra[] = new byte[4];
+                ByteBgraPre.ToByteBgraConverter().convert(
+                        new byte[] { (byte) c, (byte) c, (byte) c, (byte) a }, 0, 4,
+                        bgra, 0, 4, 1, 1);
+                assertEquals(nonpre, ByteBgra.getter.getArgb(bgra, 0));
+            }
+        }
+    }
+
     @Test
     public void testIntAccessors() {
         testIntAccessors(heapIntBuffer(0, 2));
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.pgstub;
+
+import com.sun.javafx.tk.ImageLoader;
+import com.sun.javafx.tk.PlatformImage;
+import javafx.scene.image.PixelBuffer;
+
+public final class StubPixelBufferImageLoader implements ImageLoader {
+    private final PixelBuffer<?> pixelBuffer;
+    private final StubWritablePlatformImage image;
+
+    public StubPixelBufferImageLoader(PixelBuffer<?> pixelBuffer) {
+        this.pixelBuffer = pixelBuffer;
+        image = new StubWritablePlatformImage(pixelBuffer.getWidth(), pixelBuffer.getHeight(),
+                                              pixelBuffer.getBuffer());
+    }
+
+    @Override
+    public Exception getException() {
+        return null;
+    }
+
+    @Override
+    public int getFrameCount() {
+        return 1;
+    }
+
+    @Override
+    public PlatformImage getFrame(int index) {
+        return image;
+    }
+
+    @Override
+    public int getFrameDelay(int index) {
+        return 0;
+    }
+
+    @Override
+    public int getLoopCount() {
+        return 0;
+    }
+
+    @Override
+    public double getWidth() {
+        return pixelBuffer.getWidth();
+    }
+
+    @Override
+    public double getHeight() {
+        return pixelBuffer.getHeight();
+    }
+}
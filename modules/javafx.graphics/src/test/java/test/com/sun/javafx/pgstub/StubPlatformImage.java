@@ -163,4 +163,9 @@ public final class StubPlatformImage implements PlatformImage {
     public void bufferDirty(Rectangle rect) {
         throw new UnsupportedOperationException("Not supported yet.");
     }
+
+    @Override
+    public void bufferSwapped(Buffer buffer, Rectangle rect) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
 }
@@ -51,6 +51,7 @@ import com.sun.scenario.effect.Filterable;
 import javafx.application.ConditionalFeature;
 import javafx.geometry.Dimension2D;
 import javafx.scene.image.Image;
+import javafx.scene.image.PixelBuffer;
 import javafx.scene.input.*;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.ImagePattern;
@@ -589,6 +590,10 @@ public class StubToolkit extends Toolkit {
 
     @Override
     public ImageLoader loadPlatformImage(Object platformImage) {
+        if (platformImage instanceof PixelBuffer) {
+            PixelBuffer<?> pixelBuffer = (PixelBuffer<?>) platformImage;
+            return new StubPixelBufferImageLoader(pixelBuffer);
+        }
         return imageLoaderFactory.createImageLoader(platformImage,
                                                     0, 0, false, false);
     }
@@ -703,9 +708,22 @@ public class StubToolkit extends Toolkit {
         this.charToKeyCodeMap = charToKeyCodeMap;
     }
 
+    private boolean renderToImageSupported;
+
+    public void setRenderToImageSupported(boolean renderToImageSupported) {
+        this.renderToImageSupported = renderToImageSupported;
+    }
+
     @Override
     public Object renderToImage(ImageRenderingContext context) {
-        throw new UnsupportedOperationException();
+        if (!renderToImageSupported) {
+            throw new UnsupportedOperationException();
+        }
+        // a blank image of the requested size
+        if (context.platformImage != null) {
+            return context.platformImage;
+        }
+        return loadPlatformImage(createPlatformImage(context.width, context.height));
     }
 
     @Override public boolean canStartNestedEventLoop() {
@@ -39,6 +39,9 @@ import com.sun.javafx.tk.PlatformImage;
 public class StubWritablePlatformImage implements PlatformImage {
     private final int w, h;
     private final int[] data;
+    private Buffer buffer;
+    private Rectangle dirtyRect;
+    private int dirtyCount;
 
     public StubWritablePlatformImage(int w, int h) {
         this.w = w;
@@ -46,6 +49,11 @@ public class StubWritablePlatformImage implements PlatformImage {
         this.data = new int[w * h];
     }
 
+    public StubWritablePlatformImage(int w, int h, Buffer buffer) {
+        this(w, h);
+        this.buffer = buffer;
+    }
+
     @Override
     public float getPixelScale() {
         return 1;
@@ -106,5 +114,25 @@ public class StubWritablePlatformImage implements PlatformImage {
 
     @Override
     public void bufferDirty(Rectangle rect) {
+        dirtyRect = rect;
+        dirtyCount++;
+    }
+
+    @Override
+    public void bufferSwapped(Buffer buffer, Rectangle rect) {
+        this.buffer = buffer;
+        bufferDirty(rect);
+    }
+
+    public Buffer getBuffer() {
+        return buffer;
+    }
+
+    public Rectangle getDirtyRect() {
+        return dirtyRect;
+    }
+
+    public int getDirtyCount() {
+        return dirtyCount;
     }
 }
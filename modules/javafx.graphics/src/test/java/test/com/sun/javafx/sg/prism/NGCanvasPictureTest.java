@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.sg.prism;
+
+import com.sun.javafx.geom.transform.Affine2D;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.sg.prism.GrowableDataBuffer;
+import com.sun.javafx.sg.prism.NGCanvas;
+import com.sun.javafx.sg.prism.NGCanvasPicture;
+import com.sun.javafx.sg.prism.NGCanvasPictureShim;
+import com.sun.prism.Texture;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class NGCanvasPictureTest {
+
+    private NGCanvasPicture picture;
+    private DrawGraphics g;
+
+    @Before public void setup() {
+        GrowableDataBuffer commands = GrowableDataBuffer.getBuffer(16);
+        commands.putByte(NGCanvas.RESET);
+        picture = new NGCanvasPicture(100, 50, commands);
+        g = new DrawGraphics();
+    }
+
+    private Draw render(BaseTransform tx) {
+        g.setTransform(tx);
+        NGCanvasPictureShim.render(picture, g);
+        assertEquals(tx, g.getTransformNoClone());
+        return g.draws.get(g.draws.size() - 1);
+    }
+
+    private static BaseTransform transform(double mxx, double myx, double mxy, double myy,
+                                           double mxt, double myt) {
+        return new Affine2D(mxx, myx, mxy, myy, mxt, myt);
+    }
+
+    @Test
+    public void testSameTransformReusesRaster() {
+        Draw first = render(transform(2, 0, 0, 2, 10, 20));
+        Draw second = render(transform(2, 0, 0, 2, 10, 20));
+        assertSame(first.tex, second.tex);
+        assertEquals(1, NGCanvasPictureShim.getRasterCount(picture));
+    }
+
+    @Test
+    public void testWholePixelTranslationReusesRaster() {
+        Draw first = render(transform(1, 0, 0, 1, 10.25, 20.5));
+        Draw second = render(transform(1, 0, 0, 1, 13.25, 17.5));
+        assertSame(first.tex, second.tex);
+        assertEquals(BaseTransform.getTranslateInstance(10, 20), first.tx);
+        assertEquals(BaseTransform.getTranslateInstance(13, 17), second.tx);
+    }
+
+    @Test
+    public void testFractionalTranslationRasterizesAgain() {
+        Draw first = render(transform(1, 0, 0, 1, 10, 20));
+        Draw second = render(transform(1, 0, 0, 1, 10.5, 20));
+        assertNotSame(first.tex, second.tex);
+        assertEquals(2, NGCanvasPictureShim.getRasterCount(picture));
+    }
+
+    @Test
+    public void testRotatedPictureIsDrawnPixelForPixel() {
+        double c = Math.cos(Math.PI / 6), s = Math.sin(Math.PI / 6);
+        Draw draw = render(transform(c, s, -s, c, 200.5, 100.5));
+        // The device bounds of the picture start at x = 200.5 - 50 * s
+        assertEquals(BaseTransform.getTranslateInstance(175, 100), draw.tx);
+        assertEquals(0, draw.x, 0);
+        assertEquals(0, draw.y, 0);
+        assertEquals(draw.tex.getContentWidth(), draw.w, 0);
+        assertEquals(draw.tex.getContentHeight(), draw.h, 0);
+        assertEquals(Math.ceil(200.5 + 100 * c) - 175, draw.w, 0);
+        assertEquals(Math.ceil(100.5 + 100 * s + 50 * c) - 100, draw.h, 0);
+    }
+
+    @Test
+    public void testAlternatingScalesReuseRasters() {
+        Draw small = render(transform(1, 0, 0, 1, 0, 0));
+        Draw large = render(transform(2, 0, 0, 2, 0, 0));
+        assertNotSame(small.tex, large.tex);
+        for (int i = 0; i < 3; i++) {
+            assertSame(small.tex, render(transform(1, 0, 0, 1, 0, 0)).tex);
+            assertSame(large.tex, render(transform(2, 0, 0, 2, 0, 0)).tex);
+        }
+        assertEquals(2, NGCanvasPictureShim.getRasterCount(picture));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedRasterIsEvicted() {
+        Draw first = render(transform(1, 0, 0, 1, 0, 0));
+        Draw second = render(transform(2, 0, 0, 2, 0, 0));
+        render(transform(3, 0, 0, 3, 0, 0));
+        assertSame(first.tex, render(transform(1, 0, 0, 1, 0, 0)).tex);
+        render(transform(4, 0, 0, 4, 0, 0));
+        assertEquals(3, NGCanvasPictureShim.getRasterCount(picture));
+        assertSame(first.tex, render(transform(1, 0, 0, 1, 0, 0)).tex);
+        assertNotSame(second.tex, render(transform(2, 0, 0, 2, 0, 0)).tex);
+    }
+
+    @Test
+    public void testPictureTooLargeForTextureIsScaled() {
+        Draw draw = render(transform(100, 0, 0, 100, 0, 0));
+        assertEquals(transform(100, 0, 0, 100, 0, 0), draw.tx);
+        assertEquals(100, draw.w, 0);
+        assertEquals(50, draw.h, 0);
+        assertEquals(4096, draw.tex.getContentWidth());
+        assertEquals(2048, draw.tex.getContentHeight());
+    }
+
+    private static final class Draw {
+        final Texture tex;
+        final BaseTransform tx;
+        final float x, y, w, h;
+
+        Draw(Texture tex, BaseTransform tx, float x, float y, float w, float h) {
+            this.tex = tex;
+            this.tx = new Affine2D(tx);
+            this.x = x;
+            this.y = y;
+            this.w = w;
+            this.h = h;
+        }
+    }
+
+    private static final class DrawGraphics extends TestGraphics {
+        final List<Draw> draws = new ArrayList<>();
+
+        @Override public void drawTexture(Texture tex, float x, float y, float w, float h) {
+            draws.add(new Draw(tex, getTransformNoClone(), x, y, w, h));
+        }
+
+        @Override
+        public void drawTexture(Texture tex, float dx1, float dy1, float dx2, float dy2,
+                                float sx1, float sy1, float sx2, float sy2) {
+            draws.add(new Draw(tex, getTransformNoClone(), dx1, dy1, dx2 - dx1, dy2 - dy1));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.sg.prism;
+
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.sg.prism.GrowableDataBuffer;
+import com.sun.javafx.sg.prism.NGCanvas;
+import com.sun.javafx.sg.prism.NGCanvasShim;
+import com.sun.javafx.sg.prism.NGNode;
+import com.sun.javafx.sg.prism.NGNodeShim;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NGCanvasTest extends NGTestBase {
+
+    NGCanvas canvas;
+
+    @Before public void setup() {
+        canvas = new NGCanvas();
+        canvas.updateBounds(100, 100);
+        canvas.setContentBounds(new RectBounds(0, 0, 100, 100));
+        canvas.setTransformedBounds(new RectBounds(0, 0, 100, 100), false);
+        translate(canvas, 50, 20);
+        canvas.updateRendering(commands(NGCanvas.RESET));
+        NGNodeShim.clearDirty(canvas);
+    }
+
+    private static GrowableDataBuffer commands(byte token) {
+        GrowableDataBuffer buf = GrowableDataBuffer.getBuffer(16);
+        buf.putByte(token);
+        return buf;
+    }
+
+    @Test
+    public void testDamageMarksPartialDirtyRegion() {
+        canvas.updateRendering(commands(NGCanvas.FILL_RECT), new RectBounds(10, 10, 20, 30));
+        assertEquals(NGNode.DirtyFlag.DIRTY, NGNodeShim.dirty(canvas));
+        assertEquals(new RectBounds(60, 30, 70, 50), NGNodeShim.dirtyBounds(canvas));
+    }
+
+    @Test
+    public void testDamageAccumulatesUntilRendered() {
+        canvas.updateRendering(commands(NGCanvas.FILL_RECT), new RectBounds(10, 10, 20, 30));
+        canvas.updateRendering(commands(NGCanvas.FILL_RECT), new RectBounds(0, 40, 5, 45));
+        assertEquals(new RectBounds(50, 30, 70, 65), NGNodeShim.dirtyBounds(canvas));
+    }
+
+    @Test
+    public void testEmptyDamageLeavesNodeClean() {
+        canvas.updateRendering(commands(NGCanvas.FILL_PAINT), new RectBounds());
+        assertEquals(NGNode.DirtyFlag.CLEAN, NGNodeShim.dirty(canvas));
+    }
+
+    @Test
+    public void testNullDamageMarksWholeCanvasDirty() {
+        canvas.updateRendering(commands(NGCanvas.FILL_RECT), null);
+        assertEquals(NGNode.DirtyFlag.DIRTY, NGNodeShim.dirty(canvas));
+        assertTrue(NGNodeShim.dirtyBounds(canvas).isEmpty());
+    }
+
+    @Test
+    public void testResetMarksWholeCanvasDirty() {
+        canvas.updateRendering(commands(NGCanvas.RESET), new RectBounds(10, 10, 20, 30));
+        assertEquals(NGNode.DirtyFlag.DIRTY, NGNodeShim.dirty(canvas));
+        assertTrue(NGNodeShim.dirtyBounds(canvas).isEmpty());
+    }
+
+    @Test
+    public void testDamageDoesNotShrinkFullDirtyRegion() {
+        canvas.updateBounds(200, 100);
+        canvas.updateRendering(commands(NGCanvas.FILL_RECT), new RectBounds(10, 10, 20, 30));
+        assertEquals(NGNode.DirtyFlag.DIRTY, NGNodeShim.dirty(canvas));
+        assertTrue(NGNodeShim.dirtyBounds(canvas).isEmpty());
+    }
+
+    private static RectBounds batchBounds(byte token, float size, float... coords) {
+        RectBounds bounds = new RectBounds();
+        int n = coords.length / (token == NGCanvas.FILL_POINTS ? 2 : 4);
+        NGCanvasShim.batchBounds(token, coords, n, size, bounds);
+        return bounds;
+    }
+
+    @Test
+    public void testFillRectsBatchBounds() {
+        assertEquals(new RectBounds(5, 10, 40, 35),
+                     batchBounds(NGCanvas.FILL_RECTS, 0f,
+                                 10, 10, 20, 5,
+                                 30, 30, 10, 5,
+                                 5, 12, 1, 1));
+    }
+
+    @Test
+    public void testFillRectsBatchBoundsWithNegativeSize() {
+        assertEquals(new RectBounds(0, 5, 20, 30),
+                     batchBounds(NGCanvas.FILL_RECTS, 0f,
+                                 20, 30, -20, -25));
+    }
+
+    @Test
+    public void testStrokeLinesBatchBounds() {
+        assertEquals(new RectBounds(-10, 0, 50, 60),
+                     batchBounds(NGCanvas.STROKE_LINES, 0f,
+                                 50, 0, -10, 20,
+                                 0, 60, 10, 10));
+    }
+
+    @Test
+    public void testFillPointsBatchBoundsIncludeMarkerSize() {
+        assertEquals(new RectBounds(7, 17, 33, 43),
+                     batchBounds(NGCanvas.FILL_POINTS, 6f,
+                                 10, 40,
+                                 30, 20));
+    }
+}
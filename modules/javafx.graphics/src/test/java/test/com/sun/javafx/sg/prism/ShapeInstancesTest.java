@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.sg.prism;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.sg.prism.NGCircle;
+import com.sun.javafx.sg.prism.NGNode;
+import com.sun.javafx.sg.prism.NGRectangle;
+import com.sun.javafx.sg.prism.NGShape;
+import com.sun.prism.BasicStroke;
+import com.sun.prism.paint.Color;
+import com.sun.prism.paint.Gradient;
+import com.sun.prism.paint.LinearGradient;
+import com.sun.prism.paint.Paint;
+import com.sun.prism.paint.Stop;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ShapeInstancesTest extends NGTestBase {
+
+    private static class BatchGraphics extends TestGraphics {
+        final List<String> batches = new ArrayList<>();
+        final List<Float> bounds = new ArrayList<>();
+        final List<String> ops = new ArrayList<>();
+        int singleFills;
+
+        @Override
+        public void fillEllipses(float[] b, Color[] colors, int count) {
+            record("ellipses", b, count);
+        }
+
+        @Override
+        public void fillRects(float[] b, Color[] colors, int count) {
+            record("rects", b, count);
+        }
+
+        private void record(String type, float[] b, int count) {
+            batches.add(type + ":" + count);
+            ops.add(type + ":" + count);
+            for (int i = 0; i < count * 4; i++) {
+                bounds.add(b[i]);
+            }
+        }
+
+        @Override
+        public void fillEllipse(float x, float y, float width, float height) {
+            singleFills++;
+            ops.add("fill");
+        }
+
+        @Override
+        public void fillRect(float x, float y, float width, float height) {
+            singleFills++;
+            ops.add("fill");
+        }
+
+        @Override
+        public void drawEllipse(float x, float y, float width, float height) {
+            ops.add("stroke");
+        }
+
+        @Override
+        public void drawRect(float x, float y, float width, float height) {
+            ops.add("stroke");
+        }
+
+        @Override
+        public void fillQuad(float x1, float y1, float x2, float y2) {
+            singleFills++;
+        }
+    }
+
+    // Rejects a null paint like the shader pipelines do, and fills a batch
+    // with the default methods of Graphics.
+    private static class PaintCheckingGraphics extends TestGraphics {
+        int fills;
+
+        @Override
+        public void setPaint(Paint paint) {
+            super.setPaint(Objects.requireNonNull(paint));
+        }
+
+        @Override
+        public void fillEllipse(float x, float y, float width, float height) {
+            fills++;
+        }
+    }
+
+    private static NGCircle circle(float cx, float cy, float r) {
+        NGCircle c = new NGCircle();
+        c.updateCircle(cx, cy, r);
+        c.setFillPaint(Color.RED);
+        c.setSmooth(true);
+        c.setTransformMatrix(BaseTransform.IDENTITY_TRANSFORM);
+        return c;
+    }
+
+    private static NGRectangle rect(float x, float y, float w, float h) {
+        NGRectangle r = new NGRectangle();
+        r.updateRectangle(x, y, w, h, 0, 0);
+        r.setFillPaint(Color.BLUE);
+        r.setSmooth(true);
+        r.setTransformMatrix(BaseTransform.IDENTITY_TRANSFORM);
+        return r;
+    }
+
+    private static BatchGraphics render(NGNode... children) {
+        BatchGraphics g = new BatchGraphics();
+        createGroup(children).render(g);
+        return g;
+    }
+
+    @Test
+    public void siblingShapesAreFilledTogether() {
+        BatchGraphics g = render(circle(10, 10, 5), circle(20, 10, 5), circle(30, 10, 5));
+        assertEquals(List.of("ellipses:3"), g.batches);
+        assertEquals(0, g.singleFills);
+    }
+
+    @Test
+    public void translationIsFoldedIntoTheBounds() {
+        NGCircle c = circle(10, 10, 5);
+        translate(c, 100, 50);
+        BatchGraphics g = render(circle(10, 10, 5), c);
+        assertArrayEquals(new Object[] {5f, 5f, 10f, 10f, 105f, 55f, 10f, 10f},
+                          g.bounds.toArray());
+    }
+
+    @Test
+    public void differentShapesAreSeparateBatches() {
+        BatchGraphics g = render(circle(10, 10, 5), circle(20, 10, 5),
+                                 rect(0, 0, 5, 5), rect(10, 0, 5, 5));
+        assertEquals(List.of("ellipses:2", "rects:2"), g.batches);
+    }
+
+    private static NGCircle stroked(NGCircle c) {
+        c.setMode(NGShape.Mode.STROKE_FILL);
+        c.setDrawPaint(Color.BLACK);
+        c.setDrawStroke(new BasicStroke());
+        return c;
+    }
+
+    @Test
+    public void outlineOfZeroWidthIsNotFilled() {
+        NGCircle outline = stroked(circle(20, 10, 5));
+        outline.setMode(NGShape.Mode.STROKE);
+        outline.setDrawStroke(new BasicStroke(0, BasicStroke.CAP_SQUARE, BasicStroke.JOIN_MITER, 10));
+        PaintCheckingGraphics g = new PaintCheckingGraphics();
+        createGroup(circle(10, 10, 5), outline, circle(30, 10, 5)).render(g);
+        assertEquals(2, g.fills);
+    }
+
+    @Test
+    public void strokesOfShapesApartAreDrawnAfterTheFills() {
+        BatchGraphics g = render(stroked(circle(10, 10, 5)), stroked(circle(30, 10, 5)),
+                                 stroked(circle(50, 10, 5)));
+        assertEquals(List.of("ellipses:3", "stroke", "stroke", "stroke"), g.ops);
+    }
+
+    @Test
+    public void overlappingShapesAreStrokedInOrder() {
+        BatchGraphics g = render(stroked(circle(10, 10, 5)), stroked(circle(30, 10, 5)),
+                                 stroked(circle(34, 12, 5)));
+        assertEquals(List.of("fill", "stroke", "fill", "stroke", "fill", "stroke"), g.ops);
+    }
+
+    @Test
+    public void shapesWithinTheStrokeWidthAreStrokedInOrder() {
+        NGCircle wide = stroked(circle(10, 10, 5));
+        wide.setDrawStroke(new BasicStroke(8, BasicStroke.CAP_SQUARE, BasicStroke.JOIN_MITER, 10));
+        BatchGraphics g = render(wide, stroked(circle(40, 10, 5)));
+        assertEquals(List.of("fill", "stroke", "fill", "stroke"), g.ops);
+    }
+
+    @Test
+    public void strokedOnlyShapesAreNotFilled() {
+        NGCircle outline = stroked(circle(30, 10, 5));
+        outline.setMode(NGShape.Mode.STROKE);
+        BatchGraphics g = render(stroked(circle(10, 10, 5)), outline);
+        assertEquals(List.of("ellipses:1", "stroke", "stroke"), g.ops);
+    }
+
+    @Test
+    public void shapesAreQueuedInGroups() {
+        // two groups of shapes apart, and one group with an overlap at its end
+        List<NGNode> children = new ArrayList<>();
+        int count = 3 * 256;
+        for (int i = 0; i < count; i++) {
+            float x = i == count - 1 ? 20 * (i - 1) + 4 : 20 * i;
+            children.add(stroked(circle(x, 10, 5)));
+        }
+        BatchGraphics g = render(children.toArray(new NGNode[0]));
+        assertEquals(List.of("ellipses:256", "ellipses:256"), g.batches);
+        assertEquals(256, g.singleFills);
+        assertEquals("stroke", g.ops.get(g.ops.size() - 1));
+        assertEquals("fill", g.ops.get(g.ops.size() - 2));
+    }
+
+    @Test
+    public void gradientStrokeEndsTheRun() {
+        NGCircle gradient = stroked(circle(20, 10, 5));
+        gradient.setDrawPaint(new LinearGradient(0, 0, 1, 1, null, true,
+                Gradient.PAD, List.of(new Stop(Color.RED, 0), new Stop(Color.BLUE, 1))));
+        BatchGraphics g = render(circle(10, 10, 5), gradient, circle(30, 10, 5));
+        assertEquals(List.of(), g.batches);
+        assertEquals(3, g.singleFills);
+    }
+
+    @Test
+    public void hiddenShapesAreSkipped() {
+        NGCircle hidden = circle(20, 10, 5);
+        hidden.setVisible(false);
+        BatchGraphics g = render(circle(10, 10, 5), hidden, circle(30, 10, 5));
+        assertEquals(List.of("ellipses:2"), g.batches);
+    }
+
+    @Test
+    public void rotatedShapeIsRenderedOnItsOwn() {
+        NGRectangle rotated = rect(0, 0, 5, 5);
+        transform(rotated, BaseTransform.getRotateInstance(Math.PI / 4, 0, 0));
+        BatchGraphics g = render(rect(10, 0, 5, 5), rect(20, 0, 5, 5), rotated);
+        assertEquals(List.of("rects:2"), g.batches);
+        assertEquals(1, g.singleFills);
+    }
+
+    @Test
+    public void subclassesAreNotBatched() {
+        TestNGCircle c1 = createCircle(10, 10, 5);
+        TestNGCircle c2 = createCircle(20, 10, 5);
+        BatchGraphics g = render(c1, c2);
+        assertEquals(List.of(), g.batches);
+        assertEquals(true, c1.rendered() && c2.rendered());
+    }
+}
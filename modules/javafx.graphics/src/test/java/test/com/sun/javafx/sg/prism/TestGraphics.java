@@ -53,6 +53,8 @@ import com.sun.prism.Texture.WrapMode;
 import com.sun.prism.impl.BaseContext;
 import com.sun.prism.impl.BaseGraphics;
 import com.sun.prism.impl.TextureResourcePool;
+import com.sun.prism.impl.shape.BasicEllipseRep;
+import com.sun.prism.impl.shape.BasicRoundRectRep;
 import com.sun.prism.paint.Color;
 import com.sun.prism.shape.ShapeRep;
 
@@ -206,7 +208,7 @@ public class TestGraphics extends BaseGraphics {
         @Override public Texture getCachedTexture(Image image, WrapMode wrapMode) { return null; }
         @Override public Texture getCachedTexture(Image image, WrapMode wrapMode, boolean useMipmap) { return null; }
         @Override public boolean isFormatSupported(PixelFormat format) { return false; }
-        @Override public int getMaximumTextureSize() { return 0; }
+        @Override public int getMaximumTextureSize() { return 4096; }
         @Override public Texture createMaskTexture(int width, int height, Texture.WrapMode wrapMode) { return null; }
         @Override public Texture createFloatTexture(int width, int height) { return null; }
         @Override public int getRTTWidth(int w, WrapMode wrapMode) { return w; }
@@ -253,6 +255,7 @@ public class TestGraphics extends BaseGraphics {
                 @Override public int getLockCount() { return 1; }
                 @Override public void assertLocked() { }
                 @Override public void makePermanent() { }
+                @Override public void makeReloadable() { }
                 @Override public void contentsUseful() { }
                 @Override public void contentsNotUseful() { }
                 @Override public void setOpaque(boolean opaque) { }
@@ -266,8 +269,8 @@ public class TestGraphics extends BaseGraphics {
         }
         @Override public Presentable createPresentable(PresentableState pstate) { return null; }
         @Override public ShapeRep createPathRep() { return null; }
-        @Override public ShapeRep createRoundRectRep() { return null; }
-        @Override public ShapeRep createEllipseRep() { return null; }
+        @Override public ShapeRep createRoundRectRep() { return new BasicRoundRectRep(); }
+        @Override public ShapeRep createEllipseRep() { return new BasicEllipseRep(); }
         @Override public ShapeRep createArcRep() { return null; }
         @Override public void addFactoryListener(ResourceFactoryListener l) { }
         @Override public void removeFactoryListener(ResourceFactoryListener l) { }
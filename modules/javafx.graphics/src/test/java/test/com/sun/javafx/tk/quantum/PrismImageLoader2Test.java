@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.tk.quantum;
+
+import com.sun.javafx.iio.ImageFrameSequence;
+import com.sun.javafx.iio.ImageFrameSequenceShim;
+import com.sun.javafx.iio.ImageMetadata;
+import com.sun.javafx.iio.ImageStorage;
+import com.sun.javafx.tk.ImageLoader;
+import com.sun.javafx.tk.PlatformImage;
+import com.sun.javafx.tk.quantum.PrismImageLoader2Shim;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PrismImageLoader2Test {
+
+    private static final int FRAME_COUNT = 8;
+
+    private byte[] source;
+    private ImageLoader loader;
+
+    // An animated GIF of 1x1 frames
+    private static byte[] createAnimation(int frameCount) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(new byte[] {
+            'G', 'I', 'F', '8', '9', 'a',
+            1, 0, 1, 0, (byte) 0x81, 0, 0,
+            0, 0, 0, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0, 0, 0, 0, 0, 0
+        });
+        for (int i = 0; i < frameCount; i++) {
+            out.writeBytes(new byte[] {
+                0x21, (byte) 0xf9, 4, 0, 10, 0, 0, 0,
+                0x2c, 0, 0, 0, 0, 1, 0, 1, 0, 0,
+                2, 2, (byte) (i % 2 == 0 ? 0x44 : 0x4c), 1, 0
+            });
+        }
+        out.write(0x3b);
+        return out.toByteArray();
+    }
+
+    @Before
+    public void setup() throws Exception {
+        source = createAnimation(FRAME_COUNT);
+        ImageFrameSequence frames = ImageStorage.getInstance().loadFrames(
+                new ByteArrayInputStream(source), null, 0, 0, true, 1.0f, true, 1);
+        assertFalse(frames.isRetained());
+        ImageMetadata[] metadata = new ImageMetadata[frames.getFrameCount()];
+        for (int i = 0; i < metadata.length; i++) {
+            metadata[i] = frames.getMetadata(i);
+        }
+        loader = PrismImageLoader2Shim.create(
+                ImageFrameSequenceShim.createStreamed(frames.getFrame(0), metadata, source));
+    }
+
+    private void assertDecoded(int... indices) {
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            final int index = i;
+            boolean expected = Arrays.stream(indices).anyMatch(n -> n == index);
+            assertEquals("frame " + i, expected, PrismImageLoader2Shim.isDecoded(loader, i));
+        }
+    }
+
+    @Test
+    public void testStreamedLoaderKeepsOnlyFirstFrame() {
+        assertTrue(loader.isStreamed());
+        assertEquals(FRAME_COUNT, loader.getFrameCount());
+        assertEquals(100, loader.getFrameDelay(3));
+        assertDecoded(0);
+    }
+
+    @Test
+    public void testFramesAreDecodedAhead() throws Exception {
+        loader.getFrame(1);
+        PrismImageLoader2Shim.awaitDecoding();
+        assertDecoded(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void testOldestFramesAreEvicted() throws Exception {
+        loader.getFrame(1);
+        PrismImageLoader2Shim.awaitDecoding();
+        loader.getFrame(5);
+        PrismImageLoader2Shim.awaitDecoding();
+        // 5, 6 and 7 replace 1, 2 and 3, the first frame is always kept
+        assertDecoded(0, 4, 5, 6, 7);
+    }
+
+    @Test
+    public void testDecodedFrameIsReused() throws Exception {
+        PlatformImage frame = loader.getFrame(2);
+        PrismImageLoader2Shim.awaitDecoding();
+        assertSame(frame, loader.getFrame(2));
+    }
+
+    @Test
+    public void testLastFrameIsShownWhenDataAreCorrupted() throws Exception {
+        loader.getFrame(5);
+        PrismImageLoader2Shim.awaitDecoding();
+        PlatformImage frame = loader.getFrame(6);
+        PrismImageLoader2Shim.awaitDecoding();
+        Arrays.fill(source, (byte) 0);
+
+        // frame 2 is no longer decoded and cannot be decoded again
+        assertFalse(PrismImageLoader2Shim.isDecoded(loader, 2));
+        assertSame(frame, loader.getFrame(2));
+        PrismImageLoader2Shim.awaitDecoding();
+        assertSame(frame, loader.getFrame(3));
+    }
+}
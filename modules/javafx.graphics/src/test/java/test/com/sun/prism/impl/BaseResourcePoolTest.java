@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism.impl;
+
+import com.sun.prism.impl.BaseResourcePool;
+import com.sun.prism.impl.ManagedResource;
+import com.sun.prism.impl.ResourcePoolStatistics;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class BaseResourcePoolTest {
+
+    private static class TestPool extends BaseResourcePool<Long> {
+        TestPool() {
+            super(10000, 20000);
+        }
+
+        @Override
+        public long size(Long resource) {
+            return resource;
+        }
+
+        @Override
+        public String toString() {
+            return "Test Pool";
+        }
+    }
+
+    private static class TestResource extends ManagedResource<Long> {
+        TestResource(TestPool pool, long size, boolean reloadable) {
+            super(size, pool);
+            if (reloadable) {
+                makeReloadable();
+            }
+            unlock();
+        }
+    }
+
+    private TestPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new TestPool();
+    }
+
+    private TestResource allocate(long size, boolean reloadable) {
+        TestResource resource = new TestResource(pool, size, reloadable);
+        endFrame();
+        return resource;
+    }
+
+    private void endFrame() {
+        pool.freeDisposalRequestedAndCheckResources(false);
+    }
+
+    @Test
+    public void testNoBudget() {
+        TestResource first = allocate(1000, true);
+        for (int i = 0; i < 5; i++) {
+            allocate(1000, true);
+        }
+        assertTrue(first.isValid());
+        assertEquals(6000, pool.managed());
+        assertEquals(0, pool.getStatistics().getEvictedCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvictedAtEndOfFrame() {
+        pool.setBudget(300);
+        TestResource r0 = allocate(100, true);
+        TestResource r1 = allocate(100, true);
+        TestResource r2 = allocate(100, true);
+        assertTrue(r0.isValid());
+
+        // using r0 makes r1 the least recently used resource
+        r0.lock();
+        r0.unlock();
+        endFrame();
+        TestResource r3 = allocate(100, true);
+
+        assertTrue(r0.isValid());
+        assertFalse(r1.isValid());
+        assertTrue(r2.isValid());
+        assertTrue(r3.isValid());
+        assertEquals(300, pool.managed());
+
+        ResourcePoolStatistics stats = pool.getStatistics();
+        assertEquals(300, stats.getBudget());
+        assertEquals(300, stats.getManaged());
+        assertEquals(100, stats.getEvicted());
+        assertEquals(1, stats.getEvictedCount());
+    }
+
+    @Test
+    public void testOnlyUnlockedReloadableResourcesEvicted() {
+        pool.setBudget(100);
+        TestResource notReloadable = allocate(100, false);
+        TestResource locked = allocate(100, true);
+        locked.lock();
+        TestResource permanent = new TestResource(pool, 100, true);
+        permanent.lock();
+        permanent.makePermanent();
+        endFrame();
+        TestResource reloadable = allocate(100, true);
+        allocate(100, true);
+
+        assertTrue(notReloadable.isValid());
+        assertTrue(locked.isValid());
+        assertTrue(permanent.isValid());
+        assertFalse(reloadable.isValid());
+        assertEquals(400, pool.managed());
+        assertEquals(1, pool.getStatistics().getEvictedCount());
+    }
+
+    @Test
+    public void testResourcesUsedInCurrentFrameKept() {
+        pool.setBudget(100);
+        TestResource r0 = new TestResource(pool, 100, true);
+        TestResource r1 = new TestResource(pool, 100, true);
+        endFrame();
+
+        // both were used during the last frame
+        assertTrue(r0.isValid());
+        assertTrue(r1.isValid());
+        endFrame();
+        assertFalse(r0.isValid() && r1.isValid());
+        assertEquals(100, pool.managed());
+    }
+
+    @Test
+    public void testAllocationEvictsToBudget() {
+        pool.setBudget(200);
+        TestResource r0 = allocate(100, true);
+        TestResource r1 = allocate(100, true);
+        endFrame();
+
+        assertTrue(pool.prepareForAllocation(100));
+        assertFalse(r0.isValid());
+        assertTrue(r1.isValid());
+        assertEquals(100, pool.managed());
+    }
+
+    @Test
+    public void testPruningToTargetNotCountedAsEviction() {
+        pool.setBudget(20000);
+        TestResource first = allocate(5000, true);
+        allocate(5000, true);
+        for (int i = 0; i < 20; i++) {
+            endFrame();
+        }
+
+        // the pool is at its target, so old resources are pruned to make room
+        assertTrue(pool.prepareForAllocation(5000));
+        assertFalse(first.isValid());
+        ResourcePoolStatistics stats = pool.getStatistics();
+        assertEquals(0, stats.getEvicted());
+        assertEquals(0, stats.getEvictedCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBudgetLargerThanMax() {
+        pool.setBudget(30000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeBudget() {
+        pool.setBudget(-1);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene;
+
+import com.sun.javafx.tk.Toolkit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotService;
+import javafx.scene.image.WritableImage;
+import javafx.scene.shape.Rectangle;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import test.com.sun.javafx.pgstub.StubToolkit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class SnapshotServiceTest {
+
+    private SnapshotService service;
+
+    @Before
+    public void setUp() {
+        service = new SnapshotService(2);
+    }
+
+    @After
+    public void tearDown() {
+        ((StubToolkit) Toolkit.getToolkit()).setRenderToImageSupported(false);
+    }
+
+    @Test
+    public void testCapacityMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new SnapshotService(0));
+    }
+
+    @Test
+    public void testContentMustNotBeNull() {
+        assertThrows(NullPointerException.class, () -> service.submit(null, null));
+    }
+
+    @Test
+    public void testContentInSceneFails() {
+        Group root = new Group();
+        new Scene(root);
+
+        CompletableFuture<WritableImage> future = service.submit(root, null);
+
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertSame(IllegalArgumentException.class, e.getCause().getClass());
+        assertEquals(1, service.getSubmittedCount());
+        assertEquals(1, service.getFailedCount());
+        assertEquals(0, service.getCompletedCount());
+    }
+
+    @Test
+    public void testContentWithParentFails() {
+        Rectangle rect = new Rectangle(10, 10);
+        new Group(rect);
+
+        CompletableFuture<WritableImage> future = service.submit(rect, null);
+
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(1, service.getFailedCount());
+    }
+
+    @Test
+    public void testContentIsDetachedAfterFailedRendering() {
+        // The stub toolkit cannot render images
+        Group root = new Group(new Rectangle(10, 10));
+        Rectangle rect = new Rectangle(10, 10);
+
+        assertTrue(service.submit(root, null).isCompletedExceptionally());
+        assertTrue(service.submit(rect, null).isCompletedExceptionally());
+
+        assertNull(root.getScene());
+        assertNull(rect.getScene());
+        assertNull(rect.getParent());
+        assertEquals(2, service.getFailedCount());
+        assertEquals(0, service.getQueuedCount());
+    }
+
+    @Test
+    public void testRenderedImageIsDelivered() {
+        ((StubToolkit) Toolkit.getToolkit()).setRenderToImageSupported(true);
+        Rectangle rect = new Rectangle(20, 10);
+        AtomicReference<WritableImage> delivered = new AtomicReference<>();
+
+        service.submit(rect, null).thenAccept(delivered::set);
+
+        WritableImage image = delivered.get();
+        assertNotNull(image);
+        assertEquals(20, image.getWidth(), 0);
+        assertEquals(10, image.getHeight(), 0);
+        assertEquals(1, service.getCompletedCount());
+        assertEquals(0, service.getFailedCount());
+        assertNull(rect.getScene());
+        assertNull(rect.getParent());
+    }
+
+    @Test
+    public void testJobsSubmittedOnCompletionDoNotNest() {
+        ((StubToolkit) Toolkit.getToolkit()).setRenderToImageSupported(true);
+        // The stub toolkit renders and defers synchronously, so each job
+        // completes, and submits the next one, while the service is still
+        // starting jobs. The chain is started by the layout of the first job
+        // so that every job is submitted while jobs are being started.
+        int count = 5000;
+        AtomicInteger remaining = new AtomicInteger(count);
+        AtomicInteger maxDepth = new AtomicInteger();
+        Runnable submitNext = new Runnable() {
+            @Override
+            public void run() {
+                maxDepth.accumulateAndGet(new Throwable().getStackTrace().length, Math::max);
+                if (remaining.decrementAndGet() > 0) {
+                    service.submit(new Rectangle(1, 1), null).thenRun(this);
+                }
+            }
+        };
+        Group first = new Group(new Rectangle(1, 1)) {
+            private boolean started;
+
+            @Override
+            protected void layoutChildren() {
+                super.layoutChildren();
+                if (!started) {
+                    started = true;
+                    service.submit(new Rectangle(1, 1), null).thenRun(submitNext);
+                }
+            }
+        };
+
+        service.submit(first, null);
+
+        assertEquals(0, remaining.get());
+        assertEquals(count + 1, service.getCompletedCount());
+        assertTrue("stack depth " + maxDepth.get(), maxDepth.get() < 500);
+    }
+
+    @Test
+    public void testSubmitAfterShutdownIsRejected() {
+        service.shutdown();
+
+        assertTrue(service.isShutdown());
+        assertThrows(RejectedExecutionException.class, () -> service.submit(new Group(), null));
+        assertEquals(0, service.getSubmittedCount());
+        assertEquals(1, service.getRejectedCount());
+    }
+}
@@ -25,11 +25,18 @@
 
 package test.javafx.scene.canvas;
 
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.sg.prism.GrowableDataBuffer;
+import com.sun.javafx.tk.Toolkit;
 import javafx.geometry.VPos;
+import test.com.sun.javafx.pgstub.StubToolkit;
 import test.javafx.scene.NodeTest;
 import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.CanvasShim;
+import javafx.scene.canvas.DisplayList;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.effect.BlendMode;
+import javafx.scene.effect.BoxBlur;
 import test.javafx.scene.image.ImageForTesting;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.ArcType;
@@ -109,6 +116,142 @@ public class CanvasTest {
         gc.fillPolygon( null, yPoints, 2);
     }
 
+    @Test public void testGCfillRects_basic() throws Exception {
+        double[] rects = {0.0, 0.0, 10.0, 10.0, 20.0, 20.0, -5.0, 5.0};
+        gc.fillRects(rects, 0, 2);
+        gc.fillRects(rects, 4, 1);
+        gc.fillRects(rects, 8, 0);
+        gc.fillRects(null, 0, 2);
+    }
+
+    @Test public void testGCstrokeLines_basic() throws Exception {
+        double[] lines = {0.0, 0.0, 10.0, 10.0, 10.0, 10.0, 20.0, 0.0};
+        gc.strokeLines(lines, 0, 2);
+        gc.strokeLines(lines, 4, 1);
+        gc.strokeLines(null, 0, 2);
+    }
+
+    @Test public void testGCfillPoints_basic() throws Exception {
+        double[] points = {0.0, 0.0, 10.0, 10.0, 20.0, 5.0};
+        gc.fillPoints(points, 0, 3, 2.0);
+        gc.fillPoints(points, 2, 2, 0.0);
+        gc.fillPoints(null, 0, 3, 2.0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGCfillRects_outOfBounds() throws Exception {
+        gc.fillRects(new double[7], 0, 2);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGCstrokeLines_negativeCount() throws Exception {
+        gc.strokeLines(new double[8], 0, -1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGCfillPoints_outOfBounds() throws Exception {
+        gc.fillPoints(new double[6], 2, 3, 2.0);
+    }
+
+    @Test public void testGCdrawDisplayList_basic() throws Exception {
+        DisplayList list = DisplayList.record(50, 40, g -> {
+            g.setFill(Color.RED);
+            g.fillRect(0, 0, 10, 10);
+            g.strokeLine(0, 0, 50, 40);
+        });
+        assertEquals(50, list.getWidth(), 0);
+        assertEquals(40, list.getHeight(), 0);
+        gc.drawDisplayList(list);
+        gc.drawDisplayList(list, new Affine(2, 0, 10, 0, 2, 20));
+        gc.drawDisplayList(list, null);
+        gc.drawDisplayList(null);
+        gc.drawDisplayList(DisplayList.record(0, 0, g -> {}));
+    }
+
+    @Test public void testGCdrawDisplayList_keepsTransform() throws Exception {
+        DisplayList list = DisplayList.record(10, 10, g -> g.fillRect(0, 0, 10, 10));
+        gc.translate(5, 5);
+        gc.drawDisplayList(list, new Affine(new Rotate(45)));
+        assertMatrix(gc.getTransform(), new Affine(1, 0, 5, 0, 1, 5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDisplayList_negativeSize() throws Exception {
+        DisplayList.record(-1, 10, g -> {});
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testDisplayList_nullDrawing() throws Exception {
+        DisplayList.record(10, 10, null);
+    }
+
+    @Test public void testPresent_fromBackgroundThread() throws Exception {
+        StubToolkit toolkit = (StubToolkit) Toolkit.getToolkit();
+        gc.setFill(Color.RED);
+        gc.setLineWidth(3);
+        toolkit.clearPulseRequested();
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 3; i++) {
+                final int frame = i;
+                canvas.present(DisplayList.record(100, 100, g -> {
+                    g.setFill(Color.BLUE);
+                    g.fillRect(frame, frame, 10, 10);
+                }));
+            }
+        });
+        producer.start();
+        producer.join();
+        assertTrue(toolkit.isPulseRequested());
+        toolkit.firePulse();
+        assertEquals(Color.RED, gc.getFill());
+        assertEquals(3, gc.getLineWidth(), 0);
+        gc.fillRect(0, 0, 1, 1);
+    }
+
+    @Test public void testPresent_dropsStaleFrame() throws Exception {
+        StubToolkit toolkit = (StubToolkit) Toolkit.getToolkit();
+        DisplayList stale = DisplayList.record(100, 100, g -> {
+            g.setFill(Color.RED);
+            g.fillRect(0, 0, 50, 50);
+        });
+        DisplayList latest = DisplayList.record(100, 100, g -> {
+            g.setFill(Color.BLUE);
+            g.fillOval(10, 10, 20, 20);
+        });
+        canvas.present(stale);
+        canvas.present(latest);
+        toolkit.firePulse();
+
+        Canvas expected = new Canvas();
+        expected.present(latest);
+        toolkit.firePulse();
+        assertSameCommands(expected, canvas);
+
+        // the frame is shown only once
+        toolkit.clearPulseRequested();
+        toolkit.firePulse();
+        assertFalse(toolkit.isPulseRequested());
+        assertSameCommands(expected, canvas);
+    }
+
+    private static void assertSameCommands(Canvas expected, Canvas actual) {
+        GrowableDataBuffer e = CanvasShim.getBuffer(expected);
+        GrowableDataBuffer a = CanvasShim.getBuffer(actual);
+        assertEquals(e.writeValuePosition(), a.writeValuePosition());
+        for (int i = 0; i < e.writeValuePosition(); i++) {
+            assertEquals(e.peekByte(i), a.peekByte(i));
+        }
+        assertEquals(e.writeObjectPosition(), a.writeObjectPosition());
+        for (int i = 0; i < e.writeObjectPosition(); i++) {
+            assertEquals(e.peekObject(i), a.peekObject(i));
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testPresent_null() throws Exception {
+        canvas.present(null);
+    }
+
     @Test public void testGCfillArc_basic() throws Exception {
         gc.fillArc(10, 10, 100, 100, 0, 40, ArcType.OPEN);
         gc.fillArc(10, 10, 100, 100, 0, 360, ArcType.CHORD);
@@ -508,6 +651,105 @@ public class CanvasTest {
         gc.drawImage(image, 0, 0, 100, 100, 0, 0, 100, 100);
     }
 
+    private static final double SQRT_2 = Math.sqrt(2.0);
+
+    private static void assertDamage(Canvas canvas,
+            double minX, double minY, double maxX, double maxY) {
+        RectBounds damage = CanvasShim.getDamage(canvas);
+        assertNotNull(damage);
+        assertEquals(minX, damage.getMinX(), 0.0001);
+        assertEquals(minY, damage.getMinY(), 0.0001);
+        assertEquals(maxX, damage.getMaxX(), 0.0001);
+        assertEquals(maxY, damage.getMaxY(), 0.0001);
+    }
+
+    @Test public void testDamage_fill() {
+        gc.fillRect(10, 20, 30, 40);
+        // grown by one pixel for antialiasing
+        assertDamage(canvas, 9, 19, 41, 61);
+    }
+
+    @Test public void testDamage_strokeWithRoundJoin() {
+        gc.setLineWidth(4);
+        gc.setLineJoin(StrokeLineJoin.ROUND);
+        gc.strokeLine(10, 20, 50, 20);
+        double pad = 2 * SQRT_2 + 1;
+        assertDamage(canvas, 10 - pad, 20 - pad, 50 + pad, 20 + pad);
+    }
+
+    @Test public void testDamage_strokeWithMiterJoin() {
+        gc.setLineWidth(4);
+        gc.setLineJoin(StrokeLineJoin.MITER);
+        gc.setMiterLimit(10);
+        gc.strokeRect(30, 30, 20, 20);
+        // the miters may reach half the line width times the miter limit
+        assertDamage(canvas, 30 - 21, 30 - 21, 50 + 21, 50 + 21);
+    }
+
+    @Test public void testDamage_transformedFill() {
+        gc.translate(100, 50);
+        gc.scale(2, 3);
+        gc.fillRect(10, 10, 20, 20);
+        assertDamage(canvas, 119, 79, 161, 141);
+    }
+
+    @Test public void testDamage_transformedStroke() {
+        gc.scale(2, 2);
+        gc.setLineWidth(2);
+        gc.setLineJoin(StrokeLineJoin.ROUND);
+        gc.strokeLine(10, 10, 20, 10);
+        // the stroke is padded in user space before it is transformed
+        double pad = 2 * SQRT_2 + 1;
+        assertDamage(canvas, 20 - pad, 20 - pad, 40 + pad, 20 + pad);
+    }
+
+    @Test public void testDamage_transformedStrokePath() {
+        gc.scale(2, 2);
+        gc.setLineWidth(2);
+        gc.setLineJoin(StrokeLineJoin.ROUND);
+        gc.beginPath();
+        gc.moveTo(10, 10);
+        gc.lineTo(20, 10);
+        gc.stroke();
+        // the path is already in canvas space, so the pad of sqrt(2) is
+        // scaled by the transform scale of 2 * sqrt(2) instead
+        assertDamage(canvas, 15, 15, 45, 25);
+    }
+
+    @Test public void testDamage_clippedFill() {
+        gc.save();
+        gc.beginPath();
+        gc.rect(0, 0, 30, 30);
+        gc.clip();
+        gc.fillRect(20, 20, 50, 50);
+        assertDamage(canvas, 19, 19, 31, 31);
+
+        // nothing is drawn outside of the clip
+        gc.fillRect(50, 50, 10, 10);
+        assertDamage(canvas, 19, 19, 31, 31);
+
+        gc.restore();
+        gc.fillRect(50, 50, 10, 10);
+        assertDamage(canvas, 19, 19, 61, 61);
+    }
+
+    @Test public void testDamage_nestedClips() {
+        gc.beginPath();
+        gc.rect(0, 0, 30, 30);
+        gc.clip();
+        gc.beginPath();
+        gc.rect(10, 10, 30, 30);
+        gc.clip();
+        gc.fillRect(0, 0, 100, 100);
+        assertDamage(canvas, 9, 9, 31, 31);
+    }
+
+    @Test public void testDamage_effectDamagesAll() {
+        gc.setEffect(new BoxBlur());
+        gc.fillRect(10, 10, 10, 10);
+        assertNull(CanvasShim.getDamage(canvas));
+    }
+
     public static void assertMatrix(Transform expected,
             Transform result) {
         assertEquals(expected.getMxx(), result.getMxx(), 0.00001);
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.image;
+
+import com.sun.javafx.tk.DecodedImageCache;
+import com.sun.javafx.tk.ImageLoader;
+import com.sun.javafx.tk.PlatformImage;
+import com.sun.javafx.tk.Toolkit;
+import javafx.scene.image.Image;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import test.com.sun.javafx.pgstub.StubImageLoaderFactory;
+import test.com.sun.javafx.pgstub.StubPlatformImageInfo;
+import test.com.sun.javafx.pgstub.StubToolkit;
+
+import static org.junit.Assert.*;
+
+public final class DecodedImageCacheTest {
+    private final StubImageLoaderFactory imageLoaderFactory;
+    private final DecodedImageCache cache = DecodedImageCache.getInstance();
+
+    public DecodedImageCacheTest() {
+        imageLoaderFactory = ((StubToolkit) Toolkit.getToolkit()).getImageLoaderFactory();
+    }
+
+    @Before
+    public void setUp() {
+        imageLoaderFactory.reset();
+        cache.setMaxSize(1024 * 1024);
+        cache.resetStatistics();
+    }
+
+    @After
+    public void tearDown() {
+        cache.setMaxSize(0);
+    }
+
+    private void registerImage(String url, int width, int height) {
+        imageLoaderFactory.registerImage(url, new StubPlatformImageInfo(width, height));
+    }
+
+    private static Object getPlatformImage(Image image) {
+        return Toolkit.getImageAccessor().getPlatformImage(image);
+    }
+
+    @Test
+    public void imagesWithSameUrlAndSizeShareDecodedImage() {
+        registerImage("file:a.png", 100, 50);
+
+        Image image1 = new Image("file:a.png", 20, 10, true, true);
+        Image image2 = new Image("file:a.png", 20, 10, true, true);
+
+        assertSame(getPlatformImage(image1), getPlatformImage(image2));
+        assertEquals(100, image2.getWidth(), 0);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getImageCount());
+        assertEquals(100 * 50 * 4, cache.getSize());
+    }
+
+    @Test
+    public void imagesWithDifferentLoadParametersDoNotShareDecodedImage() {
+        registerImage("file:a.png", 100, 50);
+
+        Image image = new Image("file:a.png");
+
+        assertNotSame(getPlatformImage(image), getPlatformImage(new Image("file:a.png", 20, 10, true, true)));
+        assertNotSame(getPlatformImage(image), getPlatformImage(new Image("file:a.png", 0, 0, true, false)));
+        assertNotSame(getPlatformImage(image), getPlatformImage(new Image("file:a.png", 0, 0, false, true)));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(4, cache.getImageCount());
+    }
+
+    @Test
+    public void leastRecentlyUsedImageIsEvicted() {
+        registerImage("file:a.png", 100, 100);
+        registerImage("file:b.png", 100, 100);
+        registerImage("file:c.png", 100, 100);
+        cache.setMaxSize(2 * 100 * 100 * 4);
+
+        new Image("file:a.png");
+        new Image("file:b.png");
+        new Image("file:a.png");
+        new Image("file:c.png");
+
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(2, cache.getImageCount());
+        assertEquals(2 * 100 * 100 * 4, cache.getSize());
+
+        // a and c fit in the budget, b was evicted
+        new Image("file:a.png");
+        new Image("file:c.png");
+        assertEquals(3, cache.getHitCount());
+        assertEquals(0, cache.getSoftHitCount());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void evictedImageIsFoundWhileSoftlyReachable() {
+        registerImage("file:a.png", 100, 100);
+        registerImage("file:b.png", 100, 100);
+        cache.setMaxSize(100 * 100 * 4);
+
+        Image a = new Image("file:a.png");
+        // a strong reference to the decoded image keeps the garbage
+        // collector from clearing the soft reference of the cache
+        ImageLoader decodedA = cache.get(new DecodedImageCache.Key("file:a.png", 0, 0, false, true));
+        new Image("file:b.png");
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(1, cache.getImageCount());
+
+        assertSame(getPlatformImage(a), getPlatformImage(new Image("file:a.png")));
+        assertSame(decodedA, cache.get(new DecodedImageCache.Key("file:a.png", 0, 0, false, true)));
+        assertEquals(1, cache.getSoftHitCount());
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    public void imageLargerThanBudgetIsNotKept() {
+        registerImage("file:a.png", 1000, 1000);
+
+        new Image("file:a.png");
+
+        assertEquals(0, cache.getImageCount());
+        assertEquals(0, cache.getSize());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void failedImagesAreNotCached() {
+        new Image("file:missing.png");
+        Image image = new Image("file:missing.png");
+
+        assertTrue(image.isError());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.getImageCount());
+    }
+
+    @Test
+    public void streamedAnimationsAreNotCached() {
+        registerImage("file:a.gif", 100, 50);
+        ImageLoader loaded = Toolkit.getToolkit().loadImage("file:a.gif", 0, 0, true, true);
+        ImageLoader streamed = new ImageLoader() {
+            @Override public Exception getException() { return null; }
+            @Override public int getFrameCount() { return loaded.getFrameCount(); }
+            @Override public PlatformImage getFrame(int index) { return loaded.getFrame(index); }
+            @Override public int getFrameDelay(int index) { return 0; }
+            @Override public int getLoopCount() { return 0; }
+            @Override public double getWidth() { return loaded.getWidth(); }
+            @Override public double getHeight() { return loaded.getHeight(); }
+            @Override public boolean isStreamed() { return true; }
+        };
+        DecodedImageCache.Key key = new DecodedImageCache.Key("file:a.gif", 0, 0, true, true);
+
+        cache.put(key, streamed);
+
+        assertEquals(0, cache.getImageCount());
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    public void backgroundLoadingUsesCachedImage() {
+        registerImage("file:a.png", 100, 50);
+
+        Image image1 = new Image("file:a.png", true);
+        imageLoaderFactory.getLastAsyncImageLoader().finish();
+        assertEquals(1, cache.getImageCount());
+
+        Image image2 = new Image("file:a.png", true);
+
+        assertEquals(1, image2.getProgress(), 0);
+        assertSame(getPlatformImage(image1), getPlatformImage(image2));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void disabledCacheDoesNotShareDecodedImages() {
+        registerImage("file:a.png", 100, 50);
+        cache.setMaxSize(0);
+
+        Image image1 = new Image("file:a.png");
+        Image image2 = new Image("file:a.png");
+
+        assertNotSame(getPlatformImage(image1), getPlatformImage(image2));
+        assertEquals(0, cache.getMissCount());
+        assertEquals(0, cache.getImageCount());
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.image;
+
+import com.sun.javafx.tk.Toolkit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageLoadSchedulerShim;
+import javafx.scene.image.ImageShim;
+import javafx.scene.image.ImageView;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import test.com.sun.javafx.pgstub.StubAsyncImageLoader;
+import test.com.sun.javafx.pgstub.StubImageLoaderFactory;
+import test.com.sun.javafx.pgstub.StubPlatformImageInfo;
+import test.com.sun.javafx.pgstub.StubToolkit;
+
+import static org.junit.Assert.*;
+
+public final class ImageLoadSchedulerTest {
+    private final StubImageLoaderFactory imageLoaderFactory;
+    private final List<Image> images = new ArrayList<>();
+    private final List<StubAsyncImageLoader> runningLoaders = new ArrayList<>();
+
+    public ImageLoadSchedulerTest() {
+        imageLoaderFactory = ((StubToolkit) Toolkit.getToolkit()).getImageLoaderFactory();
+    }
+
+    @Before
+    public void setUp() {
+        imageLoaderFactory.reset();
+        useScheduler(0, false);
+    }
+
+    @After
+    public void tearDown() {
+        cancelLoads();
+        ImageLoadSchedulerShim.useDefaultScheduler();
+    }
+
+    private void cancelLoads() {
+        // cancel the queued loads first, so that no more loads are started
+        for (int i = images.size() - 1; i >= 0; --i) {
+            images.get(i).cancel();
+        }
+        images.clear();
+        runningLoaders.clear();
+    }
+
+    // Makes the images use a new scheduler running at most 4 loads, and
+    // starts loads until no more may run at the same time
+    private void useScheduler(int maxRunningPerHost, boolean lifo) {
+        cancelLoads();
+        ImageLoadSchedulerShim.useScheduler(4, maxRunningPerHost, lifo);
+
+        StubAsyncImageLoader lastLoader = null;
+        for (int i = 0; ; ++i) {
+            final Image image = loadImage("file:running" + i + ".png");
+            final StubAsyncImageLoader loader = imageLoaderFactory.getLastAsyncImageLoader();
+            if (loader == lastLoader) {
+                image.cancel();
+                break;
+            }
+            runningLoaders.add(loader);
+            lastLoader = loader;
+        }
+    }
+
+    private Image loadImage(String url) {
+        imageLoaderFactory.registerImage(url, new StubPlatformImageInfo(100, 100));
+        final Image image = new Image(url, true);
+        images.add(image);
+        return image;
+    }
+
+    // Finishes one of the running loads. The load this allows to start, if
+    // any, reports a progress of one half.
+    private void finishRunningLoad() {
+        final StubAsyncImageLoader lastLoader = imageLoaderFactory.getLastAsyncImageLoader();
+        runningLoaders.remove(0).finish();
+        final StubAsyncImageLoader startedLoader = imageLoaderFactory.getLastAsyncImageLoader();
+        if (startedLoader != lastLoader) {
+            assertTrue(startedLoader.isStarted());
+            startedLoader.setProgress(1, 2);
+            runningLoaders.add(startedLoader);
+        }
+    }
+
+    private static boolean isStarted(Image image) {
+        return image.getProgress() > 0;
+    }
+
+    @Test
+    public void queuedLoadsAreStartedInOrder() {
+        final Image a = loadImage("file:a.png");
+        final Image b = loadImage("file:b.png");
+        assertFalse(isStarted(a));
+
+        finishRunningLoad();
+        assertTrue(isStarted(a));
+        assertFalse(isStarted(b));
+
+        finishRunningLoad();
+        assertTrue(isStarted(b));
+    }
+
+    @Test
+    public void loadOfShownImageIsStartedFirst() {
+        final Image a = loadImage("file:a.png");
+        final Image b = loadImage("file:b.png");
+        final Image c = loadImage("file:c.png");
+
+        new Scene(new Group(new ImageView(c)));
+        finishRunningLoad();
+        assertFalse(isStarted(a));
+        assertFalse(isStarted(b));
+        assertTrue(isStarted(c));
+
+        finishRunningLoad();
+        assertTrue(isStarted(a));
+    }
+
+    @Test
+    public void shownLoadsAreStartedBeforeTheMostRecentLoads() {
+        useScheduler(0, true);
+        final Image a = loadImage("file:a.png");
+        final Image b = loadImage("file:b.png");
+        final Image c = loadImage("file:c.png");
+
+        new Scene(new Group(new ImageView(a)));
+        finishRunningLoad();
+        assertTrue(isStarted(a));
+        assertFalse(isStarted(c));
+
+        finishRunningLoad();
+        assertTrue(isStarted(c));
+        assertFalse(isStarted(b));
+
+        finishRunningLoad();
+        assertTrue(isStarted(b));
+    }
+
+    @Test
+    public void loadsFromTheSameHostAreLimited() {
+        useScheduler(1, false);
+        final Image a1 = loadImage("http://a.example.com/1.png");
+        final Image a2 = loadImage("http://a.example.com/2.png");
+        final Image b1 = loadImage("http://b.example.com/1.png");
+
+        finishRunningLoad();
+        assertTrue(isStarted(a1));
+
+        // a2 waits for a1 and lets the load from another host go first
+        finishRunningLoad();
+        assertFalse(isStarted(a2));
+        assertTrue(isStarted(b1));
+
+        // the loads started in setUp finish first
+        finishRunningLoad();
+        finishRunningLoad();
+        assertFalse(isStarted(a2));
+
+        // then a1, which allows a2 to start
+        finishRunningLoad();
+        assertEquals(1, a1.getProgress(), 0);
+        assertTrue(isStarted(a2));
+    }
+
+    @Test
+    public void loadOfImageNoLongerShownIsPostponed() {
+        final Image a = loadImage("file:a.png");
+        final Image b = loadImage("file:b.png");
+        final Image c = loadImage("file:c.png");
+
+        final ImageView imageView = new ImageView(b);
+        final Group root = new Group(imageView);
+        new Scene(root);
+        root.getChildren().clear();
+
+        finishRunningLoad();
+        assertTrue(isStarted(a));
+
+        finishRunningLoad();
+        assertFalse(isStarted(b));
+        assertTrue(isStarted(c));
+
+        // no other load is waiting
+        finishRunningLoad();
+        assertTrue(isStarted(b));
+    }
+
+    @Test
+    public void postponedLoadIsStartedFirstWhenShownAgain() {
+        final Image a = loadImage("file:a.png");
+        final Image b = loadImage("file:b.png");
+
+        final ImageView imageView = new ImageView(b);
+        final Group root = new Group(imageView);
+        new Scene(root);
+        root.getChildren().clear();
+        root.getChildren().add(imageView);
+
+        finishRunningLoad();
+        assertFalse(isStarted(a));
+        assertTrue(isStarted(b));
+    }
+
+    @Test
+    public void changingImageOfImageViewStopsShowingOldImage() {
+        final Image a = loadImage("file:a.png");
+        final Image b = loadImage("file:b.png");
+
+        final ImageView imageView = new ImageView(b);
+        new Scene(new Group(imageView));
+        imageView.setImage(a);
+
+        finishRunningLoad();
+        assertTrue(isStarted(a));
+        assertFalse(isStarted(b));
+    }
+
+    @Test
+    public void loadedImageIsNoLongerShown() {
+        final Image a = loadImage("file:a.png");
+
+        final ImageView imageView = new ImageView(a);
+        final Group root = new Group(imageView);
+        new Scene(root);
+        assertEquals(1, ImageShim.getViewerCount(a));
+
+        while (a.getProgress() < 1) {
+            finishRunningLoad();
+        }
+        assertEquals(0, ImageShim.getViewerCount(a));
+
+        root.getChildren().clear();
+        new Scene(new Group(imageView));
+        assertEquals(0, ImageShim.getViewerCount(a));
+    }
+
+    @Test
+    public void cancelledQueuedLoadIsNeverStarted() {
+        final Image a = loadImage("file:a.png");
+        final Image b = loadImage("file:b.png");
+
+        a.cancel();
+        assertTrue(a.isError());
+        assertTrue(a.getException() instanceof CancellationException);
+
+        finishRunningLoad();
+        assertTrue(isStarted(b));
+    }
+}
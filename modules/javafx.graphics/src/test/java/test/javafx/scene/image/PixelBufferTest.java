@@ -28,6 +28,8 @@ package test.javafx.scene.image;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
 
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.tk.Toolkit;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.image.PixelBuffer;
 import javafx.scene.image.PixelFormat;
@@ -35,10 +37,13 @@ import javafx.scene.image.WritableImage;
 import javafx.util.Callback;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 import org.junit.Test;
+import test.com.sun.javafx.pgstub.StubToolkit;
+import test.com.sun.javafx.pgstub.StubWritablePlatformImage;
 
 public final class PixelBufferTest {
     private static final int WIDTH = 10;
@@ -254,4 +259,148 @@ public final class PixelBufferTest {
         } catch (UnsupportedOperationException expected) {
         }
     }
+
+    private static StubWritablePlatformImage getPlatformImage(WritableImage image) {
+        return (StubWritablePlatformImage) Toolkit.getImageAccessor().getPlatformImage(image);
+    }
+
+    private static void firePulse() {
+        ((StubToolkit) Toolkit.getToolkit()).firePulse();
+    }
+
+    @Test
+    public void testMarkDirtyFromMultipleThreads() throws InterruptedException {
+        PixelBuffer<ByteBuffer> pixelBuffer = new PixelBuffer<>(WIDTH, HEIGHT, BYTE_BUFFER, BYTE_BGRA_PRE_PF);
+        WritableImage image = new WritableImage(pixelBuffer);
+        StubWritablePlatformImage platformImage = getPlatformImage(image);
+
+        Thread[] producers = new Thread[4];
+        for (int i = 0; i < producers.length; i++) {
+            final int row = i;
+            producers[i] = new Thread(() -> pixelBuffer.markDirty(new Rectangle2D(row + 1, row * 2, 2, 2)));
+            producers[i].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertEquals(0, platformImage.getDirtyCount());
+
+        firePulse();
+        assertEquals(1, platformImage.getDirtyCount());
+        assertEquals(new Rectangle(1, 0, 5, 8), platformImage.getDirtyRect());
+
+        // nothing is flushed without new dirty regions
+        firePulse();
+        assertEquals(1, platformImage.getDirtyCount());
+    }
+
+    @Test
+    public void testMarkDirtyIsClippedToBuffer() {
+        PixelBuffer<IntBuffer> pixelBuffer = new PixelBuffer<>(WIDTH, HEIGHT, INT_BUFFER, INT_ARGB_PRE_PF);
+        WritableImage image = new WritableImage(pixelBuffer);
+        StubWritablePlatformImage platformImage = getPlatformImage(image);
+
+        pixelBuffer.markDirty(new Rectangle2D(WIDTH, 0, 5, 5));
+        pixelBuffer.markDirty(new Rectangle2D(2, 3, 0, 5));
+        firePulse();
+        assertEquals(0, platformImage.getDirtyCount());
+
+        pixelBuffer.markDirty(new Rectangle2D(-2.5, 4.5, 5, WIDTH * 2));
+        firePulse();
+        assertEquals(new Rectangle(0, 4, 3, HEIGHT - 4), platformImage.getDirtyRect());
+
+        pixelBuffer.markDirty(new Rectangle2D(1, 1, 1, 1));
+        pixelBuffer.markDirty(null);
+        firePulse();
+        assertEquals(2, platformImage.getDirtyCount());
+        assertNull(platformImage.getDirtyRect());
+    }
+
+    @Test
+    public void testCreateDoubleBufferedPixelBuffer() {
+        ByteBuffer backBuffer = ByteBuffer.allocateDirect(WIDTH * HEIGHT * 4);
+        PixelBuffer<ByteBuffer> pixelBuffer = new PixelBuffer<>(WIDTH, HEIGHT, BYTE_BUFFER, backBuffer, BYTE_BGRA_PRE_PF);
+        assertSame(BYTE_BUFFER, pixelBuffer.getBuffer());
+        assertSame(backBuffer, pixelBuffer.getBackBuffer());
+        assertNull(new PixelBuffer<>(WIDTH, HEIGHT, BYTE_BUFFER, BYTE_BGRA_PRE_PF).getBackBuffer());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateDoubleBufferedPixelBufferWithSameBuffer() {
+        new PixelBuffer<>(WIDTH, HEIGHT, BYTE_BUFFER, BYTE_BUFFER, BYTE_BGRA_PRE_PF);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateDoubleBufferedPixelBufferWithLessCapacityBackBuffer() {
+        ByteBuffer backBuffer = ByteBuffer.allocateDirect(WIDTH * HEIGHT * 2);
+        new PixelBuffer<>(WIDTH, HEIGHT, BYTE_BUFFER, backBuffer, BYTE_BGRA_PRE_PF);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testCreateDoubleBufferedPixelBufferWithNullBackBuffer() {
+        new PixelBuffer<>(WIDTH, HEIGHT, BYTE_BUFFER, null, BYTE_BGRA_PRE_PF);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSwapBuffersWithoutBackBuffer() throws InterruptedException {
+        new PixelBuffer<>(WIDTH, HEIGHT, BYTE_BUFFER, BYTE_BGRA_PRE_PF).swapBuffers();
+    }
+
+    @Test
+    public void testSwapBuffers() throws InterruptedException {
+        IntBuffer front = IntBuffer.allocate(WIDTH * HEIGHT);
+        IntBuffer back = IntBuffer.allocate(WIDTH * HEIGHT);
+        PixelBuffer<IntBuffer> pixelBuffer = new PixelBuffer<>(WIDTH, HEIGHT, front, back, INT_ARGB_PRE_PF);
+        WritableImage image = new WritableImage(pixelBuffer);
+        StubWritablePlatformImage platformImage = getPlatformImage(image);
+        assertSame(front, platformImage.getBuffer());
+
+        // the first swap updates the whole image, as the initial buffers may differ
+        back.put(3 * WIDTH + 2, 0xFF112233);
+        pixelBuffer.markDirty(new Rectangle2D(2, 3, 1, 1));
+        pixelBuffer.swapBuffers();
+        assertSame(back, pixelBuffer.getBuffer());
+        assertSame(front, pixelBuffer.getBackBuffer());
+        assertSame(back, platformImage.getBuffer());
+        assertEquals(1, platformImage.getDirtyCount());
+        assertNull(platformImage.getDirtyRect());
+        assertEquals(0xFF112233, front.get(3 * WIDTH + 2));
+
+        // later swaps only update and copy back the marked region
+        front.put(5 * WIDTH + 4, 0xFF445566);
+        front.put(6 * WIDTH + 5, 0xFF778899);
+        back.put(0, 0xFFFFFFFF);
+        pixelBuffer.markDirty(new Rectangle2D(4, 5, 1, 1));
+        pixelBuffer.markDirty(new Rectangle2D(5, 6, 1, 1));
+        pixelBuffer.swapBuffers();
+        assertSame(front, pixelBuffer.getBuffer());
+        assertSame(back, pixelBuffer.getBackBuffer());
+        assertSame(front, platformImage.getBuffer());
+        assertEquals(2, platformImage.getDirtyCount());
+        assertEquals(new Rectangle(4, 5, 2, 2), platformImage.getDirtyRect());
+        assertEquals(0xFF445566, back.get(5 * WIDTH + 4));
+        assertEquals(0xFF778899, back.get(6 * WIDTH + 5));
+        assertEquals(0xFFFFFFFF, back.get(0));
+        assertEquals(0, front.get(0));
+    }
+
+    @Test
+    public void testSwapBuffersWithoutDirtyRegion() throws InterruptedException {
+        ByteBuffer front = ByteBuffer.allocateDirect(WIDTH * HEIGHT * 4);
+        ByteBuffer back = ByteBuffer.allocateDirect(WIDTH * HEIGHT * 4);
+        PixelBuffer<ByteBuffer> pixelBuffer = new PixelBuffer<>(WIDTH, HEIGHT, front, back, BYTE_BGRA_PRE_PF);
+        WritableImage image = new WritableImage(pixelBuffer);
+        StubWritablePlatformImage platformImage = getPlatformImage(image);
+
+        pixelBuffer.swapBuffers();
+        pixelBuffer.markDirty(new Rectangle2D(1, 1, 2, 2));
+        pixelBuffer.swapBuffers();
+        assertEquals(new Rectangle(1, 1, 2, 2), platformImage.getDirtyRect());
+
+        back.put(WIDTH * HEIGHT * 4 - 1, (byte) 0x7F);
+        pixelBuffer.swapBuffers();
+        assertEquals(3, platformImage.getDirtyCount());
+        assertNull(platformImage.getDirtyRect());
+        assertEquals(0x7F, front.get(WIDTH * HEIGHT * 4 - 1));
+    }
 }
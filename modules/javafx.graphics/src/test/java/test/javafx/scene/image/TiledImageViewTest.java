@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.image;
+
+import com.sun.javafx.tk.Toolkit;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.TiledImage;
+import javafx.scene.image.TiledImageView;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import test.com.sun.javafx.pgstub.StubImageLoaderFactory;
+import test.com.sun.javafx.pgstub.StubPlatformImageInfo;
+import test.com.sun.javafx.pgstub.StubToolkit;
+
+import static org.junit.Assert.*;
+
+public final class TiledImageViewTest {
+    private final StubImageLoaderFactory imageLoaderFactory;
+    private TiledImageView view;
+
+    public TiledImageViewTest() {
+        imageLoaderFactory = ((StubToolkit) Toolkit.getToolkit()).getImageLoaderFactory();
+    }
+
+    @Before
+    public void setUp() {
+        imageLoaderFactory.reset();
+        final TiledImage image = new TiledImage("file:tiles/{level}/{x}_{y}.png", 1024, 512, 256);
+        for (int level = 0; level < image.getLevelCount(); level++) {
+            final int span = 256 << level;
+            for (int y = 0; y * span < 512; y++) {
+                for (int x = 0; x * span < 1024; x++) {
+                    imageLoaderFactory.registerImage(image.getTileUrl(level, x, y),
+                            new StubPlatformImageInfo(256, 256));
+                }
+            }
+        }
+        view = new TiledImageView(image);
+    }
+
+    @After
+    public void tearDown() {
+        // cancels the loads of the tiles
+        view.setImage(null);
+    }
+
+    private void layout(double width, double height) {
+        view.resize(width, height);
+        view.layout();
+    }
+
+    private List<String> getTileUrls() {
+        final List<String> urls = new ArrayList<>();
+        for (Node child : view.getChildrenUnmodifiable()) {
+            urls.add(((ImageView) child).getImage().getUrl());
+        }
+        return urls;
+    }
+
+    private ImageView getTileView(int index) {
+        return (ImageView) view.getChildrenUnmodifiable().get(index);
+    }
+
+    @Test
+    public void levelCountIsComputedFromImageSize() {
+        assertEquals(3, view.getImage().getLevelCount());
+        assertEquals(1, new TiledImage("file:t.png", 100, 100, 256).getLevelCount());
+        assertEquals("file:tiles/2/3_4.png", view.getImage().getTileUrl(2, 3, 4));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tileSizeMustBePositive() {
+        new TiledImage("file:t.png", 100, 100, 0);
+    }
+
+    @Test
+    public void prefSizeIsViewportSize() {
+        assertEquals(1024, view.prefWidth(-1), 0);
+        assertEquals(512, view.prefHeight(-1), 0);
+        view.setViewport(new Rectangle2D(10, 20, 300, 200));
+        assertEquals(300, view.prefWidth(-1), 0);
+        assertEquals(200, view.prefHeight(-1), 0);
+    }
+
+    @Test
+    public void fullResolutionTilesAreShownAtFullSize() {
+        layout(1024, 512);
+        assertEquals(8, view.getChildrenUnmodifiable().size());
+        assertTrue(getTileUrls().contains("file:tiles/0/3_1.png"));
+    }
+
+    @Test
+    public void lowerResolutionLevelIsShownWhenZoomedOut() {
+        layout(256, 128);
+        assertEquals(List.of("file:tiles/2/0_0.png"), getTileUrls());
+        assertEquals(256, getTileView(0).getFitWidth(), 0);
+        assertEquals(128, getTileView(0).getFitHeight(), 0);
+
+        layout(512, 256);
+        assertEquals(List.of("file:tiles/1/0_0.png", "file:tiles/1/1_0.png"), getTileUrls());
+    }
+
+    @Test
+    public void onlyTilesInViewportAreShown() {
+        view.setViewport(new Rectangle2D(300, 10, 200, 200));
+        layout(200, 200);
+        assertEquals(List.of("file:tiles/0/1_0.png"), getTileUrls());
+        assertEquals(-44, getTileView(0).getLayoutX(), 0);
+        assertEquals(-10, getTileView(0).getLayoutY(), 0);
+    }
+
+    @Test
+    public void loadedLowerResolutionTileIsShownUntilTilesAreLoaded() {
+        layout(256, 128);
+        imageLoaderFactory.getLastAsyncImageLoader().finish();
+        assertEquals(1, getTileView(0).getImage().getProgress(), 0);
+
+        layout(1024, 512);
+        final List<String> urls = getTileUrls();
+        assertEquals(9, urls.size());
+        assertEquals("file:tiles/2/0_0.png", urls.get(0));
+        assertEquals(1024, getTileView(0).getFitWidth(), 0);
+    }
+
+    @Test
+    public void tilesThatAreNoLongerShownAreEvicted() {
+        view.setCacheSize(2);
+        layout(1024, 512);
+        final List<Image> images = new ArrayList<>();
+        for (Node child : view.getChildrenUnmodifiable()) {
+            images.add(((ImageView) child).getImage());
+        }
+
+        view.setViewport(new Rectangle2D(0, 0, 256, 256));
+        layout(256, 256);
+        assertEquals(List.of("file:tiles/0/0_0.png"), getTileUrls());
+
+        // the shown tile and the most recently used one are kept
+        int cancelled = 0;
+        for (Image image : images) {
+            if (image.isError()) {
+                cancelled++;
+            }
+        }
+        assertEquals(6, cancelled);
+    }
+}
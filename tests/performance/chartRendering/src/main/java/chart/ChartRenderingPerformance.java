@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package chart;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.ScatterChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+/**
+ * Compares drawing line and scatter charts with a node per data point and
+ * drawing them onto a canvas. For each number of points, the time until the
+ * first frame of the chart is shown and the average time of a frame while the
+ * chart is panned are printed.
+ *
+ * Usage: {@code ChartRenderingPerformance [points...]}, by default 10000,
+ * 100000 and 1000000 points. Run with
+ * {@code -Djavafx.animation.fullspeed=true} so that frames are not limited to
+ * the refresh rate of the screen.
+ */
+public class ChartRenderingPerformance extends Application {
+
+    private static final int FRAMES = 60;
+
+    private record Case(String chart, boolean canvas, int points) {}
+
+    private final Queue<Case> cases = new ArrayDeque<>();
+    private final StackPane root = new StackPane();
+
+    @Override
+    public void start(Stage stage) {
+        List<String> args = getParameters().getUnnamed();
+        List<Integer> sizes = new ArrayList<>();
+        for (String arg : args) {
+            sizes.add(Integer.parseInt(arg));
+        }
+        if (sizes.isEmpty()) {
+            sizes = List.of(10_000, 100_000, 1_000_000);
+        }
+        for (int points : sizes) {
+            for (String chart : List.of("line", "scatter")) {
+                cases.add(new Case(chart, false, points));
+                cases.add(new Case(chart, true, points));
+            }
+        }
+        stage.setScene(new Scene(root, 1000, 700));
+        stage.show();
+        System.out.printf("%-8s %-7s %10s %14s %14s%n", "chart", "mode", "points", "first frame ms", "frame ms");
+        runNext();
+    }
+
+    private static List<XYChart.Data<Number,Number>> createData(int points) {
+        Random random = new Random(points);
+        List<XYChart.Data<Number,Number>> data = new ArrayList<>(points);
+        for (int i = 0; i < points; i++) {
+            double y = Math.sin(i * 20.0 / points) * 100 + random.nextGaussian() * 10;
+            data.add(new XYChart.Data<>(i, y));
+        }
+        return data;
+    }
+
+    private void runNext() {
+        Case c = cases.poll();
+        if (c == null) {
+            Platform.exit();
+            return;
+        }
+        NumberAxis xAxis = new NumberAxis(0, c.points(), c.points() / 10.0);
+        NumberAxis yAxis = new NumberAxis(-150, 150, 50);
+        XYChart<Number,Number> chart = c.chart().equals("line")
+                ? new LineChart<>(xAxis, yAxis) : new ScatterChart<>(xAxis, yAxis);
+        chart.setAnimated(false);
+        chart.setCanvasRendering(c.canvas());
+        XYChart.Series<Number,Number> series = new XYChart.Series<>();
+        series.setName(c.points() + " points");
+        series.getData().setAll(createData(c.points()));
+
+        long start = System.nanoTime();
+        chart.getData().add(series);
+        root.getChildren().setAll(chart);
+        new AnimationTimer() {
+            // the first pulse applies CSS to the chart, lays it out and
+            // renders it; the first frame is measured when the next one starts
+            private int frame = -2;
+            private long firstFrame;
+            private long panStart;
+
+            @Override
+            public void handle(long now) {
+                if (frame == -2) {
+                    frame++;
+                    return;
+                }
+                if (frame < 0) {
+                    firstFrame = System.nanoTime() - start;
+                    panStart = System.nanoTime();
+                } else if (frame == FRAMES) {
+                    stop();
+                    System.out.printf("%-8s %-7s %10d %14.1f %14.2f%n", c.chart(),
+                            c.canvas() ? "canvas" : "nodes", c.points(),
+                            firstFrame / 1e6, (System.nanoTime() - panStart) / 1e6 / FRAMES);
+                    root.getChildren().clear();
+                    runNext();
+                    return;
+                }
+                // pan by a tenth of the range over all of the frames
+                double shift = c.points() / 10.0 * (frame + 1) / FRAMES;
+                xAxis.setLowerBound(shift);
+                xAxis.setUpperBound(c.points() + shift);
+                frame++;
+            }
+        }.start();
+    }
+
+    public static void main(String[] args) {
+        Application.launch(args);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package pixels;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Random;
+
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritablePixelFormat;
+
+import com.sun.javafx.image.PixelConverter;
+import com.sun.javafx.image.PixelUtils;
+
+/**
+ * Measures the throughput of the pixel converters used by PixelReader,
+ * PixelWriter and WritableImage for every pair of JavaFX pixel formats.
+ *
+ * Usage: {@code PixelConverterPerformance [width] [height] [heap|direct]}.
+ * Requires {@code --add-exports javafx.graphics/com.sun.javafx.image=ALL-UNNAMED}.
+ */
+public class PixelConverterPerformance {
+
+    private static final PixelFormat<?>[] SOURCE_FORMATS = {
+        PixelFormat.getByteBgraInstance(),
+        PixelFormat.getByteBgraPreInstance(),
+        PixelFormat.getByteRgbInstance(),
+        PixelFormat.getIntArgbInstance(),
+        PixelFormat.getIntArgbPreInstance(),
+    };
+
+    private static final WritablePixelFormat<?>[] TARGET_FORMATS = {
+        PixelFormat.getByteBgraInstance(),
+        PixelFormat.getByteBgraPreInstance(),
+        PixelFormat.getIntArgbInstance(),
+        PixelFormat.getIntArgbPreInstance(),
+    };
+
+    private static boolean direct;
+
+    private static int elements(PixelFormat<?> format) {
+        switch (format.getType()) {
+            case INT_ARGB:
+            case INT_ARGB_PRE:
+                return 1;
+            case BYTE_RGB:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+
+    private static Object createBuffer(PixelFormat<?> format, int pixels) {
+        int size = pixels * elements(format);
+        Random random = new Random(1);
+        if (elements(format) == 1) {
+            IntBuffer buffer = direct
+                    ? ByteBuffer.allocateDirect(size * 4).asIntBuffer()
+                    : IntBuffer.allocate(size);
+            for (int i = 0; i < size; i++) {
+                buffer.put(i, random.nextInt());
+            }
+            return buffer;
+        }
+        ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+        for (int i = 0; i < size; i++) {
+            buffer.put(i, (byte) random.nextInt());
+        }
+        return buffer;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static double measure(PixelFormat<?> src, WritablePixelFormat<?> dst, int width, int height) {
+        PixelConverter converter = PixelUtils.getConverter(PixelUtils.getGetter(src), PixelUtils.getSetter(dst));
+        java.nio.Buffer srcbuf = (java.nio.Buffer) createBuffer(src, width * height);
+        java.nio.Buffer dstbuf = (java.nio.Buffer) createBuffer(dst, width * height);
+        int srcscan = width * elements(src);
+        int dstscan = width * elements(dst);
+
+        // warm up
+        for (int i = 0; i < 20; i++) {
+            converter.convert(srcbuf, 0, srcscan, dstbuf, 0, dstscan, width, height);
+        }
+
+        int iterations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            converter.convert(srcbuf, 0, srcscan, dstbuf, 0, dstscan, width, height);
+            iterations++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < 500_000_000L);
+        return (double) width * height * iterations / (elapsed / 1e3);
+    }
+
+    public static void main(String[] args) {
+        int width = args.length > 0 ? Integer.parseInt(args[0]) : 1920;
+        int height = args.length > 1 ? Integer.parseInt(args[1]) : 1080;
+        direct = args.length > 2 && args[2].equals("direct");
+
+        System.out.printf("%dx%d pixels, %s buffers, Mpixel/s%n", width, height, direct ? "direct" : "heap");
+        for (PixelFormat<?> src : SOURCE_FORMATS) {
+            for (WritablePixelFormat<?> dst : TARGET_FORMATS) {
+                System.out.printf("%-14s -> %-14s %10.1f%n", src.getType(), dst.getType(),
+                        measure(src, dst, width, height));
+            }
+        }
+    }
+}
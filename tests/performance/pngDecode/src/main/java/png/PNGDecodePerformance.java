@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package png;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageStorage;
+import com.sun.javafx.iio.ImageStorageException;
+
+/**
+ * Measures the time needed to decode a PNG image with the JavaFX image loader.
+ *
+ * Usage: {@code PNGDecodePerformance [file.png] [iterations]}. When no file is
+ * given, a 4096x4096 RGB image with a smooth gradient and some noise is
+ * generated and used instead. Requires
+ * {@code --add-exports javafx.graphics/com.sun.javafx.iio=ALL-UNNAMED}.
+ * Large images are decoded on two threads; run with
+ * {@code -XX:ActiveProcessorCount=1} to measure the single threaded decoder.
+ */
+public class PNGDecodePerformance {
+
+    private static byte[] createImage() throws IOException {
+        int size = 4096;
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(1);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int noise = random.nextInt(16);
+                image.setRGB(x, y, ((x >> 4) + noise) << 16 | ((y >> 4) + noise) << 8 | ((x + y) >> 5));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static ImageFrame decode(byte[] png) throws ImageStorageException {
+        return ImageStorage.getInstance().loadAll(new ByteArrayInputStream(png),
+                null, 0, 0, true, 1.0f, true)[0];
+    }
+
+    public static void main(String[] args) throws Exception {
+        byte[] png = args.length > 0 ? Files.readAllBytes(Paths.get(args[0])) : createImage();
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        // warm up
+        for (int i = 0; i < 5; i++) {
+            decode(png);
+        }
+
+        long best = Long.MAX_VALUE;
+        long total = 0;
+        ImageFrame image = null;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            image = decode(png);
+            long time = System.nanoTime() - start;
+            best = Math.min(best, time);
+            total += time;
+        }
+
+        double pixels = (double) image.getWidth() * image.getHeight();
+        System.out.printf("Image: %dx%d, %d bytes%n", image.getWidth(), image.getHeight(), png.length);
+        System.out.printf("Average: %.2f ms, best: %.2f ms, %.1f Mpixel/s%n",
+                total / iterations / 1e6, best / 1e6, pixels / (best / 1e3));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package qoi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageStorage;
+import com.sun.javafx.iio.ImageStorageException;
+import com.sun.javafx.iio.qoi.QOIImageWriter;
+
+/**
+ * Converts images to the QOI format and compares the time needed to decode
+ * the original and the converted images.
+ *
+ * Usage: {@code QOIDecodePerformance [-o outputDir] image...}. With
+ * {@code -o}, the converted images are written to the output directory with
+ * the {@code .qoi} extension, so the program can also be used to convert
+ * assets. Requires
+ * {@code --add-exports javafx.graphics/com.sun.javafx.iio=ALL-UNNAMED
+ * --add-exports javafx.graphics/com.sun.javafx.iio.qoi=ALL-UNNAMED}.
+ */
+public class QOIDecodePerformance {
+
+    private static final int ITERATIONS = 20;
+
+    private static ImageFrame decode(byte[] data) throws ImageStorageException {
+        return ImageStorage.getInstance().loadAll(new ByteArrayInputStream(data),
+                null, 0, 0, true, 1.0f, true)[0];
+    }
+
+    private static double bestTime(byte[] data) throws ImageStorageException {
+        for (int i = 0; i < 5; i++) {
+            decode(data);
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            decode(data);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1e6;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path outputDir = null;
+        int first = 0;
+        if (args.length > 1 && args[0].equals("-o")) {
+            outputDir = Paths.get(args[1]);
+            Files.createDirectories(outputDir);
+            first = 2;
+        }
+        if (first == args.length) {
+            System.err.println("Usage: QOIDecodePerformance [-o outputDir] image...");
+            System.exit(1);
+        }
+
+        System.out.printf("%-32s %10s %10s %10s %10s%n",
+                "image", "bytes", "qoi bytes", "ms", "qoi ms");
+        for (int i = first; i < args.length; i++) {
+            Path path = Paths.get(args[i]);
+            byte[] original = Files.readAllBytes(path);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            QOIImageWriter.write(decode(original), out);
+            byte[] qoi = out.toByteArray();
+
+            if (outputDir != null) {
+                String name = path.getFileName().toString().replaceFirst("\\.[^.]*$", "") + ".qoi";
+                try (OutputStream file = Files.newOutputStream(outputDir.resolve(name))) {
+                    file.write(qoi);
+                }
+            }
+
+            System.out.printf("%-32s %10d %10d %10.2f %10.2f%n", path.getFileName(),
+                    original.length, qoi.length, bestTime(original), bestTime(qoi));
+        }
+    }
+}
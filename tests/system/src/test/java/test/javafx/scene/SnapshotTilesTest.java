@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.SnapshotTile;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Transform;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import test.util.Util;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for Node.snapshotTiles.
+ */
+public class SnapshotTilesTest extends SnapshotCommon {
+
+    @BeforeClass
+    public static void setupOnce() {
+        doSetupOnce();
+    }
+
+    @AfterClass
+    public static void teardownOnce() {
+        doTeardownOnce();
+    }
+
+    private static final int NODE_W = 100;
+    private static final int NODE_H = 70;
+
+    private static Node createNode() {
+        Rectangle left = new Rectangle(0, 0, NODE_W / 2, NODE_H);
+        left.setFill(Color.RED);
+        Rectangle right = new Rectangle(NODE_W / 2, 0, NODE_W / 2, NODE_H);
+        right.setFill(Color.BLUE);
+        Rectangle spot = new Rectangle(30, 25, 33, 20);
+        spot.setFill(Color.LIME);
+        return new Group(left, right, spot);
+    }
+
+    // Collects the tiles, copying their pixels into an image of the whole snapshot
+    private static class TileCollector {
+        final List<Rectangle2D> tiles = new ArrayList<>();
+        final List<WritableImage> tileImages = new ArrayList<>();
+        WritableImage image;
+
+        void accept(SnapshotTile tile) {
+            if (image == null) {
+                image = new WritableImage(tile.getSnapshotWidth(), tile.getSnapshotHeight());
+            }
+            assertEquals((int)image.getWidth(), tile.getSnapshotWidth());
+            assertEquals((int)image.getHeight(), tile.getSnapshotHeight());
+
+            WritableImage tileImage = tile.getImage();
+            int w = (int)tileImage.getWidth();
+            int h = (int)tileImage.getHeight();
+            tiles.add(new Rectangle2D(tile.getX(), tile.getY(), w, h));
+            if (!tileImages.contains(tileImage)) {
+                tileImages.add(tileImage);
+            }
+            image.getPixelWriter().setPixels(tile.getX(), tile.getY(), w, h,
+                    tileImage.getPixelReader(), 0, 0);
+        }
+    }
+
+    private static void assertSamePixels(WritableImage expected, WritableImage actual) {
+        assertEquals(expected.getWidth(), actual.getWidth(), 0);
+        assertEquals(expected.getHeight(), actual.getHeight(), 0);
+        PixelReader er = expected.getPixelReader();
+        PixelReader ar = actual.getPixelReader();
+        for (int y = 0; y < (int)expected.getHeight(); y++) {
+            for (int x = 0; x < (int)expected.getWidth(); x++) {
+                assertEquals("pixel (" + x + ", " + y + ")", er.getArgb(x, y), ar.getArgb(x, y));
+            }
+        }
+    }
+
+    @Test
+    public void testTilesCoverSnapshot() {
+        Util.runAndWait(() -> {
+            Node node = createNode();
+            TileCollector collector = new TileCollector();
+            node.snapshotTiles(null, 32, 32, collector::accept);
+
+            // 4 columns of widths 32, 32, 32, 4 and 3 rows of heights 32, 32, 6
+            assertEquals(12, collector.tiles.size());
+            assertEquals(new Rectangle2D(0, 0, 32, 32), collector.tiles.get(0));
+            assertEquals(new Rectangle2D(96, 0, 4, 32), collector.tiles.get(3));
+            assertEquals(new Rectangle2D(0, 32, 32, 32), collector.tiles.get(4));
+            assertEquals(new Rectangle2D(0, 64, 32, 6), collector.tiles.get(8));
+            assertEquals(new Rectangle2D(96, 64, 4, 6), collector.tiles.get(11));
+            assertEquals(4, collector.tileImages.size());
+
+            assertSamePixels(node.snapshot(null, null), collector.image);
+        });
+    }
+
+    @Test
+    public void testBandsWithViewportAndTransform() {
+        Util.runAndWait(() -> {
+            Node node = createNode();
+            SnapshotParameters params = new SnapshotParameters();
+            params.setTransform(Transform.scale(2, 2));
+            params.setViewport(new Rectangle2D(10, 10, 150, 100));
+            params.setFill(Color.WHITE);
+
+            TileCollector collector = new TileCollector();
+            node.snapshotTiles(params, 1000, 16, collector::accept);
+
+            // 7 bands of height 16 and one of height 4
+            assertEquals(7, collector.tiles.size());
+            assertEquals(new Rectangle2D(0, 96, 150, 4), collector.tiles.get(6));
+            assertEquals(2, collector.tileImages.size());
+
+            assertSamePixels(node.snapshot(params, null), collector.image);
+        });
+    }
+
+    @Test
+    public void testSingleTile() {
+        Util.runAndWait(() -> {
+            Node node = createNode();
+            TileCollector collector = new TileCollector();
+            node.snapshotTiles(null, NODE_W, NODE_H, collector::accept);
+
+            assertEquals(1, collector.tiles.size());
+            assertEquals(new Rectangle2D(0, 0, NODE_W, NODE_H), collector.tiles.get(0));
+        });
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        Util.runAndWait(() -> {
+            Node node = createNode();
+            assertThrows(IllegalArgumentException.class, () -> node.snapshotTiles(null, 0, 10, tile -> {}));
+            assertThrows(IllegalArgumentException.class, () -> node.snapshotTiles(null, 10, 0, tile -> {}));
+            assertThrows(NullPointerException.class, () -> node.snapshotTiles(null, 10, 10, null));
+        });
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNotOnFxThread() {
+        createNode().snapshotTiles(null, 10, 10, tile -> {});
+    }
+}